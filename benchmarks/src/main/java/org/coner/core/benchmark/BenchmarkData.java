@@ -0,0 +1,380 @@
+package org.coner.core.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.coner.core.domain.entity.Car;
+import org.coner.core.domain.entity.CompetitionGroup;
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.entity.HandicapGroup;
+import org.coner.core.domain.entity.Person;
+import org.coner.core.domain.entity.Registration;
+import org.coner.core.domain.entity.Run;
+import org.coner.core.domain.interactor.FlatConePenaltyHandicapTimeScoringInteractor;
+import org.coner.core.domain.interactor.HandicapTimeScoringInteractor;
+import org.coner.core.domain.interactor.RawTimeScoringInteractor;
+import org.coner.core.domain.interactor.RunScoringInteractor;
+import org.coner.core.domain.interactor.TraditionalHandicapTimeScoringInteractor;
+import org.coner.core.domain.value.HandicapTimeScoringMethod;
+import org.coner.core.hibernate.entity.CarHibernateEntity;
+import org.coner.core.hibernate.entity.CompetitionGroupHibernateEntity;
+import org.coner.core.hibernate.entity.CompetitionGroupSetHibernateEntity;
+import org.coner.core.hibernate.entity.EventHibernateEntity;
+import org.coner.core.hibernate.entity.HandicapGroupHibernateEntity;
+import org.coner.core.hibernate.entity.HandicapGroupSetHibernateEntity;
+import org.coner.core.hibernate.entity.PersonHibernateEntity;
+import org.coner.core.hibernate.entity.RegistrationHibernateEntity;
+import org.coner.core.hibernate.entity.RunHibernateEntity;
+import org.coner.core.mapper.CompetitionGroupMapper;
+import org.coner.core.mapper.CompetitionGroupSetMapper;
+import org.coner.core.mapper.EventMapper;
+import org.coner.core.mapper.HandicapGroupMapper;
+import org.coner.core.mapper.HandicapGroupSetMapper;
+import org.coner.core.mapper.RegistrationMapper;
+import org.coner.core.mapper.RunMapper;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.context.internal.ManagedSessionContext;
+import org.hsqldb.jdbc.JDBCDriver;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Builds synthetic events, registrations and runs for benchmarks, along with the collaborators which the
+ * application would otherwise wire up through Dagger. Data is generated from a fixed seed so runs of a benchmark
+ * score identical inputs.
+ */
+final class BenchmarkData {
+
+    static final String EVENT_ID = "benchmark-event";
+
+    private static final long SEED = 20170503L;
+    private static final Instant TIMESTAMP = Instant.parse("2017-05-29T23:50:00.00Z");
+
+    private BenchmarkData() {
+    }
+
+    static Event event(int maxRunsPerRegistration) {
+        Event event = new Event();
+        event.setId(EVENT_ID);
+        event.setName("Benchmark Event");
+        event.setDate(Date.from(TIMESTAMP));
+        event.setMaxRunsPerRegistration(maxRunsPerRegistration);
+        return event;
+    }
+
+    static List<Registration> registrations(Event event, int count) {
+        List<Registration> registrations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Registration registration = new Registration();
+            registration.setId("registration-" + i);
+            registration.setEvent(event);
+            registration.setNumber(String.valueOf(i));
+            registration.setPerson(person(i));
+            registration.setCar(car(i));
+            registration.setHandicapGroup(handicapGroup(i));
+            registration.setCompetitionGroup(competitionGroup(i));
+            registrations.add(registration);
+        }
+        return registrations;
+    }
+
+    /**
+     * Build runs taken in turn by each of the registrations, in sequence order.
+     */
+    static List<Run> runs(Event event, List<Registration> registrations, int count) {
+        Random random = new Random(SEED);
+        List<Run> runs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Run run = new Run();
+            run.setId("run-" + i);
+            run.setEvent(event);
+            run.setRegistration(registrations.get(i % registrations.size()));
+            run.setSequence(i + 1);
+            run.setTimestamp(TIMESTAMP.plusSeconds(i * 60L));
+            run.setRawTime(rawTime(random));
+            run.setCones(random.nextInt(10) == 0 ? 1 + random.nextInt(3) : 0);
+            run.setDidNotFinish(random.nextInt(50) == 0);
+            run.setCompetitive(true);
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    /**
+     * Build the Hibernate entity equivalents of {@link #runs(Event, List, int)}.
+     */
+    static List<RunHibernateEntity> runHibernateEntities(int registrationCount, int count) {
+        EventHibernateEntity event = new EventHibernateEntity();
+        event.setId(EVENT_ID);
+        event.setName("Benchmark Event");
+        event.setDate(Date.from(TIMESTAMP));
+        event.setMaxRunsPerRegistration(count);
+        List<RegistrationHibernateEntity> registrations = new ArrayList<>(registrationCount);
+        for (int i = 0; i < registrationCount; i++) {
+            RegistrationHibernateEntity registration = new RegistrationHibernateEntity();
+            registration.setId("registration-" + i);
+            registration.setEvent(event);
+            registration.setNumber(String.valueOf(i));
+            registration.setPerson(personHibernateEntity(i));
+            registration.setCar(carHibernateEntity(i));
+            registration.setHandicapGroup(handicapGroupHibernateEntity(i));
+            registration.setCompetitionGroup(competitionGroupHibernateEntity(i));
+            registrations.add(registration);
+        }
+        Random random = new Random(SEED);
+        List<RunHibernateEntity> runs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RunHibernateEntity run = new RunHibernateEntity();
+            run.setId("run-" + i);
+            run.setEvent(event);
+            run.setRegistration(registrations.get(i % registrationCount));
+            run.setSequence(i + 1);
+            run.setTimestamp(TIMESTAMP.plusSeconds(i * 60L));
+            run.setRawTime(rawTime(random));
+            run.setCompetitive(true);
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    static RunScoringInteractor runScoringInteractor() {
+        return new RunScoringInteractor(new RawTimeScoringInteractor(), handicapTimeScoringInteractors());
+    }
+
+    static Map<HandicapTimeScoringMethod, HandicapTimeScoringInteractor> handicapTimeScoringInteractors() {
+        Map<HandicapTimeScoringMethod, HandicapTimeScoringInteractor> interactors =
+                new EnumMap<>(HandicapTimeScoringMethod.class);
+        interactors.put(
+                HandicapTimeScoringMethod.SCALED_CONE_PENALTY_TRADITIONAL,
+                new TraditionalHandicapTimeScoringInteractor()
+        );
+        interactors.put(
+                HandicapTimeScoringMethod.UNSCALED_CONE_PENALTY,
+                new FlatConePenaltyHandicapTimeScoringInteractor()
+        );
+        return interactors;
+    }
+
+    /**
+     * Wire a RunMapper the way MapStructModule does, minus the DAOs and services only needed to map requests.
+     */
+    static RunMapper runMapper() {
+        EventMapper eventMapper = eventMapper();
+        RunMapper runMapper = Mappers.getMapper(RunMapper.class);
+        runMapper.setEventMapper(eventMapper);
+        runMapper.setRegistrationMapper(registrationMapper(eventMapper));
+        return runMapper;
+    }
+
+    /**
+     * Wire a RegistrationMapper the way MapStructModule does, minus the DAOs and services only needed to map requests.
+     */
+    static RegistrationMapper registrationMapper() {
+        return registrationMapper(eventMapper());
+    }
+
+    private static RegistrationMapper registrationMapper(EventMapper eventMapper) {
+        RegistrationMapper registrationMapper = Mappers.getMapper(RegistrationMapper.class);
+        registrationMapper.setEventMapper(eventMapper);
+        registrationMapper.setHandicapGroupMapper(Mappers.getMapper(HandicapGroupMapper.class));
+        registrationMapper.setCompetitionGroupMapper(Mappers.getMapper(CompetitionGroupMapper.class));
+        return registrationMapper;
+    }
+
+    private static EventMapper eventMapper() {
+        HandicapGroupSetMapper handicapGroupSetMapper = Mappers.getMapper(HandicapGroupSetMapper.class);
+        handicapGroupSetMapper.setHandicapGroupMapper(Mappers.getMapper(HandicapGroupMapper.class));
+        CompetitionGroupSetMapper competitionGroupSetMapper = Mappers.getMapper(CompetitionGroupSetMapper.class);
+        competitionGroupSetMapper.setCompetitionGroupMapper(Mappers.getMapper(CompetitionGroupMapper.class));
+        EventMapper eventMapper = Mappers.getMapper(EventMapper.class);
+        eventMapper.setHandicapGroupSetMapper(handicapGroupSetMapper);
+        eventMapper.setCompetitionGroupSetMapper(competitionGroupSetMapper);
+        return eventMapper;
+    }
+
+    /**
+     * Build an in-memory database of the application's entities, with a session factory whose current session is
+     * bound by the caller through {@link ManagedSessionContext}, as Dropwizard's unit of work does.
+     */
+    static SessionFactory sessionFactory() {
+        Configuration configuration = new Configuration()
+                .setProperty(AvailableSettings.DRIVER, JDBCDriver.class.getName())
+                .setProperty(AvailableSettings.URL, "jdbc:hsqldb:mem:benchmark")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.CURRENT_SESSION_CONTEXT_CLASS, "managed")
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, Boolean.FALSE.toString());
+        Stream.of(
+                CarHibernateEntity.class,
+                CompetitionGroupHibernateEntity.class,
+                CompetitionGroupSetHibernateEntity.class,
+                EventHibernateEntity.class,
+                HandicapGroupHibernateEntity.class,
+                HandicapGroupSetHibernateEntity.class,
+                PersonHibernateEntity.class,
+                RegistrationHibernateEntity.class,
+                RunHibernateEntity.class
+        ).forEach(configuration::addAnnotatedClass);
+        return configuration.buildSessionFactory();
+    }
+
+    /**
+     * Store an event with registrations taking runs in turn, like {@link #runHibernateEntities(int, int)}.
+     *
+     * @return the ID the database assigned the event
+     */
+    static String persistEvent(SessionFactory sessionFactory, int registrationCount, int runCount) {
+        List<RunHibernateEntity> runs = runHibernateEntities(registrationCount, runCount);
+        Set<RegistrationHibernateEntity> registrations = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, HandicapGroupHibernateEntity> handicapGroups = new HashMap<>();
+        Map<String, CompetitionGroupHibernateEntity> competitionGroups = new HashMap<>();
+        for (RunHibernateEntity run : runs) {
+            RegistrationHibernateEntity registration = run.getRegistration();
+            if (registrations.add(registration)) {
+                registration.setHandicapGroup(handicapGroups.computeIfAbsent(
+                        registration.getHandicapGroup().getId(),
+                        id -> registration.getHandicapGroup()
+                ));
+                registration.setCompetitionGroup(competitionGroups.computeIfAbsent(
+                        registration.getCompetitionGroup().getId(),
+                        id -> registration.getCompetitionGroup()
+                ));
+            }
+        }
+        EventHibernateEntity event = runs.get(0).getEvent();
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            HandicapGroupSetHibernateEntity handicapGroupSet = new HandicapGroupSetHibernateEntity();
+            handicapGroupSet.setName("Benchmark Handicap Groups");
+            for (HandicapGroupHibernateEntity handicapGroup : handicapGroups.values()) {
+                handicapGroup.setId(null);
+                session.persist(handicapGroup);
+            }
+            handicapGroupSet.setHandicapGroups(new HashSet<>(handicapGroups.values()));
+            session.persist(handicapGroupSet);
+            CompetitionGroupSetHibernateEntity competitionGroupSet = new CompetitionGroupSetHibernateEntity();
+            competitionGroupSet.setName("Benchmark Competition Groups");
+            for (CompetitionGroupHibernateEntity competitionGroup : competitionGroups.values()) {
+                competitionGroup.setId(null);
+                session.persist(competitionGroup);
+            }
+            competitionGroupSet.setCompetitionGroups(new HashSet<>(competitionGroups.values()));
+            session.persist(competitionGroupSet);
+            event.setId(null);
+            event.setHandicapGroupSet(handicapGroupSet);
+            event.setCompetitionGroupSet(competitionGroupSet);
+            session.persist(event);
+            for (RegistrationHibernateEntity registration : registrations) {
+                registration.setId(null);
+                registration.getPerson().setId(null);
+                registration.getCar().setId(null);
+                session.persist(registration);
+            }
+            for (RunHibernateEntity run : runs) {
+                run.setId(null);
+                session.persist(run);
+            }
+            transaction.commit();
+        }
+        return event.getId();
+    }
+
+    private static BigDecimal rawTime(Random random) {
+        return BigDecimal.valueOf(45_000L + random.nextInt(20_000), 3);
+    }
+
+    private static Person person(int i) {
+        Person person = new Person();
+        person.setId("person-" + i);
+        person.setFirstName("First" + i);
+        person.setLastName("Last" + i);
+        return person;
+    }
+
+    private static Car car(int i) {
+        Car car = new Car();
+        car.setId("car-" + i);
+        car.setYear(Year.of(2000 + i % 18));
+        car.setMake("Make");
+        car.setModel("Model" + i);
+        car.setColor("Silver");
+        return car;
+    }
+
+    private static HandicapGroup handicapGroup(int i) {
+        HandicapGroup handicapGroup = new HandicapGroup();
+        handicapGroup.setId("handicap-group-" + i % 10);
+        handicapGroup.setName("HG" + i % 10);
+        handicapGroup.setFactor(handicapGroupFactor(i));
+        return handicapGroup;
+    }
+
+    private static CompetitionGroup competitionGroup(int i) {
+        CompetitionGroup competitionGroup = new CompetitionGroup();
+        competitionGroup.setId("competition-group-" + i % 3);
+        competitionGroup.setName("CG" + i % 3);
+        competitionGroup.setFactor(competitionGroupFactor(i));
+        competitionGroup.setResultTimeType(
+                i % 3 == 0 ? CompetitionGroup.ResultTimeType.RAW : CompetitionGroup.ResultTimeType.HANDICAP
+        );
+        return competitionGroup;
+    }
+
+    private static PersonHibernateEntity personHibernateEntity(int i) {
+        PersonHibernateEntity person = new PersonHibernateEntity();
+        person.setId("person-" + i);
+        person.setFirstName("First" + i);
+        person.setLastName("Last" + i);
+        return person;
+    }
+
+    private static CarHibernateEntity carHibernateEntity(int i) {
+        CarHibernateEntity car = new CarHibernateEntity();
+        car.setId("car-" + i);
+        car.setYear(Year.of(2000 + i % 18));
+        car.setMake("Make");
+        car.setModel("Model" + i);
+        car.setColor("Silver");
+        return car;
+    }
+
+    private static HandicapGroupHibernateEntity handicapGroupHibernateEntity(int i) {
+        HandicapGroupHibernateEntity handicapGroup = new HandicapGroupHibernateEntity();
+        handicapGroup.setId("handicap-group-" + i % 10);
+        handicapGroup.setName("HG" + i % 10);
+        handicapGroup.setFactor(handicapGroupFactor(i));
+        return handicapGroup;
+    }
+
+    private static CompetitionGroupHibernateEntity competitionGroupHibernateEntity(int i) {
+        CompetitionGroupHibernateEntity competitionGroup = new CompetitionGroupHibernateEntity();
+        competitionGroup.setId("competition-group-" + i % 3);
+        competitionGroup.setName("CG" + i % 3);
+        competitionGroup.setFactor(competitionGroupFactor(i));
+        competitionGroup.setResultTimeType(i % 3 == 0 ? "RAW" : "HANDICAP");
+        return competitionGroup;
+    }
+
+    private static BigDecimal handicapGroupFactor(int i) {
+        return BigDecimal.valueOf(800L + (i % 10) * 20L, 3);
+    }
+
+    private static BigDecimal competitionGroupFactor(int i) {
+        return i % 3 == 2 ? BigDecimal.valueOf(950L, 3) : BigDecimal.ONE;
+    }
+}
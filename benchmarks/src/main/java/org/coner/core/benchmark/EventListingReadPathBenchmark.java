@@ -0,0 +1,134 @@
+package org.coner.core.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.coner.core.api.entity.RegistrationApiEntity;
+import org.coner.core.api.entity.RunApiEntity;
+import org.coner.core.hibernate.dao.ApiEntityProjectionDao;
+import org.coner.core.hibernate.dao.EventDao;
+import org.coner.core.hibernate.dao.RegistrationDao;
+import org.coner.core.hibernate.dao.RunDao;
+import org.coner.core.hibernate.entity.EventHibernateEntity;
+import org.coner.core.hibernate.entity.RegistrationHibernateEntity;
+import org.coner.core.hibernate.entity.RunHibernateEntity;
+import org.coner.core.mapper.RegistrationMapper;
+import org.coner.core.mapper.RunMapper;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.context.internal.ManagedSessionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads the runs and registrations of an event from an in-memory database into API entities, both through hibernate
+ * and domain entities as the application used to, and through the projections of {@link ApiEntityProjectionDao}.
+ * Each read is a read-only unit of work with manual flushing. Pass {@code -prof gc} to compare allocation too.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventListingReadPathBenchmark {
+
+    private static final int REGISTRATIONS = 100;
+
+    @Param({"500", "5000"})
+    public int runCount;
+
+    private SessionFactory sessionFactory;
+    private String eventId;
+    private EventDao eventDao;
+    private RunDao runDao;
+    private RegistrationDao registrationDao;
+    private ApiEntityProjectionDao apiEntityProjectionDao;
+    private RunMapper runMapper;
+    private RegistrationMapper registrationMapper;
+
+    @Setup
+    public void setup() {
+        sessionFactory = BenchmarkData.sessionFactory();
+        eventId = BenchmarkData.persistEvent(sessionFactory, REGISTRATIONS, runCount);
+        eventDao = new EventDao(sessionFactory);
+        runDao = new RunDao(sessionFactory);
+        registrationDao = new RegistrationDao(sessionFactory);
+        apiEntityProjectionDao = new ApiEntityProjectionDao(sessionFactory);
+        runMapper = BenchmarkData.runMapper();
+        registrationMapper = BenchmarkData.registrationMapper();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<RunApiEntity> runsThroughDomainEntities() {
+        return inReadOnlyUnitOfWork(() -> {
+            EventHibernateEntity event = eventDao.getReference(eventId);
+            List<RunHibernateEntity> hibernateEntities = runDao.getAllWith(
+                    event,
+                    RunHibernateEntity.GRAPH_WITH_REGISTRATION
+            );
+            return runMapper.toApiEntityList(runMapper.toDomainEntityList(hibernateEntities));
+        });
+    }
+
+    @Benchmark
+    public List<RunApiEntity> runsThroughProjection() {
+        return inReadOnlyUnitOfWork(() -> apiEntityProjectionDao.getRunsAt(eventId));
+    }
+
+    @Benchmark
+    public List<RegistrationApiEntity> registrationsThroughDomainEntities() {
+        return inReadOnlyUnitOfWork(() -> {
+            EventHibernateEntity event = eventDao.getReference(eventId);
+            List<RegistrationHibernateEntity> hibernateEntities = registrationDao.getAllWith(
+                    event,
+                    RegistrationHibernateEntity.GRAPH_WITH_DETAILS
+            );
+            return registrationMapper.toApiEntityList(registrationMapper.toDomainEntityList(hibernateEntities));
+        });
+    }
+
+    @Benchmark
+    public List<RegistrationApiEntity> registrationsThroughProjection() {
+        return inReadOnlyUnitOfWork(() -> apiEntityProjectionDao.getRegistrationsAt(eventId));
+    }
+
+    private <T> T inReadOnlyUnitOfWork(Supplier<T> work) {
+        Session session = sessionFactory.openSession();
+        try {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            ManagedSessionContext.bind(session);
+            Transaction transaction = session.beginTransaction();
+            try {
+                T result = work.get();
+                transaction.commit();
+                return result;
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        } finally {
+            ManagedSessionContext.unbind(sessionFactory);
+            session.close();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.coner.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.coner.core.api.response.GetEventRunsResponse;
+import org.coner.core.domain.entity.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.dropwizard.jackson.Jackson;
+
+/**
+ * Serializes a GetEventRunsResponse to JSON with the object mapper configuration Dropwizard uses for resources.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetEventRunsResponseSerializationBenchmark {
+
+    private static final int REGISTRATIONS = 100;
+
+    @Param({"500", "5000"})
+    public int runCount;
+
+    private ObjectWriter objectWriter;
+    private GetEventRunsResponse response;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = Jackson.newObjectMapper();
+        objectWriter = objectMapper.writerFor(GetEventRunsResponse.class);
+        Event event = BenchmarkData.event(runCount);
+        response = new GetEventRunsResponse();
+        response.setEntities(BenchmarkData.runMapper().toApiEntityList(
+                BenchmarkData.runs(event, BenchmarkData.registrations(event, REGISTRATIONS), runCount)
+        ));
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectWriter.writeValueAsBytes(response);
+    }
+}
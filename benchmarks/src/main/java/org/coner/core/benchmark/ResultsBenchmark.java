@@ -0,0 +1,103 @@
+package org.coner.core.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.entity.Registration;
+import org.coner.core.domain.entity.Run;
+import org.coner.core.domain.interactor.RunScoringInteractor;
+import org.coner.core.domain.payload.GetEventResultsPayload;
+import org.coner.core.domain.payload.GetRegistrationResultsPayload;
+import org.coner.core.domain.service.ResultsEngine;
+import org.coner.core.domain.service.ResultsService;
+import org.coner.core.domain.service.RunEntityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scores the results of a single registration with the given number of runs, and aggregates the standings of an
+ * event with the given number of runs spread across 50 registrations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultsBenchmark {
+
+    private static final int EVENT_REGISTRATIONS = 50;
+
+    @Param({"50", "500", "5000"})
+    public int runCount;
+
+    private ResultsService resultsService;
+    private ResultsEngine resultsEngine;
+    private Registration registration;
+    private Event event;
+    private List<Run> eventRuns;
+
+    @Setup
+    public void setup() {
+        RunScoringInteractor runScoringInteractor = BenchmarkData.runScoringInteractor();
+        resultsEngine = new ResultsEngine(runScoringInteractor);
+
+        Event registrationEvent = BenchmarkData.event(runCount);
+        registration = BenchmarkData.registrations(registrationEvent, 1).get(0);
+        List<Run> registrationRuns = BenchmarkData.runs(
+                registrationEvent,
+                BenchmarkData.registrations(registrationEvent, 1),
+                runCount
+        );
+        resultsService = new ResultsService(
+                new FixedRunEntityService(registrationRuns),
+                runScoringInteractor,
+                resultsEngine
+        );
+
+        event = BenchmarkData.event(runCount / EVENT_REGISTRATIONS);
+        eventRuns = BenchmarkData.runs(
+                event,
+                BenchmarkData.registrations(event, EVENT_REGISTRATIONS),
+                runCount
+        );
+    }
+
+    @Benchmark
+    public GetRegistrationResultsPayload getResultsForRegistration() {
+        return resultsService.getResultsFor(registration);
+    }
+
+    @Benchmark
+    public GetEventResultsPayload computeEventResults() {
+        return resultsEngine.compute(event, eventRuns);
+    }
+
+    /**
+     * Serves a fixed list of runs in place of the database.
+     */
+    private static final class FixedRunEntityService extends RunEntityService {
+
+        private final List<Run> runs;
+
+        private FixedRunEntityService(List<Run> runs) {
+            super(null, null, null, null, null, null, null, null);
+            this.runs = runs;
+        }
+
+        @Override
+        public List<Run> getAllWithRegistration(Registration registration) {
+            return runs;
+        }
+    }
+}
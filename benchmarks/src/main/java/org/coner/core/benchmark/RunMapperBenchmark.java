@@ -0,0 +1,60 @@
+package org.coner.core.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.coner.core.api.entity.RunApiEntity;
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.entity.Run;
+import org.coner.core.hibernate.entity.RunHibernateEntity;
+import org.coner.core.mapper.RunMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps lists of runs from Hibernate entities to domain entities, and from domain entities to API entities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunMapperBenchmark {
+
+    private static final int REGISTRATIONS = 100;
+
+    @Param({"500", "5000"})
+    public int runCount;
+
+    private RunMapper runMapper;
+    private List<RunHibernateEntity> hibernateEntities;
+    private List<Run> domainEntities;
+
+    @Setup
+    public void setup() {
+        runMapper = BenchmarkData.runMapper();
+        hibernateEntities = BenchmarkData.runHibernateEntities(REGISTRATIONS, runCount);
+        Event event = BenchmarkData.event(runCount);
+        domainEntities = BenchmarkData.runs(event, BenchmarkData.registrations(event, REGISTRATIONS), runCount);
+    }
+
+    @Benchmark
+    public List<Run> toDomainEntityList() {
+        return runMapper.toDomainEntityList(hibernateEntities);
+    }
+
+    @Benchmark
+    public List<RunApiEntity> toApiEntityList() {
+        return runMapper.toApiEntityList(domainEntities);
+    }
+}
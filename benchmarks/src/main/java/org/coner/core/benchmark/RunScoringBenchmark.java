@@ -0,0 +1,122 @@
+package org.coner.core.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.entity.Registration;
+import org.coner.core.domain.entity.Run;
+import org.coner.core.domain.entity.ScoredRun;
+import org.coner.core.domain.interactor.FixedPointScoring;
+import org.coner.core.domain.interactor.HandicapTimeScoringInteractor;
+import org.coner.core.domain.interactor.RawTimeScoringInteractor;
+import org.coner.core.domain.value.HandicapTimeScoringMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scores a single run with each handicap time scoring method.
+ *
+ * The bigDecimal benchmark is the arithmetic the interactors used before fixed-point scoring, kept as a baseline.
+ * Likewise toMillisUnscaledValue is the conversion to fixed point through {@link BigDecimal#unscaledValue()}, which
+ * builds a BigInteger per value, kept as a baseline for toMillis. Run with {@code -prof gc} to compare allocation
+ * rates: toMillis should allocate nothing, and score only the ScoredRun and the times it holds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunScoringBenchmark {
+
+    @Param({"UNSCALED_CONE_PENALTY", "SCALED_CONE_PENALTY_TRADITIONAL"})
+    public HandicapTimeScoringMethod handicapTimeScoringMethod;
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L};
+
+    private RawTimeScoringInteractor rawTimeScoringInteractor;
+    private HandicapTimeScoringInteractor handicapTimeScoringInteractor;
+    private Run run;
+    private long factorMicros;
+
+    @Setup
+    public void setup() {
+        rawTimeScoringInteractor = new RawTimeScoringInteractor();
+        handicapTimeScoringInteractor = BenchmarkData.handicapTimeScoringInteractors()
+                .get(handicapTimeScoringMethod);
+        Event event = BenchmarkData.event(1);
+        List<Registration> registrations = BenchmarkData.registrations(event, 1);
+        run = BenchmarkData.runs(event, registrations, 1).get(0);
+        run.setCones(1);
+        run.setDidNotFinish(false);
+        Registration registration = run.getRegistration();
+        factorMicros = FixedPointScoring.toFactorMicros(
+                registration.getHandicapGroup().getFactor(),
+                registration.getCompetitionGroup().getFactor()
+        );
+    }
+
+    @Benchmark
+    public ScoredRun score() {
+        ScoredRun scoredRun = new ScoredRun();
+        scoredRun.setRun(run);
+        rawTimeScoringInteractor.score(scoredRun);
+        handicapTimeScoringInteractor.score(scoredRun);
+        return scoredRun;
+    }
+
+    @Benchmark
+    public ScoredRun scoreWithCombinedFactor() {
+        ScoredRun scoredRun = new ScoredRun();
+        scoredRun.setRun(run);
+        rawTimeScoringInteractor.score(scoredRun);
+        handicapTimeScoringInteractor.score(scoredRun, factorMicros);
+        return scoredRun;
+    }
+
+    @Benchmark
+    public long toMillis() {
+        return FixedPointScoring.toMillis(run.getRawTime());
+    }
+
+    @Benchmark
+    public long toMillisUnscaledValue() {
+        BigDecimal rawTime = run.getRawTime();
+        return rawTime.unscaledValue().longValue() * POWERS_OF_TEN[3 - rawTime.scale()];
+    }
+
+    @Benchmark
+    public ScoredRun bigDecimal() {
+        ScoredRun scoredRun = new ScoredRun();
+        scoredRun.setRun(run);
+        BigDecimal conePenaltySeconds = run.getEvent().getConePenaltySeconds()
+                .multiply(BigDecimal.valueOf(run.getCones()));
+        BigDecimal rawTimeScored = run.getRawTime().add(conePenaltySeconds);
+        scoredRun.setRawTimeScored(rawTimeScored);
+        BigDecimal handicapGroupFactor = run.getRegistration().getHandicapGroup().getFactor();
+        BigDecimal competitionGroupFactor = run.getRegistration().getCompetitionGroup().getFactor();
+        if (handicapTimeScoringMethod == HandicapTimeScoringMethod.SCALED_CONE_PENALTY_TRADITIONAL) {
+            scoredRun.setHandicapTimeScored(rawTimeScored.multiply(handicapGroupFactor)
+                    .multiply(competitionGroupFactor)
+                    .setScale(3, RoundingMode.HALF_UP));
+        } else {
+            scoredRun.setHandicapTimeScored(run.getRawTime().multiply(handicapGroupFactor)
+                    .multiply(competitionGroupFactor)
+                    .setScale(3, RoundingMode.HALF_UP)
+                    .add(conePenaltySeconds));
+        }
+        return scoredRun;
+    }
+}
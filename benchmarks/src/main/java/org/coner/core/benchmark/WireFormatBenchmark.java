@@ -0,0 +1,105 @@
+package org.coner.core.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.coner.core.api.entity.RunApiEntity;
+import org.coner.core.api.response.GetEventRunsResponse;
+import org.coner.core.domain.entity.Event;
+import org.coner.core.util.JacksonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Writes and reads a single run, as timing computers and scoreboards exchange them, and a list of all runs at an
+ * event, in each of the encodings resources produce. WireFormatSizeTest reports the encoded size of each, which has no
+ * place in JMH's results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final int REGISTRATIONS = 100;
+    static final int RUNS = 500;
+
+    public enum Format {
+        JSON(new JsonFactory()),
+        SMILE(new SmileFactory()),
+        CBOR(new CBORFactory());
+
+        private final JsonFactory jsonFactory;
+
+        Format(JsonFactory jsonFactory) {
+            this.jsonFactory = jsonFactory;
+        }
+    }
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    public Format format;
+
+    private ObjectWriter runWriter;
+    private ObjectReader runReader;
+    private ObjectWriter runsWriter;
+    private ObjectReader runsReader;
+    private RunApiEntity run;
+    private GetEventRunsResponse runs;
+    private byte[] runBytes;
+    private byte[] runsBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = JacksonUtil.newObjectMapper(format.jsonFactory);
+        runWriter = objectMapper.writerFor(RunApiEntity.class);
+        runReader = objectMapper.readerFor(RunApiEntity.class);
+        runsWriter = objectMapper.writerFor(GetEventRunsResponse.class);
+        runsReader = objectMapper.readerFor(GetEventRunsResponse.class);
+        Event event = BenchmarkData.event(RUNS);
+        runs = new GetEventRunsResponse();
+        runs.setEntities(BenchmarkData.runMapper().toApiEntityList(
+                BenchmarkData.runs(event, BenchmarkData.registrations(event, REGISTRATIONS), RUNS)
+        ));
+        run = runs.getEntities().get(0);
+        runBytes = runWriter.writeValueAsBytes(run);
+        runsBytes = runsWriter.writeValueAsBytes(runs);
+    }
+
+    @Benchmark
+    public byte[] writeRun() throws IOException {
+        return runWriter.writeValueAsBytes(run);
+    }
+
+    @Benchmark
+    public RunApiEntity readRun() throws IOException {
+        return runReader.readValue(runBytes);
+    }
+
+    @Benchmark
+    public byte[] writeRuns() throws IOException {
+        return runsWriter.writeValueAsBytes(runs);
+    }
+
+    @Benchmark
+    public GetEventRunsResponse readRuns() throws IOException {
+        return runsReader.readValue(runsBytes);
+    }
+}
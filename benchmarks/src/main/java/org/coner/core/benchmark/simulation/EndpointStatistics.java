@@ -0,0 +1,62 @@
+package org.coner.core.benchmark.simulation;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.UniformReservoir;
+
+/**
+ * Latencies and errors of the requests to each endpoint during a simulation. Latencies are kept exactly up to
+ * {@link #LATENCY_SAMPLES} requests per endpoint, and sampled uniformly beyond that.
+ */
+final class EndpointStatistics {
+
+    static final int LATENCY_SAMPLES = 100_000;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+
+    void record(String endpoint, long nanos, boolean error) {
+        Endpoint statistics = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        statistics.latencies.update(nanos);
+        if (error) {
+            statistics.errors.inc();
+        }
+    }
+
+    long getErrorCount() {
+        return endpoints.values().stream().mapToLong(endpoint -> endpoint.errors.getCount()).sum();
+    }
+
+    void report(PrintStream out, long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        out.printf("%-48s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            Histogram latencies = entry.getValue().latencies;
+            Snapshot snapshot = latencies.getSnapshot();
+            out.printf("%-48s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(),
+                    latencies.getCount(),
+                    entry.getValue().errors.getCount(),
+                    latencies.getCount() / elapsedSeconds,
+                    millis(snapshot.getMedian()),
+                    millis(snapshot.get95thPercentile()),
+                    millis(snapshot.get99thPercentile()),
+                    millis(snapshot.getMax()));
+        }
+    }
+
+    private static double millis(double nanos) {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static final class Endpoint {
+        private final Histogram latencies = new Histogram(new UniformReservoir(LATENCY_SAMPLES));
+        private final Counter errors = new Counter();
+    }
+}
@@ -0,0 +1,312 @@
+package org.coner.core.benchmark.simulation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.coner.core.ConerCoreApplication;
+import org.coner.core.ConerCoreConfiguration;
+import org.coner.core.api.request.AddCompetitionGroupRequest;
+import org.coner.core.api.request.AddCompetitionGroupSetRequest;
+import org.coner.core.api.request.AddEventRequest;
+import org.coner.core.api.request.AddHandicapGroupRequest;
+import org.coner.core.api.request.AddHandicapGroupSetRequest;
+import org.coner.core.api.request.AddRawTimeToFirstRunLackingRequest;
+import org.coner.core.api.request.AddRegistrationRequest;
+import org.coner.core.api.request.AddRunRequest;
+import org.coner.core.api.response.GetEventRunsResponse;
+import org.coner.core.domain.entity.CompetitionGroup;
+
+import com.google.common.base.Stopwatch;
+import io.dropwizard.client.JerseyClientBuilder;
+import io.dropwizard.testing.ConfigOverride;
+import io.dropwizard.testing.DropwizardTestSupport;
+
+/**
+ * Replays an autocross event day against the service running in-process, to size hardware and catch regressions
+ * under production load. After registering drivers at a new event, it runs the staging and timing loop: a car is
+ * staged with a run add at a steady start interval, and the timing system posts its raw time when it finishes the
+ * course. Meanwhile spectators poll the results and the run list. The latencies, throughput and errors of each
+ * endpoint are reported at the end.
+ *
+ * <p>Example, after {@code mvn -B install -DskipTests}:</p>
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar org.coner.core.benchmark.simulation.EventDaySimulator \
+ *     --registrations 120 --spectators 50 --database-url jdbc:hsqldb:file:target/simulation/coner
+ * </pre>
+ */
+public final class EventDaySimulator {
+
+    private static final String CONFIG_RESOURCE = "/simulation.yml";
+    private static final double COURSE_TIME_JITTER = 0.1;
+
+    private final SimulationOptions options;
+    private final EndpointStatistics statistics = new EndpointStatistics();
+    private final AtomicInteger strayStarts = new AtomicInteger();
+    private List<String> registrationIds;
+    private DropwizardTestSupport<ConerCoreConfiguration> support;
+    private Client client;
+
+    private EventDaySimulator(SimulationOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        SimulationOptions options;
+        try {
+            options = SimulationOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(SimulationOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        boolean clean = new EventDaySimulator(options).simulate();
+        System.exit(clean ? 0 : 1);
+    }
+
+    private boolean simulate() throws Exception {
+        support = new DropwizardTestSupport<>(ConerCoreApplication.class, configPath(), configOverrides());
+        support.before();
+        try {
+            client = new JerseyClientBuilder(support.getEnvironment())
+                    .using(support.getConfiguration().getJerseyClientConfiguration())
+                    .build("event-day-simulator");
+            String eventId = setupEvent();
+            long elapsedNanos = runEventDay(eventId);
+            int runsOnCourse = getRunsOnCourse(eventId);
+            System.out.printf(
+                    "%d registrations, %d runs, %d spectators in %.1f s%n",
+                    options.getRegistrations(),
+                    options.getRunCount(),
+                    options.getSpectators(),
+                    elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1)
+            );
+            statistics.report(System.out, elapsedNanos);
+            System.out.printf("stray starts: %d, runs left on course: %d%n", strayStarts.get(), runsOnCourse);
+            return statistics.getErrorCount() == 0 && strayStarts.get() == 0 && runsOnCourse == 0;
+        } finally {
+            support.after();
+        }
+    }
+
+    private String setupEvent() {
+        AddHandicapGroupRequest handicapGroup = new AddHandicapGroupRequest();
+        handicapGroup.setName("Street");
+        handicapGroup.setFactor(new BigDecimal("0.850"));
+        String handicapGroupId = add(target("/handicapGroups"), handicapGroup);
+
+        AddHandicapGroupSetRequest handicapGroupSet = new AddHandicapGroupSetRequest();
+        handicapGroupSet.setName("Simulation Handicap Groups");
+        handicapGroupSet.setHandicapGroupIds(Collections.singleton(handicapGroupId));
+        String handicapGroupSetId = add(target("/handicapGroups/sets"), handicapGroupSet);
+
+        AddCompetitionGroupRequest competitionGroup = new AddCompetitionGroupRequest();
+        competitionGroup.setName("Open");
+        competitionGroup.setFactor(BigDecimal.ONE);
+        competitionGroup.setGrouping(false);
+        competitionGroup.setResultTimeType(CompetitionGroup.ResultTimeType.HANDICAP.name());
+        String competitionGroupId = add(target("/competitionGroups"), competitionGroup);
+
+        AddCompetitionGroupSetRequest competitionGroupSet = new AddCompetitionGroupSetRequest();
+        competitionGroupSet.setName("Simulation Competition Groups");
+        competitionGroupSet.setCompetitionGroupIds(Collections.singleton(competitionGroupId));
+        String competitionGroupSetId = add(target("/competitionGroups/sets"), competitionGroupSet);
+
+        AddEventRequest event = new AddEventRequest();
+        event.setName("Simulated Event Day");
+        event.setDate(new Date());
+        event.setHandicapGroupSetId(handicapGroupSetId);
+        event.setCompetitionGroupSetId(competitionGroupSetId);
+        event.setMaxRunsPerRegistration(options.getRunsPerRegistration());
+        String eventId = add(target("/events"), event);
+
+        registrationIds = new ArrayList<>(options.getRegistrations());
+        for (int i = 1; i <= options.getRegistrations(); i++) {
+            AddRegistrationRequest registration = registration(i, handicapGroupId, competitionGroupId);
+            registrationIds.add(add(target("/events/{eventId}/registrations", eventId), registration));
+        }
+        return eventId;
+    }
+
+    /**
+     * Stage each registration's runs in turn at the start interval, posting raw times as cars finish, while the
+     * spectators poll.
+     *
+     * @return the nanoseconds from the first start to the last raw time
+     */
+    private long runEventDay(String eventId) throws InterruptedException {
+        ScheduledExecutorService timingSystem = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService spectators = Executors.newFixedThreadPool(Math.max(options.getSpectators(), 1));
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        for (int i = 0; i < options.getSpectators(); i++) {
+            spectators.execute(() -> spectate(eventId, timingSystem));
+        }
+        Random random = new Random();
+        int starts = 0;
+        for (int round = 0; round < options.getRunsPerRegistration(); round++) {
+            for (String registrationId : registrationIds) {
+                long startAt = starts++ * options.getStartIntervalMillis();
+                long untilStart = startAt - stopwatch.elapsed(TimeUnit.MILLISECONDS);
+                if (untilStart > 0) {
+                    Thread.sleep(untilStart);
+                }
+                stage(eventId, registrationId);
+                long courseTime = Math.round(options.getCourseTimeMillis()
+                        * (1 + COURSE_TIME_JITTER * (2 * random.nextDouble() - 1)));
+                timingSystem.schedule(() -> finish(eventId), courseTime, TimeUnit.MILLISECONDS);
+            }
+        }
+        timingSystem.shutdown();
+        timingSystem.awaitTermination(1, TimeUnit.HOURS);
+        long elapsedNanos = stopwatch.elapsed(TimeUnit.NANOSECONDS);
+        spectators.shutdown();
+        spectators.awaitTermination(1, TimeUnit.HOURS);
+        return elapsedNanos;
+    }
+
+    private void stage(String eventId, String registrationId) {
+        AddRunRequest run = new AddRunRequest();
+        run.setRegistrationId(registrationId);
+        record("POST /events/{eventId}/runs", () -> target("/events/{eventId}/runs", eventId)
+                .request(MediaType.APPLICATION_JSON)
+                .post(Entity.json(run))).close();
+    }
+
+    private void finish(String eventId) {
+        AddRawTimeToFirstRunLackingRequest rawTime = new AddRawTimeToFirstRunLackingRequest();
+        rawTime.setRawTime(BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(45_000, 75_000), 3));
+        Response response = record("POST /events/{eventId}/runs/rawTimes", () -> target(
+                "/events/{eventId}/runs/rawTimes",
+                eventId
+        ).request(MediaType.APPLICATION_JSON).post(Entity.json(rawTime)));
+        if (response.getStatus() == Response.Status.CREATED.getStatusCode()) {
+            strayStarts.incrementAndGet();
+        }
+        response.close();
+    }
+
+    private void spectate(String eventId, ExecutorService timingSystem) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(options.getPollIntervalMillis()));
+            while (!timingSystem.isTerminated()) {
+                record("GET /events/{eventId}/results", () -> target("/events/{eventId}/results", eventId)
+                        .request(MediaType.APPLICATION_JSON)
+                        .get()).close();
+                Thread.sleep(options.getPollIntervalMillis());
+                record("GET /events/{eventId}/runs", () -> target("/events/{eventId}/runs", eventId)
+                        .request(MediaType.APPLICATION_JSON)
+                        .get()).close();
+                Thread.sleep(options.getPollIntervalMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int getRunsOnCourse(String eventId) {
+        return target("/events/{eventId}/runs/onCourse", eventId)
+                .request(MediaType.APPLICATION_JSON)
+                .get(GetEventRunsResponse.class)
+                .getEntities()
+                .size();
+    }
+
+    /**
+     * Make a request, recording its latency, including reading the response body, and whether it failed.
+     */
+    private Response record(String endpoint, Supplier<Response> request) {
+        long start = System.nanoTime();
+        try {
+            Response response = request.get();
+            response.bufferEntity();
+            statistics.record(endpoint, System.nanoTime() - start, response.getStatus() >= 400);
+            return response;
+        } catch (RuntimeException e) {
+            statistics.record(endpoint, System.nanoTime() - start, true);
+            return Response.serverError().build();
+        }
+    }
+
+    private String add(WebTarget target, Object request) {
+        return createdId(target.request(MediaType.APPLICATION_JSON).post(Entity.json(request)));
+    }
+
+    private static String createdId(Response response) {
+        if (response.getStatus() != Response.Status.CREATED.getStatusCode()) {
+            throw new IllegalStateException("Failed to set up event: " + response.readEntity(String.class));
+        }
+        String location = response.getHeaderString("Location");
+        response.close();
+        return location.substring(location.lastIndexOf('/') + 1);
+    }
+
+    private WebTarget target(String path) {
+        return client.target("http://localhost:" + support.getLocalPort()).path(path);
+    }
+
+    private WebTarget target(String path, String eventId) {
+        return target(path).resolveTemplate("eventId", eventId);
+    }
+
+    private static AddRegistrationRequest registration(int number, String handicapGroupId, String competitionGroupId) {
+        AddRegistrationRequest.AddPerson person = new AddRegistrationRequest.AddPerson();
+        person.setFirstName("Driver");
+        person.setLastName(String.valueOf(number));
+        AddRegistrationRequest.AddCar car = new AddRegistrationRequest.AddCar();
+        car.setYear(Year.of(2000 + number % 18));
+        car.setMake("Mazda");
+        car.setModel("MX-5");
+        car.setColor("Red");
+        AddRegistrationRequest registration = new AddRegistrationRequest();
+        registration.setPerson(person);
+        registration.setCar(car);
+        registration.setHandicapGroupId(handicapGroupId);
+        registration.setCompetitionGroupId(competitionGroupId);
+        registration.setNumber(String.valueOf(number));
+        registration.setCheckedIn(true);
+        return registration;
+    }
+
+    private String configPath() throws IOException {
+        if (options.getConfig() != null) {
+            return options.getConfig();
+        }
+        File config = File.createTempFile("simulation", ".yml");
+        config.deleteOnExit();
+        try (InputStream resource = EventDaySimulator.class.getResourceAsStream(CONFIG_RESOURCE)) {
+            Files.copy(resource, config.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return config.getAbsolutePath();
+    }
+
+    private ConfigOverride[] configOverrides() {
+        if (options.getDatabaseUrl() == null) {
+            return new ConfigOverride[0];
+        }
+        return new ConfigOverride[]{ConfigOverride.config("database.url", options.getDatabaseUrl())};
+    }
+}
@@ -0,0 +1,122 @@
+package org.coner.core.benchmark.simulation;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Options of an {@link EventDaySimulator} run, parsed from {@code --name value} arguments.
+ *
+ * <p>The defaults compress an event day: a car starts every 200 ms and takes a second to finish, keeping five cars on
+ * course as a real event starting a car every 30 seconds on a 75 second course would.</p>
+ */
+final class SimulationOptions {
+
+    static final String USAGE = String.join(System.lineSeparator(),
+            "Options:",
+            "  --registrations <count>          registrations at the event (default 60)",
+            "  --runs-per-registration <count>  runs each registration takes (default 4)",
+            "  --spectators <count>             spectators polling results and runs (default 20)",
+            "  --start-interval-ms <millis>     time between cars starting (default 200)",
+            "  --course-time-ms <millis>        time a car takes to finish, +/- 10% (default 1000)",
+            "  --poll-interval-ms <millis>      time between each spectator's requests (default 500)",
+            "  --database-url <jdbc url>        database to run against (default in-memory HSQLDB)",
+            "  --config <path>                  service configuration to run with (default bundled simulation.yml)"
+    );
+
+    private int registrations = 60;
+    private int runsPerRegistration = 4;
+    private int spectators = 20;
+    private long startIntervalMillis = 200;
+    private long courseTimeMillis = 1000;
+    private long pollIntervalMillis = 500;
+    private String databaseUrl;
+    private String config;
+
+    private SimulationOptions() {
+    }
+
+    static SimulationOptions parse(String... args) {
+        SimulationOptions options = new SimulationOptions();
+        Iterator<String> iterator = Arrays.asList(args).iterator();
+        while (iterator.hasNext()) {
+            String name = iterator.next();
+            if (!iterator.hasNext()) {
+                throw new IllegalArgumentException("Missing value of " + name);
+            }
+            String value = iterator.next();
+            switch (name) {
+                case "--registrations":
+                    options.registrations = positive(name, value);
+                    break;
+                case "--runs-per-registration":
+                    options.runsPerRegistration = positive(name, value);
+                    break;
+                case "--spectators":
+                    options.spectators = Integer.parseInt(value);
+                    break;
+                case "--start-interval-ms":
+                    options.startIntervalMillis = positive(name, value);
+                    break;
+                case "--course-time-ms":
+                    options.courseTimeMillis = positive(name, value);
+                    break;
+                case "--poll-interval-ms":
+                    options.pollIntervalMillis = positive(name, value);
+                    break;
+                case "--database-url":
+                    options.databaseUrl = value;
+                    break;
+                case "--config":
+                    options.config = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + name);
+            }
+        }
+        return options;
+    }
+
+    int getRegistrations() {
+        return registrations;
+    }
+
+    int getRunsPerRegistration() {
+        return runsPerRegistration;
+    }
+
+    int getSpectators() {
+        return spectators;
+    }
+
+    long getStartIntervalMillis() {
+        return startIntervalMillis;
+    }
+
+    long getCourseTimeMillis() {
+        return courseTimeMillis;
+    }
+
+    long getPollIntervalMillis() {
+        return pollIntervalMillis;
+    }
+
+    String getDatabaseUrl() {
+        return databaseUrl;
+    }
+
+    String getConfig() {
+        return config;
+    }
+
+    int getRunCount() {
+        return registrations * runsPerRegistration;
+    }
+
+    private static int positive(String name, String value) {
+        int parsed = Integer.parseInt(value);
+        if (parsed < 1) {
+            throw new IllegalArgumentException(name + " must be at least 1");
+        }
+        return parsed;
+    }
+}
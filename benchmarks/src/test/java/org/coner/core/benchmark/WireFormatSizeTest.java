@@ -0,0 +1,41 @@
+package org.coner.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.coner.core.benchmark.WireFormatBenchmark.Format;
+import org.junit.Test;
+
+/**
+ * Reports the size of the payloads {@link WireFormatBenchmark} writes and reads in each encoding.
+ */
+public class WireFormatSizeTest {
+
+    @Test
+    public void itShouldEncodeSmallerThanJsonInBinaryFormats() throws IOException {
+        Map<Format, Integer> runBytes = new EnumMap<>(Format.class);
+        Map<Format, Integer> runsBytes = new EnumMap<>(Format.class);
+        for (Format format : Format.values()) {
+            WireFormatBenchmark benchmark = new WireFormatBenchmark();
+            benchmark.format = format;
+            benchmark.setup();
+            runBytes.put(format, benchmark.writeRun().length);
+            runsBytes.put(format, benchmark.writeRuns().length);
+            System.out.printf(
+                    "%s: %d bytes per run, %d bytes per list of %d runs%n",
+                    format,
+                    runBytes.get(format),
+                    runsBytes.get(format),
+                    WireFormatBenchmark.RUNS
+            );
+        }
+
+        assertThat(runBytes.get(Format.SMILE)).isLessThan(runBytes.get(Format.JSON));
+        assertThat(runBytes.get(Format.CBOR)).isLessThan(runBytes.get(Format.JSON));
+        assertThat(runsBytes.get(Format.SMILE)).isLessThan(runsBytes.get(Format.JSON));
+        assertThat(runsBytes.get(Format.CBOR)).isLessThan(runsBytes.get(Format.JSON));
+    }
+}
@@ -0,0 +1,85 @@
+package org.coner.core.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.RequestBody;
+import com.squareup.okhttp.Response;
+
+/**
+ * API client which exchanges entities with the service in a binary encoding of JSON, Smile or CBOR, wherever an
+ * operation offers it, and in JSON elsewhere.
+ *
+ * <p>Entities are mapped by the same Gson type adapters as for JSON, reading and writing the binary encoding through
+ * Jackson instead of JSON text, so they come out exactly as they would in JSON.</p>
+ */
+public class BinaryApiClient extends ApiClient {
+
+    private final BinaryFormat format;
+
+    public BinaryApiClient(BinaryFormat format) {
+        this.format = format;
+    }
+
+    public BinaryFormat getFormat() {
+        return format;
+    }
+
+    @Override
+    public String selectHeaderAccept(String[] accepts) {
+        for (String accept : accepts) {
+            if (format.matches(accept)) {
+                return format.getMediaType();
+            }
+        }
+        return super.selectHeaderAccept(accepts);
+    }
+
+    @Override
+    public String selectHeaderContentType(String[] contentTypes) {
+        for (String contentType : contentTypes) {
+            if (format.matches(contentType)) {
+                return format.getMediaType();
+            }
+        }
+        return super.selectHeaderContentType(contentTypes);
+    }
+
+    @Override
+    public <T> T deserialize(Response response, Type returnType) throws ApiException {
+        if (response == null || returnType == null || !format.matches(response.headers().get("Content-Type"))) {
+            return super.deserialize(response, returnType);
+        }
+        try {
+            byte[] body = response.body().bytes();
+            if (body.length == 0) {
+                return null;
+            }
+            try (JsonReader reader = new JacksonJsonReader(format.getJsonFactory().createParser(body))) {
+                return getJSON().getGson().fromJson(reader, returnType);
+            }
+        } catch (IOException | JsonParseException e) {
+            throw new ApiException(e);
+        }
+    }
+
+    @Override
+    public RequestBody serialize(Object obj, String contentType) throws ApiException {
+        if (obj == null || obj instanceof byte[] || obj instanceof File || !format.matches(contentType)) {
+            return super.serialize(obj, contentType);
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (JsonWriter writer = new JacksonJsonWriter(format.getJsonFactory().createGenerator(body))) {
+            getJSON().getGson().toJson(obj, obj.getClass(), writer);
+        } catch (IOException | JsonParseException e) {
+            throw new ApiException(e);
+        }
+        return RequestBody.create(MediaType.parse(contentType), body.toByteArray());
+    }
+}
@@ -0,0 +1,44 @@
+package org.coner.core.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Binary encodings of JSON which the service produces and consumes alongside JSON itself.
+ */
+public enum BinaryFormat {
+    SMILE("application/x-jackson-smile", new SmileFactory()),
+    CBOR("application/cbor", new CBORFactory());
+
+    private final String mediaType;
+    private final JsonFactory jsonFactory;
+
+    BinaryFormat(String mediaType, JsonFactory jsonFactory) {
+        this.mediaType = mediaType;
+        this.jsonFactory = jsonFactory;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    JsonFactory getJsonFactory() {
+        return jsonFactory;
+    }
+
+    /**
+     * Check whether a media type is of this encoding, whatever its parameters.
+     *
+     * @param mediaType the media type, as given in Accept or Content-Type, or null
+     * @return true if it's this encoding
+     */
+    public boolean matches(String mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+        int parameters = mediaType.indexOf(';');
+        String type = parameters < 0 ? mediaType : mediaType.substring(0, parameters);
+        return type.trim().equalsIgnoreCase(this.mediaType);
+    }
+}
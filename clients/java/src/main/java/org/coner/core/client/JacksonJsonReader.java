@@ -0,0 +1,179 @@
+package org.coner.core.client;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Gson reader of the tokens of a Jackson parser, so Gson type adapters can read any encoding Jackson parses.
+ */
+final class JacksonJsonReader extends JsonReader {
+
+    private static final Reader UNREADABLE_READER = new Reader() {
+        @Override
+        public int read(char[] buffer, int offset, int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private final JsonParser parser;
+    private boolean peeked;
+
+    JacksonJsonReader(JsonParser parser) {
+        super(UNREADABLE_READER);
+        this.parser = parser;
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        consume(JsonToken.BEGIN_ARRAY);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        consume(JsonToken.END_ARRAY);
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        consume(JsonToken.BEGIN_OBJECT);
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        consume(JsonToken.END_OBJECT);
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        if (!peeked) {
+            parser.nextToken();
+            peeked = true;
+        }
+        if (parser.getCurrentToken() == null) {
+            return JsonToken.END_DOCUMENT;
+        }
+        switch (parser.getCurrentToken()) {
+            case START_ARRAY:
+                return JsonToken.BEGIN_ARRAY;
+            case END_ARRAY:
+                return JsonToken.END_ARRAY;
+            case START_OBJECT:
+                return JsonToken.BEGIN_OBJECT;
+            case END_OBJECT:
+                return JsonToken.END_OBJECT;
+            case FIELD_NAME:
+                return JsonToken.NAME;
+            case VALUE_STRING:
+                return JsonToken.STRING;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return JsonToken.NUMBER;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return JsonToken.BOOLEAN;
+            case VALUE_NULL:
+                return JsonToken.NULL;
+            default:
+                throw new IllegalStateException("Unsupported token " + parser.getCurrentToken() + " at " + getPath());
+        }
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        consume(JsonToken.NAME);
+        return parser.getCurrentName();
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        consumeScalar(JsonToken.STRING);
+        return parser.getText();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        consume(JsonToken.BOOLEAN);
+        return parser.getBooleanValue();
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        consume(JsonToken.NULL);
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        return consumeScalar(JsonToken.NUMBER) ? parser.getDoubleValue() : Double.parseDouble(parser.getText());
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        return consumeScalar(JsonToken.NUMBER) ? parser.getLongValue() : Long.parseLong(parser.getText());
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        return consumeScalar(JsonToken.NUMBER) ? parser.getIntValue() : Integer.parseInt(parser.getText());
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        JsonToken token = peek();
+        if (token == JsonToken.BEGIN_ARRAY || token == JsonToken.BEGIN_OBJECT) {
+            parser.skipChildren();
+        }
+        peeked = false;
+    }
+
+    @Override
+    public String getPath() {
+        return parser.getParsingContext().toString();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " at " + getPath();
+    }
+
+    private void consume(JsonToken expected) throws IOException {
+        JsonToken token = peek();
+        if (token != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + token + " at " + getPath());
+        }
+        peeked = false;
+    }
+
+    /**
+     * Consume a string or number, which Gson reads interchangeably.
+     *
+     * @return true if it's the expected one of the two
+     */
+    private boolean consumeScalar(JsonToken expected) throws IOException {
+        JsonToken token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw new IllegalStateException("Expected " + expected + " but was " + token + " at " + getPath());
+        }
+        peeked = false;
+        return token == expected;
+    }
+}
@@ -0,0 +1,181 @@
+package org.coner.core.client;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Gson writer to a Jackson generator, so Gson type adapters can write any encoding Jackson generates.
+ */
+final class JacksonJsonWriter extends JsonWriter {
+
+    private static final Writer UNWRITABLE_WRITER = new Writer() {
+        @Override
+        public void write(char[] buffer, int offset, int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void flush() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private final JsonGenerator generator;
+    /**
+     * The name of the next value, held back until the value, since names of null values are left out unless
+     * serializing nulls.
+     */
+    private String deferredName;
+
+    JacksonJsonWriter(JsonGenerator generator) {
+        super(UNWRITABLE_WRITER);
+        this.generator = generator;
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        writeDeferredName();
+        generator.writeStartArray();
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        generator.writeEndArray();
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        writeDeferredName();
+        generator.writeStartObject();
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        if (deferredName != null) {
+            throw new IllegalStateException("Name " + deferredName + " has no value");
+        }
+        generator.writeEndObject();
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+        if (name == null) {
+            throw new NullPointerException("name == null");
+        }
+        if (deferredName != null) {
+            throw new IllegalStateException("Name " + deferredName + " has no value");
+        }
+        deferredName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        generator.writeString(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException {
+        throw new UnsupportedOperationException("Raw JSON can't be written in a binary encoding");
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (deferredName != null) {
+            if (!getSerializeNulls()) {
+                deferredName = null;
+                return this;
+            }
+            writeDeferredName();
+        }
+        generator.writeNull();
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        writeDeferredName();
+        generator.writeBoolean(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        return value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        writeDeferredName();
+        generator.writeNumber(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        writeDeferredName();
+        generator.writeNumber(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof BigInteger) {
+            generator.writeNumber((BigInteger) value);
+        } else if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            generator.writeNumber(value.longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            generator.writeNumber(value.doubleValue());
+        } else {
+            // such as Gson's own lazily parsed numbers
+            generator.writeNumber(new BigDecimal(value.toString()));
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    private void writeDeferredName() throws IOException {
+        if (deferredName != null) {
+            generator.writeFieldName(deferredName);
+            deferredName = null;
+        }
+    }
+}
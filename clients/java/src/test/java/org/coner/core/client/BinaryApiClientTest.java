@@ -0,0 +1,141 @@
+package org.coner.core.client;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.coner.core.client.model.AddRawTimesResponse;
+import org.coner.core.client.model.Item;
+import org.coner.core.client.model.RunApiEntity;
+import org.junit.Test;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.RequestBody;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import okio.Buffer;
+
+public class BinaryApiClientTest {
+
+    private static final String[] PRODUCED = {
+            "application/json", "application/x-jackson-smile;qs=0.9", "application/cbor;qs=0.9"
+    };
+    private static final String[] CONSUMED = {
+            "application/json", "application/x-jackson-smile", "application/cbor"
+    };
+
+    @Test
+    public void itShouldAcceptFormatWhereProduced() {
+        for (BinaryFormat format : BinaryFormat.values()) {
+            BinaryApiClient client = new BinaryApiClient(format);
+
+            assertEquals(format.getMediaType(), client.selectHeaderAccept(PRODUCED));
+            assertEquals("application/json", client.selectHeaderAccept(new String[] {"application/json"}));
+        }
+    }
+
+    @Test
+    public void itShouldSendFormatWhereConsumed() {
+        for (BinaryFormat format : BinaryFormat.values()) {
+            BinaryApiClient client = new BinaryApiClient(format);
+
+            assertEquals(format.getMediaType(), client.selectHeaderContentType(CONSUMED));
+            assertEquals("application/json", client.selectHeaderContentType(new String[] {"application/json"}));
+        }
+    }
+
+    @Test
+    public void itShouldEncodeEntityAsInJson() throws Exception {
+        RunApiEntity run = run();
+        for (BinaryFormat format : BinaryFormat.values()) {
+            BinaryApiClient client = new BinaryApiClient(format);
+
+            RequestBody body = client.serialize(run, format.getMediaType());
+
+            assertEquals(MediaType.parse(format.getMediaType()), body.contentType());
+            assertEquals(
+                    treeOf(new ObjectMapper(), client.getJSON().serialize(run).getBytes("UTF-8")),
+                    treeOf(new ObjectMapper(format.getJsonFactory().copy()), bytesOf(body))
+            );
+        }
+    }
+
+    @Test
+    public void itShouldDecodeEntityAsFromJson() throws Exception {
+        Item item = new Item();
+        item.setOutcome(Item.OutcomeEnum.RAWTIME_ASSIGNED_TO_EXISTING);
+        item.setRun(run());
+        AddRawTimesResponse expected = new AddRawTimesResponse();
+        expected.setItems(Arrays.asList(item));
+        for (BinaryFormat format : BinaryFormat.values()) {
+            BinaryApiClient client = new BinaryApiClient(format);
+            JsonNode tree = treeOf(new ObjectMapper(), client.getJSON().serialize(expected).getBytes("UTF-8"));
+            byte[] encoded = new ObjectMapper(format.getJsonFactory().copy()).writeValueAsBytes(tree);
+
+            AddRawTimesResponse actual = client.deserialize(
+                    response(format.getMediaType(), encoded),
+                    AddRawTimesResponse.class
+            );
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void whenResponseIsJsonItShouldDecodeJson() throws Exception {
+        RunApiEntity expected = run();
+        BinaryApiClient client = new BinaryApiClient(BinaryFormat.SMILE);
+
+        RunApiEntity actual = client.deserialize(
+                response("application/json", client.getJSON().serialize(expected).getBytes("UTF-8")),
+                RunApiEntity.class
+        );
+
+        assertEquals(expected, actual);
+    }
+
+    private static RunApiEntity run() {
+        RunApiEntity run = new RunApiEntity();
+        run.setId("run-id");
+        run.setEventId("event-id");
+        run.setRegistrationId("registration-id");
+        run.setSequence(1);
+        run.setTimestamp(OffsetDateTime.of(2017, 5, 3, 10, 15, 30, 0, ZoneOffset.UTC));
+        run.setRawTime(new BigDecimal("45.678"));
+        run.setCones(2);
+        run.setDidNotFinish(false);
+        run.setDisqualified(false);
+        run.setRerun(false);
+        run.setCompetitive(true);
+        return run;
+    }
+
+    private static JsonNode treeOf(ObjectMapper objectMapper, byte[] bytes) throws IOException {
+        return objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS).readTree(bytes);
+    }
+
+    private static byte[] bytesOf(RequestBody body) throws IOException {
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        return buffer.readByteArray();
+    }
+
+    private static Response response(String mediaType, byte[] body) {
+        return new Response.Builder()
+                .request(new Request.Builder().url("http://localhost/").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .header("Content-Type", mediaType)
+                .body(ResponseBody.create(MediaType.parse(mediaType), body))
+                .build();
+    }
+}
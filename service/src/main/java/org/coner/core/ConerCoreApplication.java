@@ -1,15 +1,23 @@
 package org.coner.core;
 
+import java.util.Map;
 import java.util.Set;
 
 import org.coner.core.dagger.ConerModule;
 import org.coner.core.dagger.DaggerJerseyRegistrationComponent;
 import org.coner.core.dagger.JerseyRegistrationComponent;
+import org.coner.core.health.DatabaseHealthCheck;
 import org.coner.core.hibernate.entity.HibernateEntity;
+import org.coner.core.hibernate.stat.HibernateStatisticsMetrics;
 import org.coner.core.task.HsqlDatabaseManagerSwingTask;
 import org.coner.core.util.JacksonUtil;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.hibernate.cache.jcache.JCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
 import org.reflections.Reflections;
 
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.dropwizard.Application;
@@ -24,6 +32,18 @@ import io.federecio.dropwizard.swagger.SwaggerBundleConfiguration;
 
 public class ConerCoreApplication extends Application<ConerCoreConfiguration> {
 
+    /**
+     * Hibernate settings the application relies on, applied unless the database properties set them otherwise.
+     */
+    static final Map<String, String> HIBERNATE_DEFAULTS = ImmutableMap.<String, String>builder()
+            .put(AvailableSettings.USE_SECOND_LEVEL_CACHE, Boolean.TRUE.toString())
+            .put(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName())
+            .put(JCacheRegionFactory.PROVIDER, CaffeineCachingProvider.class.getName())
+            .put(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+            .put(AvailableSettings.ORDER_INSERTS, Boolean.TRUE.toString())
+            .put(AvailableSettings.ORDER_UPDATES, Boolean.TRUE.toString())
+            .build();
+
     JerseyRegistrationComponent components;
     HibernateBundle<ConerCoreConfiguration> hibernateBundle;
 
@@ -59,36 +79,50 @@ public class ConerCoreApplication extends Application<ConerCoreConfiguration> {
             ConerCoreConfiguration conerCoreConfiguration,
             Environment environment
     ) throws Exception {
-        initComponents(conerCoreConfiguration);
+        initComponents(conerCoreConfiguration, environment);
         JerseyEnvironment jersey = environment.jersey();
         jersey.register(components.eventsResource());
         jersey.register(components.eventRegistrationsResource());
         jersey.register(components.eventRunsResource());
         jersey.register(components.eventResultsResource());
+        jersey.register(components.eventFeedResource());
         jersey.register(components.handicapGroupsResource());
         jersey.register(components.handicapGroupSetsResource());
         jersey.register(components.competitionGroupsResource());
         jersey.register(components.competitionGroupSetsResource());
         jersey.register(components.domainServiceExceptionMapper());
         jersey.register(components.runtimeExceptionUnwrappingMapper());
+        jersey.register(components.jacksonSmileProvider());
+        jersey.register(components.jacksonCborProvider());
+        jersey.register(components.conditionalGetFeature());
+        jersey.register(SseFeature.class);
 
+        environment.admin().addTask(components.rebuildEventResultsTask());
+        environment.admin().addTask(components.evictSecondLevelCacheTask());
+        environment.metrics().registerAll(components.secondLevelCacheMetrics());
+        optionallyRegisterHibernateStatisticsMetrics(environment, conerCoreConfiguration);
+        environment.healthChecks().register(DatabaseHealthCheck.NAME, components.databaseHealthCheck());
+        environment.lifecycle().manage(components.eventFeed());
+        environment.lifecycle().manage(components.resultsLongPoll());
         optionallyRegisterHsqlDatabaseManagerSwingTask(environment, conerCoreConfiguration);
     }
 
-    private void initComponents(ConerCoreConfiguration conerCoreConfiguration) {
+    private void initComponents(ConerCoreConfiguration conerCoreConfiguration, Environment environment) {
         if (components != null) {
             return;
         }
         ConerModule conerModule = new ConerModule(
                 conerCoreConfiguration,
-                getHibernateBundle().getSessionFactory()
+                getHibernateBundle().getSessionFactory(),
+                environment.getObjectMapper(),
+                environment.metrics()
         );
         components = DaggerJerseyRegistrationComponent.builder()
                 .conerModule(conerModule)
                 .build();
     }
 
-    private HibernateBundle<ConerCoreConfiguration> getHibernateBundle() {
+    public HibernateBundle<ConerCoreConfiguration> getHibernateBundle() {
         if (hibernateBundle == null) {
             Reflections r = new Reflections("org.coner.core.hibernate.entity");
             Set<Class<? extends HibernateEntity>> hibernateEntityClasses = r.getSubTypesOf(HibernateEntity.class);
@@ -102,11 +136,35 @@ public class ConerCoreApplication extends Application<ConerCoreConfiguration> {
                 ) {
                     return conerCoreConfiguration.getDataSourceFactory();
                 }
+
+                @Override
+                protected void configure(Configuration configuration) {
+                    applyHibernateDefaults(configuration);
+                }
             };
         }
         return hibernateBundle;
     }
 
+    static void applyHibernateDefaults(Configuration configuration) {
+        HIBERNATE_DEFAULTS.forEach((key, value) -> {
+            if (configuration.getProperty(key) == null) {
+                configuration.setProperty(key, value);
+            }
+        });
+    }
+
+    private void optionallyRegisterHibernateStatisticsMetrics(
+            Environment environment,
+            ConerCoreConfiguration conerCoreConfiguration
+    ) {
+        if (conerCoreConfiguration.getDatabaseMonitoring().isStatisticsEnabled()) {
+            HibernateStatisticsMetrics hibernateStatisticsMetrics = components.hibernateStatisticsMetrics();
+            hibernateStatisticsMetrics.enableStatistics();
+            environment.metrics().registerAll(hibernateStatisticsMetrics);
+        }
+    }
+
     private void optionallyRegisterHsqlDatabaseManagerSwingTask(
             Environment environment,
             ConerCoreConfiguration conerCoreConfiguration
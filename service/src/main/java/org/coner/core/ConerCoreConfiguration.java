@@ -24,6 +24,16 @@ public class ConerCoreConfiguration extends Configuration {
     @JsonProperty("swagger")
     private SwaggerBundleConfiguration swaggerBundleConfiguration;
 
+    @Valid
+    @NotNull
+    @JsonProperty("databaseMonitoring")
+    private DatabaseMonitoringConfiguration databaseMonitoring = new DatabaseMonitoringConfiguration();
+
+    @Valid
+    @NotNull
+    @JsonProperty("responseCache")
+    private ResponseCacheConfiguration responseCache = new ResponseCacheConfiguration();
+
     public DataSourceFactory getDataSourceFactory() {
         return database;
     }
@@ -35,4 +45,12 @@ public class ConerCoreConfiguration extends Configuration {
     public SwaggerBundleConfiguration getSwaggerBundleConfiguration() {
         return swaggerBundleConfiguration;
     }
+
+    public DatabaseMonitoringConfiguration getDatabaseMonitoring() {
+        return databaseMonitoring;
+    }
+
+    public ResponseCacheConfiguration getResponseCache() {
+        return responseCache;
+    }
 }
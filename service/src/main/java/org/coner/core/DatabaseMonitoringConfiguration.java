@@ -0,0 +1,48 @@
+package org.coner.core;
+
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+
+/**
+ * Settings for watching the database: whether Hibernate gathers statistics to export as metrics, and the thresholds
+ * beyond which the database health check reports unhealthy.
+ */
+public class DatabaseMonitoringConfiguration {
+
+    @JsonProperty("statisticsEnabled")
+    private boolean statisticsEnabled = false;
+
+    @NotNull
+    @JsonProperty("maxPoolWaitTime")
+    private Duration maxPoolWaitTime = Duration.milliseconds(500);
+
+    @NotNull
+    @JsonProperty("maxSlowestQueryTime")
+    private Duration maxSlowestQueryTime = Duration.seconds(1);
+
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    public Duration getMaxPoolWaitTime() {
+        return maxPoolWaitTime;
+    }
+
+    public void setMaxPoolWaitTime(Duration maxPoolWaitTime) {
+        this.maxPoolWaitTime = maxPoolWaitTime;
+    }
+
+    public Duration getMaxSlowestQueryTime() {
+        return maxSlowestQueryTime;
+    }
+
+    public void setMaxSlowestQueryTime(Duration maxSlowestQueryTime) {
+        this.maxSlowestQueryTime = maxSlowestQueryTime;
+    }
+}
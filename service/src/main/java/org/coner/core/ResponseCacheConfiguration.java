@@ -0,0 +1,49 @@
+package org.coner.core;
+
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.util.Size;
+
+/**
+ * Settings for the cache of serialized responses: whether it is used, the most bytes of responses it holds, and how
+ * long it keeps a response no request has read.
+ */
+public class ResponseCacheConfiguration {
+
+    @JsonProperty("enabled")
+    private boolean enabled = true;
+
+    @NotNull
+    @JsonProperty("maximumSize")
+    private Size maximumSize = Size.megabytes(16);
+
+    @NotNull
+    @JsonProperty("expireAfterAccess")
+    private Duration expireAfterAccess = Duration.minutes(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Size getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(Size maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+
+    public void setExpireAfterAccess(Duration expireAfterAccess) {
+        this.expireAfterAccess = expireAfterAccess;
+    }
+}
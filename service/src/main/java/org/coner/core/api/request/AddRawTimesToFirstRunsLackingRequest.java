@@ -0,0 +1,46 @@
+package org.coner.core.api.request;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import javax.validation.constraints.Size;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.hibernate.validator.constraints.NotEmpty;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.dropwizard.validation.ValidationMethod;
+
+public class AddRawTimesToFirstRunsLackingRequest {
+
+    public static final int MAX_RAW_TIMES = 500;
+
+    @NotEmpty
+    @Size(max = MAX_RAW_TIMES)
+    private List<BigDecimal> rawTimes;
+
+    public List<BigDecimal> getRawTimes() {
+        return rawTimes;
+    }
+
+    public void setRawTimes(List<BigDecimal> rawTimes) {
+        this.rawTimes = rawTimes;
+    }
+
+    @JsonIgnore
+    @ValidationMethod(message = "rawTimes may not contain null")
+    public boolean isEachRawTimePresent() {
+        return rawTimes == null || !rawTimes.contains(null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return EqualsBuilder.reflectionEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+}
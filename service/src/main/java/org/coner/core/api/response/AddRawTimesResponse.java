@@ -0,0 +1,67 @@
+package org.coner.core.api.response;
+
+import java.util.List;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.coner.core.api.entity.RunApiEntity;
+
+public class AddRawTimesResponse {
+
+    private List<Item> items;
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return EqualsBuilder.reflectionEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+
+    public static class Item {
+
+        private Outcome outcome;
+        private RunApiEntity run;
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public void setOutcome(Outcome outcome) {
+            this.outcome = outcome;
+        }
+
+        public RunApiEntity getRun() {
+            return run;
+        }
+
+        public void setRun(RunApiEntity run) {
+            this.run = run;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return EqualsBuilder.reflectionEquals(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCodeBuilder.reflectionHashCode(this);
+        }
+    }
+
+    public enum Outcome {
+        RUN_RAWTIME_ASSIGNED_TO_EXISTING,
+        RUN_ADDED_WITH_RAWTIME
+    }
+}
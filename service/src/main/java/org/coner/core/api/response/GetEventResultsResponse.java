@@ -0,0 +1,65 @@
+package org.coner.core.api.response;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+public class GetEventResultsResponse {
+    private String eventId;
+    private long version;
+    private List<GetEventResultsRegistrationResponse> overallRaw;
+    private List<GetEventResultsRegistrationResponse> overallHandicap;
+    private Map<String, List<GetEventResultsRegistrationResponse>> competitionGroups;
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public List<GetEventResultsRegistrationResponse> getOverallRaw() {
+        return overallRaw;
+    }
+
+    public void setOverallRaw(List<GetEventResultsRegistrationResponse> overallRaw) {
+        this.overallRaw = overallRaw;
+    }
+
+    public List<GetEventResultsRegistrationResponse> getOverallHandicap() {
+        return overallHandicap;
+    }
+
+    public void setOverallHandicap(List<GetEventResultsRegistrationResponse> overallHandicap) {
+        this.overallHandicap = overallHandicap;
+    }
+
+    public Map<String, List<GetEventResultsRegistrationResponse>> getCompetitionGroups() {
+        return competitionGroups;
+    }
+
+    public void setCompetitionGroups(Map<String, List<GetEventResultsRegistrationResponse>> competitionGroups) {
+        this.competitionGroups = competitionGroups;
+    }
+
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return EqualsBuilder.reflectionEquals(this, obj);
+    }
+}
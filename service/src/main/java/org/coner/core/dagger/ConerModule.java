@@ -3,9 +3,20 @@ package org.coner.core.dagger;
 import javax.inject.Singleton;
 
 import org.coner.core.ConerCoreConfiguration;
+import org.coner.core.DatabaseMonitoringConfiguration;
+import org.coner.core.ResponseCacheConfiguration;
+import org.coner.core.domain.service.EventChangeListener;
+import org.coner.core.feed.EventFeed;
 import org.coner.core.task.HsqlDatabaseManagerSwingTask;
+import org.coner.core.util.JacksonUtil;
 import org.hibernate.SessionFactory;
 
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.jaxrs.cbor.JacksonCBORProvider;
+import com.fasterxml.jackson.jaxrs.smile.JacksonSmileProvider;
 import dagger.Module;
 import dagger.Provides;
 
@@ -14,10 +25,19 @@ public class ConerModule {
 
     private final ConerCoreConfiguration configuration;
     private final SessionFactory sessionFactory;
+    private final ObjectMapper objectMapper;
+    private final MetricRegistry metricRegistry;
 
-    public ConerModule(ConerCoreConfiguration configuration, SessionFactory sessionFactory) {
+    public ConerModule(
+            ConerCoreConfiguration configuration,
+            SessionFactory sessionFactory,
+            ObjectMapper objectMapper,
+            MetricRegistry metricRegistry
+    ) {
         this.configuration = configuration;
         this.sessionFactory = sessionFactory;
+        this.objectMapper = objectMapper;
+        this.metricRegistry = metricRegistry;
     }
 
     @Provides
@@ -26,6 +46,48 @@ public class ConerModule {
         return sessionFactory;
     }
 
+    @Provides
+    @Singleton
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    @Provides
+    @Singleton
+    public MetricRegistry getMetricRegistry() {
+        return metricRegistry;
+    }
+
+    @Provides
+    @Singleton
+    public DatabaseMonitoringConfiguration getDatabaseMonitoringConfiguration() {
+        return configuration.getDatabaseMonitoring();
+    }
+
+    @Provides
+    @Singleton
+    public ResponseCacheConfiguration getResponseCacheConfiguration() {
+        return configuration.getResponseCache();
+    }
+
+    @Provides
+    @Singleton
+    public JacksonSmileProvider getJacksonSmileProvider() {
+        return new JacksonSmileProvider(JacksonUtil.newObjectMapper(new SmileFactory()));
+    }
+
+    @Provides
+    @Singleton
+    public JacksonCBORProvider getJacksonCborProvider() {
+        return new JacksonCBORProvider(JacksonUtil.newObjectMapper(new CBORFactory()));
+    }
+
+    @Provides
+    @Singleton
+    public EventChangeListener getEventChangeListener(EventFeed eventFeed) {
+        return eventFeed;
+    }
+
     @Provides
     @Singleton
     public HsqlDatabaseManagerSwingTask getHsqlDatabaseManagerSwingTask(SessionFactory sessionFactory) {
@@ -2,9 +2,16 @@ package org.coner.core.dagger;
 
 import javax.inject.Singleton;
 
+import org.coner.core.feed.EventFeed;
+import org.coner.core.feed.ResultsLongPoll;
+import org.coner.core.health.DatabaseHealthCheck;
+import org.coner.core.hibernate.cache.SecondLevelCacheMetrics;
+import org.coner.core.hibernate.stat.HibernateStatisticsMetrics;
 import org.coner.core.resource.CompetitionGroupSetsResource;
 import org.coner.core.resource.CompetitionGroupsResource;
+import org.coner.core.resource.ConditionalGetFeature;
 import org.coner.core.resource.DomainServiceExceptionMapper;
+import org.coner.core.resource.EventFeedResource;
 import org.coner.core.resource.EventRegistrationsResource;
 import org.coner.core.resource.EventResultsResource;
 import org.coner.core.resource.EventRunsResource;
@@ -12,8 +19,12 @@ import org.coner.core.resource.EventsResource;
 import org.coner.core.resource.HandicapGroupSetsResource;
 import org.coner.core.resource.HandicapGroupsResource;
 import org.coner.core.resource.RuntimeExceptionUnwrappingMapper;
+import org.coner.core.task.EvictSecondLevelCacheTask;
 import org.coner.core.task.HsqlDatabaseManagerSwingTask;
+import org.coner.core.task.RebuildEventResultsTask;
 
+import com.fasterxml.jackson.jaxrs.cbor.JacksonCBORProvider;
+import com.fasterxml.jackson.jaxrs.smile.JacksonSmileProvider;
 import dagger.Component;
 
 @Singleton
@@ -24,6 +35,7 @@ public interface JerseyRegistrationComponent {
     EventRegistrationsResource eventRegistrationsResource();
     EventRunsResource eventRunsResource();
     EventResultsResource eventResultsResource();
+    EventFeedResource eventFeedResource();
     HandicapGroupsResource handicapGroupsResource();
     HandicapGroupSetsResource handicapGroupSetsResource();
     CompetitionGroupsResource competitionGroupsResource();
@@ -33,6 +45,26 @@ public interface JerseyRegistrationComponent {
     DomainServiceExceptionMapper domainServiceExceptionMapper();
     RuntimeExceptionUnwrappingMapper runtimeExceptionUnwrappingMapper();
 
+    // Message Body Providers
+    JacksonSmileProvider jacksonSmileProvider();
+    JacksonCBORProvider jacksonCborProvider();
+
+    // Features
+    ConditionalGetFeature conditionalGetFeature();
+
     // Tasks
     HsqlDatabaseManagerSwingTask hsqlDatabaseManagerSwingTask();
+    RebuildEventResultsTask rebuildEventResultsTask();
+    EvictSecondLevelCacheTask evictSecondLevelCacheTask();
+
+    // Metrics
+    SecondLevelCacheMetrics secondLevelCacheMetrics();
+    HibernateStatisticsMetrics hibernateStatisticsMetrics();
+
+    // Health Checks
+    DatabaseHealthCheck databaseHealthCheck();
+
+    // Managed Objects
+    EventFeed eventFeed();
+    ResultsLongPoll resultsLongPoll();
 }
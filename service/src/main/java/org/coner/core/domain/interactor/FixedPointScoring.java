@@ -0,0 +1,210 @@
+package org.coner.core.domain.interactor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Scoring arithmetic on primitive fixed-point longs.
+ *
+ * Times are handled as milliseconds and handicap factors as their combined product in micro-units, which covers
+ * every value the schema can hold (times and factors are stored with a scale of 3). Results are rounded HALF_UP and
+ * carry the same scale the equivalent BigDecimal arithmetic would produce. Values which can't be represented, or
+ * arithmetic which would overflow, fall back to BigDecimal.
+ */
+public final class FixedPointScoring {
+
+    /**
+     * Sentinel returned by conversions when a value can't be represented in fixed point.
+     */
+    public static final long UNREPRESENTABLE = Long.MIN_VALUE;
+
+    private static final int TIME_SCALE = 3;
+    private static final int FACTOR_SCALE = 3;
+    private static final int MAX_PRECISION = 15;
+    private static final long MICROS_PER_UNIT = 1_000_000L;
+    private static final long HALF_MICROS_PER_UNIT = MICROS_PER_UNIT / 2;
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L};
+
+    private FixedPointScoring() {
+    }
+
+    /**
+     * Equivalent to {@code rawTime + (conePenaltySeconds * cones)}.
+     */
+    public static BigDecimal rawTimeScored(BigDecimal rawTime, BigDecimal conePenaltySeconds, int cones) {
+        long rawTimeMillis = toMillis(rawTime);
+        long conePenaltySecondsMillis = toMillis(conePenaltySeconds);
+        if (rawTimeMillis != UNREPRESENTABLE && conePenaltySecondsMillis != UNREPRESENTABLE) {
+            try {
+                long millis = Math.addExact(rawTimeMillis, conePenaltyMillis(conePenaltySecondsMillis, cones));
+                return toTime(millis, Math.max(rawTime.scale(), conePenaltySeconds.scale()));
+            } catch (ArithmeticException e) {
+                // fall through to BigDecimal
+            }
+        }
+        return rawTime.add(conePenaltySeconds.multiply(BigDecimal.valueOf(cones)));
+    }
+
+    /**
+     * Equivalent to {@code time * handicapGroupFactor * competitionGroupFactor}, rounded HALF_UP to 3 places.
+     */
+    public static BigDecimal handicapTime(
+            BigDecimal time,
+            BigDecimal handicapGroupFactor,
+            BigDecimal competitionGroupFactor
+    ) {
+        BigDecimal handicapTime = tryHandicapTime(time, toFactorMicros(handicapGroupFactor, competitionGroupFactor));
+        if (handicapTime != null) {
+            return handicapTime;
+        }
+        return time.multiply(handicapGroupFactor)
+                .multiply(competitionGroupFactor)
+                .setScale(TIME_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Equivalent to {@link #handicapTime(BigDecimal, BigDecimal, BigDecimal)} with the factors already combined by
+     * {@link #toFactorMicros(BigDecimal, BigDecimal)}.
+     *
+     * @return the handicap time, or null if it can't be computed in fixed point
+     */
+    public static BigDecimal tryHandicapTime(BigDecimal time, long factorMicros) {
+        long timeMillis = toMillis(time);
+        if (timeMillis == UNREPRESENTABLE || factorMicros == UNREPRESENTABLE) {
+            return null;
+        }
+        try {
+            return toTime(multiplyHalfUp(timeMillis, factorMicros), TIME_SCALE);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Equivalent to {@code handicapTime(scratchTime, ...) + (conePenaltySeconds * cones)}.
+     */
+    public static BigDecimal handicapTimeWithConePenalty(
+            BigDecimal scratchTime,
+            BigDecimal handicapGroupFactor,
+            BigDecimal competitionGroupFactor,
+            BigDecimal conePenaltySeconds,
+            int cones
+    ) {
+        BigDecimal handicapTime = tryHandicapTimeWithConePenalty(
+                scratchTime,
+                toFactorMicros(handicapGroupFactor, competitionGroupFactor),
+                conePenaltySeconds,
+                cones
+        );
+        if (handicapTime != null) {
+            return handicapTime;
+        }
+        BigDecimal handicapTimeScratch = scratchTime.multiply(handicapGroupFactor)
+                .multiply(competitionGroupFactor)
+                .setScale(TIME_SCALE, RoundingMode.HALF_UP);
+        return handicapTimeScratch.add(conePenaltySeconds.multiply(BigDecimal.valueOf(cones)));
+    }
+
+    /**
+     * Equivalent to {@link #handicapTimeWithConePenalty(BigDecimal, BigDecimal, BigDecimal, BigDecimal, int)} with
+     * the factors already combined by {@link #toFactorMicros(BigDecimal, BigDecimal)}.
+     *
+     * @return the handicap time, or null if it can't be computed in fixed point
+     */
+    public static BigDecimal tryHandicapTimeWithConePenalty(
+            BigDecimal scratchTime,
+            long factorMicros,
+            BigDecimal conePenaltySeconds,
+            int cones
+    ) {
+        long scratchTimeMillis = toMillis(scratchTime);
+        long conePenaltySecondsMillis = toMillis(conePenaltySeconds);
+        if (scratchTimeMillis == UNREPRESENTABLE
+                || factorMicros == UNREPRESENTABLE
+                || conePenaltySecondsMillis == UNREPRESENTABLE) {
+            return null;
+        }
+        try {
+            long millis = Math.addExact(
+                    multiplyHalfUp(scratchTimeMillis, factorMicros),
+                    conePenaltyMillis(conePenaltySecondsMillis, cones)
+            );
+            return toTime(millis, Math.max(TIME_SCALE, conePenaltySeconds.scale()));
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts a time in seconds to milliseconds.
+     *
+     * @return the milliseconds, or {@link #UNREPRESENTABLE} if the value has more than 3 decimal places
+     */
+    public static long toMillis(BigDecimal seconds) {
+        return toFixedPoint(seconds, TIME_SCALE);
+    }
+
+    /**
+     * Multiplies a handicap group factor and competition group factor into micro-units.
+     *
+     * @return the combined factor in micro-units, or {@link #UNREPRESENTABLE} if either factor has more than 3
+     *     decimal places or the product overflows
+     */
+    public static long toFactorMicros(BigDecimal handicapGroupFactor, BigDecimal competitionGroupFactor) {
+        long handicapGroupFactorMillis = toFixedPoint(handicapGroupFactor, FACTOR_SCALE);
+        long competitionGroupFactorMillis = toFixedPoint(competitionGroupFactor, FACTOR_SCALE);
+        if (handicapGroupFactorMillis == UNREPRESENTABLE || competitionGroupFactorMillis == UNREPRESENTABLE) {
+            return UNREPRESENTABLE;
+        }
+        try {
+            return Math.multiplyExact(handicapGroupFactorMillis, competitionGroupFactorMillis);
+        } catch (ArithmeticException e) {
+            return UNREPRESENTABLE;
+        }
+    }
+
+    /**
+     * Multiplies milliseconds by a factor in micro-units, rounding HALF_UP back to milliseconds.
+     *
+     * @throws ArithmeticException if the product overflows
+     */
+    public static long multiplyHalfUp(long millis, long factorMicros) {
+        long product = Math.multiplyExact(millis, factorMicros);
+        long quotient = product / MICROS_PER_UNIT;
+        long remainder = Math.abs(product % MICROS_PER_UNIT);
+        if (remainder >= HALF_MICROS_PER_UNIT) {
+            quotient += Long.signum(product);
+        }
+        return quotient;
+    }
+
+    /**
+     * Multiplies a cone penalty in milliseconds by a count of cones.
+     *
+     * @throws ArithmeticException if the product overflows
+     */
+    public static long conePenaltyMillis(long conePenaltySecondsMillis, int cones) {
+        return Math.multiplyExact(conePenaltySecondsMillis, (long) cones);
+    }
+
+    /**
+     * Converts milliseconds to a time in seconds with the given scale, which must not drop any non-zero digits.
+     */
+    public static BigDecimal toTime(long millis, int scale) {
+        return BigDecimal.valueOf(millis / POWERS_OF_TEN[TIME_SCALE - scale], scale);
+    }
+
+    private static long toFixedPoint(BigDecimal value, int targetScale) {
+        if (value == null) {
+            return UNREPRESENTABLE;
+        }
+        int scale = value.scale();
+        if (scale < 0 || scale > targetScale || value.precision() > MAX_PRECISION) {
+            return UNREPRESENTABLE;
+        }
+        // doubleValue() divides the compact unscaled long by a power of ten without allocating, unlike unscaledValue()
+        // or a scaled value's longValue(), and below 2^52, which MAX_PRECISION keeps it, scaling back is exact
+        long unscaled = Math.round(value.doubleValue() * POWERS_OF_TEN[scale]);
+        return unscaled * POWERS_OF_TEN[targetScale - scale];
+    }
+}
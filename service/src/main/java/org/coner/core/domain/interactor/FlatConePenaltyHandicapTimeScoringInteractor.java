@@ -1,7 +1,6 @@
 package org.coner.core.domain.interactor;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 import javax.inject.Inject;
 
@@ -25,12 +24,30 @@ public class FlatConePenaltyHandicapTimeScoringInteractor implements HandicapTim
         BigDecimal scratchTime = run.getRawTime();
         BigDecimal handicapGroupFactor = run.getRegistration().getHandicapGroup().getFactor();
         BigDecimal competitionGroupFactor = run.getRegistration().getCompetitionGroup().getFactor();
-        BigDecimal handicapTimeScratch = scratchTime.multiply(handicapGroupFactor)
-                .multiply(competitionGroupFactor)
-                .setScale(3, RoundingMode.HALF_UP);
-        BigDecimal eventConePenaltySeconds = scoredRun.getRun().getEvent().getConePenaltySeconds();
-        BigDecimal conePenaltySeconds = eventConePenaltySeconds.multiply(BigDecimal.valueOf(run.getCones()));
-        BigDecimal handicapTimeScored = handicapTimeScratch.add(conePenaltySeconds);
+        BigDecimal eventConePenaltySeconds = run.getEvent().getConePenaltySeconds();
+        BigDecimal handicapTimeScored = FixedPointScoring.handicapTimeWithConePenalty(
+                scratchTime,
+                handicapGroupFactor,
+                competitionGroupFactor,
+                eventConePenaltySeconds,
+                run.getCones()
+        );
+        scoredRun.setHandicapTimeScored(handicapTimeScored);
+    }
+
+    @Override
+    public void score(ScoredRun scoredRun, long factorMicros) {
+        Run run = scoredRun.getRun();
+        BigDecimal handicapTimeScored = FixedPointScoring.tryHandicapTimeWithConePenalty(
+                run.getRawTime(),
+                factorMicros,
+                run.getEvent().getConePenaltySeconds(),
+                run.getCones()
+        );
+        if (handicapTimeScored == null) {
+            score(scoredRun);
+            return;
+        }
         scoredRun.setHandicapTimeScored(handicapTimeScored);
     }
 }
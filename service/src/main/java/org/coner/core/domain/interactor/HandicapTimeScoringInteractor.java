@@ -4,4 +4,13 @@ import org.coner.core.domain.entity.ScoredRun;
 
 public interface HandicapTimeScoringInteractor {
     void score(ScoredRun scoredRun);
+
+    /**
+     * Score a run whose registration's handicap group and competition group factors have already been combined by
+     * {@link FixedPointScoring#toFactorMicros(java.math.BigDecimal, java.math.BigDecimal)}.
+     *
+     * @param scoredRun the scored run
+     * @param factorMicros the combined factor, or {@link FixedPointScoring#UNREPRESENTABLE}
+     */
+    void score(ScoredRun scoredRun, long factorMicros);
 }
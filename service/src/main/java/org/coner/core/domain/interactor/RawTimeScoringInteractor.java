@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 
 import javax.inject.Inject;
 
+import org.coner.core.domain.entity.Run;
 import org.coner.core.domain.entity.ScoredRun;
 
 /**
@@ -18,10 +19,12 @@ public class RawTimeScoringInteractor {
     }
 
     public void score(ScoredRun scoredRun) {
-        BigDecimal eventConePenaltySeconds = scoredRun.getRun().getEvent().getConePenaltySeconds();
-        BigDecimal runCones = BigDecimal.valueOf(scoredRun.getRun().getCones());
-        BigDecimal conePenaltySeconds = eventConePenaltySeconds.multiply(runCones);
-        BigDecimal rawTimeScored = scoredRun.getRun().getRawTime().add(conePenaltySeconds);
+        Run run = scoredRun.getRun();
+        BigDecimal rawTimeScored = FixedPointScoring.rawTimeScored(
+                run.getRawTime(),
+                run.getEvent().getConePenaltySeconds(),
+                run.getCones()
+        );
         scoredRun.setRawTimeScored(rawTimeScored);
     }
 }
@@ -1,10 +1,18 @@
 package org.coner.core.domain.interactor;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.inject.Inject;
 
+import org.coner.core.domain.entity.CompetitionGroup;
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.entity.HandicapGroup;
+import org.coner.core.domain.entity.Registration;
 import org.coner.core.domain.entity.Run;
 import org.coner.core.domain.entity.ScoredRun;
 import org.coner.core.domain.value.HandicapTimeScoringMethod;
@@ -35,22 +43,49 @@ public class RunScoringInteractor {
         if (!run.getDidNotFinish()) {
             rawTimeScoringInteractor.score(scoredRun);
             HandicapTimeScoringMethod handicapTimeScoringMethod = run.getEvent().getHandicapTimeScoringMethod();
-            if (handicapTimeScoringInteractors.containsKey(handicapTimeScoringMethod)) {
-                handicapTimeScoringInteractors.get(handicapTimeScoringMethod)
-                        .score(scoredRun);
-            } else {
-                throw new UnsupportedOperationException(
-                        "Unsupported HandicapTimeScoringMethod: " + handicapTimeScoringMethod
-                );
-            }
+            getHandicapTimeScoringInteractor(handicapTimeScoringMethod).score(scoredRun);
         } else {
-            scoredRun.setRawTimeScored(TIME_DID_NOT_FINISH);
-            scoredRun.setHandicapTimeScored(TIME_DID_NOT_FINISH);
+            scoreDidNotFinish(scoredRun);
         }
 
         return scoredRun;
     }
 
+    /**
+     * Score many runs at once, resolving the handicap time scoring method once per event and combining the handicap
+     * group and competition group factors once per registration. Each registration has at most its event's
+     * max runs per registration scored, taken in the order given.
+     *
+     * @param runs the runs to score, in sequence order
+     * @return the scored runs of each registration, keyed by registration id in order of first appearance. A
+     *     registration whose runs weren't scorable maps to an empty list. Runs without a registration are skipped.
+     */
+    public Map<String, List<ScoredRun>> scoreAll(Collection<Run> runs) {
+        Map<String, RegistrationScoring> registrationScorings = new LinkedHashMap<>();
+        EventScoring eventScoring = null;
+        for (Run run : runs) {
+            Registration registration = run.getRegistration();
+            if (registration == null) {
+                continue;
+            }
+            RegistrationScoring registrationScoring = registrationScorings.get(registration.getId());
+            if (registrationScoring == null) {
+                Event event = run.getEvent();
+                if (eventScoring == null || !eventScoring.eventId.equals(event.getId())) {
+                    eventScoring = new EventScoring(event);
+                }
+                registrationScoring = new RegistrationScoring(eventScoring, registration);
+                registrationScorings.put(registration.getId(), registrationScoring);
+            }
+            registrationScoring.score(run);
+        }
+        Map<String, List<ScoredRun>> scoredRunsByRegistrationId = new LinkedHashMap<>(registrationScorings.size());
+        for (Map.Entry<String, RegistrationScoring> entry : registrationScorings.entrySet()) {
+            scoredRunsByRegistrationId.put(entry.getKey(), entry.getValue().scoredRuns);
+        }
+        return scoredRunsByRegistrationId;
+    }
+
     boolean shouldScore(Run run) {
         if (run == null) return false;
         if (run.getRawTime() == null) return false;
@@ -60,4 +95,79 @@ public class RunScoringInteractor {
         return true;
     }
 
+    private HandicapTimeScoringInteractor getHandicapTimeScoringInteractor(
+            HandicapTimeScoringMethod handicapTimeScoringMethod
+    ) {
+        HandicapTimeScoringInteractor handicapTimeScoringInteractor =
+                handicapTimeScoringInteractors.get(handicapTimeScoringMethod);
+        if (handicapTimeScoringInteractor == null) {
+            throw unsupported(handicapTimeScoringMethod);
+        }
+        return handicapTimeScoringInteractor;
+    }
+
+    private static UnsupportedOperationException unsupported(HandicapTimeScoringMethod handicapTimeScoringMethod) {
+        return new UnsupportedOperationException("Unsupported HandicapTimeScoringMethod: " + handicapTimeScoringMethod);
+    }
+
+    private static void scoreDidNotFinish(ScoredRun scoredRun) {
+        scoredRun.setRawTimeScored(TIME_DID_NOT_FINISH);
+        scoredRun.setHandicapTimeScored(TIME_DID_NOT_FINISH);
+    }
+
+    private static long getFactorMicros(Registration registration) {
+        HandicapGroup handicapGroup = registration.getHandicapGroup();
+        CompetitionGroup competitionGroup = registration.getCompetitionGroup();
+        if (handicapGroup == null || competitionGroup == null) {
+            return FixedPointScoring.UNREPRESENTABLE;
+        }
+        return FixedPointScoring.toFactorMicros(handicapGroup.getFactor(), competitionGroup.getFactor());
+    }
+
+    private final class EventScoring {
+        private final String eventId;
+        private final HandicapTimeScoringMethod handicapTimeScoringMethod;
+        private final HandicapTimeScoringInteractor handicapTimeScoringInteractor;
+        private final int maxRunsPerRegistration;
+
+        private EventScoring(Event event) {
+            this.eventId = event.getId();
+            this.handicapTimeScoringMethod = event.getHandicapTimeScoringMethod();
+            this.handicapTimeScoringInteractor = handicapTimeScoringInteractors.get(handicapTimeScoringMethod);
+            this.maxRunsPerRegistration = event.getMaxRunsPerRegistration();
+        }
+
+        private HandicapTimeScoringInteractor getHandicapTimeScoringInteractor() {
+            if (handicapTimeScoringInteractor == null) {
+                throw unsupported(handicapTimeScoringMethod);
+            }
+            return handicapTimeScoringInteractor;
+        }
+    }
+
+    private final class RegistrationScoring {
+        private final EventScoring eventScoring;
+        private final long factorMicros;
+        private final List<ScoredRun> scoredRuns = new ArrayList<>();
+
+        private RegistrationScoring(EventScoring eventScoring, Registration registration) {
+            this.eventScoring = eventScoring;
+            this.factorMicros = getFactorMicros(registration);
+        }
+
+        private void score(Run run) {
+            if (scoredRuns.size() >= eventScoring.maxRunsPerRegistration || !shouldScore(run)) {
+                return;
+            }
+            ScoredRun scoredRun = new ScoredRun();
+            scoredRun.setRun(run);
+            if (!run.getDidNotFinish()) {
+                rawTimeScoringInteractor.score(scoredRun);
+                eventScoring.getHandicapTimeScoringInteractor().score(scoredRun, factorMicros);
+            } else {
+                scoreDidNotFinish(scoredRun);
+            }
+            scoredRuns.add(scoredRun);
+        }
+    }
 }
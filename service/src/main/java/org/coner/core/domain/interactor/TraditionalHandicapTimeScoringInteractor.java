@@ -1,7 +1,6 @@
 package org.coner.core.domain.interactor;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 import org.coner.core.domain.entity.Run;
 import org.coner.core.domain.entity.ScoredRun;
@@ -26,9 +25,23 @@ public class TraditionalHandicapTimeScoringInteractor implements HandicapTimeSco
         Run run = scoredRun.getRun();
         BigDecimal handicapGroupFactor = run.getRegistration().getHandicapGroup().getFactor();
         BigDecimal competitionGroupFactor = run.getRegistration().getCompetitionGroup().getFactor();
-        BigDecimal handicapTimeScored = rawTimeScored.multiply(handicapGroupFactor)
-                .multiply(competitionGroupFactor)
-                .setScale(3, RoundingMode.HALF_UP);
+        BigDecimal handicapTimeScored = FixedPointScoring.handicapTime(
+                rawTimeScored,
+                handicapGroupFactor,
+                competitionGroupFactor
+        );
+        scoredRun.setHandicapTimeScored(handicapTimeScored);
+    }
+
+    @Override
+    public void score(ScoredRun scoredRun, long factorMicros) {
+        BigDecimal rawTimeScored = scoredRun.getRawTimeScored();
+        Preconditions.checkNotNull(rawTimeScored, "depends on raw time scored");
+        BigDecimal handicapTimeScored = FixedPointScoring.tryHandicapTime(rawTimeScored, factorMicros);
+        if (handicapTimeScored == null) {
+            score(scoredRun);
+            return;
+        }
         scoredRun.setHandicapTimeScored(handicapTimeScored);
     }
 }
@@ -0,0 +1,46 @@
+package org.coner.core.domain.payload;
+
+import java.util.List;
+import java.util.Map;
+
+import org.coner.core.domain.entity.Event;
+
+public class GetEventResultsPayload {
+
+    private Event event;
+    private List<GetRegistrationResultsPayload> overallRaw;
+    private List<GetRegistrationResultsPayload> overallHandicap;
+    private Map<String, List<GetRegistrationResultsPayload>> competitionGroups;
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public void setEvent(Event event) {
+        this.event = event;
+    }
+
+    public List<GetRegistrationResultsPayload> getOverallRaw() {
+        return overallRaw;
+    }
+
+    public void setOverallRaw(List<GetRegistrationResultsPayload> overallRaw) {
+        this.overallRaw = overallRaw;
+    }
+
+    public List<GetRegistrationResultsPayload> getOverallHandicap() {
+        return overallHandicap;
+    }
+
+    public void setOverallHandicap(List<GetRegistrationResultsPayload> overallHandicap) {
+        this.overallHandicap = overallHandicap;
+    }
+
+    public Map<String, List<GetRegistrationResultsPayload>> getCompetitionGroups() {
+        return competitionGroups;
+    }
+
+    public void setCompetitionGroups(Map<String, List<GetRegistrationResultsPayload>> competitionGroups) {
+        this.competitionGroups = competitionGroups;
+    }
+}
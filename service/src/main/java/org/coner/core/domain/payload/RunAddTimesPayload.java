@@ -0,0 +1,28 @@
+package org.coner.core.domain.payload;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.coner.core.domain.entity.Event;
+
+public class RunAddTimesPayload extends DomainAddPayload {
+
+    private Event event;
+    private List<BigDecimal> rawTimes;
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public void setEvent(Event event) {
+        this.event = event;
+    }
+
+    public List<BigDecimal> getRawTimes() {
+        return rawTimes;
+    }
+
+    public void setRawTimes(List<BigDecimal> rawTimes) {
+        this.rawTimes = rawTimes;
+    }
+}
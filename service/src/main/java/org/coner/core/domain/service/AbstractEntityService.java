@@ -1,6 +1,9 @@
 package org.coner.core.domain.service;
 
 import java.util.List;
+import java.util.Objects;
+
+import javax.inject.Inject;
 
 import org.coner.core.domain.entity.DomainEntity;
 import org.coner.core.domain.payload.DomainAddPayload;
@@ -8,6 +11,10 @@ import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
 import org.coner.core.gateway.Gateway;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
 public abstract class AbstractEntityService<
         DE extends DomainEntity,
         AP extends DomainAddPayload,
@@ -15,18 +22,35 @@ public abstract class AbstractEntityService<
 
     private final Class<DE> domainEntityClass;
     protected final G gateway;
+    private MetricRegistry metricRegistry = new MetricRegistry();
 
     protected AbstractEntityService(Class<DE> domainEntityClass, G gateway) {
         this.domainEntityClass = domainEntityClass;
         this.gateway = gateway;
     }
 
+    /**
+     * Report the metrics of this service, named after its class, to a registry such as the application's. Until set,
+     * they go to a registry of its own which nothing reports.
+     *
+     * @param metricRegistry the registry
+     */
+    @Inject
+    public void setMetricRegistry(MetricRegistry metricRegistry) {
+        this.metricRegistry = Objects.requireNonNull(metricRegistry);
+    }
+
     public DE add(AP addPayload) throws AddEntityException {
-        return gateway.add(addPayload);
+        try (Timer.Context ignored = time("add")) {
+            return gateway.add(addPayload);
+        }
     }
 
     public DE getById(String id) throws EntityNotFoundException {
-        DE entity = gateway.findById(id);
+        DE entity;
+        try (Timer.Context ignored = time("getById")) {
+            entity = gateway.findById(id);
+        }
         if (entity == null) {
             throw new EntityNotFoundException(domainEntityClass, id);
         }
@@ -34,7 +58,29 @@ public abstract class AbstractEntityService<
     }
 
     public List<DE> getAll() {
-        return gateway.getAll();
+        try (Timer.Context ignored = time("getAll")) {
+            return gateway.getAll();
+        }
+    }
+
+    /**
+     * Start timing an operation of this service.
+     *
+     * @param operation the name of the operation, appended to the class name to name its timer
+     * @return the timer context, to close once the operation is done
+     */
+    protected Timer.Context time(String operation) {
+        return metricRegistry.timer(MetricRegistry.name(getClass(), operation)).time();
+    }
+
+    /**
+     * Get the meter of an event this service counts.
+     *
+     * @param event the name of the event, appended to the class name to name its meter
+     * @return the meter
+     */
+    protected Meter meter(String event) {
+        return metricRegistry.meter(MetricRegistry.name(getClass(), event));
     }
 
 }
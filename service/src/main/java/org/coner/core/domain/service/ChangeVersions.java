@@ -0,0 +1,81 @@
+package org.coner.core.domain.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Versions of what clients read, bumped once each write to it commits, so responses can be tagged with the version
+ * they were read at and clients can skip fetching again what hasn't changed.
+ *
+ * <p>Tags are only meaningful to the running instance, and to be read before what they tag, so that a write
+ * committing between the two at worst makes the client fetch again.</p>
+ */
+@Singleton
+public class ChangeVersions {
+
+    /**
+     * Scope of events themselves, bumped as events are added.
+     */
+    public static final String EVENTS = "events";
+
+    /**
+     * Scope of handicap and competition groups and their sets, bumped as any of them change.
+     */
+    public static final String GROUPS = "groups";
+
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private volatile String instance = newInstance();
+
+    @Inject
+    public ChangeVersions() {
+    }
+
+    /**
+     * Get the scope of what is held at an event, its registrations and runs, bumped as any of them change.
+     *
+     * @param eventId the event ID
+     * @return the scope
+     */
+    public static String event(String eventId) {
+        return "event:" + eventId;
+    }
+
+    /**
+     * Get a tag of the current version of a scope.
+     *
+     * @param scope the scope
+     * @return a tag which changes as the scope does
+     */
+    public String getTag(String scope) {
+        return instance + "." + version(scope).get();
+    }
+
+    /**
+     * Bump the version of a scope, once a write to it has committed.
+     *
+     * @param scope the scope
+     */
+    public void bump(String scope) {
+        version(scope).incrementAndGet();
+    }
+
+    /**
+     * Change the tags of all scopes, as after writes made other than through the app.
+     */
+    public void bumpAll() {
+        instance = newInstance();
+    }
+
+    private AtomicLong version(String scope) {
+        return versions.computeIfAbsent(scope, key -> new AtomicLong());
+    }
+
+    private static String newInstance() {
+        return Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+    }
+}
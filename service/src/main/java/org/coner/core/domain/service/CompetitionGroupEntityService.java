@@ -4,6 +4,7 @@ import javax.inject.Inject;
 
 import org.coner.core.domain.entity.CompetitionGroup;
 import org.coner.core.domain.payload.CompetitionGroupAddPayload;
+import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.gateway.CompetitionGroupGateway;
 
 public class CompetitionGroupEntityService extends AbstractEntityService<
@@ -11,8 +12,18 @@ public class CompetitionGroupEntityService extends AbstractEntityService<
         CompetitionGroupAddPayload,
         CompetitionGroupGateway> {
 
+    private final ChangeVersions changeVersions;
+
     @Inject
-    public CompetitionGroupEntityService(CompetitionGroupGateway gateway) {
+    public CompetitionGroupEntityService(CompetitionGroupGateway gateway, ChangeVersions changeVersions) {
         super(CompetitionGroup.class, gateway);
+        this.changeVersions = changeVersions;
+    }
+
+    @Override
+    public CompetitionGroup add(CompetitionGroupAddPayload addPayload) throws AddEntityException {
+        CompetitionGroup competitionGroup = super.add(addPayload);
+        gateway.afterCommit(() -> changeVersions.bump(ChangeVersions.GROUPS));
+        return competitionGroup;
     }
 }
@@ -19,13 +19,16 @@ public class CompetitionGroupSetService extends AbstractEntityService<
         CompetitionGroupSetGateway> {
 
     private final CompetitionGroupEntityService competitionGroupEntityService;
+    private final ChangeVersions changeVersions;
 
     @Inject
     public CompetitionGroupSetService(
             CompetitionGroupSetGateway gateway,
-            CompetitionGroupEntityService competitionGroupEntityService) {
+            CompetitionGroupEntityService competitionGroupEntityService,
+            ChangeVersions changeVersions) {
         super(CompetitionGroupSet.class, gateway);
         this.competitionGroupEntityService = competitionGroupEntityService;
+        this.changeVersions = changeVersions;
     }
 
     @Override
@@ -39,7 +42,9 @@ public class CompetitionGroupSetService extends AbstractEntityService<
             throw new AddEntityException(e);
         }
         addPayload.setCompetitionGroups(competitionGroupsBuilder.build());
-        return gateway.add(addPayload);
+        CompetitionGroupSet competitionGroupSet = gateway.add(addPayload);
+        gateway.afterCommit(() -> changeVersions.bump(ChangeVersions.GROUPS));
+        return competitionGroupSet;
     }
 
     public CompetitionGroupSet addToCompetitionGroups(
@@ -51,6 +56,8 @@ public class CompetitionGroupSetService extends AbstractEntityService<
             return competitionGroupSet;
         }
         competitionGroups.add(competitionGroup);
-        return gateway.save(competitionGroupSet.getId(), competitionGroupSet);
+        CompetitionGroupSet saved = gateway.save(competitionGroupSet.getId(), competitionGroupSet);
+        gateway.afterCommit(() -> changeVersions.bump(ChangeVersions.GROUPS));
+        return saved;
     }
 }
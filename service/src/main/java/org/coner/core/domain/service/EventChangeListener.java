@@ -0,0 +1,21 @@
+package org.coner.core.domain.service;
+
+import org.coner.core.domain.entity.Run;
+import org.coner.core.domain.payload.GetRegistrationResultsPayload;
+
+/**
+ * Notified of changes at an event after they are committed, on the committing thread, so implementations must return
+ * quickly.
+ */
+public interface EventChangeListener {
+
+    void runAdded(Run run);
+
+    void rawTimeAssigned(Run run);
+
+    /**
+     * @param eventId the event ID
+     * @param results the rescored results of the registration whose runs changed
+     */
+    void registrationResultsChanged(String eventId, GetRegistrationResultsPayload results);
+}
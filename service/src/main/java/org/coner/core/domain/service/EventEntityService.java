@@ -4,12 +4,23 @@ import javax.inject.Inject;
 
 import org.coner.core.domain.entity.Event;
 import org.coner.core.domain.payload.EventAddPayload;
+import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.gateway.EventGateway;
 
 public class EventEntityService extends AbstractEntityService<Event, EventAddPayload, EventGateway> {
 
+    private final ChangeVersions changeVersions;
+
     @Inject
-    public EventEntityService(EventGateway gateway) {
+    public EventEntityService(EventGateway gateway, ChangeVersions changeVersions) {
         super(Event.class, gateway);
+        this.changeVersions = changeVersions;
+    }
+
+    @Override
+    public Event add(EventAddPayload addPayload) throws AddEntityException {
+        Event event = super.add(addPayload);
+        gateway.afterCommit(() -> changeVersions.bump(ChangeVersions.EVENTS));
+        return event;
     }
 }
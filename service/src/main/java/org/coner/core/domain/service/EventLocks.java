@@ -0,0 +1,61 @@
+package org.coner.core.domain.service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.google.common.util.concurrent.Striped;
+
+/**
+ * Striped locks keyed by event ID, which serialize writes that must not interleave at one event while leaving
+ * other events fully parallel.
+ *
+ * <p>Locks are semaphores rather than reentrant locks so that they may be released from a transaction completion
+ * callback, which isn't guaranteed to run on the thread that acquired the lock. They are therefore not reentrant:
+ * a thread must not acquire the lock for an event it already holds.</p>
+ */
+@Singleton
+public class EventLocks {
+
+    static final int STRIPES = 64;
+    static final long TIMEOUT_SECONDS = 10;
+
+    private final Striped<Semaphore> stripes;
+
+    @Inject
+    public EventLocks() {
+        this.stripes = Striped.semaphore(STRIPES, 1);
+    }
+
+    /**
+     * Acquire the lock for an event, waiting up to {@link #TIMEOUT_SECONDS}.
+     *
+     * @param eventId the event ID
+     * @return the acquired lock, to be passed to {@link #release(Semaphore)}
+     * @throws TimeoutException if the lock wasn't acquired in time
+     */
+    public Semaphore acquire(String eventId) throws TimeoutException {
+        Semaphore lock = stripes.get(eventId);
+        try {
+            if (!lock.tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new TimeoutException("Timed out waiting for lock on event: " + eventId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted waiting for lock on event: " + eventId);
+        }
+        return lock;
+    }
+
+    /**
+     * Release a lock acquired by {@link #acquire(String)}.
+     *
+     * @param lock the lock
+     */
+    public void release(Semaphore lock) {
+        lock.release();
+    }
+}
@@ -4,6 +4,7 @@ import javax.inject.Inject;
 
 import org.coner.core.domain.entity.HandicapGroup;
 import org.coner.core.domain.payload.HandicapGroupAddPayload;
+import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.gateway.HandicapGroupGateway;
 
 public class HandicapGroupEntityService extends AbstractEntityService<
@@ -11,8 +12,18 @@ public class HandicapGroupEntityService extends AbstractEntityService<
         HandicapGroupAddPayload,
         HandicapGroupGateway> {
 
+    private final ChangeVersions changeVersions;
+
     @Inject
-    public HandicapGroupEntityService(HandicapGroupGateway gateway) {
+    public HandicapGroupEntityService(HandicapGroupGateway gateway, ChangeVersions changeVersions) {
         super(HandicapGroup.class, gateway);
+        this.changeVersions = changeVersions;
+    }
+
+    @Override
+    public HandicapGroup add(HandicapGroupAddPayload addPayload) throws AddEntityException {
+        HandicapGroup handicapGroup = super.add(addPayload);
+        gateway.afterCommit(() -> changeVersions.bump(ChangeVersions.GROUPS));
+        return handicapGroup;
     }
 }
@@ -19,14 +19,17 @@ public class HandicapGroupSetService extends AbstractEntityService<
         HandicapGroupSetGateway> {
 
     private final HandicapGroupEntityService handicapGroupEntityService;
+    private final ChangeVersions changeVersions;
 
     @Inject
     public HandicapGroupSetService(
             HandicapGroupSetGateway gateway,
-            HandicapGroupEntityService handicapGroupEntityService
+            HandicapGroupEntityService handicapGroupEntityService,
+            ChangeVersions changeVersions
     ) {
         super(HandicapGroupSet.class, gateway);
         this.handicapGroupEntityService = handicapGroupEntityService;
+        this.changeVersions = changeVersions;
     }
 
     @Override
@@ -40,7 +43,9 @@ public class HandicapGroupSetService extends AbstractEntityService<
             throw new AddEntityException(e);
         }
         addPayload.setHandicapGroups(handicapGroupBuilder.build());
-        return gateway.add(addPayload);
+        HandicapGroupSet handicapGroupSet = gateway.add(addPayload);
+        gateway.afterCommit(() -> changeVersions.bump(ChangeVersions.GROUPS));
+        return handicapGroupSet;
     }
 
 
@@ -50,6 +55,8 @@ public class HandicapGroupSetService extends AbstractEntityService<
             return handicapGroupSet;
         }
         handicapGroups.add(handicapGroup);
-        return gateway.save(handicapGroupSet.getId(), handicapGroupSet);
+        HandicapGroupSet saved = gateway.save(handicapGroupSet.getId(), handicapGroupSet);
+        gateway.afterCommit(() -> changeVersions.bump(ChangeVersions.GROUPS));
+        return saved;
     }
 }
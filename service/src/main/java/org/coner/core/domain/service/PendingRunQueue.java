@@ -0,0 +1,139 @@
+package org.coner.core.domain.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.coner.core.domain.entity.Run;
+
+/**
+ * Holds the runs of each event which lack a raw time, ordered by sequence, so the next run to assign a time to is
+ * found without a query. These are the cars on course: staged or launched, but not yet through the finish.
+ *
+ * <p>The queue of an event is seeded from the database on first use via {@link #seed(String, List)}, and kept in
+ * sync by offering runs added without a raw time and removing runs once a time is assigned, both after commit.
+ * Seeding merges with runs offered in the meantime, so a run committed while the seed was being read isn't lost.
+ * Callers must not seed concurrently with removing runs from the same event.</p>
+ */
+@Singleton
+public class PendingRunQueue {
+
+    private final ConcurrentMap<String, EventQueue> eventQueues = new ConcurrentHashMap<>();
+
+    @Inject
+    public PendingRunQueue() {
+    }
+
+    public boolean isLoaded(String eventId) {
+        EventQueue eventQueue = eventQueues.get(eventId);
+        return eventQueue != null && eventQueue.loaded;
+    }
+
+    /**
+     * Load the pending runs of an event from the database.
+     *
+     * @param eventId the event ID
+     * @param pendingRuns the runs at the event which lack a raw time
+     */
+    public void seed(String eventId, List<Run> pendingRuns) {
+        EventQueue eventQueue = eventQueue(eventId);
+        for (Run run : pendingRuns) {
+            eventQueue.runs.putIfAbsent(run.getSequence(), run);
+        }
+        eventQueue.loaded = true;
+    }
+
+    /**
+     * Get the first run in sequence at an event which lacks a raw time.
+     *
+     * @param eventId the event ID
+     * @return the first pending run, or null if there is none or the event is not loaded
+     */
+    public Run peek(String eventId) {
+        EventQueue eventQueue = eventQueues.get(eventId);
+        if (eventQueue == null || !eventQueue.loaded) {
+            return null;
+        }
+        Map.Entry<Integer, Run> first = eventQueue.runs.firstEntry();
+        return first != null ? first.getValue() : null;
+    }
+
+    /**
+     * Iterate the runs at an event which lack a raw time, without copying them. The iterator is weakly consistent,
+     * and removing runs through it is not supported.
+     *
+     * @param eventId the event ID
+     * @return an iterator over the pending runs in sequence order, empty if the event is not loaded
+     */
+    public Iterator<Run> iterator(String eventId) {
+        EventQueue eventQueue = eventQueues.get(eventId);
+        if (eventQueue == null || !eventQueue.loaded) {
+            return Collections.emptyIterator();
+        }
+        return Collections.unmodifiableCollection(eventQueue.runs.values()).iterator();
+    }
+
+    /**
+     * Get all runs at an event which lack a raw time.
+     *
+     * @param eventId the event ID
+     * @return the pending runs in sequence order, empty if there are none or the event is not loaded
+     */
+    public List<Run> list(String eventId) {
+        EventQueue eventQueue = eventQueues.get(eventId);
+        if (eventQueue == null || !eventQueue.loaded) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(eventQueue.runs.values()));
+    }
+
+    /**
+     * Add a committed run to the queue of its event if it lacks a raw time.
+     *
+     * @param run the run
+     */
+    public void offer(Run run) {
+        if (run.getRawTime() != null) {
+            return;
+        }
+        eventQueue(run.getEvent().getId()).runs.put(run.getSequence(), run);
+    }
+
+    /**
+     * Remove a run from the queue of its event, such as once a raw time is committed to it.
+     *
+     * @param run the run
+     */
+    public void remove(Run run) {
+        EventQueue eventQueue = eventQueues.get(run.getEvent().getId());
+        if (eventQueue != null) {
+            eventQueue.runs.remove(run.getSequence());
+        }
+    }
+
+    /**
+     * Discard the queue of an event, so it will be seeded from the database again on next use.
+     *
+     * @param eventId the event ID
+     */
+    public void invalidate(String eventId) {
+        eventQueues.remove(eventId);
+    }
+
+    private EventQueue eventQueue(String eventId) {
+        return eventQueues.computeIfAbsent(eventId, key -> new EventQueue());
+    }
+
+    private static final class EventQueue {
+        private final ConcurrentSkipListMap<Integer, Run> runs = new ConcurrentSkipListMap<>();
+        private volatile boolean loaded;
+    }
+}
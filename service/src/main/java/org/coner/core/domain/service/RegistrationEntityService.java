@@ -7,6 +7,7 @@ import javax.inject.Inject;
 import org.coner.core.domain.entity.Event;
 import org.coner.core.domain.entity.Registration;
 import org.coner.core.domain.payload.RegistrationAddPayload;
+import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.gateway.RegistrationGateway;
 
 public class RegistrationEntityService extends AbstractEntityService<
@@ -14,9 +15,19 @@ public class RegistrationEntityService extends AbstractEntityService<
         RegistrationAddPayload,
         RegistrationGateway> {
 
+    private final ChangeVersions changeVersions;
+
     @Inject
-    public RegistrationEntityService(RegistrationGateway gateway) {
+    public RegistrationEntityService(RegistrationGateway gateway, ChangeVersions changeVersions) {
         super(Registration.class, gateway);
+        this.changeVersions = changeVersions;
+    }
+
+    @Override
+    public Registration add(RegistrationAddPayload addPayload) throws AddEntityException {
+        Registration registration = super.add(addPayload);
+        gateway.afterCommit(() -> changeVersions.bump(ChangeVersions.event(addPayload.getEvent().getId())));
+        return registration;
     }
 
     public List<Registration> getAllWith(Event event) {
@@ -0,0 +1,256 @@
+package org.coner.core.domain.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.entity.Registration;
+import org.coner.core.domain.entity.Run;
+import org.coner.core.domain.entity.ScoredRun;
+import org.coner.core.domain.interactor.RunScoringInteractor;
+import org.coner.core.domain.payload.GetEventResultsPayload;
+import org.coner.core.domain.payload.GetRegistrationResultsPayload;
+
+/**
+ * Holds the scored runs and standings of each event in memory, and keeps them current by rescoring only the
+ * registration affected by each committed run write.
+ *
+ * <p>State for an event is built from the database on first read via {@link #rebuild(Event, List, long)}, and may be
+ * discarded with {@link #invalidate(String)} to force a rebuild after manual corrections.</p>
+ */
+@Singleton
+public class ResultsEngine {
+
+    private final RunScoringInteractor runScoringInteractor;
+    private final ConcurrentMap<String, EventResults> eventResults = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> writeCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Runnable>> writeWaiters = new ConcurrentHashMap<>();
+
+    @Inject
+    public ResultsEngine(RunScoringInteractor runScoringInteractor) {
+        this.runScoringInteractor = runScoringInteractor;
+    }
+
+    public boolean isLoaded(String eventId) {
+        return eventResults.containsKey(eventId);
+    }
+
+    /**
+     * Get the current standings of an event.
+     *
+     * @param eventId the event ID
+     * @return the standings, or null if the event is not loaded
+     */
+    public GetEventResultsPayload getResults(String eventId) {
+        EventResults results = eventResults.get(eventId);
+        return results != null ? results.standings : null;
+    }
+
+    /**
+     * Get the current results of a registration.
+     *
+     * @param eventId the event ID
+     * @param registrationId the registration ID
+     * @return the results, or null if the event is not loaded or the registration has no runs
+     */
+    public GetRegistrationResultsPayload getResults(String eventId, String registrationId) {
+        EventResults results = eventResults.get(eventId);
+        return results != null ? results.registrationResults.get(registrationId) : null;
+    }
+
+    /**
+     * Get a mark to pass to {@link #rebuild(Event, List, long)}. Take it before loading the runs to rebuild from.
+     *
+     * @param eventId the event ID
+     * @return the count of run writes applied to the event so far
+     */
+    public long getWriteMark(String eventId) {
+        return writeCount(eventId).get();
+    }
+
+    /**
+     * Score all runs of an event from scratch without touching the held state.
+     *
+     * @param event the event
+     * @param runs all runs of the event, in sequence order
+     * @return the standings
+     */
+    public GetEventResultsPayload compute(Event event, List<Run> runs) {
+        EventResults results = new EventResults(event);
+        results.load(runs);
+        return results.standings;
+    }
+
+    /**
+     * Replace the held state of an event with one scored from scratch. The new state is only installed if no run
+     * write has been applied to the event since the write mark was taken, otherwise it could be missing that write.
+     *
+     * @param event the event
+     * @param runs all runs of the event, in sequence order
+     * @param writeMark the result of {@link #getWriteMark(String)} taken before loading the runs
+     * @return the standings scored from the given runs
+     */
+    public GetEventResultsPayload rebuild(Event event, List<Run> runs, long writeMark) {
+        EventResults results = new EventResults(event);
+        results.load(runs);
+        AtomicLong writeCount = writeCount(event.getId());
+        synchronized (writeCount) {
+            if (writeCount.get() == writeMark) {
+                eventResults.put(event.getId(), results);
+            }
+        }
+        return results.standings;
+    }
+
+    /**
+     * Apply a committed run write to the held state of its event, if loaded.
+     *
+     * @param run the run as persisted
+     */
+    public void apply(Run run) {
+        String eventId = run.getEvent().getId();
+        AtomicLong writeCount = writeCount(eventId);
+        Set<Runnable> waiters;
+        synchronized (writeCount) {
+            writeCount.incrementAndGet();
+            EventResults results = eventResults.get(eventId);
+            if (results != null) {
+                results.apply(run);
+            }
+            waiters = writeWaiters.remove(eventId);
+        }
+        if (waiters != null) {
+            waiters.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Run a callback once a run write is applied to an event after a write mark was taken, or now if one already has.
+     * Callbacks run on the thread applying the write, so must return quickly.
+     *
+     * @param eventId the event ID
+     * @param writeMark the result of {@link #getWriteMark(String)}
+     * @param callback the callback
+     */
+    public void whenWrittenAfter(String eventId, long writeMark, Runnable callback) {
+        AtomicLong writeCount = writeCount(eventId);
+        synchronized (writeCount) {
+            if (writeCount.get() == writeMark) {
+                writeWaiters.computeIfAbsent(eventId, id -> new LinkedHashSet<>()).add(callback);
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    /**
+     * Discard a callback given to {@link #whenWrittenAfter(String, long, Runnable)} which hasn't run yet.
+     *
+     * @param eventId the event ID
+     * @param callback the callback
+     */
+    public void cancelWhenWritten(String eventId, Runnable callback) {
+        AtomicLong writeCount = writeCount(eventId);
+        synchronized (writeCount) {
+            Set<Runnable> waiters = writeWaiters.get(eventId);
+            if (waiters != null) {
+                waiters.remove(callback);
+            }
+        }
+    }
+
+    public void invalidate(String eventId) {
+        eventResults.remove(eventId);
+    }
+
+    private AtomicLong writeCount(String eventId) {
+        return writeCounts.computeIfAbsent(eventId, id -> new AtomicLong());
+    }
+
+    private final class EventResults {
+        private final Event event;
+        private final Map<String, Registration> registrations = new LinkedHashMap<>();
+        private final Map<String, List<Run>> runsByRegistrationId = new LinkedHashMap<>();
+        private final Map<String, String> registrationIdsByRunId = new ConcurrentHashMap<>();
+        private final Map<String, GetRegistrationResultsPayload> registrationResults = new ConcurrentHashMap<>();
+        private volatile GetEventResultsPayload standings;
+
+        private EventResults(Event event) {
+            this.event = event;
+        }
+
+        private void load(List<Run> runs) {
+            for (Run run : runs) {
+                put(run);
+            }
+            Map<String, List<ScoredRun>> scoredRuns = runScoringInteractor.scoreAll(runs);
+            for (Registration registration : registrations.values()) {
+                registrationResults.put(registration.getId(), Standings.score(
+                        registration,
+                        scoredRuns.getOrDefault(registration.getId(), new ArrayList<>())
+                ));
+            }
+            publish();
+        }
+
+        private void apply(Run run) {
+            String registrationId = run.getRegistration() != null ? run.getRegistration().getId() : null;
+            String previousRegistrationId = registrationIdsByRunId.remove(run.getId());
+            if (previousRegistrationId != null) {
+                runsByRegistrationId.get(previousRegistrationId).removeIf(it -> it.getId().equals(run.getId()));
+                if (!previousRegistrationId.equals(registrationId)) {
+                    rescore(previousRegistrationId);
+                }
+            }
+            if (put(run)) {
+                runsByRegistrationId.get(registrationId).sort(Comparator.comparingInt(Run::getSequence));
+                rescore(registrationId);
+            }
+            publish();
+        }
+
+        private boolean put(Run run) {
+            Registration registration = run.getRegistration();
+            if (registration == null) {
+                return false;
+            }
+            registrations.put(registration.getId(), registration);
+            runsByRegistrationId.computeIfAbsent(registration.getId(), id -> new ArrayList<>()).add(run);
+            registrationIdsByRunId.put(run.getId(), registration.getId());
+            return true;
+        }
+
+        private void rescore(String registrationId) {
+            List<Run> runs = runsByRegistrationId.get(registrationId);
+            if (runs.isEmpty()) {
+                registrations.remove(registrationId);
+                runsByRegistrationId.remove(registrationId);
+                registrationResults.remove(registrationId);
+                return;
+            }
+            registrationResults.put(registrationId, Standings.score(
+                    registrations.get(registrationId),
+                    runScoringInteractor.scoreAll(runs).getOrDefault(registrationId, new ArrayList<>())
+            ));
+        }
+
+        private void publish() {
+            List<GetRegistrationResultsPayload> results = new ArrayList<>(registrations.size());
+            for (String registrationId : registrations.keySet()) {
+                results.add(registrationResults.get(registrationId));
+            }
+            standings = Standings.rank(event, results);
+        }
+    }
+}
@@ -1,53 +1,137 @@
 package org.coner.core.domain.service;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
+import org.coner.core.domain.entity.Event;
 import org.coner.core.domain.entity.Registration;
 import org.coner.core.domain.entity.Run;
 import org.coner.core.domain.entity.ScoredRun;
 import org.coner.core.domain.interactor.RunScoringInteractor;
+import org.coner.core.domain.payload.GetEventResultsPayload;
 import org.coner.core.domain.payload.GetRegistrationResultsPayload;
 
 public class ResultsService {
 
     private final RunEntityService runEntityService;
     private final RunScoringInteractor runScoringInteractor;
+    private final ResultsEngine resultsEngine;
 
     @Inject
     public ResultsService(
             RunEntityService runEntityService,
-            RunScoringInteractor runScoringInteractor
+            RunScoringInteractor runScoringInteractor,
+            ResultsEngine resultsEngine
     ) {
         this.runEntityService = runEntityService;
         this.runScoringInteractor = runScoringInteractor;
+        this.resultsEngine = resultsEngine;
     }
 
+    /**
+     * Score the runs of a registration from scratch.
+     *
+     * @param registration the registration
+     * @return the results of the registration
+     */
     public GetRegistrationResultsPayload getResultsFor(Registration registration) {
-        GetRegistrationResultsPayload payload = new GetRegistrationResultsPayload();
-        payload.setRegistration(registration);
-
         List<Run> runs = runEntityService.getAllWithRegistration(registration);
-        int maxRunsPerRegistration = registration.getEvent().getMaxRunsPerRegistration();
-        List<ScoredRun> scoredRuns = new ArrayList<>(runs.size());
-        for (Run run : runs) {
-            if (scoredRuns.size() >= maxRunsPerRegistration) {
-                break;
-            }
-            ScoredRun scoredRun = runScoringInteractor.score(run);
-            if (scoredRun != null) {
-                scoredRuns.add(scoredRun);
+        Map<String, List<ScoredRun>> scoredRuns = runScoringInteractor.scoreAll(runs);
+        return Standings.score(registration, scoredRuns.getOrDefault(registration.getId(), new ArrayList<>()));
+    }
+
+    /**
+     * Get the results of a registration as held by the {@link ResultsEngine}, loading its event if necessary.
+     *
+     * @param registration the registration
+     * @return the results of the registration
+     */
+    public GetRegistrationResultsPayload getStandingFor(Registration registration) {
+        Event event = registration.getEvent();
+        if (!resultsEngine.isLoaded(event.getId())) {
+            rebuildResultsFor(event);
+            if (!resultsEngine.isLoaded(event.getId())) {
+                return getResultsFor(registration);
             }
         }
-        payload.setScoredRuns(scoredRuns);
+        GetRegistrationResultsPayload standing = resultsEngine.getResults(event.getId(), registration.getId());
+        if (standing == null) {
+            standing = Standings.score(registration, new ArrayList<>());
+        }
+        return standing;
+    }
+
+    /**
+     * Get the standings of all registrations at an event as held by the {@link ResultsEngine}, loading the event in
+     * a single pass over its runs if necessary.
+     *
+     * @param event the event
+     * @return overall raw, overall handicap, and per competition group standings, each ranked best first
+     */
+    public GetEventResultsPayload getResultsFor(Event event) {
+        GetEventResultsPayload results = resultsEngine.getResults(event.getId());
+        return results != null ? results : rebuildResultsFor(event);
+    }
 
-        payload.setScore(scoredRuns.stream()
-                                 .min(Comparator.comparing(ScoredRun::getRawTimeScored))
-                                 .orElse(null));
+    /**
+     * Get the version of the results of an event, which counts the run writes at the event since the service started.
+     *
+     * @param event the event
+     * @return the version
+     */
+    public long getVersion(Event event) {
+        return resultsEngine.getWriteMark(event.getId());
+    }
+
+    /**
+     * Run a callback once the results of an event change from a version, or now if they already have. Callbacks run on
+     * the thread committing the change, so must return quickly.
+     *
+     * @param event the event
+     * @param version the result of {@link #getVersion(Event)}
+     * @param callback the callback
+     */
+    public void whenChangedFrom(Event event, long version, Runnable callback) {
+        resultsEngine.whenWrittenAfter(event.getId(), version, callback);
+    }
+
+    /**
+     * Discard a callback given to {@link #whenChangedFrom(Event, long, Runnable)} which hasn't run yet.
+     *
+     * @param event the event
+     * @param callback the callback
+     */
+    public void cancelWhenChanged(Event event, Runnable callback) {
+        resultsEngine.cancelWhenWritten(event.getId(), callback);
+    }
+
+    /**
+     * Rescore all runs of an event from the database and replace the standings held by the {@link ResultsEngine}.
+     *
+     * @param event the event
+     * @return the rescored standings
+     */
+    public GetEventResultsPayload rebuildResultsFor(Event event) {
+        long writeMark = resultsEngine.getWriteMark(event.getId());
+        List<Run> runs = runEntityService.getAllWithEvent(event);
+        return resultsEngine.rebuild(event, runs, writeMark);
+    }
 
-        return payload;
+    /**
+     * Check the standings held by the {@link ResultsEngine} against a recompute from the database.
+     *
+     * @param event the event
+     * @return true if the held standings match the recompute, or if the event is not loaded
+     */
+    public boolean isConsistent(Event event) {
+        GetEventResultsPayload held = resultsEngine.getResults(event.getId());
+        if (held == null) {
+            return true;
+        }
+        GetEventResultsPayload recomputed = resultsEngine.compute(event, runEntityService.getAllWithEvent(event));
+        return Standings.isEquivalent(held, recomputed);
     }
 }
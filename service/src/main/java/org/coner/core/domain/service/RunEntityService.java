@@ -1,41 +1,89 @@
 package org.coner.core.domain.service;
 
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 
 import org.coner.core.domain.entity.Event;
 import org.coner.core.domain.entity.Registration;
 import org.coner.core.domain.entity.Run;
+import org.coner.core.domain.payload.GetRegistrationResultsPayload;
 import org.coner.core.domain.payload.RunAddPayload;
 import org.coner.core.domain.payload.RunAddTimePayload;
+import org.coner.core.domain.payload.RunAddTimesPayload;
 import org.coner.core.domain.payload.RunTimeAddedPayload;
 import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.domain.service.exception.EntityMismatchException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
 import org.coner.core.gateway.RunGateway;
 
+import com.codahale.metrics.Timer;
+
 public class RunEntityService extends AbstractEntityService<
         Run,
         RunAddPayload,
         RunGateway> {
 
+    /**
+     * Marked for each raw time which no run lacking one was waiting for, so a new run was added with it: a car timed
+     * without being seen to start, or a false trip of the timing lights.
+     */
+    static final String STRAY_START_METER = "strayStarts";
+
     private final EventEntityService eventEntityService;
+    private final ResultsEngine resultsEngine;
+    private final RunSequenceAllocator runSequenceAllocator;
+    private final EventLocks eventLocks;
+    private final PendingRunQueue pendingRunQueue;
+    private final EventChangeListener eventChangeListener;
+    private final ChangeVersions changeVersions;
 
     @Inject
-    public RunEntityService(RunGateway gateway, EventEntityService eventEntityService) {
+    public RunEntityService(
+            RunGateway gateway,
+            EventEntityService eventEntityService,
+            ResultsEngine resultsEngine,
+            RunSequenceAllocator runSequenceAllocator,
+            EventLocks eventLocks,
+            PendingRunQueue pendingRunQueue,
+            EventChangeListener eventChangeListener,
+            ChangeVersions changeVersions
+    ) {
         super(Run.class, gateway);
         this.eventEntityService = eventEntityService;
+        this.resultsEngine = resultsEngine;
+        this.runSequenceAllocator = runSequenceAllocator;
+        this.eventLocks = eventLocks;
+        this.pendingRunQueue = pendingRunQueue;
+        this.eventChangeListener = eventChangeListener;
+        this.changeVersions = changeVersions;
     }
 
     @Override
     public Run add(RunAddPayload addPayload) throws AddEntityException {
-        Run lastInSequenceForEvent = gateway.findLastInSequenceForEvent(addPayload.getEvent());
-        addPayload.setSequence(
-                1 + (lastInSequenceForEvent != null ? lastInSequenceForEvent.getSequence() : 0)
-        );
-        return gateway.add(addPayload);
+        try (Timer.Context ignored = time("add")) {
+            Event event = addPayload.getEvent();
+            addPayload.setSequence(runSequenceAllocator.next(
+                    event.getId(),
+                    () -> gateway.findMaxSequenceForEvent(event)
+            ));
+            Run run = gateway.add(addPayload);
+            gateway.afterCommit(() -> {
+                changeVersions.bump(ChangeVersions.event(event.getId()));
+                resultsEngine.apply(run);
+                pendingRunQueue.offer(run);
+                eventChangeListener.runAdded(run);
+                notifyRegistrationResultsChanged(run);
+            });
+            return run;
+        }
     }
 
     public Run getByEventIdAndRunId(String eventId, String runId)
@@ -49,37 +97,203 @@ public class RunEntityService extends AbstractEntityService<
 
     public List<Run> getAllWithEventId(String eventId) throws EntityNotFoundException {
         Event event = eventEntityService.getById(eventId);
+        return getAllWithEvent(event);
+    }
+
+    public List<Run> getAllWithEvent(Event event) {
         return gateway.getAllWith(event);
     }
 
+    /**
+     * Get a page of the runs at an event in sequence order.
+     *
+     * @param eventId the event ID
+     * @param afterSequence the sequence of the last run of the previous page, or 0 for the first page
+     * @param limit the maximum number of runs to get
+     * @return the runs with a sequence greater than afterSequence
+     */
+    public List<Run> getPageWithEventId(String eventId, int afterSequence, int limit) throws EntityNotFoundException {
+        Event event = eventEntityService.getById(eventId);
+        return gateway.getAllWith(event, afterSequence, limit);
+    }
+
+    /**
+     * Get all runs at an event as a stream, to be consumed after the current unit of work, such as while writing a
+     * response, without holding them all in memory.
+     *
+     * @param eventId the event ID
+     * @return the runs in sequence order
+     * @throws EntityNotFoundException if the event doesn't exist, checked now rather than when the stream is consumed
+     */
+    public RunStream streamAllWithEventId(String eventId) throws EntityNotFoundException {
+        eventEntityService.getById(eventId);
+        return action -> gateway.forEachWith(eventId, action);
+    }
+
+    /**
+     * Get the runs at an event which lack a raw time, the cars on course.
+     *
+     * @param eventId the event ID
+     * @return the pending runs in sequence order
+     */
+    public List<Run> getPendingWithEventId(String eventId) throws EntityNotFoundException {
+        Event event = eventEntityService.getById(eventId);
+        if (!pendingRunQueue.isLoaded(eventId)) {
+            Semaphore lock;
+            try {
+                lock = eventLocks.acquire(eventId);
+            } catch (TimeoutException e) {
+                // read through rather than fail, and leave seeding to the next caller
+                return gateway.getAllWithoutTime(event);
+            }
+            try {
+                seedPendingRunQueue(event);
+            } finally {
+                eventLocks.release(lock);
+            }
+        }
+        return pendingRunQueue.list(eventId);
+    }
+
+    /**
+     * Assign a raw time to the first run in sequence at the event which lacks one, or add a new run with the raw time
+     * if there is none.
+     *
+     * <p>Assignments at an event are serialized by a lock held until the current unit of work completes, so times
+     * posted concurrently each land on a distinct run, in the order the lock was acquired. The first run lacking a
+     * time is taken from the {@link PendingRunQueue}.</p>
+     */
     public RunTimeAddedPayload addTimeToFirstRunInSequenceWithoutRawTime(RunAddTimePayload addTimePayload)
             throws EntityNotFoundException, AddEntityException {
+        Event event = addTimePayload.getEvent();
+        Semaphore lock = acquireEventLock(event);
+        try (Timer.Context ignored = time("addTime")) {
+            seedPendingRunQueue(event);
+            return addTimeToNextPendingRun(
+                    event,
+                    addTimePayload.getRawTime(),
+                    pendingRunQueue.iterator(event.getId())
+            );
+        } finally {
+            // registered after any afterCommit callbacks, so they have run before the next assignment starts
+            releaseAfterCompletion(lock);
+        }
+    }
+
+    /**
+     * Assign raw times in order to successive runs in sequence at the event which lack one, adding new runs for any
+     * raw times left over, as {@link #addTimeToFirstRunInSequenceWithoutRawTime(RunAddTimePayload)} would if called
+     * once per raw time. All assignments are made in the current unit of work under a single hold of the event lock.
+     *
+     * @return the outcome of each raw time, in the order given
+     */
+    public List<RunTimeAddedPayload> addTimesToFirstRunsInSequenceWithoutRawTime(RunAddTimesPayload addTimesPayload)
+            throws EntityNotFoundException, AddEntityException {
+        Event event = addTimesPayload.getEvent();
+        Semaphore lock = acquireEventLock(event);
+        try (Timer.Context ignored = time("addTimes")) {
+            seedPendingRunQueue(event);
+            Iterator<Run> pendingRuns = pendingRunQueue.iterator(event.getId());
+            List<RunTimeAddedPayload> runTimeAddedPayloads = new ArrayList<>(addTimesPayload.getRawTimes().size());
+            for (BigDecimal rawTime : addTimesPayload.getRawTimes()) {
+                runTimeAddedPayloads.add(addTimeToNextPendingRun(event, rawTime, pendingRuns));
+            }
+            return runTimeAddedPayloads;
+        } finally {
+            releaseAfterCompletion(lock);
+        }
+    }
+
+    private RunTimeAddedPayload addTimeToNextPendingRun(Event event, BigDecimal rawTime, Iterator<Run> pendingRuns)
+            throws AddEntityException {
         RunTimeAddedPayload runTimeAddedPayload = new RunTimeAddedPayload();
-        Run firstRunInSequenceWithoutTime = gateway.findFirstInSequenceWithoutTime(addTimePayload.getEvent());
-        if (firstRunInSequenceWithoutTime != null) {
-            firstRunInSequenceWithoutTime.setRawTime(addTimePayload.getRawTime());
+        while (pendingRuns.hasNext()) {
+            Run pendingRun = pendingRuns.next();
+            Run firstRunInSequenceWithoutTime = gateway.findById(pendingRun.getId());
+            if (firstRunInSequenceWithoutTime.getRawTime() != null) {
+                // the queue is stale, the run was timed by some other means
+                pendingRunQueue.remove(pendingRun);
+                continue;
+            }
+            firstRunInSequenceWithoutTime.setRawTime(rawTime);
             Run runWithRawTimeAssigned = gateway.save(
                     firstRunInSequenceWithoutTime.getId(),
                     firstRunInSequenceWithoutTime
             );
+            gateway.afterCommit(() -> {
+                changeVersions.bump(ChangeVersions.event(event.getId()));
+                resultsEngine.apply(runWithRawTimeAssigned);
+                pendingRunQueue.remove(pendingRun);
+                eventChangeListener.rawTimeAssigned(runWithRawTimeAssigned);
+                notifyRegistrationResultsChanged(runWithRawTimeAssigned);
+            });
             runTimeAddedPayload.setRun(runWithRawTimeAssigned);
             runTimeAddedPayload.setOutcome(RunTimeAddedPayload.Outcome.RUN_RAWTIME_ASSIGNED_TO_EXISTING);
-        } else {
-            // Consider error reporting for this scenario.
-            // There has possibly been a false finish trip, or perhaps a car managed to stage and launch without
-            // being noticed by Timing workers. Recommend to hold start while resolving situation.
-            RunAddPayload addPayload = new RunAddPayload();
-            addPayload.setEvent(addTimePayload.getEvent());
-            addPayload.setTimestamp(Instant.now());
-            addPayload.setRawTime(addTimePayload.getRawTime());
-            Run addedRun = add(addPayload);
-            runTimeAddedPayload.setRun(addedRun);
-            runTimeAddedPayload.setOutcome(RunTimeAddedPayload.Outcome.RUN_ADDED_WITH_RAWTIME);
+            return runTimeAddedPayload;
         }
+        // Consider error reporting for this scenario.
+        // There has possibly been a false finish trip, or perhaps a car managed to stage and launch without
+        // being noticed by Timing workers. Recommend to hold start while resolving situation.
+        RunAddPayload addPayload = new RunAddPayload();
+        addPayload.setEvent(event);
+        addPayload.setTimestamp(Instant.now());
+        addPayload.setRawTime(rawTime);
+        Run addedRun = add(addPayload);
+        runTimeAddedPayload.setRun(addedRun);
+        runTimeAddedPayload.setOutcome(RunTimeAddedPayload.Outcome.RUN_ADDED_WITH_RAWTIME);
+        meter(STRAY_START_METER).mark();
         return runTimeAddedPayload;
     }
 
     public List<Run> getAllWithRegistration(Registration registration) {
         return gateway.getAllWith(registration);
     }
+
+    /**
+     * Results are only held, and so only rescored as runs change, for events whose results have been read.
+     */
+    private void notifyRegistrationResultsChanged(Run run) {
+        if (run.getRegistration() == null) {
+            return;
+        }
+        String eventId = run.getEvent().getId();
+        GetRegistrationResultsPayload results = resultsEngine.getResults(eventId, run.getRegistration().getId());
+        if (results != null) {
+            eventChangeListener.registrationResultsChanged(eventId, results);
+        }
+    }
+
+    /**
+     * Must be called while holding the event lock, so the seed can't race with removals from the queue.
+     */
+    private void seedPendingRunQueue(Event event) {
+        if (!pendingRunQueue.isLoaded(event.getId())) {
+            pendingRunQueue.seed(event.getId(), gateway.getAllWithoutTime(event));
+        }
+    }
+
+    private Semaphore acquireEventLock(Event event) throws AddEntityException {
+        try {
+            return eventLocks.acquire(event.getId());
+        } catch (TimeoutException e) {
+            throw new AddEntityException(e);
+        }
+    }
+
+    private void releaseAfterCompletion(Semaphore lock) {
+        try {
+            gateway.afterCompletion(() -> eventLocks.release(lock));
+        } catch (RuntimeException e) {
+            eventLocks.release(lock);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs which are read as they are consumed.
+     */
+    @FunctionalInterface
+    public interface RunStream {
+        void forEach(Consumer<Run> action);
+    }
 }
@@ -0,0 +1,46 @@
+package org.coner.core.domain.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Allocates run sequences from an in-memory counter per event, seeded from the database the first time each event
+ * is seen. Allocation is atomic, so runs added concurrently at an event never collide on a sequence.
+ *
+ * <p>A sequence allocated to a run which then fails to commit is not reused, leaving a gap in the event's sequence.
+ * This assumes a single service instance owns writes to each event.</p>
+ */
+@Singleton
+public class RunSequenceAllocator {
+
+    private final ConcurrentMap<String, AtomicInteger> lastSequences = new ConcurrentHashMap<>();
+
+    @Inject
+    public RunSequenceAllocator() {
+    }
+
+    /**
+     * Allocate the next sequence at an event.
+     *
+     * @param eventId the event ID
+     * @param maxSequence supplies the highest sequence at the event in the database, called only to seed the
+     *     counter of an event not yet seen
+     * @return the allocated sequence
+     */
+    public int next(String eventId, IntSupplier maxSequence) {
+        AtomicInteger lastSequence = lastSequences.get(eventId);
+        if (lastSequence == null) {
+            AtomicInteger seeded = new AtomicInteger(maxSequence.getAsInt());
+            lastSequence = lastSequences.putIfAbsent(eventId, seeded);
+            if (lastSequence == null) {
+                lastSequence = seeded;
+            }
+        }
+        return lastSequence.incrementAndGet();
+    }
+}
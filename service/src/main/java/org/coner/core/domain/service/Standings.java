@@ -0,0 +1,146 @@
+package org.coner.core.domain.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.coner.core.domain.entity.CompetitionGroup;
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.entity.Registration;
+import org.coner.core.domain.entity.ScoredRun;
+import org.coner.core.domain.payload.GetEventResultsPayload;
+import org.coner.core.domain.payload.GetRegistrationResultsPayload;
+
+/**
+ * Scoring and ranking rules shared by the results recompute path and the {@link ResultsEngine}.
+ */
+final class Standings {
+
+    private static final Comparator<GetRegistrationResultsPayload> BY_RAW_TIME_SCORED = byScore(
+            ScoredRun::getRawTimeScored
+    );
+    private static final Comparator<GetRegistrationResultsPayload> BY_HANDICAP_TIME_SCORED = byScore(
+            ScoredRun::getHandicapTimeScored
+    );
+
+    private Standings() {
+    }
+
+    static GetRegistrationResultsPayload score(Registration registration, List<ScoredRun> scoredRuns) {
+        GetRegistrationResultsPayload payload = new GetRegistrationResultsPayload();
+        payload.setRegistration(registration);
+        payload.setScoredRuns(scoredRuns);
+        payload.setScore(scoredRuns.stream()
+                                 .min(Comparator.comparing(ScoredRun::getRawTimeScored))
+                                 .orElse(null));
+        return payload;
+    }
+
+    static GetEventResultsPayload rank(Event event, Collection<GetRegistrationResultsPayload> registrationResults) {
+        GetEventResultsPayload payload = new GetEventResultsPayload();
+        payload.setEvent(event);
+        payload.setOverallRaw(sort(registrationResults, BY_RAW_TIME_SCORED));
+        payload.setOverallHandicap(sort(registrationResults, BY_HANDICAP_TIME_SCORED));
+        payload.setCompetitionGroups(rankByCompetitionGroup(registrationResults));
+        return payload;
+    }
+
+    /**
+     * Compare two standings by rank order, registration and score, ignoring object identity.
+     *
+     * @param left standings
+     * @param right other standings
+     * @return true if both rank the same registrations with the same scores in the same order
+     */
+    static boolean isEquivalent(GetEventResultsPayload left, GetEventResultsPayload right) {
+        if (!isEquivalent(left.getOverallRaw(), right.getOverallRaw())
+                || !isEquivalent(left.getOverallHandicap(), right.getOverallHandicap())
+                || !left.getCompetitionGroups().keySet().equals(right.getCompetitionGroups().keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, List<GetRegistrationResultsPayload>> entry : left.getCompetitionGroups().entrySet()) {
+            if (!isEquivalent(entry.getValue(), right.getCompetitionGroups().get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEquivalent(
+            List<GetRegistrationResultsPayload> left,
+            List<GetRegistrationResultsPayload> right
+    ) {
+        if (left.size() != right.size()) {
+            return false;
+        }
+        Iterator<GetRegistrationResultsPayload> rightIterator = right.iterator();
+        for (GetRegistrationResultsPayload leftResult : left) {
+            GetRegistrationResultsPayload rightResult = rightIterator.next();
+            if (!leftResult.getRegistration().getId().equals(rightResult.getRegistration().getId())
+                    || leftResult.getScoredRuns().size() != rightResult.getScoredRuns().size()
+                    || !isEquivalent(leftResult.getScore(), rightResult.getScore())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEquivalent(ScoredRun left, ScoredRun right) {
+        if (left == null || right == null) {
+            return left == right;
+        }
+        return Objects.equals(left.getRun().getId(), right.getRun().getId())
+                && left.getRawTimeScored().compareTo(right.getRawTimeScored()) == 0
+                && left.getHandicapTimeScored().compareTo(right.getHandicapTimeScored()) == 0;
+    }
+
+    private static Map<String, List<GetRegistrationResultsPayload>> rankByCompetitionGroup(
+            Collection<GetRegistrationResultsPayload> registrationResults
+    ) {
+        Map<String, CompetitionGroup> competitionGroups = new LinkedHashMap<>();
+        Map<String, List<GetRegistrationResultsPayload>> resultsByCompetitionGroupId = new LinkedHashMap<>();
+        for (GetRegistrationResultsPayload registrationResult : registrationResults) {
+            CompetitionGroup competitionGroup = registrationResult.getRegistration().getCompetitionGroup();
+            if (competitionGroup == null) {
+                continue;
+            }
+            competitionGroups.putIfAbsent(competitionGroup.getId(), competitionGroup);
+            resultsByCompetitionGroupId.computeIfAbsent(competitionGroup.getId(), id -> new ArrayList<>())
+                    .add(registrationResult);
+        }
+        for (Map.Entry<String, List<GetRegistrationResultsPayload>> entry : resultsByCompetitionGroupId.entrySet()) {
+            CompetitionGroup competitionGroup = competitionGroups.get(entry.getKey());
+            Comparator<GetRegistrationResultsPayload> comparator =
+                    competitionGroup.getResultTimeType() == CompetitionGroup.ResultTimeType.HANDICAP
+                            ? BY_HANDICAP_TIME_SCORED
+                            : BY_RAW_TIME_SCORED;
+            entry.setValue(sort(entry.getValue(), comparator));
+        }
+        return resultsByCompetitionGroupId;
+    }
+
+    private static List<GetRegistrationResultsPayload> sort(
+            Collection<GetRegistrationResultsPayload> registrationResults,
+            Comparator<GetRegistrationResultsPayload> comparator
+    ) {
+        List<GetRegistrationResultsPayload> ranked = new ArrayList<>(registrationResults);
+        ranked.sort(comparator);
+        return ranked;
+    }
+
+    private static Comparator<GetRegistrationResultsPayload> byScore(Function<ScoredRun, BigDecimal> time) {
+        return Comparator.comparing(
+                registrationResult -> registrationResult.getScore() != null
+                        ? time.apply(registrationResult.getScore())
+                        : null,
+                Comparator.nullsLast(Comparator.naturalOrder())
+        );
+    }
+}
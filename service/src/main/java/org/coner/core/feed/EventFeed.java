@@ -0,0 +1,366 @@
+package org.coner.core.feed;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.coner.core.domain.entity.Run;
+import org.coner.core.domain.payload.GetRegistrationResultsPayload;
+import org.coner.core.domain.service.EventChangeListener;
+import org.coner.core.mapper.ResultsMapper;
+import org.coner.core.mapper.RunMapper;
+import org.glassfish.jersey.media.sse.EventOutput;
+import org.glassfish.jersey.media.sse.OutboundEvent;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+
+/**
+ * Broadcasts committed changes at each event to its server-sent event subscribers, and holds the latest
+ * {@link #REPLAY_SIZE} changes of each event so subscribers reconnecting with a {@code Last-Event-ID} can catch up on
+ * what they missed.
+ *
+ * <p>Subscribers hold no threads while idle. Changes are mapped and serialized once on a single feed thread, which also
+ * sends a {@link #HEARTBEAT_INTERVAL_SECONDS periodic} comment to keep idle connections open and to notice those
+ * closed by clients. Subscribers with events pending are written to in turn by a fixed pool of
+ * {@link #WRITER_THREADS} writer threads, one subscriber per thread at a time, so a client that stops reading stalls
+ * nobody else. A subscriber whose write has taken longer than {@link #WRITE_TIMEOUT_SECONDS}, which is checked every
+ * {@link #STALL_CHECK_INTERVAL_SECONDS}, or with more than {@link #REPLAY_SIZE} events pending, which is more than it
+ * could resume from, is dropped: the writer blocked on it is interrupted, which aborts the connection, and its output
+ * is closed.</p>
+ *
+ * <p>Event IDs are only meaningful to the running instance: a subscriber reconnecting with an ID it can't resume from,
+ * because it was issued before a restart or has aged out of the replay buffer, is sent a {@link #RESET} event and
+ * should reload the event's runs and results.</p>
+ */
+@Singleton
+public class EventFeed implements EventChangeListener, Managed {
+
+    public static final String RUN_ADDED = "run-added";
+    public static final String RAW_TIME_ASSIGNED = "raw-time-assigned";
+    public static final String REGISTRATION_RESULTS_CHANGED = "registration-results-changed";
+    public static final String RESET = "reset";
+
+    static final int REPLAY_SIZE = 1000;
+    static final long HEARTBEAT_INTERVAL_SECONDS = 15;
+    static final long WRITE_TIMEOUT_SECONDS = 10;
+    static final long STALL_CHECK_INTERVAL_SECONDS = 1;
+    static final int WRITER_THREADS = 4;
+
+    private final RunMapper runMapper;
+    private final ResultsMapper resultsMapper;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService executor;
+    private final ExecutorService writers;
+    private final Ticker ticker;
+    private final Counter subscribers;
+    private final String instance = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final ConcurrentMap<String, Channel> channels = new ConcurrentHashMap<>();
+
+    @Inject
+    public EventFeed(
+            RunMapper runMapper,
+            ResultsMapper resultsMapper,
+            ObjectMapper objectMapper,
+            MetricRegistry metricRegistry
+    ) {
+        this(
+                runMapper,
+                resultsMapper,
+                objectMapper,
+                metricRegistry,
+                Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder().setNameFormat("event-feed").setDaemon(true).build()
+                ),
+                Executors.newFixedThreadPool(
+                        WRITER_THREADS,
+                        new ThreadFactoryBuilder().setNameFormat("event-feed-writer-%d").setDaemon(true).build()
+                ),
+                Ticker.systemTicker()
+        );
+    }
+
+    EventFeed(
+            RunMapper runMapper,
+            ResultsMapper resultsMapper,
+            ObjectMapper objectMapper,
+            MetricRegistry metricRegistry,
+            ScheduledExecutorService executor,
+            ExecutorService writers,
+            Ticker ticker
+    ) {
+        this.runMapper = runMapper;
+        this.resultsMapper = resultsMapper;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.writers = writers;
+        this.ticker = ticker;
+        this.subscribers = metricRegistry.counter(MetricRegistry.name(EventFeed.class, "subscribers"));
+    }
+
+    @Override
+    public void start() {
+        executor.scheduleWithFixedDelay(
+                this::heartbeat,
+                HEARTBEAT_INTERVAL_SECONDS,
+                HEARTBEAT_INTERVAL_SECONDS,
+                TimeUnit.SECONDS
+        );
+        executor.scheduleWithFixedDelay(
+                this::dropStalled,
+                STALL_CHECK_INTERVAL_SECONDS,
+                STALL_CHECK_INTERVAL_SECONDS,
+                TimeUnit.SECONDS
+        );
+    }
+
+    @Override
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        channels.values().forEach(channel -> channel.subscribers.forEach(Subscriber::drop));
+        writers.shutdown();
+        writers.awaitTermination(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void runAdded(Run run) {
+        publish(run.getEvent().getId(), RUN_ADDED, () -> runMapper.toApiEntity(run));
+    }
+
+    @Override
+    public void rawTimeAssigned(Run run) {
+        publish(run.getEvent().getId(), RAW_TIME_ASSIGNED, () -> runMapper.toApiEntity(run));
+    }
+
+    @Override
+    public void registrationResultsChanged(String eventId, GetRegistrationResultsPayload results) {
+        publish(eventId, REGISTRATION_RESULTS_CHANGED, () -> resultsMapper.toApiResponse(results));
+    }
+
+    /**
+     * Subscribe to the changes at an event from now on, after first sending those since the last event ID, if given.
+     *
+     * @param eventId the event ID
+     * @param lastEventId the ID of the last event the subscriber received, or null if subscribing afresh
+     * @param output the output to write events to
+     */
+    public void subscribe(String eventId, String lastEventId, EventOutput output) throws IOException {
+        Channel channel = channel(eventId);
+        synchronized (channel) {
+            if (lastEventId == null) {
+                // lets a client which reconnects before the next change resume from here
+                output.write(new OutboundEvent.Builder()
+                        .id(id(channel.lastSequence))
+                        .comment("subscribed")
+                        .build());
+            } else {
+                long lastSequence = sequence(lastEventId);
+                long skip = lastSequence - (channel.lastSequence - channel.replay.size());
+                if (skip < 0 || lastSequence > channel.lastSequence) {
+                    output.write(new OutboundEvent.Builder()
+                            .id(id(channel.lastSequence))
+                            .name(RESET)
+                            .data(String.class, "{}")
+                            .build());
+                } else {
+                    Iterator<OutboundEvent> replay = channel.replay.iterator();
+                    for (long i = 0; i < skip; i++) {
+                        replay.next();
+                    }
+                    while (replay.hasNext()) {
+                        output.write(replay.next());
+                    }
+                }
+            }
+            channel.subscribers.add(new Subscriber(channel, output));
+            subscribers.inc();
+        }
+    }
+
+    private void publish(String eventId, String name, Supplier<?> payload) {
+        executor.execute(() -> {
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(payload.get());
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+            Channel channel = channel(eventId);
+            synchronized (channel) {
+                OutboundEvent event = new OutboundEvent.Builder()
+                        .id(id(++channel.lastSequence))
+                        .name(name)
+                        .data(String.class, json)
+                        .build();
+                channel.replay.addLast(event);
+                if (channel.replay.size() > REPLAY_SIZE) {
+                    channel.replay.removeFirst();
+                }
+                channel.subscribers.forEach(subscriber -> subscriber.offer(event));
+            }
+        });
+    }
+
+    private void heartbeat() {
+        OutboundEvent heartbeat = new OutboundEvent.Builder().comment("heartbeat").build();
+        for (Channel channel : channels.values()) {
+            channel.subscribers.forEach(subscriber -> subscriber.offer(heartbeat));
+        }
+    }
+
+    private void dropStalled() {
+        for (Channel channel : channels.values()) {
+            channel.subscribers.stream()
+                    .filter(Subscriber::isStalled)
+                    .forEach(Subscriber::drop);
+        }
+    }
+
+    private Channel channel(String eventId) {
+        return channels.computeIfAbsent(eventId, id -> new Channel());
+    }
+
+    private String id(long sequence) {
+        return instance + ":" + sequence;
+    }
+
+    /**
+     * @return the sequence of the event ID, or -1 if it wasn't issued by this instance
+     */
+    private long sequence(String eventId) {
+        int separator = eventId.indexOf(':');
+        if (separator < 0 || !eventId.substring(0, separator).equals(instance)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static final class Channel {
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final Deque<OutboundEvent> replay = new ArrayDeque<>();
+        private long lastSequence;
+    }
+
+    /**
+     * Events pending for one subscriber, written in order by at most one writer thread at a time, which is interrupted
+     * if the subscriber is dropped while it's blocked writing.
+     */
+    private final class Subscriber {
+        private final Channel channel;
+        private final EventOutput output;
+        private final Deque<OutboundEvent> pending = new ArrayDeque<>();
+        private boolean writing;
+        private long writingSince;
+        private Thread writer;
+        private boolean dropped;
+
+        private Subscriber(Channel channel, EventOutput output) {
+            this.channel = channel;
+            this.output = output;
+        }
+
+        private void offer(OutboundEvent event) {
+            synchronized (this) {
+                if (dropped) {
+                    return;
+                }
+                if (pending.size() < REPLAY_SIZE && !isStalled()) {
+                    pending.addLast(event);
+                    if (!writing) {
+                        writing = true;
+                        writers.execute(this::write);
+                    }
+                    return;
+                }
+            }
+            drop();
+        }
+
+        private synchronized boolean isStalled() {
+            // not while waiting for a writer behind other subscribers
+            return writer != null && ticker.read() - writingSince > TimeUnit.SECONDS.toNanos(WRITE_TIMEOUT_SECONDS);
+        }
+
+        private void drop() {
+            synchronized (this) {
+                if (dropped) {
+                    return;
+                }
+                dropped = true;
+                pending.clear();
+                channel.subscribers.remove(this);
+                subscribers.dec();
+                if (writer != null) {
+                    // fails the blocked write, and with it the connection
+                    writer.interrupt();
+                } else if (!writing) {
+                    writing = true;
+                    writers.execute(this::write);
+                }
+            }
+        }
+
+        private void write() {
+            boolean close;
+            while (true) {
+                OutboundEvent event;
+                synchronized (this) {
+                    event = pending.pollFirst();
+                    if (event == null) {
+                        writing = false;
+                        close = dropped;
+                        break;
+                    }
+                    writingSince = ticker.read();
+                    writer = Thread.currentThread();
+                }
+                boolean failed = false;
+                try {
+                    output.write(event);
+                } catch (IOException e) {
+                    failed = true;
+                }
+                synchronized (this) {
+                    writer = null;
+                    if (dropped) {
+                        // in case the interrupt came too late to fail the write
+                        Thread.interrupted();
+                    }
+                }
+                if (failed) {
+                    drop();
+                }
+            }
+            if (close && !output.isClosed()) {
+                try {
+                    output.close();
+                } catch (IOException e) {
+                    // the client is gone already
+                }
+            }
+        }
+    }
+}
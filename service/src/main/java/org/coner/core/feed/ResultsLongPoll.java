@@ -0,0 +1,93 @@
+package org.coner.core.feed;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.CompletionCallback;
+
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.service.ResultsService;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+
+/**
+ * Parks suspended requests for the results of an event until they change from a version, then resumes them with the
+ * changed results. If they don't change within {@link #TIMEOUT_SECONDS}, short of Jetty's default idle timeout, the
+ * requests are resumed with the current results, still of that version, so clients simply poll again.
+ *
+ * <p>Parked requests hold no threads. Changes are noticed on the thread committing them, and the requests they resume
+ * are answered on a small pool of threads of this long poll.</p>
+ */
+@Singleton
+public class ResultsLongPoll implements Managed {
+
+    public static final long TIMEOUT_SECONDS = 25;
+    static final int THREADS = 2;
+
+    private final ResultsService resultsService;
+    private final ExecutorService executor;
+    private final Counter waiting;
+
+    @Inject
+    public ResultsLongPoll(ResultsService resultsService, MetricRegistry metricRegistry) {
+        this(
+                resultsService,
+                metricRegistry,
+                Executors.newFixedThreadPool(
+                        THREADS,
+                        new ThreadFactoryBuilder().setNameFormat("results-long-poll-%d").setDaemon(true).build()
+                )
+        );
+    }
+
+    ResultsLongPoll(ResultsService resultsService, MetricRegistry metricRegistry, ExecutorService executor) {
+        this.resultsService = resultsService;
+        this.executor = executor;
+        this.waiting = metricRegistry.counter(MetricRegistry.name(ResultsLongPoll.class, "waiting"));
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Resume a suspended response once the results of an event change from a version.
+     *
+     * @param event the event
+     * @param version the version of the results the client holds
+     * @param asyncResponse the suspended response
+     * @param results gets the results to resume the response with, in a unit of work of its own
+     */
+    public void await(Event event, long version, AsyncResponse asyncResponse, Callable<?> results) {
+        Runnable resume = () -> {
+            try {
+                asyncResponse.resume(results.call());
+            } catch (Exception e) {
+                asyncResponse.resume(e);
+            }
+        };
+        Runnable onChange = () -> executor.execute(resume);
+        asyncResponse.setTimeoutHandler(timedOut -> {
+            resultsService.cancelWhenChanged(event, onChange);
+            executor.execute(resume);
+        });
+        asyncResponse.setTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        waiting.inc();
+        asyncResponse.register((CompletionCallback) throwable -> waiting.dec());
+        resultsService.whenChangedFrom(event, version, onChange);
+    }
+}
@@ -44,6 +44,6 @@ public class HandicapGroupSetGateway extends MapStructAbstractGateway<
                         .collect(Collectors.toSet())
         );
         dao.create(setEntity);
-        return hibernateEntityToDomainEntityConverter.convert(setEntity);
+        return toDomainEntity(setEntity);
     }
 }
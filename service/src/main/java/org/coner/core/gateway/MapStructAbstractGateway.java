@@ -1,12 +1,17 @@
 package org.coner.core.gateway;
 
 import java.util.List;
+import java.util.Objects;
+
+import javax.inject.Inject;
 
 import org.coner.core.domain.entity.DomainEntity;
 import org.coner.core.domain.payload.DomainAddPayload;
 import org.coner.core.hibernate.dao.HibernateEntityDao;
 import org.coner.core.hibernate.entity.HibernateEntity;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 
@@ -23,6 +28,8 @@ public abstract class MapStructAbstractGateway<
     protected final Converter<HE, DE> hibernateEntityToDomainEntityConverter;
     protected final Converter<List<HE>, List<DE>> hibernateEntitiesToDomainEntitiesConverter;
 
+    private MetricRegistry metricRegistry = new MetricRegistry();
+
     protected MapStructAbstractGateway(
             Converter<AP, HE> domainAddPayloadToHibernateEntityConverter,
             Merger<DE, HE> domainEntityToHibernateEntityMerger,
@@ -37,33 +44,122 @@ public abstract class MapStructAbstractGateway<
         this.dao = dao;
     }
 
+    /**
+     * Report the timings of this gateway, named after its class, to a registry such as the application's. Until set,
+     * they go to a registry of its own which nothing reports.
+     *
+     * @param metricRegistry the registry
+     */
+    @Inject
+    public void setMetricRegistry(MetricRegistry metricRegistry) {
+        this.metricRegistry = Objects.requireNonNull(metricRegistry);
+    }
+
     public DE add(AP payload) {
         Preconditions.checkNotNull(payload);
-        HE hibernateEntity = domainAddPayloadToHibernateEntityConverter.convert(payload);
-        dao.create(hibernateEntity);
-        return hibernateEntityToDomainEntityConverter.convert(hibernateEntity);
+        try (Timer.Context ignored = time("add")) {
+            HE hibernateEntity = domainAddPayloadToHibernateEntityConverter.convert(payload);
+            dao.create(hibernateEntity);
+            return toDomainEntity(hibernateEntity);
+        }
     }
 
     @Override
     public List<DE> getAll() {
-        List<HE> hibernateEntities = dao.findAll();
-        return hibernateEntitiesToDomainEntitiesConverter.convert(hibernateEntities);
+        try (Timer.Context ignored = time("getAll")) {
+            List<HE> hibernateEntities = dao.findAll();
+            return toDomainEntities(hibernateEntities);
+        }
     }
 
     @Override
     public DE findById(String id) {
         Preconditions.checkArgument(!Strings.isNullOrEmpty(id), "id must not be null or empty");
-        HE hibernateEntity = dao.findById(id);
-        return hibernateEntityToDomainEntityConverter.convert(hibernateEntity);
+        try (Timer.Context ignored = time("findById")) {
+            HE hibernateEntity = dao.findById(id);
+            return toDomainEntity(hibernateEntity);
+        }
+    }
+
+    /**
+     * Find an entity by ID, fetching the associations named by an entity graph so converting it to a domain entity
+     * doesn't lazy load them one by one.
+     *
+     * @param id the ID
+     * @param entityGraphName the name of the entity graph, declared on the hibernate entity
+     * @return the domain entity
+     */
+    protected DE findById(String id, String entityGraphName) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(id), "id must not be null or empty");
+        try (Timer.Context ignored = time("findById")) {
+            HE hibernateEntity = dao.findById(id, entityGraphName);
+            return toDomainEntity(hibernateEntity);
+        }
     }
 
     @Override
     public DE save(String id, DE entity) {
         Preconditions.checkArgument(entity != null, "entity must not be null");
-        HE hibernateEntity = dao.findById(id);
-        domainEntityToHibernateEntityMerger.merge(entity, hibernateEntity);
-        dao.update(hibernateEntity);
-        return hibernateEntityToDomainEntityConverter.convert(hibernateEntity);
+        try (Timer.Context ignored = time("save")) {
+            HE hibernateEntity = dao.getReference(id);
+            domainEntityToHibernateEntityMerger.merge(entity, hibernateEntity);
+            dao.update(hibernateEntity);
+            return toDomainEntity(hibernateEntity);
+        }
+    }
+
+    /**
+     * Map a hibernate entity to a domain entity, timed as {@code toDomainEntity}.
+     *
+     * @param hibernateEntity the hibernate entity
+     * @return the domain entity
+     */
+    protected DE toDomainEntity(HE hibernateEntity) {
+        try (Timer.Context ignored = time("toDomainEntity")) {
+            return hibernateEntityToDomainEntityConverter.convert(hibernateEntity);
+        }
+    }
+
+    /**
+     * Map hibernate entities to domain entities, timed as {@code toDomainEntities}.
+     *
+     * @param hibernateEntities the hibernate entities
+     * @return the domain entities
+     */
+    protected List<DE> toDomainEntities(List<HE> hibernateEntities) {
+        try (Timer.Context ignored = time("toDomainEntities")) {
+            return hibernateEntitiesToDomainEntitiesConverter.convert(hibernateEntities);
+        }
+    }
+
+    /**
+     * Start timing an operation of this gateway.
+     *
+     * @param operation the name of the operation, appended to the class name to name its timer
+     * @return the timer context, to close once the operation is done
+     */
+    protected Timer.Context time(String operation) {
+        return metricRegistry.timer(MetricRegistry.name(getClass(), operation)).time();
+    }
+
+    /**
+     * Run a callback once the current unit of work has committed, for example to update in-memory state only with
+     * changes that were actually persisted.
+     *
+     * @param callback the callback to run after commit
+     */
+    public void afterCommit(Runnable callback) {
+        dao.afterCommit(callback);
+    }
+
+    /**
+     * Run a callback once the current unit of work has completed, whether it committed or rolled back, for example to
+     * release a lock held for the duration of the transaction.
+     *
+     * @param callback the callback to run after completion
+     */
+    public void afterCompletion(Runnable callback) {
+        dao.afterCompletion(callback);
     }
 
     public interface Converter<S, T> {
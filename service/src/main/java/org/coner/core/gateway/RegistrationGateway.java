@@ -40,7 +40,10 @@ public class RegistrationGateway extends MapStructAbstractGateway<
     public List<Registration> getAllWith(Event event) {
         Preconditions.checkNotNull(event);
         EventHibernateEntity hibernateEvent = eventMapper.toHibernateEntity(event);
-        List<RegistrationHibernateEntity> registrations = dao.getAllWith(hibernateEvent);
+        List<RegistrationHibernateEntity> registrations = dao.getAllWith(
+                hibernateEvent,
+                RegistrationHibernateEntity.GRAPH_WITH_DETAILS
+        );
         return registrationMapper.toDomainEntityList(registrations);
     }
 
@@ -1,6 +1,7 @@
 package org.coner.core.gateway;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 
@@ -42,16 +43,22 @@ public class RunGateway extends MapStructAbstractGateway<
         this.registrationMapper = registrationMapper;
     }
 
-    public Run findFirstInSequenceWithoutTime(Event event) {
-        return hibernateEntityToDomainEntityConverter.convert(
-                dao.findFirstInSequenceWithoutRawTime(eventMapper.toHibernateEntity(event))
+    public List<Run> getAllWithoutTime(Event event) {
+        return toDomainEntities(
+                dao.getAllWithoutRawTime(
+                        eventMapper.toHibernateEntity(event),
+                        RunHibernateEntity.GRAPH_WITH_REGISTRATION
+                )
         );
     }
 
-    public Run findLastInSequenceForEvent(Event event) {
-        return hibernateEntityToDomainEntityConverter.convert(
-                dao.findLastInSequenceFor(eventMapper.toHibernateEntity(event))
-        );
+    public int findMaxSequenceForEvent(Event event) {
+        return dao.findMaxSequenceFor(eventMapper.toHibernateEntity(event));
+    }
+
+    @Override
+    public Run findById(String id) {
+        return findById(id, RunHibernateEntity.GRAPH_WITH_REGISTRATION);
     }
 
     @Override
@@ -61,15 +68,42 @@ public class RunGateway extends MapStructAbstractGateway<
 
     public List<Run> getAllWith(Event event) {
         Preconditions.checkNotNull(event);
-        return hibernateEntitiesToDomainEntitiesConverter.convert(
-                dao.getAllWith(eventMapper.toHibernateEntity(event))
+        return toDomainEntities(
+                dao.getAllWith(eventMapper.toHibernateEntity(event), RunHibernateEntity.GRAPH_WITH_REGISTRATION)
+        );
+    }
+
+    public List<Run> getAllWith(Event event, int afterSequence, int limit) {
+        return toDomainEntities(
+                dao.getAllWith(
+                        eventMapper.toHibernateEntity(event),
+                        afterSequence,
+                        limit,
+                        RunHibernateEntity.GRAPH_WITH_REGISTRATION
+                )
+        );
+    }
+
+    /**
+     * Pass each run at an event to an action in sequence order, independent of the current unit of work.
+     *
+     * @see RunDao#scrollAllWith(String, String, java.util.function.Consumer)
+     */
+    public void forEachWith(String eventId, Consumer<Run> action) {
+        dao.scrollAllWith(
+                eventId,
+                RunHibernateEntity.GRAPH_WITH_REGISTRATION,
+                hibernateEntity -> action.accept(toDomainEntity(hibernateEntity))
         );
     }
 
     public List<Run> getAllWith(Registration registration) {
         Preconditions.checkNotNull(registration);
-        return hibernateEntitiesToDomainEntitiesConverter.convert(
-                dao.getAllWith(registrationMapper.toHibernateEntity(registration))
+        return toDomainEntities(
+                dao.getAllWith(
+                        registrationMapper.toHibernateEntity(registration),
+                        RunHibernateEntity.GRAPH_WITH_REGISTRATION
+                )
         );
     }
 }
@@ -0,0 +1,113 @@
+package org.coner.core.health;
+
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.coner.core.DatabaseMonitoringConfiguration;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import com.codahale.metrics.health.HealthCheck;
+import com.google.common.base.Stopwatch;
+
+/**
+ * Reports unhealthy when borrowing a connection from the pool takes longer than the configured maximum pool wait
+ * time, or when the slowest query since the previous check averaged longer than the configured maximum slowest query
+ * time. The slowest query is only known while Hibernate statistics are enabled.
+ */
+public class DatabaseHealthCheck extends HealthCheck {
+
+    public static final String NAME = "database";
+
+    private final SessionFactory sessionFactory;
+    private final DatabaseMonitoringConfiguration configuration;
+    private final Map<String, QueryTotals> previousQueryTotals = new HashMap<>();
+
+    @Inject
+    public DatabaseHealthCheck(SessionFactory sessionFactory, DatabaseMonitoringConfiguration configuration) {
+        this.sessionFactory = sessionFactory;
+        this.configuration = configuration;
+    }
+
+    @Override
+    protected synchronized Result check() throws Exception {
+        long poolWaitMillis = timeConnectionBorrow();
+        long maxPoolWaitMillis = configuration.getMaxPoolWaitTime().toMilliseconds();
+        if (poolWaitMillis > maxPoolWaitMillis) {
+            return Result.unhealthy(
+                    "Borrowing a connection took %d ms, more than the maximum of %d ms",
+                    poolWaitMillis,
+                    maxPoolWaitMillis
+            );
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return Result.healthy("Borrowed a connection in %d ms", poolWaitMillis);
+        }
+        String slowestQuery = null;
+        long slowestQueryMillis = 0L;
+        for (String queryString : statistics.getQueries()) {
+            QueryStatistics queryStatistics = statistics.getQueryStatistics(queryString);
+            QueryTotals totals = new QueryTotals(
+                    queryStatistics.getExecutionCount(),
+                    queryStatistics.getExecutionTotalTime()
+            );
+            QueryTotals previous = previousQueryTotals.put(queryString, totals);
+            long averageMillis = totals.averageMillisSince(previous != null ? previous : QueryTotals.NONE);
+            if (averageMillis > slowestQueryMillis) {
+                slowestQuery = queryString;
+                slowestQueryMillis = averageMillis;
+            }
+        }
+        long maxSlowestQueryMillis = configuration.getMaxSlowestQueryTime().toMilliseconds();
+        if (slowestQueryMillis > maxSlowestQueryMillis) {
+            return Result.unhealthy(
+                    "Slowest query averaged %d ms, more than the maximum of %d ms: %s",
+                    slowestQueryMillis,
+                    maxSlowestQueryMillis,
+                    slowestQuery
+            );
+        }
+        return Result.healthy(
+                "Borrowed a connection in %d ms, slowest query averaged %d ms",
+                poolWaitMillis,
+                slowestQueryMillis
+        );
+    }
+
+    private long timeConnectionBorrow() throws Exception {
+        ConnectionProvider connectionProvider = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(ConnectionProvider.class);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Connection connection = connectionProvider.getConnection();
+        long elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        connectionProvider.closeConnection(connection);
+        return elapsed;
+    }
+
+    private static final class QueryTotals {
+
+        private static final QueryTotals NONE = new QueryTotals(0L, 0L);
+
+        private final long executions;
+        private final long totalMillis;
+
+        private QueryTotals(long executions, long totalMillis) {
+            this.executions = executions;
+            this.totalMillis = totalMillis;
+        }
+
+        private long averageMillisSince(QueryTotals previous) {
+            long executionsSince = executions - previous.executions;
+            return executionsSince > 0 ? (totalMillis - previous.totalMillis) / executionsSince : 0L;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.coner.core.hibernate;
+
+import javax.inject.Inject;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.context.internal.ManagedSessionContext;
+
+/**
+ * Runs work in a read-only unit of work of its own, as {@code @UnitOfWork(readOnly = true, flushMode =
+ * FlushMode.MANUAL)} would around a whole resource method. For resource methods which suspend their response, whose
+ * session must not stay open, holding a pooled connection, until the response is resumed.
+ */
+public class ReadOnlyUnitOfWork {
+
+    private final SessionFactory sessionFactory;
+
+    @Inject
+    public ReadOnlyUnitOfWork(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    public <T, E extends Exception> T call(Work<T, E> work) throws E {
+        Session session = sessionFactory.openSession();
+        try {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            ManagedSessionContext.bind(session);
+            Transaction transaction = session.beginTransaction();
+            try {
+                T result = work.call();
+                transaction.commit();
+                return result;
+            } catch (Exception e) {
+                transaction.rollback();
+                throw e;
+            }
+        } finally {
+            ManagedSessionContext.unbind(sessionFactory);
+            session.close();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Work<T, E extends Exception> {
+        T call() throws E;
+    }
+}
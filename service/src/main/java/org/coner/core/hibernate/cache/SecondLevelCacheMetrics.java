@@ -0,0 +1,102 @@
+package org.coner.core.hibernate.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import javax.inject.Inject;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.RatioGauge;
+
+/**
+ * Gauges of second-level cache hits, misses, puts and hit ratio, in total and per cache region, read from the Hibernate
+ * statistics. The gauges read zero unless {@code hibernate.generate_statistics} is enabled.
+ */
+public class SecondLevelCacheMetrics implements MetricSet {
+
+    static final String PREFIX = "hibernate.second-level-cache";
+
+    private final SessionFactory sessionFactory;
+
+    @Inject
+    public SecondLevelCacheMetrics(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Metric> metrics = new HashMap<>();
+        metrics.put(MetricRegistry.name(PREFIX, "hits"), gauge(statistics::getSecondLevelCacheHitCount));
+        metrics.put(MetricRegistry.name(PREFIX, "misses"), gauge(statistics::getSecondLevelCacheMissCount));
+        metrics.put(MetricRegistry.name(PREFIX, "puts"), gauge(statistics::getSecondLevelCachePutCount));
+        metrics.put(MetricRegistry.name(PREFIX, "hit-ratio"), hitRatio(
+                statistics::getSecondLevelCacheHitCount,
+                statistics::getSecondLevelCacheMissCount
+        ));
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            metrics.put(MetricRegistry.name(PREFIX, region, "hits"), regionGauge(
+                    statistics,
+                    region,
+                    SecondLevelCacheStatistics::getHitCount
+            ));
+            metrics.put(MetricRegistry.name(PREFIX, region, "misses"), regionGauge(
+                    statistics,
+                    region,
+                    SecondLevelCacheStatistics::getMissCount
+            ));
+            metrics.put(MetricRegistry.name(PREFIX, region, "puts"), regionGauge(
+                    statistics,
+                    region,
+                    SecondLevelCacheStatistics::getPutCount
+            ));
+            metrics.put(MetricRegistry.name(PREFIX, region, "hit-ratio"), hitRatio(
+                    regionCount(statistics, region, SecondLevelCacheStatistics::getHitCount),
+                    regionCount(statistics, region, SecondLevelCacheStatistics::getMissCount)
+            ));
+        }
+        return metrics;
+    }
+
+    private static Gauge<Long> gauge(LongSupplier count) {
+        return count::getAsLong;
+    }
+
+    private static Gauge<Long> regionGauge(
+            Statistics statistics,
+            String region,
+            ToLongFunction<SecondLevelCacheStatistics> count
+    ) {
+        return gauge(regionCount(statistics, region, count));
+    }
+
+    private static LongSupplier regionCount(
+            Statistics statistics,
+            String region,
+            ToLongFunction<SecondLevelCacheStatistics> count
+    ) {
+        return () -> {
+            SecondLevelCacheStatistics regionStatistics = statistics.getSecondLevelCacheStatistics(region);
+            return regionStatistics != null ? count.applyAsLong(regionStatistics) : 0L;
+        };
+    }
+
+    private static RatioGauge hitRatio(LongSupplier hits, LongSupplier misses) {
+        return new RatioGauge() {
+            @Override
+            protected Ratio getRatio() {
+                long hitCount = hits.getAsLong();
+                return Ratio.of(hitCount, hitCount + misses.getAsLong());
+            }
+        };
+    }
+}
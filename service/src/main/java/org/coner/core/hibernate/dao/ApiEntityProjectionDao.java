@@ -0,0 +1,125 @@
+package org.coner.core.hibernate.dao;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.coner.core.api.entity.CarApiEntity;
+import org.coner.core.api.entity.PersonApiEntity;
+import org.coner.core.api.entity.RegistrationApiEntity;
+import org.coner.core.api.entity.RunApiEntity;
+import org.coner.core.hibernate.entity.RegistrationHibernateEntity;
+import org.coner.core.hibernate.entity.RunHibernateEntity;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
+
+/**
+ * Reads the listings of an event straight into API entities, selecting only the columns they need, for read-only
+ * requests which have no use for the hibernate and domain entities. Nothing read here enters the persistence context.
+ *
+ * <p>Queries run in the current session, so callers should open it read-only with manual flushing, sparing Hibernate
+ * the dirty check of a flush before each query.</p>
+ */
+public class ApiEntityProjectionDao {
+
+    static final String QUERY_RUNS_AT_EVENT = "SELECT NEW " + RunApiEntity.class.getName() + "("
+            + "r.id, r.event.id, reg.id, r.sequence, r.timestamp, r.rawTime, r.cones, "
+            + "r.didNotFinish, r.disqualified, r.rerun, r.competitive"
+            + ") "
+            + "FROM RunHibernateEntity r LEFT JOIN r.registration reg "
+            + "WHERE r.event.id = :" + RunHibernateEntity.PARAMETER_EVENT_ID + " ";
+    static final String QUERY_ALL_RUNS_AT_EVENT = QUERY_RUNS_AT_EVENT
+            + "ORDER BY r.sequence ASC";
+    static final String QUERY_PAGE_OF_RUNS_AT_EVENT = QUERY_RUNS_AT_EVENT
+            + "AND r.sequence > :" + RunHibernateEntity.PARAMETER_AFTER_SEQUENCE + " "
+            + "ORDER BY r.sequence ASC";
+    static final String QUERY_REGISTRATIONS_AT_EVENT = "SELECT "
+            + "r.id, p.id, p.firstName, p.middleName, p.lastName, "
+            + "c.id, c.year, c.make, c.model, c.trim, c.color, "
+            + "r.handicapGroup.id, r.competitionGroup.id, r.number, r.checkedIn "
+            + "FROM RegistrationHibernateEntity r JOIN r.person p JOIN r.car c "
+            + "WHERE r.event.id = :" + RegistrationHibernateEntity.PARAMETER_EVENT_ID;
+
+    private final SessionFactory sessionFactory;
+
+    @Inject
+    public ApiEntityProjectionDao(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    /**
+     * Get all runs at an event in sequence order.
+     *
+     * @param eventId the event ID
+     * @return the runs
+     */
+    public List<RunApiEntity> getRunsAt(String eventId) {
+        Query<RunApiEntity> query = currentSession().createQuery(QUERY_ALL_RUNS_AT_EVENT, RunApiEntity.class);
+        query.setParameter(RunHibernateEntity.PARAMETER_EVENT_ID, eventId);
+        return query.list();
+    }
+
+    /**
+     * Get a page of the runs at an event in sequence order, using the sequence as the key of the page.
+     *
+     * @param eventId the event ID
+     * @param afterSequence the sequence of the last run of the previous page, or 0 for the first page
+     * @param limit the maximum number of runs to get
+     * @return the runs with a sequence greater than afterSequence
+     */
+    public List<RunApiEntity> getRunsAt(String eventId, int afterSequence, int limit) {
+        Query<RunApiEntity> query = currentSession().createQuery(QUERY_PAGE_OF_RUNS_AT_EVENT, RunApiEntity.class);
+        query.setParameter(RunHibernateEntity.PARAMETER_EVENT_ID, eventId);
+        query.setParameter(RunHibernateEntity.PARAMETER_AFTER_SEQUENCE, afterSequence);
+        query.setMaxResults(limit);
+        return query.list();
+    }
+
+    /**
+     * Get all registrations at an event, with their person and car, in a single query.
+     *
+     * @param eventId the event ID
+     * @return the registrations
+     */
+    public List<RegistrationApiEntity> getRegistrationsAt(String eventId) {
+        Query<Object[]> query = currentSession().createQuery(QUERY_REGISTRATIONS_AT_EVENT, Object[].class);
+        query.setParameter(RegistrationHibernateEntity.PARAMETER_EVENT_ID, eventId);
+        List<Object[]> rows = query.list();
+        List<RegistrationApiEntity> registrations = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            registrations.add(toRegistration(row));
+        }
+        return registrations;
+    }
+
+    private static RegistrationApiEntity toRegistration(Object[] row) {
+        PersonApiEntity person = new PersonApiEntity();
+        person.setId((String) row[1]);
+        person.setFirstName((String) row[2]);
+        person.setMiddleName((String) row[3]);
+        person.setLastName((String) row[4]);
+        CarApiEntity car = new CarApiEntity();
+        car.setId((String) row[5]);
+        car.setYear((Year) row[6]);
+        car.setMake((String) row[7]);
+        car.setModel((String) row[8]);
+        car.setTrim((String) row[9]);
+        car.setColor((String) row[10]);
+        RegistrationApiEntity registration = new RegistrationApiEntity();
+        registration.setId((String) row[0]);
+        registration.setPerson(person);
+        registration.setCar(car);
+        registration.setHandicapGroupId((String) row[11]);
+        registration.setCompetitionGroupId((String) row[12]);
+        registration.setNumber((String) row[13]);
+        registration.setCheckedIn((Boolean) row[14]);
+        return registration;
+    }
+
+    private Session currentSession() {
+        return sessionFactory.getCurrentSession();
+    }
+}
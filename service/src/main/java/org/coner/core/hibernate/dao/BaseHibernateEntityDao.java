@@ -1,12 +1,28 @@
 package org.coner.core.hibernate.dao;
 
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.IntConsumer;
 
+import javax.inject.Inject;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+
+import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.jpa.QueryHints;
+import org.hibernate.query.Query;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import io.dropwizard.hibernate.AbstractDAO;
 
 public abstract class BaseHibernateEntityDao<E> extends AbstractDAO<E> implements HibernateEntityDao<E> {
+
+    private MetricRegistry metricRegistry = new MetricRegistry();
+
     /**
      * Creates a new DAO with a given session provider.
      *
@@ -16,8 +32,164 @@ public abstract class BaseHibernateEntityDao<E> extends AbstractDAO<E> implement
         super(sessionFactory);
     }
 
+    /**
+     * Report the timings of this DAO, named after its class, to a registry such as the application's. Until set,
+     * they go to a registry of its own which nothing reports.
+     *
+     * @param metricRegistry the registry
+     */
+    @Inject
+    public void setMetricRegistry(MetricRegistry metricRegistry) {
+        this.metricRegistry = Objects.requireNonNull(metricRegistry);
+    }
+
+    /**
+     * Get an entity by ID, timed as {@code get}.
+     */
+    @Override
+    protected E get(Serializable id) {
+        try (Timer.Context ignored = time("get")) {
+            return super.get(id);
+        }
+    }
+
+    /**
+     * Persist an entity, timed as {@code persist}.
+     */
+    @Override
+    protected E persist(E entity) {
+        try (Timer.Context ignored = time("persist")) {
+            return super.persist(entity);
+        }
+    }
+
+    /**
+     * List the results of a query, timed as {@code list}, with the number of results in the histogram
+     * {@code list.size}.
+     */
+    @Override
+    protected List<E> list(Query<E> query) {
+        List<E> results;
+        try (Timer.Context ignored = time("list")) {
+            results = super.list(query);
+        }
+        metricRegistry.histogram(MetricRegistry.name(getClass(), "list", "size")).update(results.size());
+        return results;
+    }
+
+    /**
+     * Find an entity by ID, fetching the associations named by an entity graph along with it.
+     *
+     * @param id the ID
+     * @param entityGraphName the name of the entity graph
+     * @return the entity, or null if none exists with the ID
+     */
+    @Override
+    public E findById(String id, String entityGraphName) {
+        try (Timer.Context ignored = time("findById")) {
+            return currentSession().find(
+                    getEntityClass(),
+                    Objects.requireNonNull(id),
+                    Collections.singletonMap(
+                            QueryHints.HINT_LOADGRAPH,
+                            currentSession().getEntityGraph(entityGraphName)
+                    )
+            );
+        }
+    }
+
+    /**
+     * Get an entity by ID without selecting it, to refer to it from another entity or a query. If the entity isn't
+     * already in the current session, this is an uninitialized proxy which selects the entity when first accessed.
+     *
+     * @param id the ID of an existing entity
+     * @return the entity or a proxy for it
+     */
+    @Override
+    public E getReference(String id) {
+        return currentSession().load(getEntityClass(), Objects.requireNonNull(id));
+    }
+
     @Override
     public void update(E entity) {
-        currentSession().update(Objects.requireNonNull(entity));
+        try (Timer.Context ignored = time("update")) {
+            currentSession().update(Objects.requireNonNull(entity));
+        }
+    }
+
+    /**
+     * Run a callback once the transaction of the current session has committed. The callback is discarded if the
+     * transaction rolls back.
+     *
+     * @param callback the callback to run after commit
+     */
+    @Override
+    public void afterCommit(Runnable callback) {
+        Objects.requireNonNull(callback);
+        registerAfterCompletion(status -> {
+            if (status == Status.STATUS_COMMITTED) {
+                callback.run();
+            }
+        });
+    }
+
+    /**
+     * Run a callback once the transaction of the current session has completed, whether it committed or rolled back.
+     *
+     * @param callback the callback to run after completion
+     */
+    @Override
+    public void afterCompletion(Runnable callback) {
+        Objects.requireNonNull(callback);
+        registerAfterCompletion(status -> callback.run());
+    }
+
+    /**
+     * Get a named query of the current session which fetches the associations named by an entity graph, so the
+     * results may be mapped without lazy loading further rows one by one.
+     *
+     * @param queryName the name of the query
+     * @param entityGraphName the name of the entity graph
+     * @return the query
+     */
+    protected Query<E> namedQuery(String queryName, String entityGraphName) {
+        return applyEntityGraph(currentSession(), namedQuery(queryName), entityGraphName);
+    }
+
+    /**
+     * Make a query of a session fetch the associations named by an entity graph, in addition to those it fetches
+     * itself.
+     *
+     * @param session the session the query belongs to
+     * @param query the query
+     * @param entityGraphName the name of the entity graph
+     * @return the query
+     */
+    protected static <T> Query<T> applyEntityGraph(Session session, Query<T> query, String entityGraphName) {
+        query.setHint(QueryHints.HINT_LOADGRAPH, session.getEntityGraph(entityGraphName));
+        return query;
+    }
+
+    /**
+     * Start timing an operation of this DAO.
+     *
+     * @param operation the name of the operation, appended to the class name to name its timer
+     * @return the timer context, to close once the operation is done
+     */
+    protected Timer.Context time(String operation) {
+        return metricRegistry.timer(MetricRegistry.name(getClass(), operation)).time();
+    }
+
+    private void registerAfterCompletion(IntConsumer afterCompletion) {
+        currentSession().getTransaction().registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                afterCompletion.accept(status);
+            }
+        });
     }
 }
@@ -9,5 +9,13 @@ public interface HibernateEntityDao<HE> {
 
     HE findById(String id);
 
+    HE findById(String id, String entityGraphName);
+
+    HE getReference(String id);
+
     void update(HE entity);
+
+    void afterCommit(Runnable callback);
+
+    void afterCompletion(Runnable callback);
 }
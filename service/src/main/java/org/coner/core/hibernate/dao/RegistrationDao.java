@@ -22,8 +22,11 @@ public class RegistrationDao
         return get(id);
     }
 
-    public List<RegistrationHibernateEntity> getAllWith(EventHibernateEntity event) {
-        Query<RegistrationHibernateEntity> query = namedQuery(RegistrationHibernateEntity.QUERY_FIND_ALL_WITH_EVENT);
+    public List<RegistrationHibernateEntity> getAllWith(EventHibernateEntity event, String entityGraphName) {
+        Query<RegistrationHibernateEntity> query = namedQuery(
+                RegistrationHibernateEntity.QUERY_FIND_ALL_WITH_EVENT,
+                entityGraphName
+        );
         query.setParameter(RegistrationHibernateEntity.PARAMETER_EVENT_ID, event.getId());
         return list(query);
     }
@@ -1,24 +1,30 @@
 package org.coner.core.hibernate.dao;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
-import javax.persistence.NoResultException;
-import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
-import javax.persistence.criteria.Root;
 
 import org.coner.core.hibernate.entity.EventHibernateEntity;
 import org.coner.core.hibernate.entity.RegistrationHibernateEntity;
 import org.coner.core.hibernate.entity.RunHibernateEntity;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 
 public class RunDao extends BaseHibernateEntityDao<RunHibernateEntity> {
 
+    static final int SCROLL_FETCH_SIZE = 100;
+
+    private final SessionFactory sessionFactory;
+
     @Inject
     public RunDao(SessionFactory sessionFactory) {
         super(sessionFactory);
+        this.sessionFactory = sessionFactory;
     }
 
     @Override
@@ -36,42 +42,108 @@ public class RunDao extends BaseHibernateEntityDao<RunHibernateEntity> {
         return get(id);
     }
 
-    public RunHibernateEntity findLastInSequenceFor(EventHibernateEntity event) {
-        Class<RunHibernateEntity> runClass = RunHibernateEntity.class;
-        CriteriaBuilder builder = currentSession().getCriteriaBuilder();
-        CriteriaQuery<RunHibernateEntity> criteriaQuery = builder.createQuery(runClass);
-        Root<RunHibernateEntity> runRoot = criteriaQuery.from(runClass);
-        criteriaQuery.select(runRoot);
-        criteriaQuery.where(builder.equal(runRoot.get("event"), event));
-        criteriaQuery.orderBy(builder.desc(runRoot.get("sequence")));
-        Query<RunHibernateEntity> query = currentSession().createQuery(criteriaQuery);
-        query.setMaxResults(1);
-        try {
-            return query.getSingleResult();
-        } catch (NoResultException nre) {
-            return null;
-        }
+    /**
+     * Find the highest sequence of any run at an event.
+     *
+     * @param event the event
+     * @return the highest sequence, or 0 if the event has no runs
+     */
+    public int findMaxSequenceFor(EventHibernateEntity event) {
+        Query<Integer> query = currentSession().createNamedQuery(
+                RunHibernateEntity.QUERY_FIND_MAX_SEQUENCE_AT_EVENT,
+                Integer.class
+        );
+        query.setParameter(RunHibernateEntity.PARAMETER_EVENT_ID, event.getId());
+        Integer maxSequence = query.getSingleResult();
+        return maxSequence != null ? maxSequence : 0;
     }
 
-    public RunHibernateEntity findFirstInSequenceWithoutRawTime(EventHibernateEntity event) {
-        Query query = namedQuery(RunHibernateEntity.QUERY_FIND_FIRST_WITHOUT_TIME_AT_EVENT);
+    public List<RunHibernateEntity> getAllWithoutRawTime(EventHibernateEntity event, String entityGraphName) {
+        Query<RunHibernateEntity> query = namedQuery(
+                RunHibernateEntity.QUERY_FIND_ALL_WITHOUT_TIME_AT_EVENT,
+                entityGraphName
+        );
         query.setParameter(RunHibernateEntity.PARAMETER_EVENT_ID, event.getId());
-        List<RunHibernateEntity> runsWithoutRawTimes = list(query);
-        if (runsWithoutRawTimes != null && !runsWithoutRawTimes.isEmpty()) {
-            return runsWithoutRawTimes.get(0);
-        } else {
-            return null;
-        }
+        return list(query);
     }
 
-    public List<RunHibernateEntity> getAllWith(EventHibernateEntity event) {
-        Query<RunHibernateEntity> query = namedQuery(RunHibernateEntity.QUERY_FIND_ALL_WITH_EVENT);
+    public List<RunHibernateEntity> getAllWith(EventHibernateEntity event, String entityGraphName) {
+        Query<RunHibernateEntity> query = namedQuery(RunHibernateEntity.QUERY_FIND_ALL_WITH_EVENT, entityGraphName);
         query.setParameter(RunHibernateEntity.PARAMETER_EVENT_ID, event.getId());
         return list(query);
     }
 
-    public List<RunHibernateEntity> getAllWith(RegistrationHibernateEntity registration) {
-        Query<RunHibernateEntity> query = namedQuery(RunHibernateEntity.QUERY_FIND_ALL_WITH_REGISTRATION);
+    /**
+     * Get a page of the runs at an event in sequence order, using the sequence as the key of the page.
+     *
+     * @param event the event
+     * @param afterSequence the sequence of the last run of the previous page, or 0 for the first page
+     * @param limit the maximum number of runs to get
+     * @param entityGraphName the name of the entity graph to fetch with the runs
+     * @return the runs with a sequence greater than afterSequence
+     */
+    public List<RunHibernateEntity> getAllWith(
+            EventHibernateEntity event,
+            int afterSequence,
+            int limit,
+            String entityGraphName
+    ) {
+        Query<RunHibernateEntity> query = namedQuery(RunHibernateEntity.QUERY_FIND_PAGE_WITH_EVENT, entityGraphName);
+        query.setParameter(RunHibernateEntity.PARAMETER_EVENT_ID, event.getId());
+        query.setParameter(RunHibernateEntity.PARAMETER_AFTER_SEQUENCE, afterSequence);
+        query.setMaxResults(limit);
+        return list(query);
+    }
+
+    /**
+     * Pass each run at an event to an action in sequence order, reading them with a forward-only cursor.
+     *
+     * <p>Runs are read in a new read-only session rather than the current one, so this may be called after the unit
+     * of work of a request has ended, such as while writing its response. The session is cleared every
+     * {@value #SCROLL_FETCH_SIZE} runs so memory use doesn't grow with the number of runs at the event. Runs passed to
+     * the action must not be used after it returns.</p>
+     *
+     * @param eventId the event ID
+     * @param entityGraphName the name of the entity graph to fetch with the runs
+     * @param action the action to pass each run
+     */
+    public void scrollAllWith(String eventId, String entityGraphName, Consumer<RunHibernateEntity> action) {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            Transaction transaction = session.beginTransaction();
+            try {
+                Query<RunHibernateEntity> query = applyEntityGraph(
+                        session,
+                        session.createNamedQuery(
+                                RunHibernateEntity.QUERY_FIND_ALL_WITH_EVENT,
+                                RunHibernateEntity.class
+                        ),
+                        entityGraphName
+                );
+                query.setParameter(RunHibernateEntity.PARAMETER_EVENT_ID, eventId);
+                query.setFetchSize(SCROLL_FETCH_SIZE);
+                try (ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                    int count = 0;
+                    while (results.next()) {
+                        action.accept((RunHibernateEntity) results.get(0));
+                        if (++count % SCROLL_FETCH_SIZE == 0) {
+                            session.clear();
+                        }
+                    }
+                }
+                transaction.commit();
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        }
+    }
+
+    public List<RunHibernateEntity> getAllWith(RegistrationHibernateEntity registration, String entityGraphName) {
+        Query<RunHibernateEntity> query = namedQuery(
+                RunHibernateEntity.QUERY_FIND_ALL_WITH_REGISTRATION,
+                entityGraphName
+        );
         query.setParameter(RunHibernateEntity.PARAMETER_REGISTRATION_ID, registration.getId());
         return list(query);
     }
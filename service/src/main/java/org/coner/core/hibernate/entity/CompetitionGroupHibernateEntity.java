@@ -3,8 +3,8 @@ package org.coner.core.hibernate.entity;
 import java.math.BigDecimal;
 import java.util.Set;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
-import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
@@ -16,9 +16,13 @@ import javax.persistence.Table;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "competition_groups")
 @NamedQueries({
         @NamedQuery(
@@ -86,8 +90,7 @@ public class CompetitionGroupHibernateEntity extends HibernateEntity {
         this.resultTimeType = resultTimeType;
     }
 
-    @ManyToMany(fetch = FetchType.EAGER, mappedBy = "competitionGroups")
-    @ElementCollection(targetClass = CompetitionGroupSetHibernateEntity.class)
+    @ManyToMany(fetch = FetchType.LAZY, mappedBy = "competitionGroups")
     public Set<CompetitionGroupSetHibernateEntity> getCompetitionGroupSets() {
         return this.competitionGroupSets;
     }
@@ -98,11 +101,11 @@ public class CompetitionGroupHibernateEntity extends HibernateEntity {
 
     @Override
     public boolean equals(Object o) {
-        return EqualsBuilder.reflectionEquals(this, o);
+        return EqualsBuilder.reflectionEquals(this, o, "competitionGroupSets");
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return HashCodeBuilder.reflectionHashCode(this, "competitionGroupSets");
     }
 }
@@ -2,6 +2,7 @@ package org.coner.core.hibernate.entity;
 
 import java.util.Set;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -17,9 +18,13 @@ import javax.persistence.Table;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "competition_group_sets")
 @NamedQueries(
         @NamedQuery(
@@ -56,6 +61,7 @@ public class CompetitionGroupSetHibernateEntity extends HibernateEntity {
         this.name = name;
     }
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinTable(
             name = "competition_group_competition_group_sets",
@@ -66,7 +72,6 @@ public class CompetitionGroupSetHibernateEntity extends HibernateEntity {
                     @JoinColumn(name = "competitionGroupSetId", nullable = false)
             }
     )
-
     public Set<CompetitionGroupHibernateEntity> getCompetitionGroups() {
         return competitionGroups;
     }
@@ -3,8 +3,8 @@ package org.coner.core.hibernate.entity;
 import java.math.BigDecimal;
 import java.util.Set;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
-import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
@@ -16,9 +16,13 @@ import javax.persistence.Table;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "handicap_groups")
 @NamedQueries({
         @NamedQuery(
@@ -64,8 +68,7 @@ public class HandicapGroupHibernateEntity extends HibernateEntity {
     }
 
 
-    @ManyToMany(fetch = FetchType.EAGER, mappedBy = "handicapGroups")
-    @ElementCollection(targetClass = HandicapGroupSetHibernateEntity.class)
+    @ManyToMany(fetch = FetchType.LAZY, mappedBy = "handicapGroups")
     public Set<HandicapGroupSetHibernateEntity> getHandicapGroupSets() {
         return handicapGroupSets;
     }
@@ -76,11 +79,11 @@ public class HandicapGroupHibernateEntity extends HibernateEntity {
 
     @Override
     public boolean equals(Object o) {
-        return EqualsBuilder.reflectionEquals(this, o);
+        return EqualsBuilder.reflectionEquals(this, o, "handicapGroupSets");
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return HashCodeBuilder.reflectionHashCode(this, "handicapGroupSets");
     }
 }
@@ -5,8 +5,11 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.Table;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
@@ -22,11 +25,34 @@ import org.hibernate.annotations.GenericGenerator;
                         + "WHERE r.event.id = :" + RegistrationHibernateEntity.PARAMETER_EVENT_ID
         )
 })
+@NamedEntityGraph(
+        name = RegistrationHibernateEntity.GRAPH_WITH_DETAILS,
+        attributeNodes = {
+                @NamedAttributeNode("person"),
+                @NamedAttributeNode("car"),
+                @NamedAttributeNode(value = "event", subgraph = "event"),
+                @NamedAttributeNode("handicapGroup"),
+                @NamedAttributeNode("competitionGroup")
+        },
+        subgraphs = {
+                @NamedSubgraph(
+                        name = "event",
+                        attributeNodes = {
+                                @NamedAttributeNode("handicapGroupSet"),
+                                @NamedAttributeNode("competitionGroupSet")
+                        }
+                )
+        }
+)
 public class RegistrationHibernateEntity extends HibernateEntity {
 
     public static final String QUERY_FIND_ALL_WITH_EVENT = "org.coner.core.hibernate.entity.RegistrationHibernateEntity"
             + ".findAllWithEvent";
     public static final String PARAMETER_EVENT_ID = "eventId";
+    /**
+     * Fetches the person, car, event and groups of a registration, everything mapping it to a domain entity reaches.
+     */
+    public static final String GRAPH_WITH_DETAILS = "Registration.withDetails";
 
     private String id;
     private PersonHibernateEntity person;
@@ -10,12 +10,31 @@ import javax.persistence.*
 @Table(name = "runs", uniqueConstraints = arrayOf(UniqueConstraint(name = "events_sequences", columnNames = arrayOf("event_id", "sequence"))))
 @NamedQueries(NamedQuery(name = RunHibernateEntity.QUERY_FIND_ALL_WITH_EVENT, query = "FROM RunHibernateEntity r "
         + "WHERE r.event.id = :" + RunHibernateEntity.PARAMETER_EVENT_ID + " "
-        + "ORDER BY r.sequence ASC"), NamedQuery(name = RunHibernateEntity.QUERY_FIND_FIRST_WITHOUT_TIME_AT_EVENT, query = "FROM RunHibernateEntity r "
+        + "ORDER BY r.sequence ASC"), NamedQuery(name = RunHibernateEntity.QUERY_FIND_PAGE_WITH_EVENT, query = "FROM RunHibernateEntity r "
+        + "WHERE r.event.id = :" + RunHibernateEntity.PARAMETER_EVENT_ID + " "
+        + "AND r.sequence > :" + RunHibernateEntity.PARAMETER_AFTER_SEQUENCE + " "
+        + "ORDER BY r.sequence ASC"), NamedQuery(name = RunHibernateEntity.QUERY_FIND_MAX_SEQUENCE_AT_EVENT, query = "SELECT MAX(r.sequence) FROM RunHibernateEntity r "
+        + "WHERE r.event.id = :" + RunHibernateEntity.PARAMETER_EVENT_ID), NamedQuery(name = RunHibernateEntity.QUERY_FIND_ALL_WITHOUT_TIME_AT_EVENT, query = "FROM RunHibernateEntity r "
         + "WHERE r.event.id = :" + RunHibernateEntity.PARAMETER_EVENT_ID + " "
         + "AND r.rawTime IS NULL "
         + "ORDER BY r.sequence ASC "), NamedQuery(name = RunHibernateEntity.QUERY_FIND_ALL_WITH_REGISTRATION, query = "FROM RunHibernateEntity r "
         + "WHERE r.registration.id = :" + RunHibernateEntity.PARAMETER_REGISTRATION_ID + " "
         + "ORDER BY r.sequence ASC"))
+@NamedEntityGraph(name = RunHibernateEntity.GRAPH_WITH_REGISTRATION, attributeNodes = arrayOf(
+        NamedAttributeNode(value = "event", subgraph = "event"),
+        NamedAttributeNode(value = "registration", subgraph = "registration")
+), subgraphs = arrayOf(
+        NamedSubgraph(name = "event", attributeNodes = arrayOf(
+                NamedAttributeNode("handicapGroupSet"),
+                NamedAttributeNode("competitionGroupSet")
+        )),
+        NamedSubgraph(name = "registration", attributeNodes = arrayOf(
+                NamedAttributeNode("person"),
+                NamedAttributeNode("car"),
+                NamedAttributeNode("handicapGroup"),
+                NamedAttributeNode("competitionGroup")
+        ))
+))
 data class RunHibernateEntity(
         @get:Id
         @get:GeneratedValue(generator = "uuid")
@@ -46,10 +65,17 @@ data class RunHibernateEntity(
 
     companion object {
         const val QUERY_FIND_ALL_WITH_EVENT = "Run.findAllWithEvent"
+        const val QUERY_FIND_PAGE_WITH_EVENT = "Run.findPageWithEvent"
+        const val QUERY_FIND_MAX_SEQUENCE_AT_EVENT = "Run.findMaxSequenceAtEvent"
 
-        const val QUERY_FIND_FIRST_WITHOUT_TIME_AT_EVENT = "Run.findFirstWithoutTimeAtEvent"
+        const val QUERY_FIND_ALL_WITHOUT_TIME_AT_EVENT = "Run.findAllWithoutTimeAtEvent"
         const val QUERY_FIND_ALL_WITH_REGISTRATION = "Run.findAllWithRegistration"
+        /**
+         * Fetches the event and registration of a run, with everything mapping them to domain entities reaches.
+         */
+        const val GRAPH_WITH_REGISTRATION = "Run.withRegistration"
         const val PARAMETER_EVENT_ID = "eventId"
         const val PARAMETER_REGISTRATION_ID = "registrationId"
+        const val PARAMETER_AFTER_SEQUENCE = "afterSequence"
     }
 }
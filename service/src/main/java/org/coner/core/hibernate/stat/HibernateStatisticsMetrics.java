@@ -0,0 +1,130 @@
+package org.coner.core.hibernate.stat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import javax.inject.Inject;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.metamodel.EntityType;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.NamedQueryDefinition;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricSet;
+
+/**
+ * Gauges of entity loads and fetches, flushes, statements and query executions read from the Hibernate statistics,
+ * with the execution count, row count, and average and maximum times of each named query of the mapped entities.
+ * The gauges read zero unless statistics are enabled.
+ */
+public class HibernateStatisticsMetrics implements MetricSet {
+
+    static final String PREFIX = "hibernate";
+
+    private final SessionFactory sessionFactory;
+
+    @Inject
+    public HibernateStatisticsMetrics(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    /**
+     * Start gathering statistics, which Hibernate otherwise only does when {@code hibernate.generate_statistics} is
+     * set.
+     */
+    public void enableStatistics() {
+        sessionFactory.getStatistics().setStatisticsEnabled(true);
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Metric> metrics = new HashMap<>();
+        metrics.put(MetricRegistry.name(PREFIX, "entities", "loads"), gauge(statistics::getEntityLoadCount));
+        metrics.put(MetricRegistry.name(PREFIX, "entities", "fetches"), gauge(statistics::getEntityFetchCount));
+        metrics.put(MetricRegistry.name(PREFIX, "entities", "inserts"), gauge(statistics::getEntityInsertCount));
+        metrics.put(MetricRegistry.name(PREFIX, "entities", "updates"), gauge(statistics::getEntityUpdateCount));
+        metrics.put(MetricRegistry.name(PREFIX, "entities", "deletes"), gauge(statistics::getEntityDeleteCount));
+        metrics.put(MetricRegistry.name(PREFIX, "collections", "loads"), gauge(statistics::getCollectionLoadCount));
+        metrics.put(MetricRegistry.name(PREFIX, "collections", "fetches"), gauge(statistics::getCollectionFetchCount));
+        metrics.put(MetricRegistry.name(PREFIX, "flushes"), gauge(statistics::getFlushCount));
+        metrics.put(MetricRegistry.name(PREFIX, "statements", "prepared"), gauge(statistics::getPrepareStatementCount));
+        metrics.put(MetricRegistry.name(PREFIX, "sessions", "opened"), gauge(statistics::getSessionOpenCount));
+        metrics.put(MetricRegistry.name(PREFIX, "transactions"), gauge(statistics::getTransactionCount));
+        metrics.put(MetricRegistry.name(PREFIX, "queries", "executions"), gauge(statistics::getQueryExecutionCount));
+        metrics.put(MetricRegistry.name(PREFIX, "queries", "max-time"), gauge(statistics::getQueryExecutionMaxTime));
+        for (Map.Entry<String, String> namedQuery : getNamedQueries().entrySet()) {
+            String name = namedQuery.getKey();
+            String queryString = namedQuery.getValue();
+            metrics.put(MetricRegistry.name(PREFIX, "queries", name, "executions"), queryGauge(
+                    statistics,
+                    queryString,
+                    QueryStatistics::getExecutionCount
+            ));
+            metrics.put(MetricRegistry.name(PREFIX, "queries", name, "rows"), queryGauge(
+                    statistics,
+                    queryString,
+                    QueryStatistics::getExecutionRowCount
+            ));
+            metrics.put(MetricRegistry.name(PREFIX, "queries", name, "average-time"), queryGauge(
+                    statistics,
+                    queryString,
+                    QueryStatistics::getExecutionAvgTime
+            ));
+            metrics.put(MetricRegistry.name(PREFIX, "queries", name, "max-time"), queryGauge(
+                    statistics,
+                    queryString,
+                    QueryStatistics::getExecutionMaxTime
+            ));
+        }
+        return metrics;
+    }
+
+    /**
+     * Get the named queries declared on the mapped entities.
+     *
+     * @return the query strings of the named queries by name, which Hibernate keys their statistics by
+     */
+    SortedMap<String, String> getNamedQueries() {
+        SessionFactoryImplementor sessionFactoryImplementor = sessionFactory.unwrap(SessionFactoryImplementor.class);
+        SortedMap<String, String> namedQueries = new TreeMap<>();
+        for (EntityType<?> entityType : sessionFactory.getMetamodel().getEntities()) {
+            Class<?> javaType = entityType.getJavaType();
+            NamedQueries declared = javaType.getAnnotation(NamedQueries.class);
+            NamedQuery[] queries = declared != null
+                    ? declared.value()
+                    : javaType.getAnnotationsByType(NamedQuery.class);
+            for (NamedQuery query : queries) {
+                NamedQueryDefinition definition = sessionFactoryImplementor.getNamedQueryRepository()
+                        .getNamedQueryDefinition(query.name());
+                if (definition != null) {
+                    namedQueries.put(query.name(), definition.getQueryString());
+                }
+            }
+        }
+        return namedQueries;
+    }
+
+    private static Gauge<Long> gauge(LongSupplier count) {
+        return count::getAsLong;
+    }
+
+    private static Gauge<Long> queryGauge(
+            Statistics statistics,
+            String queryString,
+            ToLongFunction<QueryStatistics> value
+    ) {
+        return gauge(() -> value.applyAsLong(statistics.getQueryStatistics(queryString)));
+    }
+}
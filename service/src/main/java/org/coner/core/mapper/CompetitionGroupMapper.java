@@ -8,8 +8,10 @@ import org.coner.core.domain.entity.CompetitionGroup;
 import org.coner.core.domain.payload.CompetitionGroupAddPayload;
 import org.coner.core.hibernate.dao.CompetitionGroupDao;
 import org.coner.core.hibernate.entity.CompetitionGroupHibernateEntity;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 @Mapper(
         config = ConerBaseMapStructConfig.class
@@ -35,10 +37,24 @@ public abstract class CompetitionGroupMapper {
             @MappingTarget CompetitionGroupHibernateEntity hibernateEntity
     );
 
-    public abstract CompetitionGroup toDomainEntity(CompetitionGroupHibernateEntity hibernateEntity);
+    @Named(DomainEntityMappingContext.NEW)
+    public CompetitionGroup toDomainEntity(CompetitionGroupHibernateEntity hibernateEntity) {
+        return toDomainEntity(hibernateEntity, new DomainEntityMappingContext());
+    }
+
+    public abstract CompetitionGroup toDomainEntity(
+            CompetitionGroupHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    );
+
+    @Named(DomainEntityMappingContext.NEW)
+    public List<CompetitionGroup> toDomainEntityList(List<CompetitionGroupHibernateEntity> hibernateEntityList) {
+        return toDomainEntityList(hibernateEntityList, new DomainEntityMappingContext());
+    }
 
     public abstract List<CompetitionGroup> toDomainEntityList(
-            List<CompetitionGroupHibernateEntity> hibernateEntityList
+            List<CompetitionGroupHibernateEntity> hibernateEntityList,
+            @Context DomainEntityMappingContext context
     );
 
     public void setDao(CompetitionGroupDao dao) {
@@ -14,8 +14,10 @@ import org.coner.core.domain.payload.CompetitionGroupSetAddPayload;
 import org.coner.core.hibernate.dao.CompetitionGroupSetDao;
 import org.coner.core.hibernate.entity.CompetitionGroupHibernateEntity;
 import org.coner.core.hibernate.entity.CompetitionGroupSetHibernateEntity;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 import com.google.common.collect.Sets;
 
@@ -60,17 +62,34 @@ public abstract class CompetitionGroupSetMapper {
             @MappingTarget CompetitionGroupSetHibernateEntity hibernateEntity
     );
 
-    public abstract CompetitionGroupSet toDomainEntity(CompetitionGroupSetHibernateEntity hibernateEntity);
+    @Named(DomainEntityMappingContext.NEW)
+    public CompetitionGroupSet toDomainEntity(CompetitionGroupSetHibernateEntity hibernateEntity) {
+        return toDomainEntity(hibernateEntity, new DomainEntityMappingContext());
+    }
+
+    public abstract CompetitionGroupSet toDomainEntity(
+            CompetitionGroupSetHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    );
 
-    public Set<CompetitionGroup> toInnerDomainEntitySet(Set<CompetitionGroupHibernateEntity> innerHibernateEntitySet) {
+    public Set<CompetitionGroup> toInnerDomainEntitySet(
+            Set<CompetitionGroupHibernateEntity> innerHibernateEntitySet,
+            @Context DomainEntityMappingContext context
+    ) {
         return Optional.ofNullable(innerHibernateEntitySet).orElse(Sets.newHashSet())
                 .stream()
-                .map(competitionGroupMapper::toDomainEntity)
+                .map(hibernateEntity -> competitionGroupMapper.toDomainEntity(hibernateEntity, context))
                 .collect(Collectors.toSet());
     }
 
+    @Named(DomainEntityMappingContext.NEW)
+    public List<CompetitionGroupSet> toDomainEntityList(List<CompetitionGroupSetHibernateEntity> hibernateEntityList) {
+        return toDomainEntityList(hibernateEntityList, new DomainEntityMappingContext());
+    }
+
     public abstract List<CompetitionGroupSet> toDomainEntityList(
-            List<CompetitionGroupSetHibernateEntity> hibernateEntityList
+            List<CompetitionGroupSetHibernateEntity> hibernateEntityList,
+            @Context DomainEntityMappingContext context
     );
 
     public void setDao(CompetitionGroupSetDao dao) {
@@ -0,0 +1,54 @@
+package org.coner.core.mapper;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.coner.core.domain.entity.DomainEntity;
+import org.coner.core.hibernate.entity.HibernateEntity;
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.TargetType;
+
+/**
+ * Identity map for one conversion of hibernate entities to domain entities, so an entity referenced many times, such
+ * as the event and registration of every run at an event, is mapped to a single domain entity which is shared by all
+ * of its references.
+ *
+ * <p>Mapped entities are keyed by their hibernate entity. Hibernate holds one instance per ID in a session, so this
+ * reuses domain entities by ID for entities from the same session. A context must not outlive the conversion it was
+ * created for, because the domain entities it holds are mutable.</p>
+ */
+public class DomainEntityMappingContext {
+
+    /**
+     * Qualifies the mapper methods which create a new context, so that MapStruct never selects them for a nested
+     * mapping, which must share the context of the mapping it is part of.
+     */
+    public static final String NEW = "newDomainEntityMappingContext";
+
+    private final Map<HibernateEntity, DomainEntity> mapped = new IdentityHashMap<>();
+
+    /**
+     * Get the domain entity already mapped from a hibernate entity, if any, which MapStruct then returns instead of
+     * mapping the hibernate entity again.
+     *
+     * @param source the hibernate entity
+     * @param targetType the domain entity type
+     * @return the already mapped domain entity, or null if not mapped yet
+     */
+    @BeforeMapping
+    public <T extends DomainEntity> T getMappedInstance(HibernateEntity source, @TargetType Class<T> targetType) {
+        return targetType.cast(mapped.get(source));
+    }
+
+    /**
+     * Record the domain entity mapped from a hibernate entity, before its properties are mapped.
+     *
+     * @param source the hibernate entity
+     * @param target the domain entity
+     */
+    @BeforeMapping
+    public void storeMappedInstance(HibernateEntity source, @MappingTarget DomainEntity target) {
+        mapped.put(source, target);
+    }
+}
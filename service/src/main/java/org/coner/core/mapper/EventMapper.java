@@ -15,10 +15,12 @@ import org.coner.core.hibernate.dao.EventDao;
 import org.coner.core.hibernate.entity.CompetitionGroupSetHibernateEntity;
 import org.coner.core.hibernate.entity.EventHibernateEntity;
 import org.coner.core.hibernate.entity.HandicapGroupSetHibernateEntity;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Mappings;
+import org.mapstruct.Named;
 
 @Mapper(
         config = ConerBaseMapStructConfig.class
@@ -50,7 +52,7 @@ public abstract class EventMapper {
     public abstract EventHibernateEntity toHibernateEntity(EventAddPayload domainAddPayload);
 
     public EventHibernateEntity toHibernateEntity(Event domainEntity) {
-        return dao.findById(domainEntity.getId());
+        return dao.getReference(domainEntity.getId());
     }
 
     public abstract void updateHibernateEntity(
@@ -58,9 +60,25 @@ public abstract class EventMapper {
             @MappingTarget EventHibernateEntity hibernateEntity
     );
 
-    public abstract Event toDomainEntity(EventHibernateEntity hibernateEntity);
+    @Named(DomainEntityMappingContext.NEW)
+    public Event toDomainEntity(EventHibernateEntity hibernateEntity) {
+        return toDomainEntity(hibernateEntity, new DomainEntityMappingContext());
+    }
+
+    public abstract Event toDomainEntity(
+            EventHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    );
 
-    public abstract List<Event> toDomainEntityList(List<EventHibernateEntity> hibernateEntityList);
+    @Named(DomainEntityMappingContext.NEW)
+    public List<Event> toDomainEntityList(List<EventHibernateEntity> hibernateEntityList) {
+        return toDomainEntityList(hibernateEntityList, new DomainEntityMappingContext());
+    }
+
+    public abstract List<Event> toDomainEntityList(
+            List<EventHibernateEntity> hibernateEntityList,
+            @Context DomainEntityMappingContext context
+    );
 
     // secondary mappings
 
@@ -81,12 +99,18 @@ public abstract class EventMapper {
         return competitionGroupSetMapper.toHibernateEntity(domainEntity);
     }
 
-    public HandicapGroupSet toDomainEntity(HandicapGroupSetHibernateEntity hibernateEntity) {
-        return handicapGroupSetMapper.toDomainEntity(hibernateEntity);
+    public HandicapGroupSet toDomainEntity(
+            HandicapGroupSetHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    ) {
+        return handicapGroupSetMapper.toDomainEntity(hibernateEntity, context);
     }
 
-    public CompetitionGroupSet toDomainEntity(CompetitionGroupSetHibernateEntity hibernateEntity) {
-        return competitionGroupSetMapper.toDomainEntity(hibernateEntity);
+    public CompetitionGroupSet toDomainEntity(
+            CompetitionGroupSetHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    ) {
+        return competitionGroupSetMapper.toDomainEntity(hibernateEntity, context);
     }
 
 
@@ -8,8 +8,10 @@ import org.coner.core.domain.entity.HandicapGroup;
 import org.coner.core.domain.payload.HandicapGroupAddPayload;
 import org.coner.core.hibernate.dao.HandicapGroupDao;
 import org.coner.core.hibernate.entity.HandicapGroupHibernateEntity;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 @Mapper(
         config = ConerBaseMapStructConfig.class
@@ -35,9 +37,25 @@ public abstract class HandicapGroupMapper {
             @MappingTarget HandicapGroupHibernateEntity hibernateEntity
     );
 
-    public abstract HandicapGroup toDomainEntity(HandicapGroupHibernateEntity hibernateEntity);
+    @Named(DomainEntityMappingContext.NEW)
+    public HandicapGroup toDomainEntity(HandicapGroupHibernateEntity hibernateEntity) {
+        return toDomainEntity(hibernateEntity, new DomainEntityMappingContext());
+    }
+
+    public abstract HandicapGroup toDomainEntity(
+            HandicapGroupHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    );
 
-    public abstract List<HandicapGroup> toDomainEntityList(List<HandicapGroupHibernateEntity> hibernateEntityList);
+    @Named(DomainEntityMappingContext.NEW)
+    public List<HandicapGroup> toDomainEntityList(List<HandicapGroupHibernateEntity> hibernateEntityList) {
+        return toDomainEntityList(hibernateEntityList, new DomainEntityMappingContext());
+    }
+
+    public abstract List<HandicapGroup> toDomainEntityList(
+            List<HandicapGroupHibernateEntity> hibernateEntityList,
+            @Context DomainEntityMappingContext context
+    );
 
     public void setDao(HandicapGroupDao dao) {
         this.dao = dao;
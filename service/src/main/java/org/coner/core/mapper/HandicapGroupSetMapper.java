@@ -14,8 +14,10 @@ import org.coner.core.domain.payload.HandicapGroupSetAddPayload;
 import org.coner.core.hibernate.dao.HandicapGroupSetDao;
 import org.coner.core.hibernate.entity.HandicapGroupHibernateEntity;
 import org.coner.core.hibernate.entity.HandicapGroupSetHibernateEntity;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 import com.google.common.collect.Sets;
 
@@ -58,17 +60,34 @@ public abstract class HandicapGroupSetMapper {
             @MappingTarget HandicapGroupSetHibernateEntity hibernateEntity
     );
 
-    public abstract HandicapGroupSet toDomainEntity(HandicapGroupSetHibernateEntity hibernateEntity);
+    @Named(DomainEntityMappingContext.NEW)
+    public HandicapGroupSet toDomainEntity(HandicapGroupSetHibernateEntity hibernateEntity) {
+        return toDomainEntity(hibernateEntity, new DomainEntityMappingContext());
+    }
+
+    public abstract HandicapGroupSet toDomainEntity(
+            HandicapGroupSetHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    );
 
-    public Set<HandicapGroup> toInnerDomainEntitySet(Set<HandicapGroupHibernateEntity> innerHibernateEntitySet) {
+    public Set<HandicapGroup> toInnerDomainEntitySet(
+            Set<HandicapGroupHibernateEntity> innerHibernateEntitySet,
+            @Context DomainEntityMappingContext context
+    ) {
         return Optional.ofNullable(innerHibernateEntitySet).orElse(Sets.newHashSet())
                 .stream()
-                .map(handicapGroupMapper::toDomainEntity)
+                .map(hibernateEntity -> handicapGroupMapper.toDomainEntity(hibernateEntity, context))
                 .collect(Collectors.toSet());
     }
 
+    @Named(DomainEntityMappingContext.NEW)
+    public List<HandicapGroupSet> toDomainEntityList(List<HandicapGroupSetHibernateEntity> hibernateEntityList) {
+        return toDomainEntityList(hibernateEntityList, new DomainEntityMappingContext());
+    }
+
     public abstract List<HandicapGroupSet> toDomainEntityList(
-            List<HandicapGroupSetHibernateEntity> hibernateEntityList
+            List<HandicapGroupSetHibernateEntity> hibernateEntityList,
+            @Context DomainEntityMappingContext context
     );
 
     public void setDao(HandicapGroupSetDao dao) {
@@ -23,10 +23,12 @@ import org.coner.core.hibernate.entity.EventHibernateEntity;
 import org.coner.core.hibernate.entity.HandicapGroupHibernateEntity;
 import org.coner.core.hibernate.entity.PersonHibernateEntity;
 import org.coner.core.hibernate.entity.RegistrationHibernateEntity;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Mappings;
+import org.mapstruct.Named;
 
 @Mapper(
         config = ConerBaseMapStructConfig.class
@@ -62,7 +64,7 @@ public abstract class RegistrationMapper {
         if (domainEntity == null) {
             return null;
         }
-        return dao.findById(domainEntity.getId());
+        return dao.getReference(domainEntity.getId());
     }
 
     public EventHibernateEntity toHibernateEntity(Event event) {
@@ -74,13 +76,32 @@ public abstract class RegistrationMapper {
             @MappingTarget RegistrationHibernateEntity hibernateEntity
     );
 
-    public abstract Registration toDomainEntity(RegistrationHibernateEntity hibernateEntity);
+    @Named(DomainEntityMappingContext.NEW)
+    public Registration toDomainEntity(RegistrationHibernateEntity hibernateEntity) {
+        return toDomainEntity(hibernateEntity, new DomainEntityMappingContext());
+    }
+
+    public abstract Registration toDomainEntity(
+            RegistrationHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    );
+
+    public Event toDomainEntity(
+            EventHibernateEntity eventHibernateEntity,
+            @Context DomainEntityMappingContext context
+    ) {
+        return eventMapper.toDomainEntity(eventHibernateEntity, context);
+    }
 
-    public Event toDomainEntity(EventHibernateEntity eventHibernateEntity) {
-        return eventMapper.toDomainEntity(eventHibernateEntity);
+    @Named(DomainEntityMappingContext.NEW)
+    public List<Registration> toDomainEntityList(List<RegistrationHibernateEntity> hibernateEntityList) {
+        return toDomainEntityList(hibernateEntityList, new DomainEntityMappingContext());
     }
 
-    public abstract List<Registration> toDomainEntityList(List<RegistrationHibernateEntity> hibernateEntityList);
+    public abstract List<Registration> toDomainEntityList(
+            List<RegistrationHibernateEntity> hibernateEntityList,
+            @Context DomainEntityMappingContext context
+    );
 
     // secondary mappings
 
@@ -94,7 +115,10 @@ public abstract class RegistrationMapper {
 
     public abstract PersonHibernateEntity toHibernateEntity(Person domainEntity);
 
-    public abstract Person toDomainEntity(PersonHibernateEntity hibernateEntity);
+    public abstract Person toDomainEntity(
+            PersonHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    );
 
     public abstract RegistrationAddPayload.CarAddPayload toDomainAddPayload(
             AddRegistrationRequest.AddCar addCar
@@ -106,7 +130,10 @@ public abstract class RegistrationMapper {
 
     public abstract CarHibernateEntity toHibernateEntity(Car domainEntity);
 
-    public abstract Car toDomainEntity(CarHibernateEntity hibernateEntity);
+    public abstract Car toDomainEntity(
+            CarHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    );
 
     public HandicapGroup toHandicapGroupDomainEntity(String handicapGroupId) throws EntityNotFoundException {
         return handicapGroupEntityService.getById(handicapGroupId);
@@ -124,12 +151,18 @@ public abstract class RegistrationMapper {
         return competitionGroupMapper.toHibernateEntity(domainEntity);
     }
 
-    public HandicapGroup toDomainEntity(HandicapGroupHibernateEntity hibernateEntity) {
-        return handicapGroupMapper.toDomainEntity(hibernateEntity);
+    public HandicapGroup toDomainEntity(
+            HandicapGroupHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    ) {
+        return handicapGroupMapper.toDomainEntity(hibernateEntity, context);
     }
 
-    public CompetitionGroup toDomainEntity(CompetitionGroupHibernateEntity hibernateEntity) {
-        return competitionGroupMapper.toDomainEntity(hibernateEntity);
+    public CompetitionGroup toDomainEntity(
+            CompetitionGroupHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    ) {
+        return competitionGroupMapper.toDomainEntity(hibernateEntity, context);
     }
 
     // setters
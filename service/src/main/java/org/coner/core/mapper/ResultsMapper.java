@@ -1,8 +1,13 @@
 package org.coner.core.mapper;
 
+import java.util.List;
+import java.util.Map;
+
 import org.coner.core.api.entity.ScoredRunApiEntity;
 import org.coner.core.api.response.GetEventResultsRegistrationResponse;
+import org.coner.core.api.response.GetEventResultsResponse;
 import org.coner.core.domain.entity.ScoredRun;
+import org.coner.core.domain.payload.GetEventResultsPayload;
 import org.coner.core.domain.payload.GetRegistrationResultsPayload;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -19,6 +24,18 @@ public interface ResultsMapper {
     })
     GetEventResultsRegistrationResponse toApiResponse(GetRegistrationResultsPayload payload);
 
+    List<GetEventResultsRegistrationResponse> toApiResponseList(List<GetRegistrationResultsPayload> payloads);
+
+    Map<String, List<GetEventResultsRegistrationResponse>> toApiResponseMap(
+            Map<String, List<GetRegistrationResultsPayload>> payloads
+    );
+
+    @Mappings({
+            @Mapping(source = "event.id", target = "eventId"),
+            @Mapping(target = "version", ignore = true)
+    })
+    GetEventResultsResponse toApiResponse(GetEventResultsPayload payload);
+
     @Mappings({
             @Mapping(source = "run.id", target = "runId")
     })
@@ -4,12 +4,16 @@ import java.util.List;
 
 import org.coner.core.api.entity.RunApiEntity;
 import org.coner.core.api.request.AddRawTimeToFirstRunLackingRequest;
+import org.coner.core.api.request.AddRawTimesToFirstRunsLackingRequest;
 import org.coner.core.api.request.AddRunRequest;
+import org.coner.core.api.response.AddRawTimesResponse;
 import org.coner.core.domain.entity.Event;
 import org.coner.core.domain.entity.Registration;
 import org.coner.core.domain.entity.Run;
 import org.coner.core.domain.payload.RunAddPayload;
 import org.coner.core.domain.payload.RunAddTimePayload;
+import org.coner.core.domain.payload.RunAddTimesPayload;
+import org.coner.core.domain.payload.RunTimeAddedPayload;
 import org.coner.core.domain.service.EventEntityService;
 import org.coner.core.domain.service.RegistrationEntityService;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
@@ -17,10 +21,12 @@ import org.coner.core.hibernate.dao.RunDao;
 import org.coner.core.hibernate.entity.EventHibernateEntity;
 import org.coner.core.hibernate.entity.RegistrationHibernateEntity;
 import org.coner.core.hibernate.entity.RunHibernateEntity;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Mappings;
+import org.mapstruct.Named;
 
 @Mapper(
         config = ConerBaseMapStructConfig.class
@@ -48,6 +54,15 @@ public abstract class RunMapper {
             String eventId
     );
 
+    @Mappings({
+            @Mapping(source = "eventId", target = "event"),
+            @Mapping(source = "addRawTimesToFirstRunsLackingRequest.rawTimes", target = "rawTimes")
+    })
+    public abstract RunAddTimesPayload toDomainAddTimesPayload(
+            AddRawTimesToFirstRunsLackingRequest addRawTimesToFirstRunsLackingRequest,
+            String eventId
+    );
+
     public Event toDomainEvent(String eventId) throws EntityNotFoundException {
         return eventEntityService.getById(eventId);
     }
@@ -67,10 +82,18 @@ public abstract class RunMapper {
 
     public abstract List<RunApiEntity> toApiEntityList(List<Run> domainEntityList);
 
+    public abstract AddRawTimesResponse.Item toApiAddRawTimesResponseItem(RunTimeAddedPayload runTimeAddedPayload);
+
+    public abstract AddRawTimesResponse.Outcome toApiAddRawTimesResponseOutcome(RunTimeAddedPayload.Outcome outcome);
+
+    public abstract List<AddRawTimesResponse.Item> toApiAddRawTimesResponseItemList(
+            List<RunTimeAddedPayload> runTimeAddedPayloads
+    );
+
     public abstract RunHibernateEntity toHibernateEntity(RunAddPayload domainAddPayload);
 
     public RunHibernateEntity toHibernateEntity(Run domainEntity) {
-        return dao.findById(domainEntity.getId());
+        return dao.getReference(domainEntity.getId());
     }
 
     public EventHibernateEntity toHibernateEntity(Event domainEntity) {
@@ -86,17 +109,39 @@ public abstract class RunMapper {
             @MappingTarget RunHibernateEntity hibernateEntity
     );
 
-    public abstract Run toDomainEntity(RunHibernateEntity hibernateEntity);
+    @Named(DomainEntityMappingContext.NEW)
+    public Run toDomainEntity(RunHibernateEntity hibernateEntity) {
+        return toDomainEntity(hibernateEntity, new DomainEntityMappingContext());
+    }
+
+    public abstract Run toDomainEntity(
+            RunHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    );
+
+    public Event toDomainEntity(
+            EventHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    ) {
+        return eventMapper.toDomainEntity(hibernateEntity, context);
+    }
 
-    public Event toDomainEntity(EventHibernateEntity hibernateEntity) {
-        return eventMapper.toDomainEntity(hibernateEntity);
+    public Registration toDomainEntity(
+            RegistrationHibernateEntity hibernateEntity,
+            @Context DomainEntityMappingContext context
+    ) {
+        return registrationMapper.toDomainEntity(hibernateEntity, context);
     }
 
-    public Registration toDomainEntity(RegistrationHibernateEntity hibernateEntity) {
-        return registrationMapper.toDomainEntity(hibernateEntity);
+    @Named(DomainEntityMappingContext.NEW)
+    public List<Run> toDomainEntityList(List<RunHibernateEntity> hibernateEntityList) {
+        return toDomainEntityList(hibernateEntityList, new DomainEntityMappingContext());
     }
 
-    public abstract List<Run> toDomainEntityList(List<RunHibernateEntity> hibernateEntityList);
+    public abstract List<Run> toDomainEntityList(
+            List<RunHibernateEntity> hibernateEntityList,
+            @Context DomainEntityMappingContext context
+    );
 
     public void setDao(RunDao dao) {
         this.dao = dao;
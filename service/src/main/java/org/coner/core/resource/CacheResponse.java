@@ -0,0 +1,17 @@
+package org.coner.core.resource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link ChangeVersioned} resource method whose serialized responses are kept in the {@link ResponseCache},
+ * keyed by the version of what they read, and written again from it without invoking the method.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheResponse {
+}
@@ -0,0 +1,34 @@
+package org.coner.core.resource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a resource method whose response is tagged with the version of what it reads, and answered with 304 Not
+ * Modified when the client already holds that version. See {@link ConditionalGetFeature}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ChangeVersioned {
+
+    Scope value();
+
+    enum Scope {
+        /**
+         * Events themselves.
+         */
+        EVENTS,
+        /**
+         * What is held at the event of the {@code eventId} path parameter: its registrations and runs.
+         */
+        EVENT,
+        /**
+         * Handicap and competition groups and their sets.
+         */
+        GROUPS
+    }
+}
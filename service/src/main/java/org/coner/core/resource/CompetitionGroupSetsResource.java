@@ -25,10 +25,13 @@ import org.coner.core.domain.service.CompetitionGroupSetService;
 import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
 import org.coner.core.mapper.CompetitionGroupSetMapper;
+import org.coner.core.util.ConerMediaType;
 import org.coner.core.util.swagger.ApiResponseConstants;
 import org.coner.core.util.swagger.ApiTagConstants;
 import org.eclipse.jetty.http.HttpStatus;
+import org.hibernate.FlushMode;
 
+import com.codahale.metrics.annotation.Timed;
 import io.dropwizard.hibernate.UnitOfWork;
 import io.dropwizard.jersey.errors.ErrorMessage;
 import io.dropwizard.jersey.validation.ValidationErrorMessage;
@@ -40,8 +43,12 @@ import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.ResponseHeader;
 
 @Path("/competitionGroups/sets")
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({
+        MediaType.APPLICATION_JSON,
+        ConerMediaType.APPLICATION_SMILE_PRODUCED,
+        ConerMediaType.APPLICATION_CBOR_PRODUCED
+})
+@Consumes({ MediaType.APPLICATION_JSON, ConerMediaType.APPLICATION_SMILE, ConerMediaType.APPLICATION_CBOR })
 @Api(tags = ApiTagConstants.COMPETITION_GROUPS)
 public class CompetitionGroupSetsResource {
 
@@ -60,6 +67,7 @@ public class CompetitionGroupSetsResource {
     }
 
     @POST
+    @Timed
     @UnitOfWork
     @ApiOperation(
             value = "Add a new Competition Group Set",
@@ -95,7 +103,10 @@ public class CompetitionGroupSetsResource {
     }
 
     @GET
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.GROUPS)
+    @CacheResponse
     @ApiOperation(value = "Get all Competition Group Sets", response = GetCompetitionGroupSetsResponse.class)
     public GetCompetitionGroupSetsResponse getCompetitionGroupSets() {
         List<CompetitionGroupSet> domainCompetitionGroupSets = competitionGroupSetService.getAll();
@@ -107,7 +118,9 @@ public class CompetitionGroupSetsResource {
 
     @GET
     @Path("/{competitionGroupSetId}")
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.GROUPS)
     @ApiOperation(value = "Get a Competition Group Set", response = CompetitionGroupSetApiEntity.class)
     @ApiResponses({
             @ApiResponse(code = HttpStatus.OK_200, response = CompetitionGroupSetApiEntity.class, message = "OK"),
@@ -123,6 +136,7 @@ public class CompetitionGroupSetsResource {
 
     @POST
     @Path("/{competitionGroupSetId}/competitionGroups/{competitionGroupId}")
+    @Timed
     @UnitOfWork
     @ApiOperation(
             value = "Add a Competition Group to a Competition Group Set",
@@ -23,10 +23,13 @@ import org.coner.core.domain.service.CompetitionGroupEntityService;
 import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
 import org.coner.core.mapper.CompetitionGroupMapper;
+import org.coner.core.util.ConerMediaType;
 import org.coner.core.util.swagger.ApiResponseConstants;
 import org.coner.core.util.swagger.ApiTagConstants;
 import org.eclipse.jetty.http.HttpStatus;
+import org.hibernate.FlushMode;
 
+import com.codahale.metrics.annotation.Timed;
 import io.dropwizard.hibernate.UnitOfWork;
 import io.dropwizard.jersey.errors.ErrorMessage;
 import io.dropwizard.jersey.validation.ValidationErrorMessage;
@@ -38,8 +41,12 @@ import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.ResponseHeader;
 
 @Path("/competitionGroups")
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({
+        MediaType.APPLICATION_JSON,
+        ConerMediaType.APPLICATION_SMILE_PRODUCED,
+        ConerMediaType.APPLICATION_CBOR_PRODUCED
+})
+@Consumes({ MediaType.APPLICATION_JSON, ConerMediaType.APPLICATION_SMILE, ConerMediaType.APPLICATION_CBOR })
 @Api(tags = ApiTagConstants.COMPETITION_GROUPS)
 public class CompetitionGroupsResource {
 
@@ -56,6 +63,7 @@ public class CompetitionGroupsResource {
     }
 
     @POST
+    @Timed
     @UnitOfWork
     @ApiOperation(value = "Add a Competition Group")
     @ApiResponses({
@@ -88,7 +96,9 @@ public class CompetitionGroupsResource {
     }
 
     @GET
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.GROUPS)
     @ApiOperation(value = "Get all Competition Groups", response = GetCompetitionGroupsResponse.class)
     public GetCompetitionGroupsResponse getCompetitionGroups() {
         List<CompetitionGroup> domainCompetitionGroups = competitionGroupEntityService.getAll();
@@ -100,7 +110,9 @@ public class CompetitionGroupsResource {
 
     @GET
     @Path("/{competitionGroupId}")
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.GROUPS)
     @ApiOperation(value = "Get a Competition Group", response = CompetitionGroupApiEntity.class)
     @ApiResponses({
             @ApiResponse(code = HttpStatus.OK_200, response = CompetitionGroupApiEntity.class, message = "OK"),
@@ -0,0 +1,229 @@
+package org.coner.core.resource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.core.Variant;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.coner.core.domain.service.ChangeVersions;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * Tags the responses of {@link ChangeVersioned} resource methods with a strong ETag of the version of what they read
+ * and the media type negotiated for them, and answers requests whose If-None-Match holds the current one with 304 Not
+ * Modified. Responses of those also marked {@link CacheResponse} are kept serialized in the {@link ResponseCache} and
+ * answered from it while the version holds.
+ *
+ * <p>Each media type a method produces is a variant of its own with a tag of its own, so a JSON body is never taken
+ * for the CBOR one, and responses carry {@code Vary: Accept} for caches in between.</p>
+ *
+ * <p>The version is checked in a request filter, before the unit of work of the resource method begins, so requests
+ * answered with 304 or from the cache never open a Hibernate session.</p>
+ */
+public class ConditionalGetFeature implements DynamicFeature {
+
+    static final String PROPERTY_ENTITY_TAG = ConditionalGetFeature.class.getName() + ".entityTag";
+    static final String PROPERTY_CACHE_KEY = ConditionalGetFeature.class.getName() + ".cacheKey";
+
+    private final ChangeVersions changeVersions;
+    private final ResponseCache responseCache;
+
+    @Inject
+    public ConditionalGetFeature(ChangeVersions changeVersions, ResponseCache responseCache) {
+        this.changeVersions = changeVersions;
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        ChangeVersioned changeVersioned = resourceInfo.getResourceMethod().getAnnotation(ChangeVersioned.class);
+        if (changeVersioned == null) {
+            return;
+        }
+        boolean cached = responseCache.isEnabled()
+                && resourceInfo.getResourceMethod().isAnnotationPresent(CacheResponse.class);
+        context.register(new ConditionalGetFilter(
+                changeVersions,
+                changeVersioned.value(),
+                variantsOf(resourceInfo),
+                cached ? responseCache : null
+        ));
+        if (cached) {
+            context.register(new ResponseCacheWriterInterceptor(responseCache));
+        }
+    }
+
+    /**
+     * Get the tag of a variant of what is read at a version.
+     *
+     * @param versionTag the tag of the version, from {@link ChangeVersions#getTag(String)}
+     * @param mediaType the media type of the variant, or null if the method produces none in particular
+     * @return the entity tag
+     */
+    static EntityTag entityTagOf(String versionTag, MediaType mediaType) {
+        if (mediaType == null) {
+            return new EntityTag(versionTag);
+        }
+        return new EntityTag(versionTag + ':' + mediaType.getType() + '/' + mediaType.getSubtype());
+    }
+
+    private static List<Variant> variantsOf(ResourceInfo resourceInfo) {
+        Method method = resourceInfo.getResourceMethod();
+        Produces produces = method.isAnnotationPresent(Produces.class)
+                ? method.getAnnotation(Produces.class)
+                : resourceInfo.getResourceClass().getAnnotation(Produces.class);
+        List<Variant> variants = new ArrayList<>();
+        if (produces != null) {
+            for (String value : produces.value()) {
+                for (String mediaType : value.split(",")) {
+                    variants.addAll(Variant.mediaTypes(MediaType.valueOf(mediaType.trim())).build());
+                }
+            }
+        }
+        return variants;
+    }
+
+    private static final class ConditionalGetFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+        private final ChangeVersions changeVersions;
+        private final ChangeVersioned.Scope scope;
+        private final List<Variant> variants;
+        private final ResponseCache responseCache;
+
+        private ConditionalGetFilter(
+                ChangeVersions changeVersions,
+                ChangeVersioned.Scope scope,
+                List<Variant> variants,
+                ResponseCache responseCache
+        ) {
+            this.changeVersions = changeVersions;
+            this.scope = scope;
+            this.variants = variants;
+            this.responseCache = responseCache;
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+                return;
+            }
+            String versionTag = changeVersions.getTag(scopeOf(requestContext));
+            EntityTag entityTag = entityTagOf(versionTag, negotiatedMediaTypeOf(requestContext));
+            requestContext.setProperty(PROPERTY_ENTITY_TAG, entityTag);
+            Response.ResponseBuilder notModified = requestContext.getRequest().evaluatePreconditions(entityTag);
+            if (notModified != null) {
+                requestContext.abortWith(notModified.build());
+                return;
+            }
+            if (responseCache != null) {
+                String cacheKey = cacheKeyOf(entityTag, requestContext);
+                ResponseCache.Entry cached = responseCache.get(cacheKey);
+                if (cached != null) {
+                    requestContext.abortWith(Response.ok(cached.getBody(), cached.getMediaType())
+                            .tag(entityTag)
+                            .build());
+                    return;
+                }
+                requestContext.setProperty(PROPERTY_CACHE_KEY, cacheKey);
+            }
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            Object entityTag = requestContext.getProperty(PROPERTY_ENTITY_TAG);
+            if (entityTag == null) {
+                return;
+            }
+            int status = responseContext.getStatus();
+            if (status == HttpStatus.OK_200) {
+                responseContext.getHeaders().putSingle(HttpHeaders.ETAG, entityTag);
+            } else {
+                requestContext.removeProperty(PROPERTY_CACHE_KEY);
+            }
+            if (status == HttpStatus.OK_200 || status == HttpStatus.NOT_MODIFIED_304) {
+                responseContext.getHeaders().putSingle(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+        }
+
+        private MediaType negotiatedMediaTypeOf(ContainerRequestContext requestContext) {
+            if (variants.isEmpty()) {
+                return null;
+            }
+            Variant variant = requestContext.getRequest().selectVariant(variants);
+            return variant != null ? variant.getMediaType() : null;
+        }
+
+        private String scopeOf(ContainerRequestContext requestContext) {
+            switch (scope) {
+                case EVENTS:
+                    return ChangeVersions.EVENTS;
+                case EVENT:
+                    return ChangeVersions.event(requestContext.getUriInfo().getPathParameters().getFirst("eventId"));
+                case GROUPS:
+                    return ChangeVersions.GROUPS;
+                default:
+                    throw new IllegalStateException("Unhandled scope: " + scope);
+            }
+        }
+
+        private static String cacheKeyOf(EntityTag entityTag, ContainerRequestContext requestContext) {
+            UriInfo uriInfo = requestContext.getUriInfo();
+            return entityTag.getValue()
+                    + ' ' + uriInfo.getRequestUri().getRawPath()
+                    + '?' + uriInfo.getRequestUri().getRawQuery();
+        }
+    }
+
+    /**
+     * Keeps a copy of the serialized entity of responses the {@link ConditionalGetFilter} left a cache key for.
+     */
+    private static final class ResponseCacheWriterInterceptor implements WriterInterceptor {
+
+        private final ResponseCache responseCache;
+
+        private ResponseCacheWriterInterceptor(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+        }
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            Object cacheKey = context.getProperty(PROPERTY_CACHE_KEY);
+            if (cacheKey == null) {
+                context.proceed();
+                return;
+            }
+            OutputStream outputStream = context.getOutputStream();
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            context.setOutputStream(body);
+            try {
+                context.proceed();
+            } finally {
+                context.setOutputStream(outputStream);
+            }
+            byte[] bytes = body.toByteArray();
+            responseCache.put((String) cacheKey, new ResponseCache.Entry(context.getMediaType(), bytes));
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.coner.core.resource;
+
+import java.io.IOException;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+
+import org.coner.core.domain.service.EventEntityService;
+import org.coner.core.domain.service.exception.EntityNotFoundException;
+import org.coner.core.feed.EventFeed;
+import org.coner.core.util.swagger.ApiTagConstants;
+import org.eclipse.jetty.http.HttpStatus;
+import org.glassfish.jersey.media.sse.EventOutput;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.hibernate.FlushMode;
+
+import com.codahale.metrics.annotation.Timed;
+import io.dropwizard.hibernate.UnitOfWork;
+import io.dropwizard.jersey.errors.ErrorMessage;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+
+@Path("/events/{eventId}/feed")
+@Produces(SseFeature.SERVER_SENT_EVENTS)
+@Api(tags = {ApiTagConstants.EVENTS, ApiTagConstants.RUNS, ApiTagConstants.RESULTS})
+public class EventFeedResource {
+
+    private final EventEntityService eventEntityService;
+    private final EventFeed eventFeed;
+
+    @Inject
+    public EventFeedResource(
+            EventEntityService eventEntityService,
+            EventFeed eventFeed
+    ) {
+        this.eventEntityService = eventEntityService;
+        this.eventFeed = eventFeed;
+    }
+
+    @GET
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ApiOperation(
+            value = "Subscribe to server-sent events of runs and results changing at an event",
+            notes = "Events are named " + EventFeed.RUN_ADDED + " and " + EventFeed.RAW_TIME_ASSIGNED + " with a Run, "
+                    + EventFeed.REGISTRATION_RESULTS_CHANGED + " with the results of a registration, and "
+                    + EventFeed.RESET + " when changes since the given Last-Event-ID are no longer held. Subscribe "
+                    + "before getting the runs and results, then apply changes to them, and get them again on "
+                    + EventFeed.RESET + ". Registration results changes are only sent "
+                    + "once the event's results have been got since the service started."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    code = HttpStatus.OK_200,
+                    message = "Success"
+            ),
+            @ApiResponse(
+                    code = HttpStatus.NOT_FOUND_404,
+                    message = "No event with given ID",
+                    response = ErrorMessage.class
+            )
+    })
+    public EventOutput getEventFeed(
+            @PathParam("eventId") @ApiParam(value = "Event ID", required = true) String eventId,
+            @HeaderParam(SseFeature.LAST_EVENT_ID_HEADER)
+            @ApiParam(value = "ID of the last event received, to resume after") String lastEventId
+    ) throws EntityNotFoundException, IOException {
+        eventEntityService.getById(eventId);
+        EventOutput eventOutput = new EventOutput();
+        eventFeed.subscribe(eventId, lastEventId, eventOutput);
+        return eventOutput;
+    }
+}
@@ -1,7 +1,5 @@
 package org.coner.core.resource;
 
-import java.util.List;
-
 import javax.inject.Inject;
 import javax.validation.Valid;
 import javax.ws.rs.Consumes;
@@ -19,15 +17,20 @@ import org.coner.core.api.request.AddRegistrationRequest;
 import org.coner.core.api.response.GetEventRegistrationsResponse;
 import org.coner.core.domain.entity.Registration;
 import org.coner.core.domain.payload.RegistrationAddPayload;
+import org.coner.core.domain.service.EventEntityService;
 import org.coner.core.domain.service.EventRegistrationService;
 import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.domain.service.exception.EntityMismatchException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
+import org.coner.core.hibernate.dao.ApiEntityProjectionDao;
 import org.coner.core.mapper.RegistrationMapper;
+import org.coner.core.util.ConerMediaType;
 import org.coner.core.util.swagger.ApiResponseConstants;
 import org.coner.core.util.swagger.ApiTagConstants;
 import org.eclipse.jetty.http.HttpStatus;
+import org.hibernate.FlushMode;
 
+import com.codahale.metrics.annotation.Timed;
 import io.dropwizard.hibernate.UnitOfWork;
 import io.dropwizard.jersey.errors.ErrorMessage;
 import io.dropwizard.jersey.validation.ValidationErrorMessage;
@@ -39,25 +42,37 @@ import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.ResponseHeader;
 
 @Path("/events/{eventId}/registrations")
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({
+        MediaType.APPLICATION_JSON,
+        ConerMediaType.APPLICATION_SMILE_PRODUCED,
+        ConerMediaType.APPLICATION_CBOR_PRODUCED
+})
+@Consumes({ MediaType.APPLICATION_JSON, ConerMediaType.APPLICATION_SMILE, ConerMediaType.APPLICATION_CBOR })
 @Api(tags = {ApiTagConstants.EVENTS, ApiTagConstants.REGISTRATIONS})
 public class EventRegistrationsResource {
 
     private final EventRegistrationService eventRegistrationService;
+    private final EventEntityService eventEntityService;
+    private final ApiEntityProjectionDao apiEntityProjectionDao;
     private final RegistrationMapper registrationMapper;
 
     @Inject
     public EventRegistrationsResource(
             EventRegistrationService eventRegistrationService,
+            EventEntityService eventEntityService,
+            ApiEntityProjectionDao apiEntityProjectionDao,
             RegistrationMapper registrationMapper
     ) {
         this.eventRegistrationService = eventRegistrationService;
+        this.eventEntityService = eventEntityService;
+        this.apiEntityProjectionDao = apiEntityProjectionDao;
         this.registrationMapper = registrationMapper;
     }
 
     @GET
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.EVENT)
     @ApiOperation(
             value = "Get a list of all registrations at an event",
             response = GetEventRegistrationsResponse.class
@@ -77,13 +92,14 @@ public class EventRegistrationsResource {
     public GetEventRegistrationsResponse getEventRegistrations(
             @PathParam("eventId") @ApiParam(value = "Event ID", required = true) String eventId
     ) throws EntityNotFoundException {
-        List<Registration> domainEntities = eventRegistrationService.getAllWithEventId(eventId);
+        eventEntityService.getById(eventId);
         GetEventRegistrationsResponse response = new GetEventRegistrationsResponse();
-        response.setEntities(registrationMapper.toApiEntityList(domainEntities));
+        response.setEntities(apiEntityProjectionDao.getRegistrationsAt(eventId));
         return response;
     }
 
     @POST
+    @Timed
     @UnitOfWork
     @ApiOperation(value = "Add a new registration")
     @ApiResponses({
@@ -123,7 +139,9 @@ public class EventRegistrationsResource {
 
     @GET
     @Path("/{registrationId}")
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.EVENT)
     @ApiOperation(value = "Get a specific registration")
     @ApiResponses({
             @ApiResponse(code = HttpStatus.OK_200, response = RegistrationApiEntity.class, message = "OK"),
@@ -6,20 +6,33 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import org.coner.core.api.response.GetEventResultsRegistrationResponse;
+import org.coner.core.api.response.GetEventResultsResponse;
+import org.coner.core.domain.entity.Event;
 import org.coner.core.domain.entity.Registration;
+import org.coner.core.domain.payload.GetEventResultsPayload;
 import org.coner.core.domain.payload.GetRegistrationResultsPayload;
+import org.coner.core.domain.service.EventEntityService;
 import org.coner.core.domain.service.EventRegistrationService;
 import org.coner.core.domain.service.ResultsService;
 import org.coner.core.domain.service.exception.EntityMismatchException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
+import org.coner.core.feed.ResultsLongPoll;
+import org.coner.core.hibernate.ReadOnlyUnitOfWork;
 import org.coner.core.mapper.ResultsMapper;
+import org.coner.core.util.ConerMediaType;
 import org.coner.core.util.swagger.ApiTagConstants;
 import org.eclipse.jetty.http.HttpStatus;
+import org.hibernate.FlushMode;
 
+import com.codahale.metrics.annotation.Timed;
 import io.dropwizard.hibernate.UnitOfWork;
+import io.dropwizard.jersey.errors.ErrorMessage;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -27,30 +40,83 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 
 @Path("/events/{eventId}/results")
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({
+        MediaType.APPLICATION_JSON,
+        ConerMediaType.APPLICATION_SMILE_PRODUCED,
+        ConerMediaType.APPLICATION_CBOR_PRODUCED
+})
+@Consumes({ MediaType.APPLICATION_JSON, ConerMediaType.APPLICATION_SMILE, ConerMediaType.APPLICATION_CBOR })
 @Api(tags = {ApiTagConstants.EVENTS, ApiTagConstants.RESULTS})
 public class EventResultsResource {
 
+    private final EventEntityService eventEntityService;
     private final EventRegistrationService eventRegistrationService;
     private final ResultsService resultsService;
     private final ResultsMapper resultsMapper;
+    private final ReadOnlyUnitOfWork readOnlyUnitOfWork;
+    private final ResultsLongPoll resultsLongPoll;
 
 
     @Inject
     public EventResultsResource(
+            EventEntityService eventEntityService,
             EventRegistrationService eventRegistrationService,
             ResultsService resultsService,
-            ResultsMapper resultsMapper
+            ResultsMapper resultsMapper,
+            ReadOnlyUnitOfWork readOnlyUnitOfWork,
+            ResultsLongPoll resultsLongPoll
     ) {
+        this.eventEntityService = eventEntityService;
         this.eventRegistrationService = eventRegistrationService;
         this.resultsService = resultsService;
         this.resultsMapper = resultsMapper;
+        this.readOnlyUnitOfWork = readOnlyUnitOfWork;
+        this.resultsLongPoll = resultsLongPoll;
+    }
+
+    /**
+     * Not a {@code @UnitOfWork}, whose session would stay open while the response is suspended, but reads in units of
+     * work of its own instead.
+     */
+    @GET
+    @Timed
+    @ApiOperation(
+            value = "Get overall and competition group standings of all registrations at an event",
+            notes = "Given sinceVersion, the version of results held by the client, waits for the results to change "
+                    + "from that version before responding, or responds with the unchanged results if they don't "
+                    + "change within " + ResultsLongPoll.TIMEOUT_SECONDS + " seconds. Versions are only meaningful to "
+                    + "the running service, so results of any other version are returned immediately.",
+            response = GetEventResultsResponse.class
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    code = HttpStatus.OK_200,
+                    message = "Success",
+                    response = GetEventResultsResponse.class
+            ),
+            @ApiResponse(
+                    code = HttpStatus.NOT_FOUND_404,
+                    message = "No event with given ID",
+                    response = ErrorMessage.class
+            )
+    })
+    public void getEventResults(
+            @PathParam("eventId") @ApiParam(value = "Event ID", required = true) String eventId,
+            @QueryParam("sinceVersion") @ApiParam(value = "Version of results held by the client") Long sinceVersion,
+            @Suspended AsyncResponse asyncResponse
+    ) throws EntityNotFoundException {
+        Event event = readOnlyUnitOfWork.call(() -> eventEntityService.getById(eventId));
+        if (sinceVersion != null && sinceVersion == resultsService.getVersion(event)) {
+            resultsLongPoll.await(event, sinceVersion, asyncResponse, () -> getEventResults(event));
+            return;
+        }
+        asyncResponse.resume(getEventResults(event));
     }
 
     @GET
     @Path("/registration/{registrationId}")
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
     @ApiOperation(
             value = "Get results for a registration at an event",
             response = GetEventResultsRegistrationResponse.class
@@ -67,8 +133,19 @@ public class EventResultsResource {
             @PathParam("registrationId") @ApiParam(value = "Registration ID", required = true) String registrationId
     ) throws EntityNotFoundException, EntityMismatchException {
         Registration registration = eventRegistrationService.getByEventIdAndRegistrationId(eventId, registrationId);
-        GetRegistrationResultsPayload payload = resultsService.getResultsFor(registration);
+        GetRegistrationResultsPayload payload = resultsService.getStandingFor(registration);
         GetEventResultsRegistrationResponse response = resultsMapper.toApiResponse(payload);
         return response;
     }
+
+    private GetEventResultsResponse getEventResults(Event event) {
+        return readOnlyUnitOfWork.call(() -> {
+            // taken first, so a change racing with the read is at worst reported again
+            long version = resultsService.getVersion(event);
+            GetEventResultsPayload payload = resultsService.getResultsFor(event);
+            GetEventResultsResponse response = resultsMapper.toApiResponse(payload);
+            response.setVersion(version);
+            return response;
+        });
+    }
 }
@@ -1,36 +1,53 @@
 package org.coner.core.resource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import javax.inject.Inject;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
 
 import org.coner.core.api.entity.RunApiEntity;
 import org.coner.core.api.request.AddRawTimeToFirstRunLackingRequest;
+import org.coner.core.api.request.AddRawTimesToFirstRunsLackingRequest;
 import org.coner.core.api.request.AddRunRequest;
+import org.coner.core.api.response.AddRawTimesResponse;
 import org.coner.core.api.response.GetEventRunsResponse;
 import org.coner.core.domain.entity.Run;
 import org.coner.core.domain.payload.RunAddPayload;
 import org.coner.core.domain.payload.RunAddTimePayload;
+import org.coner.core.domain.payload.RunAddTimesPayload;
 import org.coner.core.domain.payload.RunTimeAddedPayload;
+import org.coner.core.domain.service.EventEntityService;
 import org.coner.core.domain.service.RunEntityService;
 import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.domain.service.exception.EntityMismatchException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
+import org.coner.core.hibernate.dao.ApiEntityProjectionDao;
 import org.coner.core.mapper.RunMapper;
+import org.coner.core.util.ConerMediaType;
 import org.coner.core.util.swagger.ApiResponseConstants;
 import org.coner.core.util.swagger.ApiTagConstants;
 import org.eclipse.jetty.http.HttpStatus;
+import org.hibernate.FlushMode;
 
+import com.codahale.metrics.annotation.Timed;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.hibernate.UnitOfWork;
 import io.dropwizard.jersey.errors.ErrorMessage;
 import io.dropwizard.jersey.validation.ValidationErrorMessage;
@@ -42,21 +59,41 @@ import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.ResponseHeader;
 
 @Path("/events/{eventId}/runs")
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({
+        MediaType.APPLICATION_JSON,
+        ConerMediaType.APPLICATION_SMILE_PRODUCED,
+        ConerMediaType.APPLICATION_CBOR_PRODUCED
+})
+@Consumes({ MediaType.APPLICATION_JSON, ConerMediaType.APPLICATION_SMILE, ConerMediaType.APPLICATION_CBOR })
 @Api(tags = {ApiTagConstants.EVENTS, ApiTagConstants.RUNS})
 public class EventRunsResource {
 
+    static final int DEFAULT_PAGE_LIMIT = 100;
+    static final int MAX_PAGE_LIMIT = 1000;
+
     private final RunEntityService runEntityService;
+    private final EventEntityService eventEntityService;
+    private final ApiEntityProjectionDao apiEntityProjectionDao;
     private final RunMapper runMapper;
+    private final ObjectMapper objectMapper;
 
     @Inject
-    public EventRunsResource(RunEntityService runEntityService, RunMapper runMapper) {
+    public EventRunsResource(
+            RunEntityService runEntityService,
+            EventEntityService eventEntityService,
+            ApiEntityProjectionDao apiEntityProjectionDao,
+            RunMapper runMapper,
+            ObjectMapper objectMapper
+    ) {
         this.runEntityService = runEntityService;
+        this.eventEntityService = eventEntityService;
+        this.apiEntityProjectionDao = apiEntityProjectionDao;
         this.runMapper = runMapper;
+        this.objectMapper = objectMapper;
     }
 
     @POST
+    @Timed
     @UnitOfWork
     @ApiOperation(value = "Add a new run")
     @ApiResponses({
@@ -96,6 +133,7 @@ public class EventRunsResource {
 
     @POST
     @Path("/rawTimes")
+    @Timed
     @UnitOfWork
     @ApiOperation(
             value = "Add a raw time to the first run in sequence lacking one, "
@@ -143,21 +181,63 @@ public class EventRunsResource {
         RunApiEntity run = runMapper.toApiEntity(outPayload.getRun());
         switch (outPayload.getOutcome()) {
             case RUN_RAWTIME_ASSIGNED_TO_EXISTING:
-                return Response.ok(run, MediaType.APPLICATION_JSON).build();
+                return Response.ok(run).build();
             case RUN_ADDED_WITH_RAWTIME:
                 return Response.created(UriBuilder.fromPath("/events/{eventId}/runs/{runId}")
                                                 .build(eventId, run.getId()))
                         .entity(run)
-                        .type(MediaType.APPLICATION_JSON)
                         .build();
             default:
                 throw new RuntimeException("Unknown outcome: " + outPayload.getOutcome());
         }
     }
 
+    @POST
+    @Path("/rawTimes/batch")
+    @Timed
+    @UnitOfWork
+    @ApiOperation(
+            value = "Add raw times in order to successive runs in sequence lacking one, creating new runs "
+                    + "on-the-fly for any raw times left over, all in a single transaction",
+            notes = "Intended for replaying raw times buffered by the timing computer, such as after an outage of "
+                    + "its link to this service. Each item of the response mirrors the outcome of adding its raw "
+                    + "time alone."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    code = HttpStatus.OK_200,
+                    message = "Added all raw times",
+                    response = AddRawTimesResponse.class
+            ),
+            @ApiResponse(
+                    code = HttpStatus.NOT_FOUND_404,
+                    response = ErrorMessage.class,
+                    message = "No event with given ID"
+            ),
+            @ApiResponse(
+                    code = HttpStatus.UNPROCESSABLE_ENTITY_422,
+                    response = ValidationErrorMessage.class,
+                    message = "Failed validation"
+            )
+    })
+    public AddRawTimesResponse addRawTimesToFirstRunsInSequenceLackingOne(
+            @PathParam("eventId") @ApiParam(value = "Event ID", required = true) String eventId,
+            @Valid @NotNull @ApiParam(value = "Times", required = true) AddRawTimesToFirstRunsLackingRequest request
+    ) throws AddEntityException, EntityNotFoundException {
+        RunAddTimesPayload inPayload = runMapper.toDomainAddTimesPayload(request, eventId);
+        List<RunTimeAddedPayload> outPayloads = runEntityService.addTimesToFirstRunsInSequenceWithoutRawTime(
+                inPayload
+        );
+        AddRawTimesResponse response = new AddRawTimesResponse();
+        response.setItems(runMapper.toApiAddRawTimesResponseItemList(outPayloads));
+        return response;
+    }
+
     @GET
     @Path("/{runId}")
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.EVENT)
     @ApiOperation(value = "Get a specific run")
     @ApiResponses({
             @ApiResponse(code = HttpStatus.OK_200, response = RunApiEntity.class, message = "OK"),
@@ -177,9 +257,14 @@ public class EventRunsResource {
     }
 
     @GET
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.EVENT)
+    @CacheResponse
     @ApiOperation(
-            value = "Get a list of all runs at an event",
+            value = "Get a list of all runs at an event, or a page of them in sequence order",
+            notes = "Runs are paged when either afterSequence or limit is given. To get the next page, pass the "
+                    + "sequence of the last run of the previous page as afterSequence. An empty page is the end.",
             response = GetEventRunsResponse.class
     )
     @ApiResponses({
@@ -192,12 +277,113 @@ public class EventRunsResource {
                     code = HttpStatus.NOT_FOUND_404,
                     message = "No event with given ID",
                     response = ErrorMessage.class
+            ),
+            @ApiResponse(
+                    code = HttpStatus.BAD_REQUEST_400,
+                    message = "Invalid afterSequence or limit",
+                    response = ValidationErrorMessage.class
             )
     })
     public GetEventRunsResponse getEventRuns(
+            @PathParam("eventId") @ApiParam(value = "Event ID", required = true) String eventId,
+            @QueryParam("afterSequence") @Min(0)
+            @ApiParam(value = "Get runs with a sequence greater than this") Integer afterSequence,
+            @QueryParam("limit") @Min(1) @Max(MAX_PAGE_LIMIT)
+            @ApiParam(value = "Maximum number of runs to get, default " + DEFAULT_PAGE_LIMIT) Integer limit
+    ) throws EntityNotFoundException {
+        eventEntityService.getById(eventId);
+        List<RunApiEntity> runs;
+        if (afterSequence == null && limit == null) {
+            runs = apiEntityProjectionDao.getRunsAt(eventId);
+        } else {
+            runs = apiEntityProjectionDao.getRunsAt(
+                    eventId,
+                    afterSequence != null ? afterSequence : 0,
+                    limit != null ? limit : DEFAULT_PAGE_LIMIT
+            );
+        }
+        GetEventRunsResponse response = new GetEventRunsResponse();
+        response.setEntities(runs);
+        return response;
+    }
+
+    @GET
+    @Path("/stream")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.EVENT)
+    @ApiOperation(
+            value = "Get a list of all runs at an event in sequence order, streamed as they are read",
+            notes = "The response body has the same form as getting all runs, but it is written while the runs are "
+                    + "read from the database, so memory use doesn't grow with the number of runs at the event. "
+                    + "It is only produced as JSON.",
+            response = GetEventRunsResponse.class
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    code = HttpStatus.OK_200,
+                    message = "Success",
+                    response = GetEventRunsResponse.class
+            ),
+            @ApiResponse(
+                    code = HttpStatus.NOT_FOUND_404,
+                    message = "No event with given ID",
+                    response = ErrorMessage.class
+            )
+    })
+    public Response streamEventRuns(
+            @PathParam("eventId") @ApiParam(value = "Event ID", required = true) String eventId
+    ) throws EntityNotFoundException {
+        RunEntityService.RunStream runs = runEntityService.streamAllWithEventId(eventId);
+        StreamingOutput output = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("entities");
+                try {
+                    runs.forEach(run -> {
+                        try {
+                            generator.writeObject(runMapper.toApiEntity(run));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return Response.ok(output, MediaType.APPLICATION_JSON).build();
+    }
+
+    @GET
+    @Path("/onCourse")
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.EVENT)
+    @ApiOperation(
+            value = "Get a list of the runs at an event which lack a raw time, in sequence order: "
+                    + "the cars on course",
+            response = GetEventRunsResponse.class
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    code = HttpStatus.OK_200,
+                    message = "Success",
+                    response = GetEventRunsResponse.class
+            ),
+            @ApiResponse(
+                    code = HttpStatus.NOT_FOUND_404,
+                    message = "No event with given ID",
+                    response = ErrorMessage.class
+            )
+    })
+    public GetEventRunsResponse getEventRunsOnCourse(
             @PathParam("eventId") @ApiParam(value = "Event ID", required = true) String eventId
     ) throws EntityNotFoundException {
-        List<Run> domainEntities = runEntityService.getAllWithEventId(eventId);
+        List<Run> domainEntities = runEntityService.getPendingWithEventId(eventId);
         GetEventRunsResponse response = new GetEventRunsResponse();
         response.setEntities(runMapper.toApiEntityList(domainEntities));
         return response;
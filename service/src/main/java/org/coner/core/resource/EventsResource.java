@@ -23,10 +23,13 @@ import org.coner.core.domain.service.EventEntityService;
 import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
 import org.coner.core.mapper.EventMapper;
+import org.coner.core.util.ConerMediaType;
 import org.coner.core.util.swagger.ApiResponseConstants;
 import org.coner.core.util.swagger.ApiTagConstants;
 import org.eclipse.jetty.http.HttpStatus;
+import org.hibernate.FlushMode;
 
+import com.codahale.metrics.annotation.Timed;
 import io.dropwizard.hibernate.UnitOfWork;
 import io.dropwizard.jersey.errors.ErrorMessage;
 import io.dropwizard.jersey.validation.ValidationErrorMessage;
@@ -38,8 +41,12 @@ import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.ResponseHeader;
 
 @Path("/events")
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({
+        MediaType.APPLICATION_JSON,
+        ConerMediaType.APPLICATION_SMILE_PRODUCED,
+        ConerMediaType.APPLICATION_CBOR_PRODUCED
+})
+@Consumes({ MediaType.APPLICATION_JSON, ConerMediaType.APPLICATION_SMILE, ConerMediaType.APPLICATION_CBOR })
 @Api(tags = ApiTagConstants.EVENTS)
 public class EventsResource {
 
@@ -56,7 +63,10 @@ public class EventsResource {
     }
 
     @GET
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.EVENTS)
+    @CacheResponse
     @ApiOperation(value = "Get a list of all events", response = GetEventsResponse.class)
     public GetEventsResponse getEvents() {
         List<Event> domainEvents = eventEntityService.getAll();
@@ -66,6 +76,7 @@ public class EventsResource {
     }
 
     @POST
+    @Timed
     @UnitOfWork
     @ApiOperation(value = "Add an Event", response = Response.class)
     @ApiResponses({
@@ -99,7 +110,9 @@ public class EventsResource {
 
     @GET
     @Path("/{eventId}")
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.EVENTS)
     @ApiOperation(value = "Get an Event")
     @ApiResponses({
             @ApiResponse(code = HttpStatus.OK_200, response = EventApiEntity.class, message = "OK"),
@@ -26,10 +26,13 @@ import org.coner.core.domain.service.HandicapGroupSetService;
 import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
 import org.coner.core.mapper.HandicapGroupSetMapper;
+import org.coner.core.util.ConerMediaType;
 import org.coner.core.util.swagger.ApiResponseConstants;
 import org.coner.core.util.swagger.ApiTagConstants;
 import org.eclipse.jetty.http.HttpStatus;
+import org.hibernate.FlushMode;
 
+import com.codahale.metrics.annotation.Timed;
 import io.dropwizard.hibernate.UnitOfWork;
 import io.dropwizard.jersey.errors.ErrorMessage;
 import io.dropwizard.jersey.validation.ValidationErrorMessage;
@@ -41,8 +44,12 @@ import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.ResponseHeader;
 
 @Path("/handicapGroups/sets")
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({
+        MediaType.APPLICATION_JSON,
+        ConerMediaType.APPLICATION_SMILE_PRODUCED,
+        ConerMediaType.APPLICATION_CBOR_PRODUCED
+})
+@Consumes({ MediaType.APPLICATION_JSON, ConerMediaType.APPLICATION_SMILE, ConerMediaType.APPLICATION_CBOR })
 @Api(tags = ApiTagConstants.HANDICAP_GROUPS)
 public class HandicapGroupSetsResource {
 
@@ -61,6 +68,7 @@ public class HandicapGroupSetsResource {
     }
 
     @POST
+    @Timed
     @UnitOfWork
     @ApiOperation(
             value = "Add a new Handicap Group Set",
@@ -96,7 +104,10 @@ public class HandicapGroupSetsResource {
     }
 
     @GET
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.GROUPS)
+    @CacheResponse
     @ApiOperation(value = "Get all Handicap Group Sets", response = GetHandicapGroupSetsResponse.class)
     public GetHandicapGroupSetsResponse getHandicapGroupSets() {
         List<HandicapGroupSet> domainHandicapGroupSets = handicapGroupSetService.getAll();
@@ -107,7 +118,9 @@ public class HandicapGroupSetsResource {
 
     @GET
     @Path("/{handicapGroupSetId}")
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.GROUPS)
     @ApiOperation(value = "Get a Handicap Group Set", response = HandicapGroupSetApiEntity.class)
     @ApiResponses({
             @ApiResponse(code = HttpStatus.OK_200, response = HandicapGroupSetApiEntity.class, message = "OK"),
@@ -123,6 +136,7 @@ public class HandicapGroupSetsResource {
 
     @POST
     @Path("/{handicapGroupSetId}/handicapGroups/{handicapGroupId}")
+    @Timed
     @UnitOfWork
     @ApiOperation(value = "Add a Handicap Group to a Handicap Group Set", response = HandicapGroupSetApiEntity.class)
     @ApiResponses({
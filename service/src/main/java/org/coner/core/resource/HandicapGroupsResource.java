@@ -23,10 +23,13 @@ import org.coner.core.domain.service.HandicapGroupEntityService;
 import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
 import org.coner.core.mapper.HandicapGroupMapper;
+import org.coner.core.util.ConerMediaType;
 import org.coner.core.util.swagger.ApiResponseConstants;
 import org.coner.core.util.swagger.ApiTagConstants;
 import org.eclipse.jetty.http.HttpStatus;
+import org.hibernate.FlushMode;
 
+import com.codahale.metrics.annotation.Timed;
 import io.dropwizard.hibernate.UnitOfWork;
 import io.dropwizard.jersey.errors.ErrorMessage;
 import io.dropwizard.jersey.validation.ValidationErrorMessage;
@@ -38,8 +41,12 @@ import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.ResponseHeader;
 
 @Path("/handicapGroups")
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({
+        MediaType.APPLICATION_JSON,
+        ConerMediaType.APPLICATION_SMILE_PRODUCED,
+        ConerMediaType.APPLICATION_CBOR_PRODUCED
+})
+@Consumes({ MediaType.APPLICATION_JSON, ConerMediaType.APPLICATION_SMILE, ConerMediaType.APPLICATION_CBOR })
 @Api(tags = ApiTagConstants.HANDICAP_GROUPS)
 public class HandicapGroupsResource {
 
@@ -56,6 +63,7 @@ public class HandicapGroupsResource {
     }
 
     @POST
+    @Timed
     @UnitOfWork
     @ApiOperation(value = "Add a Handicap Group")
     @ApiResponses({
@@ -88,7 +96,9 @@ public class HandicapGroupsResource {
     }
 
     @GET
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.GROUPS)
     @ApiOperation(value = "Get all Handicap Groups", response = GetHandicapGroupsResponse.class)
     public GetHandicapGroupsResponse getHandicapGroups() {
         List<HandicapGroup> domainHandicapGroups = handicapGroupEntityService.getAll();
@@ -99,7 +109,9 @@ public class HandicapGroupsResource {
 
     @GET
     @Path("/{handicapGroupId}")
-    @UnitOfWork
+    @Timed
+    @UnitOfWork(readOnly = true, flushMode = FlushMode.MANUAL)
+    @ChangeVersioned(ChangeVersioned.Scope.GROUPS)
     @ApiOperation(value = "Get a Handicap Group", response = HandicapGroupApiEntity.class)
     @ApiResponses({
             @ApiResponse(code = HttpStatus.OK_200, response = HandicapGroupApiEntity.class, message = "OK"),
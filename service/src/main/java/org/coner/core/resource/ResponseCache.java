@@ -0,0 +1,81 @@
+package org.coner.core.resource;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.core.MediaType;
+
+import org.coner.core.ResponseCacheConfiguration;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Serialized responses, bounded by their total size in bytes.
+ *
+ * <p>Keys begin with the tag of the version the response was read at, so writes leave nothing to invalidate: the next
+ * request after a write looks for a key of the new version, and responses of old versions are never read again and
+ * age out.</p>
+ */
+@Singleton
+public class ResponseCache {
+
+    private final boolean enabled;
+    private final Cache<String, Entry> cache;
+    private final Meter hits;
+    private final Meter misses;
+
+    @Inject
+    public ResponseCache(ResponseCacheConfiguration configuration, MetricRegistry metricRegistry) {
+        this.enabled = configuration.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(configuration.getMaximumSize().toBytes())
+                .weigher((String key, Entry entry) -> key.length() + entry.getBody().length)
+                .expireAfterAccess(configuration.getExpireAfterAccess().toNanoseconds(), TimeUnit.NANOSECONDS)
+                .build();
+        this.hits = metricRegistry.meter(MetricRegistry.name(ResponseCache.class, "hits"));
+        this.misses = metricRegistry.meter(MetricRegistry.name(ResponseCache.class, "misses"));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get a cached response.
+     *
+     * @param key the key of the response
+     * @return the response, or null if it isn't cached
+     */
+    public Entry get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        (entry != null ? hits : misses).mark();
+        return entry;
+    }
+
+    public void put(String key, Entry entry) {
+        cache.put(key, entry);
+    }
+
+    public static final class Entry {
+
+        private final MediaType mediaType;
+        private final byte[] body;
+
+        public Entry(MediaType mediaType, byte[] body) {
+            this.mediaType = mediaType;
+            this.body = body;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.coner.core.task;
+
+import java.io.PrintWriter;
+
+import javax.inject.Inject;
+
+import org.coner.core.domain.service.ChangeVersions;
+import org.hibernate.SessionFactory;
+
+import com.google.common.collect.ImmutableMultimap;
+import io.dropwizard.servlets.tasks.Task;
+
+/**
+ * Empties the second-level cache of handicap and competition groups and their sets, and changes the ETags of all
+ * responses so clients fetch them again. Writes through the app keep both current on their own, so this is only
+ * needed after editing tables directly in the database.
+ *
+ * <p>Example: {@code POST /tasks/evict-second-level-cache}</p>
+ */
+public class EvictSecondLevelCacheTask extends Task {
+
+    static final String NAME = "evict-second-level-cache";
+
+    private final SessionFactory sessionFactory;
+    private final ChangeVersions changeVersions;
+
+    @Inject
+    public EvictSecondLevelCacheTask(SessionFactory sessionFactory, ChangeVersions changeVersions) {
+        super(NAME);
+        this.sessionFactory = sessionFactory;
+        this.changeVersions = changeVersions;
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        sessionFactory.getCache().evictAllRegions();
+        changeVersions.bumpAll();
+        output.println("Evicted all second-level cache regions and changed all ETags");
+    }
+}
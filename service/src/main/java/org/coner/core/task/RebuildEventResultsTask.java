@@ -0,0 +1,68 @@
+package org.coner.core.task;
+
+import java.io.PrintWriter;
+
+import javax.inject.Inject;
+
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.service.EventEntityService;
+import org.coner.core.domain.service.ResultsService;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.context.internal.ManagedSessionContext;
+
+import com.google.common.collect.ImmutableMultimap;
+import io.dropwizard.servlets.tasks.Task;
+
+/**
+ * Checks the in-memory standings of events against a recompute from the database, then rebuilds them. Use after
+ * correcting runs directly in the database.
+ *
+ * <p>Example: {@code POST /tasks/rebuild-event-results?eventId=...}</p>
+ */
+public class RebuildEventResultsTask extends Task {
+
+    static final String NAME = "rebuild-event-results";
+    static final String PARAMETER_EVENT_ID = "eventId";
+
+    private final SessionFactory sessionFactory;
+    private final EventEntityService eventEntityService;
+    private final ResultsService resultsService;
+
+    @Inject
+    public RebuildEventResultsTask(
+            SessionFactory sessionFactory,
+            EventEntityService eventEntityService,
+            ResultsService resultsService
+    ) {
+        super(NAME);
+        this.sessionFactory = sessionFactory;
+        this.eventEntityService = eventEntityService;
+        this.resultsService = resultsService;
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        for (String eventId : parameters.get(PARAMETER_EVENT_ID)) {
+            Session session = sessionFactory.openSession();
+            try {
+                ManagedSessionContext.bind(session);
+                Transaction transaction = session.beginTransaction();
+                try {
+                    Event event = eventEntityService.getById(eventId);
+                    boolean consistent = resultsService.isConsistent(event);
+                    resultsService.rebuildResultsFor(event);
+                    transaction.commit();
+                    output.printf("%s: %s, rebuilt%n", eventId, consistent ? "consistent" : "inconsistent");
+                } catch (Exception e) {
+                    transaction.rollback();
+                    throw e;
+                }
+            } finally {
+                ManagedSessionContext.unbind(sessionFactory);
+                session.close();
+            }
+        }
+    }
+}
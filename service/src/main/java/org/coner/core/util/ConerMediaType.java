@@ -0,0 +1,34 @@
+package org.coner.core.util;
+
+import javax.ws.rs.core.MediaType;
+
+import com.fasterxml.jackson.jaxrs.cbor.CBORMediaTypes;
+import com.fasterxml.jackson.jaxrs.smile.SmileMediaTypes;
+
+/**
+ * Media types of the binary encodings of JSON which resources produce and consume alongside JSON itself.
+ *
+ * <p>Resources produce them at a lower source quality than JSON, so clients which accept any type are answered with
+ * JSON, and only those which ask for Smile or CBOR get it.</p>
+ */
+public final class ConerMediaType {
+
+    public static final String APPLICATION_SMILE = SmileMediaTypes.APPLICATION_JACKSON_SMILE;
+    public static final MediaType APPLICATION_SMILE_TYPE = SmileMediaTypes.APPLICATION_JACKSON_SMILE_TYPE;
+    public static final String APPLICATION_CBOR = CBORMediaTypes.APPLICATION_JACKSON_CBOR;
+    public static final MediaType APPLICATION_CBOR_TYPE = CBORMediaTypes.APPLICATION_JACKSON_CBOR_TYPE;
+
+    /**
+     * Smile, as produced by resources.
+     */
+    public static final String APPLICATION_SMILE_PRODUCED = APPLICATION_SMILE + ";qs=0.9";
+
+    /**
+     * CBOR, as produced by resources.
+     */
+    public static final String APPLICATION_CBOR_PRODUCED = APPLICATION_CBOR + ";qs=0.9";
+
+    private ConerMediaType() {
+        // no-op
+    }
+}
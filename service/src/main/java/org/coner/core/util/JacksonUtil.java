@@ -1,7 +1,9 @@
 package org.coner.core.util;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import io.dropwizard.jackson.Jackson;
 
 /**
  * Jackson related utility class.
@@ -21,4 +23,17 @@ public final class JacksonUtil {
     public static void configureObjectMapper(ObjectMapper objectMapper) {
         objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
     }
+
+    /**
+     * Create a jackson databind object mapper for another encoding than JSON, configured as Dropwizard and
+     * {@link #configureObjectMapper(ObjectMapper)} configure the one for JSON.
+     *
+     * @param jsonFactory factory of the encoding, such as Smile or CBOR
+     * @return the configured mapper
+     */
+    public static ObjectMapper newObjectMapper(JsonFactory jsonFactory) {
+        ObjectMapper objectMapper = Jackson.newObjectMapper(jsonFactory);
+        configureObjectMapper(objectMapper);
+        return objectMapper;
+    }
 }
@@ -13,6 +13,10 @@ import java.util.Arrays;
 import org.coner.core.dagger.DaggerMockitoJerseyRegistrationComponent;
 import org.coner.core.dagger.JerseyRegistrationComponent;
 import org.coner.core.dagger.MockitoJerseyRegistrationModule;
+import org.coner.core.health.DatabaseHealthCheck;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -21,11 +25,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.health.HealthCheckRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import io.dropwizard.db.DataSourceFactory;
 import io.dropwizard.hibernate.HibernateBundle;
 import io.dropwizard.jersey.setup.JerseyEnvironment;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.setup.AdminEnvironment;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
@@ -52,6 +59,13 @@ public class ConerCoreApplicationTest {
     private JerseyEnvironment jersey;
     @Mock
     private AdminEnvironment adminEnvironment;
+    @Mock
+    private MetricRegistry metrics;
+    @Mock
+    private HealthCheckRegistry healthChecks;
+    @Mock
+    private LifecycleEnvironment lifecycle;
+    private DatabaseMonitoringConfiguration databaseMonitoring;
 
     @InjectMocks
     private ConerCoreApplication application;
@@ -61,9 +75,14 @@ public class ConerCoreApplicationTest {
         // initialize method
         when(bootstrap.getObjectMapper()).thenReturn(objectMapper);
         when(config.getDataSourceFactory()).thenReturn(dataSourceFactory);
+        databaseMonitoring = new DatabaseMonitoringConfiguration();
+        when(config.getDatabaseMonitoring()).thenReturn(databaseMonitoring);
         // run method
         when(environment.jersey()).thenReturn(jersey);
         when(environment.admin()).thenReturn(adminEnvironment);
+        when(environment.metrics()).thenReturn(metrics);
+        when(environment.healthChecks()).thenReturn(healthChecks);
+        when(environment.lifecycle()).thenReturn(lifecycle);
 
         components = DaggerMockitoJerseyRegistrationComponent.builder()
                 .mockitoJerseyRegistrationModule(new MockitoJerseyRegistrationModule())
@@ -80,6 +99,28 @@ public class ConerCoreApplicationTest {
         verify(bootstrap).addBundle(application.hibernateBundle);
     }
 
+    @Test
+    public void itShouldApplyHibernateDefaults() {
+        Configuration configuration = new Configuration();
+
+        ConerCoreApplication.applyHibernateDefaults(configuration);
+
+        ConerCoreApplication.HIBERNATE_DEFAULTS.forEach((key, value) -> {
+            assertThat(configuration.getProperty(key)).isEqualTo(value);
+        });
+    }
+
+    @Test
+    public void whenDatabasePropertySetItShouldNotApplyHibernateDefault() {
+        Configuration configuration = new Configuration();
+        configuration.setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, Boolean.FALSE.toString());
+
+        ConerCoreApplication.applyHibernateDefaults(configuration);
+
+        assertThat(configuration.getProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE))
+                .isEqualTo(Boolean.FALSE.toString());
+    }
+
     @Test
     public void itShouldWriteDatesAsTimestamps() {
         application.initialize(bootstrap);
@@ -102,20 +143,87 @@ public class ConerCoreApplicationTest {
                 components.eventRegistrationsResource(),
                 components.eventRunsResource(),
                 components.eventResultsResource(),
+                components.eventFeedResource(),
                 components.handicapGroupsResource(),
                 components.handicapGroupSetsResource(),
                 components.competitionGroupsResource(),
                 components.competitionGroupSetsResource(),
                 components.domainServiceExceptionMapper(),
-                components.runtimeExceptionUnwrappingMapper()
+                components.runtimeExceptionUnwrappingMapper(),
+                components.jacksonSmileProvider(),
+                components.jacksonCborProvider(),
+                components.conditionalGetFeature()
         };
 
         application.run(config, environment);
 
         Arrays.stream(expectedComponents).forEach(o -> verify(jersey).register(o));
+        verify(jersey).register(SseFeature.class);
         verifyNoMoreInteractions(jersey);
     }
 
+    @Test
+    public void itShouldRegisterRebuildEventResultsTask() throws Exception {
+        application.run(config, environment);
+
+        verify(environment.admin()).addTask(components.rebuildEventResultsTask());
+    }
+
+    @Test
+    public void itShouldRegisterEvictSecondLevelCacheTask() throws Exception {
+        application.run(config, environment);
+
+        verify(environment.admin()).addTask(components.evictSecondLevelCacheTask());
+    }
+
+    @Test
+    public void itShouldRegisterSecondLevelCacheMetrics() throws Exception {
+        application.run(config, environment);
+
+        verify(metrics).registerAll(components.secondLevelCacheMetrics());
+    }
+
+    @Test
+    public void whenStatisticsEnabledItShouldEnableAndRegisterHibernateStatisticsMetrics() throws Exception {
+        databaseMonitoring.setStatisticsEnabled(true);
+
+        application.run(config, environment);
+
+        verify(components.hibernateStatisticsMetrics()).enableStatistics();
+        verify(metrics).registerAll(components.hibernateStatisticsMetrics());
+    }
+
+    @Test
+    public void whenStatisticsDisabledItShouldNotRegisterHibernateStatisticsMetrics() throws Exception {
+        databaseMonitoring.setStatisticsEnabled(false);
+
+        application.run(config, environment);
+
+        verify(components.hibernateStatisticsMetrics(), never()).enableStatistics();
+        verify(metrics, never()).registerAll(components.hibernateStatisticsMetrics());
+    }
+
+    @Test
+    public void itShouldRegisterDatabaseHealthCheck() throws Exception {
+        application.run(config, environment);
+
+        verify(healthChecks).register(DatabaseHealthCheck.NAME, components.databaseHealthCheck());
+    }
+
+    @Test
+    public void itShouldManageEventFeed() throws Exception {
+        application.run(config, environment);
+
+        verify(lifecycle).manage(components.eventFeed());
+    }
+
+    @Test
+    public void itShouldManageResultsLongPoll() throws Exception {
+        application.run(config, environment);
+
+        verify(lifecycle).manage(components.resultsLongPoll());
+    }
+
     @Test
     public void itShouldConsultHsqlDatabaseManagerTaskForRegistration() throws Exception {
         application.run(config, environment);
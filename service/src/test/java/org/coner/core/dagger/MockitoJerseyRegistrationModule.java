@@ -2,9 +2,16 @@ package org.coner.core.dagger;
 
 import javax.inject.Singleton;
 
+import org.coner.core.feed.EventFeed;
+import org.coner.core.feed.ResultsLongPoll;
+import org.coner.core.health.DatabaseHealthCheck;
+import org.coner.core.hibernate.cache.SecondLevelCacheMetrics;
+import org.coner.core.hibernate.stat.HibernateStatisticsMetrics;
 import org.coner.core.resource.CompetitionGroupSetsResource;
 import org.coner.core.resource.CompetitionGroupsResource;
+import org.coner.core.resource.ConditionalGetFeature;
 import org.coner.core.resource.DomainServiceExceptionMapper;
+import org.coner.core.resource.EventFeedResource;
 import org.coner.core.resource.EventRegistrationsResource;
 import org.coner.core.resource.EventResultsResource;
 import org.coner.core.resource.EventRunsResource;
@@ -12,9 +19,13 @@ import org.coner.core.resource.EventsResource;
 import org.coner.core.resource.HandicapGroupSetsResource;
 import org.coner.core.resource.HandicapGroupsResource;
 import org.coner.core.resource.RuntimeExceptionUnwrappingMapper;
+import org.coner.core.task.EvictSecondLevelCacheTask;
 import org.coner.core.task.HsqlDatabaseManagerSwingTask;
+import org.coner.core.task.RebuildEventResultsTask;
 import org.mockito.Mockito;
 
+import com.fasterxml.jackson.jaxrs.cbor.JacksonCBORProvider;
+import com.fasterxml.jackson.jaxrs.smile.JacksonSmileProvider;
 import dagger.Module;
 import dagger.Provides;
 
@@ -45,6 +56,12 @@ public class MockitoJerseyRegistrationModule {
         return Mockito.mock(EventResultsResource.class);
     }
 
+    @Provides
+    @Singleton
+    public EventFeedResource getEventFeedResource() {
+        return Mockito.mock(EventFeedResource.class);
+    }
+
     @Provides
     @Singleton
     public HandicapGroupsResource getHandicapGroupsResource() {
@@ -81,9 +98,69 @@ public class MockitoJerseyRegistrationModule {
         return Mockito.mock(RuntimeExceptionUnwrappingMapper.class);
     }
 
+    @Provides
+    @Singleton
+    public JacksonSmileProvider getJacksonSmileProvider() {
+        return Mockito.mock(JacksonSmileProvider.class);
+    }
+
+    @Provides
+    @Singleton
+    public JacksonCBORProvider getJacksonCborProvider() {
+        return Mockito.mock(JacksonCBORProvider.class);
+    }
+
+    @Provides
+    @Singleton
+    public ConditionalGetFeature getConditionalGetFeature() {
+        return Mockito.mock(ConditionalGetFeature.class);
+    }
+
     @Provides
     @Singleton
     public HsqlDatabaseManagerSwingTask getHsqlDatabaseManagerSwingTask() {
         return Mockito.mock(HsqlDatabaseManagerSwingTask.class);
     }
+
+    @Provides
+    @Singleton
+    public RebuildEventResultsTask getRebuildEventResultsTask() {
+        return Mockito.mock(RebuildEventResultsTask.class);
+    }
+
+    @Provides
+    @Singleton
+    public EvictSecondLevelCacheTask getEvictSecondLevelCacheTask() {
+        return Mockito.mock(EvictSecondLevelCacheTask.class);
+    }
+
+    @Provides
+    @Singleton
+    public SecondLevelCacheMetrics getSecondLevelCacheMetrics() {
+        return Mockito.mock(SecondLevelCacheMetrics.class);
+    }
+
+    @Provides
+    @Singleton
+    public HibernateStatisticsMetrics getHibernateStatisticsMetrics() {
+        return Mockito.mock(HibernateStatisticsMetrics.class);
+    }
+
+    @Provides
+    @Singleton
+    public DatabaseHealthCheck getDatabaseHealthCheck() {
+        return Mockito.mock(DatabaseHealthCheck.class);
+    }
+
+    @Provides
+    @Singleton
+    public EventFeed getEventFeed() {
+        return Mockito.mock(EventFeed.class);
+    }
+
+    @Provides
+    @Singleton
+    public ResultsLongPoll getResultsLongPoll() {
+        return Mockito.mock(ResultsLongPoll.class);
+    }
 }
@@ -0,0 +1,176 @@
+package org.coner.core.domain.interactor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class FixedPointScoringTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    private Random random;
+
+    @Before
+    public void setup() {
+        random = new Random(20170503L);
+    }
+
+    @Test
+    public void itShouldMatchBigDecimalRawTimeScored() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal rawTime = randomTime();
+            BigDecimal conePenaltySeconds = randomConePenaltySeconds();
+            int cones = random.nextInt(10);
+
+            BigDecimal actual = FixedPointScoring.rawTimeScored(rawTime, conePenaltySeconds, cones);
+
+            assertThat(actual)
+                    .describedAs("%s + (%s * %s)", rawTime, conePenaltySeconds, cones)
+                    .isEqualTo(referenceRawTimeScored(rawTime, conePenaltySeconds, cones));
+        }
+    }
+
+    @Test
+    public void itShouldMatchBigDecimalHandicapTime() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal time = randomTime();
+            BigDecimal handicapGroupFactor = randomFactor();
+            BigDecimal competitionGroupFactor = randomFactor();
+
+            BigDecimal actual = FixedPointScoring.handicapTime(time, handicapGroupFactor, competitionGroupFactor);
+
+            assertThat(actual)
+                    .describedAs("%s * %s * %s", time, handicapGroupFactor, competitionGroupFactor)
+                    .isEqualTo(referenceHandicapTime(time, handicapGroupFactor, competitionGroupFactor));
+        }
+    }
+
+    @Test
+    public void itShouldMatchBigDecimalHandicapTimeWithConePenalty() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal scratchTime = randomTime();
+            BigDecimal handicapGroupFactor = randomFactor();
+            BigDecimal competitionGroupFactor = randomFactor();
+            BigDecimal conePenaltySeconds = randomConePenaltySeconds();
+            int cones = random.nextInt(10);
+
+            BigDecimal actual = FixedPointScoring.handicapTimeWithConePenalty(
+                    scratchTime,
+                    handicapGroupFactor,
+                    competitionGroupFactor,
+                    conePenaltySeconds,
+                    cones
+            );
+
+            BigDecimal expected = referenceHandicapTime(scratchTime, handicapGroupFactor, competitionGroupFactor)
+                    .add(conePenaltySeconds.multiply(BigDecimal.valueOf(cones)));
+            assertThat(actual)
+                    .describedAs(
+                            "%s * %s * %s + (%s * %s)",
+                            scratchTime,
+                            handicapGroupFactor,
+                            competitionGroupFactor,
+                            conePenaltySeconds,
+                            cones
+                    )
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void itShouldRoundHalfUp() {
+        BigDecimal time = new BigDecimal("1.001");
+        BigDecimal half = new BigDecimal("0.5");
+
+        BigDecimal actual = FixedPointScoring.handicapTime(time, half, BigDecimal.ONE);
+
+        assertThat(actual).isEqualTo(new BigDecimal("0.501"));
+    }
+
+    @Test
+    public void itShouldFallBackWhenFactorScaleExceedsFixedPoint() {
+        BigDecimal time = new BigDecimal("45.678");
+        BigDecimal handicapGroupFactor = new BigDecimal("0.8765");
+
+        BigDecimal actual = FixedPointScoring.handicapTime(time, handicapGroupFactor, BigDecimal.ONE);
+
+        assertThat(FixedPointScoring.toFactorMicros(handicapGroupFactor, BigDecimal.ONE))
+                .isEqualTo(FixedPointScoring.UNREPRESENTABLE);
+        assertThat(actual).isEqualTo(referenceHandicapTime(time, handicapGroupFactor, BigDecimal.ONE));
+    }
+
+    @Test
+    public void itShouldFallBackWhenArithmeticOverflows() {
+        BigDecimal time = new BigDecimal("999999999999.999");
+        BigDecimal factor = new BigDecimal("999.999");
+
+        BigDecimal actual = FixedPointScoring.handicapTime(time, factor, factor);
+
+        assertThat(actual).isEqualTo(referenceHandicapTime(time, factor, factor));
+    }
+
+    @Test
+    public void itShouldConvertSecondsToMillis() {
+        assertThat(FixedPointScoring.toMillis(new BigDecimal("45.6"))).isEqualTo(45600L);
+        assertThat(FixedPointScoring.toMillis(new BigDecimal("45"))).isEqualTo(45000L);
+        assertThat(FixedPointScoring.toMillis(new BigDecimal("45.6789"))).isEqualTo(FixedPointScoring.UNREPRESENTABLE);
+    }
+
+    @Test
+    public void itShouldConvertSecondsToMillisExactlyAtMaxPrecision() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            int scale = random.nextInt(4);
+            long unscaled = random.nextLong() % 1_000_000_000_000_000L;
+            BigDecimal seconds = BigDecimal.valueOf(unscaled, scale);
+
+            assertThat(FixedPointScoring.toMillis(seconds))
+                    .describedAs("%s", seconds)
+                    .isEqualTo(seconds.movePointRight(3).longValueExact());
+        }
+    }
+
+    private BigDecimal randomTime() {
+        int scale = random.nextInt(4);
+        long unscaled = 10_000L + (long) (random.nextDouble() * 200_000L);
+        return BigDecimal.valueOf(unscaled / pow10(3 - scale), scale);
+    }
+
+    private BigDecimal randomFactor() {
+        int scale = random.nextInt(4);
+        long unscaled = 500L + random.nextInt(1_000);
+        return BigDecimal.valueOf(unscaled / pow10(3 - scale), scale);
+    }
+
+    private BigDecimal randomConePenaltySeconds() {
+        int scale = random.nextInt(4);
+        long unscaled = random.nextInt(5_000);
+        return BigDecimal.valueOf(unscaled / pow10(3 - scale), scale);
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1L;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10L;
+        }
+        return value;
+    }
+
+    private static BigDecimal referenceRawTimeScored(BigDecimal rawTime, BigDecimal conePenaltySeconds, int cones) {
+        return rawTime.add(conePenaltySeconds.multiply(BigDecimal.valueOf(cones)));
+    }
+
+    private static BigDecimal referenceHandicapTime(
+            BigDecimal time,
+            BigDecimal handicapGroupFactor,
+            BigDecimal competitionGroupFactor
+    ) {
+        return time.multiply(handicapGroupFactor)
+                .multiply(competitionGroupFactor)
+                .setScale(3, RoundingMode.HALF_UP);
+    }
+}
@@ -73,4 +73,23 @@ public class FlatConePenaltyHandicapTimeScoringInteractorTest {
         verify(scoredRun).setHandicapTimeScored(eq(expected));
     }
 
+    @Test
+    public void itShouldSetHandicapTimeFromCombinedFactor() {
+        when(run.getCones()).thenReturn(3);
+        BigDecimal expected = BigDecimal.valueOf(93600, 3);
+
+        interactor.score(scoredRun, 876_000L);
+
+        verify(scoredRun).setHandicapTimeScored(eq(expected));
+    }
+
+    @Test
+    public void whenCombinedFactorUnrepresentableItShouldSetHandicapTimeFromFactors() {
+        when(run.getCones()).thenReturn(3);
+        BigDecimal expected = BigDecimal.valueOf(93600, 3);
+
+        interactor.score(scoredRun, FixedPointScoring.UNREPRESENTABLE);
+
+        verify(scoredRun).setHandicapTimeScored(eq(expected));
+    }
 }
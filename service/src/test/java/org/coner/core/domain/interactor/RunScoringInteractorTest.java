@@ -1,14 +1,26 @@
 package org.coner.core.domain.interactor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.entity.Registration;
 import org.coner.core.domain.entity.Run;
 import org.coner.core.domain.entity.ScoredRun;
 import org.coner.core.domain.value.HandicapTimeScoringMethod;
@@ -126,4 +138,109 @@ public class RunScoringInteractorTest {
                 .containsExactly(RunScoringInteractor.TIME_DID_NOT_FINISH, RunScoringInteractor.TIME_DID_NOT_FINISH);
     }
 
+    @Test
+    public void whenScoreAllItShouldGroupScoredRunsByRegistration() {
+        Event event = DomainEntityTestUtils.fullEvent();
+        Registration first = DomainEntityTestUtils.fullRegistration("first");
+        Registration second = DomainEntityTestUtils.fullRegistration("second");
+        Run firstRun = DomainEntityTestUtils.fullRun("first-run", event, first, 1);
+        Run secondRun = DomainEntityTestUtils.fullRun("second-run", event, second, 2);
+        Run unscorableRun = DomainEntityTestUtils.fullRun("unscorable-run", event, second, 3);
+        unscorableRun.setRerun(true);
+        Run unregisteredRun = DomainEntityTestUtils.fullRun("unregistered-run", event, first, 4);
+        unregisteredRun.setRegistration(null);
+
+        Map<String, List<ScoredRun>> actual = interactor.scoreAll(
+                Arrays.asList(firstRun, secondRun, unscorableRun, unregisteredRun)
+        );
+
+        assertThat(actual).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(actual.keySet()).containsExactly(first.getId(), second.getId());
+        assertThat(actual.get(first.getId())).extracting(ScoredRun::getRun).containsExactly(firstRun);
+        assertThat(actual.get(second.getId())).extracting(ScoredRun::getRun).containsExactly(secondRun);
+    }
+
+    @Test
+    public void whenScoreAllItShouldKeepRegistrationWithoutScorableRuns() {
+        Run run = DomainEntityTestUtils.fullRun();
+        run.setRawTime(null);
+
+        Map<String, List<ScoredRun>> actual = interactor.scoreAll(Arrays.asList(run));
+
+        assertThat(actual).containsOnlyKeys(run.getRegistration().getId());
+        assertThat(actual.get(run.getRegistration().getId())).isEmpty();
+        verifyZeroInteractions(rawTimeScoringInteractor, handicapTimeScoringInteractor);
+    }
+
+    @Test
+    public void whenScoreAllItShouldNotScoreRunsBeyondMaxPerRegistration() {
+        Event event = DomainEntityTestUtils.fullEvent();
+        event.setMaxRunsPerRegistration(2);
+        Registration registration = DomainEntityTestUtils.fullRegistration();
+        Run unscorableRun = DomainEntityTestUtils.fullRun("unscorable-run", event, registration, 1);
+        unscorableRun.setCompetitive(false);
+        Run firstRun = DomainEntityTestUtils.fullRun("first-run", event, registration, 2);
+        Run secondRun = DomainEntityTestUtils.fullRun("second-run", event, registration, 3);
+        Run thirdRun = DomainEntityTestUtils.fullRun("third-run", event, registration, 4);
+
+        Map<String, List<ScoredRun>> actual = interactor.scoreAll(
+                Arrays.asList(unscorableRun, firstRun, secondRun, thirdRun)
+        );
+
+        assertThat(actual.get(registration.getId()))
+                .extracting(ScoredRun::getRun)
+                .containsExactly(firstRun, secondRun);
+    }
+
+    @Test
+    public void whenScoreAllItShouldResolveScoringOncePerEventAndFactorOncePerRegistration() {
+        Event event = spy(DomainEntityTestUtils.fullEvent());
+        Registration registration = spy(DomainEntityTestUtils.fullRegistration());
+        List<Run> runs = Arrays.asList(
+                DomainEntityTestUtils.fullRun("first-run", event, registration, 1),
+                DomainEntityTestUtils.fullRun("second-run", event, registration, 2),
+                DomainEntityTestUtils.fullRun("third-run", event, registration, 3)
+        );
+        long expectedFactorMicros = FixedPointScoring.toFactorMicros(
+                TestConstants.HANDICAP_GROUP_FACTOR,
+                TestConstants.COMPETITION_GROUP_FACTOR
+        );
+
+        Map<String, List<ScoredRun>> actual = interactor.scoreAll(runs);
+
+        assertThat(actual.get(registration.getId())).hasSize(3);
+        verify(event, times(1)).getHandicapTimeScoringMethod();
+        verify(registration, times(1)).getHandicapGroup();
+        verify(registration, times(1)).getCompetitionGroup();
+        verify(handicapTimeScoringInteractor, times(3)).score(any(ScoredRun.class), eq(expectedFactorMicros));
+        verify(handicapTimeScoringInteractor, never()).score(any(ScoredRun.class));
+    }
+
+    @Test
+    public void whenScoreAllWithDidNotFinishItShouldScoreDidNotFinish() {
+        Run run = DomainEntityTestUtils.fullRun();
+        run.setDidNotFinish(true);
+
+        Map<String, List<ScoredRun>> actual = interactor.scoreAll(Arrays.asList(run));
+
+        verifyZeroInteractions(rawTimeScoringInteractor, handicapTimeScoringInteractor);
+        assertThat(actual.get(run.getRegistration().getId()))
+                .extracting(ScoredRun::getRawTimeScored, ScoredRun::getHandicapTimeScored)
+                .containsExactly(tuple(
+                        RunScoringInteractor.TIME_DID_NOT_FINISH,
+                        RunScoringInteractor.TIME_DID_NOT_FINISH
+                ));
+    }
+
+    @Test
+    public void whenScoreAllWithUnsupportedScoringMethodItShouldThrow() {
+        Event event = spy(DomainEntityTestUtils.fullEvent());
+        doReturn(HandicapTimeScoringMethod.SCALED_CONE_PENALTY_TRADITIONAL).when(event).getHandicapTimeScoringMethod();
+        Run run = DomainEntityTestUtils.fullRun(TestConstants.RUN_ID, event);
+
+        Throwable actual = catchThrowable(() -> interactor.scoreAll(Arrays.asList(run)));
+
+        assertThat(actual).isInstanceOf(UnsupportedOperationException.class);
+        verify(handicapTimeScoringInteractor, never()).score(any(ScoredRun.class), anyLong());
+    }
 }
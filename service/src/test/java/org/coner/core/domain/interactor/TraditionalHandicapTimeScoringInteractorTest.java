@@ -65,4 +65,26 @@ public class TraditionalHandicapTimeScoringInteractorTest {
 
         verify(scoredRun).setHandicapTimeScored(eq(expected));
     }
+
+    @Test
+    public void itShouldSetHandicapTimeFromCombinedFactor() {
+        BigDecimal rawTimeScored = BigDecimal.valueOf(106000, 3);
+        when(scoredRun.getRawTimeScored()).thenReturn(rawTimeScored);
+        BigDecimal expected = BigDecimal.valueOf(92856, 3);
+
+        interactor.score(scoredRun, 876_000L);
+
+        verify(scoredRun).setHandicapTimeScored(eq(expected));
+    }
+
+    @Test
+    public void whenCombinedFactorUnrepresentableItShouldSetHandicapTimeFromFactors() {
+        BigDecimal rawTimeScored = BigDecimal.valueOf(106000, 3);
+        when(scoredRun.getRawTimeScored()).thenReturn(rawTimeScored);
+        BigDecimal expected = BigDecimal.valueOf(92856, 3);
+
+        interactor.score(scoredRun, FixedPointScoring.UNREPRESENTABLE);
+
+        verify(scoredRun).setHandicapTimeScored(eq(expected));
+    }
 }
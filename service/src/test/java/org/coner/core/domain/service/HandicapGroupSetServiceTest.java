@@ -5,6 +5,7 @@ import static org.coner.core.util.TestConstants.HANDICAP_GROUP_SET_ID;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Set;
@@ -19,6 +20,7 @@ import org.coner.core.util.DomainEntityTestUtils;
 import org.coner.core.util.TestConstants;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -35,6 +37,8 @@ public class HandicapGroupSetServiceTest {
     HandicapGroupSetGateway gateway;
     @Mock
     HandicapGroupEntityService handicapGroupEntityService;
+    @Mock
+    ChangeVersions changeVersions;
 
     @Test
     /**
@@ -71,4 +75,19 @@ public class HandicapGroupSetServiceTest {
         verify(handicapGroupsSet).add(handicapGroup);
         verify(gateway).save(TestConstants.HANDICAP_GROUP_SET_ID, handicapGroupSet);
     }
+
+    @Test
+    public void whenAddToHandicapGroupsCommitsItShouldBumpGroupsVersion() {
+        HandicapGroupSet handicapGroupSet = mock(HandicapGroupSet.class);
+        HandicapGroup handicapGroup = mock(HandicapGroup.class);
+        when(handicapGroupSet.getHandicapGroups()).thenReturn(Sets.newHashSet());
+        ArgumentCaptor<Runnable> afterCommitCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        service.addToHandicapGroups(handicapGroupSet, handicapGroup);
+
+        verify(gateway).afterCommit(afterCommitCaptor.capture());
+        verifyZeroInteractions(changeVersions);
+        afterCommitCaptor.getValue().run();
+        verify(changeVersions).bump(ChangeVersions.GROUPS);
+    }
 }
@@ -0,0 +1,96 @@
+package org.coner.core.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.entity.Run;
+import org.coner.core.util.DomainEntityTestUtils;
+import org.coner.core.util.TestConstants;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PendingRunQueueTest {
+
+    private PendingRunQueue queue;
+    private Event event;
+
+    @Before
+    public void setup() {
+        queue = new PendingRunQueue();
+        event = DomainEntityTestUtils.fullEvent();
+    }
+
+    @Test
+    public void whenNotSeededItShouldNotBeLoaded() {
+        queue.offer(pendingRun(1));
+
+        assertThat(queue.isLoaded(TestConstants.EVENT_ID)).isFalse();
+        assertThat(queue.peek(TestConstants.EVENT_ID)).isNull();
+        assertThat(queue.list(TestConstants.EVENT_ID)).isEmpty();
+    }
+
+    @Test
+    public void itShouldPeekFirstInSequence() {
+        Run first = pendingRun(2);
+        Run second = pendingRun(5);
+
+        queue.seed(TestConstants.EVENT_ID, Arrays.asList(second, first));
+
+        assertThat(queue.isLoaded(TestConstants.EVENT_ID)).isTrue();
+        assertThat(queue.peek(TestConstants.EVENT_ID)).isSameAs(first);
+        assertThat(queue.list(TestConstants.EVENT_ID)).containsExactly(first, second);
+    }
+
+    @Test
+    public void itShouldMergeRunsOfferedBeforeSeed() {
+        Run seeded = pendingRun(1);
+        Run offered = pendingRun(2);
+
+        queue.offer(offered);
+        queue.seed(TestConstants.EVENT_ID, Collections.singletonList(seeded));
+
+        assertThat(queue.list(TestConstants.EVENT_ID)).containsExactly(seeded, offered);
+    }
+
+    @Test
+    public void itShouldNotOfferRunWithRawTime() {
+        queue.seed(TestConstants.EVENT_ID, Collections.emptyList());
+        Run run = pendingRun(1);
+        run.setRawTime(TestConstants.RUN_RAW_TIME);
+
+        queue.offer(run);
+
+        assertThat(queue.peek(TestConstants.EVENT_ID)).isNull();
+    }
+
+    @Test
+    public void itShouldRemoveRun() {
+        Run first = pendingRun(1);
+        Run second = pendingRun(2);
+        queue.seed(TestConstants.EVENT_ID, Arrays.asList(first, second));
+
+        queue.remove(first);
+
+        assertThat(queue.peek(TestConstants.EVENT_ID)).isSameAs(second);
+    }
+
+    @Test
+    public void whenInvalidatedItShouldNotBeLoaded() {
+        queue.seed(TestConstants.EVENT_ID, Collections.singletonList(pendingRun(1)));
+
+        queue.invalidate(TestConstants.EVENT_ID);
+
+        assertThat(queue.isLoaded(TestConstants.EVENT_ID)).isFalse();
+    }
+
+    private Run pendingRun(int sequence) {
+        Run run = new Run();
+        run.setId("run-" + sequence);
+        run.setEvent(event);
+        run.setSequence(sequence);
+        return run;
+    }
+}
@@ -0,0 +1,304 @@
+package org.coner.core.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.coner.core.domain.entity.CompetitionGroup;
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.entity.Registration;
+import org.coner.core.domain.entity.Run;
+import org.coner.core.domain.entity.ScoredRun;
+import org.coner.core.domain.interactor.RunScoringInteractor;
+import org.coner.core.domain.payload.GetEventResultsPayload;
+import org.coner.core.domain.payload.GetRegistrationResultsPayload;
+import org.coner.core.util.DomainEntityTestUtils;
+import org.coner.core.util.TestConstants;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResultsEngineTest {
+
+    @InjectMocks
+    ResultsEngine resultsEngine;
+
+    @Mock
+    RunScoringInteractor runScoringInteractor;
+
+    @Mock
+    Event event;
+
+    List<Run> runs = new ArrayList<>();
+    Map<Run, ScoredRun> scoredRuns = new IdentityHashMap<>();
+
+    private CompetitionGroup rawGroup;
+    private CompetitionGroup handicapGroup;
+
+    @Before
+    public void setup() {
+        runs.clear();
+        scoredRuns.clear();
+        when(runScoringInteractor.scoreAll(anyCollection()))
+                .thenAnswer(invocation -> scoreAll(invocation.getArgument(0)));
+        when(event.getId()).thenReturn(TestConstants.EVENT_ID);
+        rawGroup = DomainEntityTestUtils.fullCompetitionGroup(
+                "raw-group", "Raw", BigDecimal.ONE, false, CompetitionGroup.ResultTimeType.RAW
+        );
+        handicapGroup = DomainEntityTestUtils.fullCompetitionGroup(
+                "handicap-group", "Handicap", BigDecimal.ONE, false, CompetitionGroup.ResultTimeType.HANDICAP
+        );
+    }
+
+    @Test
+    public void itShouldComputeResultsRankedOverallAndByCompetitionGroup() {
+        Registration fastRaw = registrationIn("fast-raw", rawGroup);
+        Registration fastHandicap = registrationIn("fast-handicap", handicapGroup);
+        Registration slowHandicap = registrationIn("slow-handicap", handicapGroup);
+        runFor(fastRaw, "10.000", "9.000");
+        runFor(fastHandicap, "11.000", "8.000");
+        runFor(slowHandicap, "12.000", "10.000");
+
+        GetEventResultsPayload actual = resultsEngine.compute(event, runs);
+
+        assertThat(actual.getEvent()).isSameAs(event);
+        assertThat(actual.getOverallRaw())
+                .extracting(GetRegistrationResultsPayload::getRegistration)
+                .containsExactly(fastRaw, fastHandicap, slowHandicap);
+        assertThat(actual.getOverallHandicap())
+                .extracting(GetRegistrationResultsPayload::getRegistration)
+                .containsExactly(fastHandicap, fastRaw, slowHandicap);
+        assertThat(actual.getCompetitionGroups()).containsOnlyKeys(rawGroup.getId(), handicapGroup.getId());
+        assertThat(actual.getCompetitionGroups().get(handicapGroup.getId()))
+                .extracting(GetRegistrationResultsPayload::getRegistration)
+                .containsExactly(fastHandicap, slowHandicap);
+        assertThat(resultsEngine.isLoaded(TestConstants.EVENT_ID)).isFalse();
+    }
+
+    @Test
+    public void whenComputeItShouldRankRegistrationsWithoutScoreLast() {
+        Registration unscored = registrationIn("unscored", rawGroup);
+        Registration scored = registrationIn("scored", rawGroup);
+        runs.add(DomainEntityTestUtils.fullRun("unscored-run", event, unscored));
+        runFor(scored, "10.000", "9.000");
+
+        GetEventResultsPayload actual = resultsEngine.compute(event, runs);
+
+        assertThat(actual.getOverallRaw())
+                .extracting(GetRegistrationResultsPayload::getRegistration)
+                .containsExactly(scored, unscored);
+        assertThat(actual.getOverallHandicap())
+                .extracting(GetRegistrationResultsPayload::getRegistration)
+                .containsExactly(scored, unscored);
+    }
+
+    @Test
+    public void whenComputeItShouldSkipRunsWithoutRegistration() {
+        runs.add(mock(Run.class));
+
+        GetEventResultsPayload actual = resultsEngine.compute(event, runs);
+
+        assertThat(actual.getOverallRaw()).isEmpty();
+        assertThat(actual.getOverallHandicap()).isEmpty();
+        assertThat(actual.getCompetitionGroups()).isEmpty();
+    }
+
+    @Test
+    public void whenComputeItShouldScoreAllRunsInOnePass() {
+        Registration first = registrationIn("first", rawGroup);
+        Registration second = registrationIn("second", rawGroup);
+        runFor(first, "10.000", "9.000");
+        runFor(second, "11.000", "10.000");
+
+        resultsEngine.compute(event, runs);
+
+        verify(runScoringInteractor, Mockito.times(1)).scoreAll(runs);
+    }
+
+    @Test
+    public void whenRebuildItShouldHoldResults() {
+        Registration registration = registrationIn("registration", rawGroup);
+        runFor(registration, "10.000", "9.000");
+
+        GetEventResultsPayload rebuilt = resultsEngine.rebuild(
+                event,
+                runs,
+                resultsEngine.getWriteMark(TestConstants.EVENT_ID)
+        );
+
+        assertThat(resultsEngine.isLoaded(TestConstants.EVENT_ID)).isTrue();
+        assertThat(resultsEngine.getResults(TestConstants.EVENT_ID)).isSameAs(rebuilt);
+        assertThat(resultsEngine.getResults(TestConstants.EVENT_ID, registration.getId()).getRegistration())
+                .isSameAs(registration);
+    }
+
+    @Test
+    public void whenRunAppliedSinceWriteMarkItShouldNotHoldRebuild() {
+        long writeMark = resultsEngine.getWriteMark(TestConstants.EVENT_ID);
+        Registration registration = registrationIn("registration", rawGroup);
+        resultsEngine.apply(runFor(registration, "10.000", "9.000"));
+
+        GetEventResultsPayload rebuilt = resultsEngine.rebuild(event, Collections.emptyList(), writeMark);
+
+        assertThat(rebuilt.getOverallRaw()).isEmpty();
+        assertThat(resultsEngine.isLoaded(TestConstants.EVENT_ID)).isFalse();
+    }
+
+    @Test
+    public void whenRunAppliedToUnloadedEventItShouldNotScore() {
+        Registration registration = registrationIn("registration", rawGroup);
+        Run run = runFor(registration, "10.000", "9.000");
+
+        resultsEngine.apply(run);
+
+        assertThat(resultsEngine.getResults(TestConstants.EVENT_ID)).isNull();
+        verifyZeroInteractions(runScoringInteractor);
+    }
+
+    @Test
+    public void whenRunAddedItShouldRescoreOnlyItsRegistration() {
+        Registration first = registrationIn("first", rawGroup);
+        Registration second = registrationIn("second", rawGroup);
+        Run firstRun = runFor(first, "10.000", "9.000");
+        runFor(second, "11.000", "10.000");
+        resultsEngine.rebuild(event, runs, resultsEngine.getWriteMark(TestConstants.EVENT_ID));
+        Mockito.clearInvocations(runScoringInteractor);
+        Run secondRun = runFor(second, "9.000", "8.000");
+
+        resultsEngine.apply(secondRun);
+
+        assertThat(resultsEngine.getResults(TestConstants.EVENT_ID).getOverallRaw())
+                .extracting(GetRegistrationResultsPayload::getRegistration)
+                .containsExactly(second, first);
+        assertThat(resultsEngine.getResults(TestConstants.EVENT_ID, second.getId()).getScoredRuns()).hasSize(2);
+        verify(runScoringInteractor).scoreAll(argThat(rescored -> !rescored.contains(firstRun)));
+        assertThat(Standings.isEquivalent(
+                resultsEngine.getResults(TestConstants.EVENT_ID),
+                resultsEngine.compute(event, runs)
+        )).isTrue();
+    }
+
+    @Test
+    public void whenRunUpdatedItShouldReplaceItsPriorScore() {
+        Registration registration = registrationIn("registration", rawGroup);
+        Run run = runFor(registration, "10.000", "9.000");
+        resultsEngine.rebuild(event, runs, resultsEngine.getWriteMark(TestConstants.EVENT_ID));
+        Run updated = DomainEntityTestUtils.fullRun(run.getId(), event, registration);
+        ScoredRun updatedScoredRun = DomainEntityTestUtils.fullScoredRun(
+                updated,
+                new BigDecimal("8.000"),
+                new BigDecimal("7.000")
+        );
+        scoredRuns.put(updated, updatedScoredRun);
+
+        resultsEngine.apply(updated);
+
+        GetRegistrationResultsPayload actual = resultsEngine.getResults(TestConstants.EVENT_ID, registration.getId());
+        assertThat(actual.getScoredRuns()).containsExactly(updatedScoredRun);
+        assertThat(actual.getScore()).isSameAs(updatedScoredRun);
+    }
+
+    @Test
+    public void whenInvalidatedItShouldNotHoldResults() {
+        resultsEngine.rebuild(event, runs, resultsEngine.getWriteMark(TestConstants.EVENT_ID));
+
+        resultsEngine.invalidate(TestConstants.EVENT_ID);
+
+        assertThat(resultsEngine.isLoaded(TestConstants.EVENT_ID)).isFalse();
+    }
+
+    @Test
+    public void whenWrittenAfterWriteMarkItShouldRunCallbackOnceOnNextWrite() {
+        long writeMark = resultsEngine.getWriteMark(TestConstants.EVENT_ID);
+        Runnable callback = mock(Runnable.class);
+        Registration registration = registrationIn("registration", rawGroup);
+
+        resultsEngine.whenWrittenAfter(TestConstants.EVENT_ID, writeMark, callback);
+        verifyZeroInteractions(callback);
+        resultsEngine.apply(runFor(registration, "10.000", "9.000"));
+        resultsEngine.apply(runFor(registration, "9.000", "8.000"));
+
+        verify(callback).run();
+    }
+
+    @Test
+    public void whenAlreadyWrittenAfterWriteMarkItShouldRunCallbackNow() {
+        long writeMark = resultsEngine.getWriteMark(TestConstants.EVENT_ID);
+        Runnable callback = mock(Runnable.class);
+        resultsEngine.apply(runFor(registrationIn("registration", rawGroup), "10.000", "9.000"));
+
+        resultsEngine.whenWrittenAfter(TestConstants.EVENT_ID, writeMark, callback);
+
+        verify(callback).run();
+    }
+
+    @Test
+    public void whenCallbackCancelledItShouldNotRunOnWrite() {
+        long writeMark = resultsEngine.getWriteMark(TestConstants.EVENT_ID);
+        Runnable callback = mock(Runnable.class);
+        resultsEngine.whenWrittenAfter(TestConstants.EVENT_ID, writeMark, callback);
+
+        resultsEngine.cancelWhenWritten(TestConstants.EVENT_ID, callback);
+        resultsEngine.apply(runFor(registrationIn("registration", rawGroup), "10.000", "9.000"));
+
+        verifyZeroInteractions(callback);
+    }
+
+    private Registration registrationIn(String id, CompetitionGroup competitionGroup) {
+        Registration registration = DomainEntityTestUtils.fullRegistration(id);
+        registration.setCompetitionGroup(competitionGroup);
+        return registration;
+    }
+
+    private Run runFor(Registration registration, String rawTimeScored, String handicapTimeScored) {
+        Run run = DomainEntityTestUtils.fullRun(
+                registration.getId() + "-run-" + runs.size(),
+                event,
+                registration,
+                runs.size() + 1
+        );
+        runs.add(run);
+        ScoredRun scoredRun = DomainEntityTestUtils.fullScoredRun(
+                run,
+                new BigDecimal(rawTimeScored),
+                new BigDecimal(handicapTimeScored)
+        );
+        scoredRuns.put(run, scoredRun);
+        return run;
+    }
+
+    private Map<String, List<ScoredRun>> scoreAll(Collection<Run> runs) {
+        Map<String, List<ScoredRun>> scoredRunsByRegistrationId = new LinkedHashMap<>();
+        for (Run run : runs) {
+            if (run.getRegistration() == null) {
+                continue;
+            }
+            List<ScoredRun> registrationScoredRuns = scoredRunsByRegistrationId.computeIfAbsent(
+                    run.getRegistration().getId(),
+                    id -> new ArrayList<>()
+            );
+            if (scoredRuns.containsKey(run)) {
+                registrationScoredRuns.add(scoredRuns.get(run));
+            }
+        }
+        return scoredRunsByRegistrationId;
+    }
+}
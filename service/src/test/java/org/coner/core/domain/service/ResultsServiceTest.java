@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.coner.core.domain.entity.Event;
@@ -17,6 +18,7 @@ import org.coner.core.domain.entity.Registration;
 import org.coner.core.domain.entity.Run;
 import org.coner.core.domain.entity.ScoredRun;
 import org.coner.core.domain.interactor.RunScoringInteractor;
+import org.coner.core.domain.payload.GetEventResultsPayload;
 import org.coner.core.domain.payload.GetRegistrationResultsPayload;
 import org.coner.core.util.DomainEntityTestUtils;
 import org.coner.core.util.TestConstants;
@@ -38,6 +40,8 @@ public class ResultsServiceTest {
     RunEntityService runEntityService;
     @Mock
     RunScoringInteractor runScoringInteractor;
+    @Mock
+    ResultsEngine resultsEngine;
 
     @Mock
     Registration registration;
@@ -49,9 +53,10 @@ public class ResultsServiceTest {
     @Before
     public void setup() {
         allRunsWithRegistration.clear();
+        when(event.getId()).thenReturn(TestConstants.EVENT_ID);
         when(runEntityService.getAllWithRegistration(registration)).thenReturn(allRunsWithRegistration);
+        when(registration.getId()).thenReturn(TestConstants.REGISTRATION_ID);
         when(registration.getEvent()).thenReturn(event);
-        when(event.getMaxRunsPerRegistration()).thenReturn(2);
     }
 
     @Test
@@ -62,7 +67,7 @@ public class ResultsServiceTest {
                 GetRegistrationResultsPayload::getRegistration,
                 GetRegistrationResultsPayload::getScore
         ).containsExactly(registration, null);
-        verifyZeroInteractions(runScoringInteractor);
+        assertThat(actual.getScoredRuns()).isEmpty();
     }
 
     @Test
@@ -75,7 +80,8 @@ public class ResultsServiceTest {
         unexpectedScoredRun.setRawTimeScored(TestConstants.SCORED_RUN_RAW_TIME_SCORED.add(BigDecimal.ONE));
         unexpectedScoredRun.setHandicapTimeScored(TestConstants.SCORED_RUN_HANDICAP_TIME_SCORED.add(BigDecimal.ONE));
         List<ScoredRun> expectedScoredRuns = Arrays.asList(unexpectedScoredRun, expectedScoredRun);
-        when(runScoringInteractor.score(any(Run.class))).thenReturn(unexpectedScoredRun, expectedScoredRun);
+        when(runScoringInteractor.scoreAll(allRunsWithRegistration))
+                .thenReturn(Collections.singletonMap(TestConstants.REGISTRATION_ID, expectedScoredRuns));
 
         GetRegistrationResultsPayload actual = resultsService.getResultsFor(registration);
 
@@ -85,16 +91,74 @@ public class ResultsServiceTest {
     }
 
     @Test
-    public void whenGetResultsForRegistrationItShouldNotScoreRunsBeyondMaxPerRegistration() {
-        when(event.getMaxRunsPerRegistration()).thenReturn(1);
-        allRunsWithRegistration.addAll(Arrays.asList(mock(Run.class), mock(Run.class)));
-        ScoredRun expectedScoredRun = mock(ScoredRun.class);
-        when(runScoringInteractor.score(any())).thenReturn(expectedScoredRun);
+    public void whenEventLoadedItShouldGetEventResultsFromEngine() {
+        GetEventResultsPayload expected = new GetEventResultsPayload();
+        when(resultsEngine.getResults(TestConstants.EVENT_ID)).thenReturn(expected);
 
-        GetRegistrationResultsPayload actual = resultsService.getResultsFor(registration);
+        GetEventResultsPayload actual = resultsService.getResultsFor(event);
+
+        assertThat(actual).isSameAs(expected);
+        verify(runEntityService, Mockito.never()).getAllWithEvent(any());
+    }
+
+    @Test
+    public void whenEventNotLoadedItShouldRebuildEventResults() {
+        List<Run> runs = Arrays.asList(mock(Run.class), mock(Run.class));
+        when(resultsEngine.getResults(TestConstants.EVENT_ID)).thenReturn(null);
+        when(resultsEngine.getWriteMark(TestConstants.EVENT_ID)).thenReturn(3L);
+        when(runEntityService.getAllWithEvent(event)).thenReturn(runs);
+        GetEventResultsPayload expected = new GetEventResultsPayload();
+        when(resultsEngine.rebuild(event, runs, 3L)).thenReturn(expected);
+
+        GetEventResultsPayload actual = resultsService.getResultsFor(event);
+
+        assertThat(actual).isSameAs(expected);
+    }
+
+    @Test
+    public void whenEventLoadedItShouldGetStandingFromEngine() {
+        when(registration.getId()).thenReturn(TestConstants.REGISTRATION_ID);
+        when(resultsEngine.isLoaded(TestConstants.EVENT_ID)).thenReturn(true);
+        GetRegistrationResultsPayload expected = new GetRegistrationResultsPayload();
+        when(resultsEngine.getResults(TestConstants.EVENT_ID, TestConstants.REGISTRATION_ID)).thenReturn(expected);
+
+        GetRegistrationResultsPayload actual = resultsService.getStandingFor(registration);
+
+        assertThat(actual).isSameAs(expected);
+        verifyZeroInteractions(runEntityService);
+    }
+
+    @Test
+    public void whenEventLoadedAndRegistrationHasNoRunsItShouldGetStandingWithoutScore() {
+        when(registration.getId()).thenReturn(TestConstants.REGISTRATION_ID);
+        when(resultsEngine.isLoaded(TestConstants.EVENT_ID)).thenReturn(true);
+
+        GetRegistrationResultsPayload actual = resultsService.getStandingFor(registration);
+
+        assertThat(actual.getRegistration()).isSameAs(registration);
+        assertThat(actual.getScoredRuns()).isEmpty();
+        assertThat(actual.getScore()).isNull();
+        verifyZeroInteractions(runEntityService);
+    }
+
+    @Test
+    public void whenEventNotLoadedItShouldRebuildBeforeGettingStanding() {
+        when(registration.getId()).thenReturn(TestConstants.REGISTRATION_ID);
+        when(resultsEngine.isLoaded(TestConstants.EVENT_ID)).thenReturn(false, true);
+        GetRegistrationResultsPayload expected = new GetRegistrationResultsPayload();
+        when(resultsEngine.getResults(TestConstants.EVENT_ID, TestConstants.REGISTRATION_ID)).thenReturn(expected);
+
+        GetRegistrationResultsPayload actual = resultsService.getStandingFor(registration);
+
+        assertThat(actual).isSameAs(expected);
+        verify(resultsEngine).rebuild(any(), any(), Mockito.anyLong());
+    }
+
+    @Test
+    public void whenEventNotLoadedItShouldBeConsistent() {
+        when(resultsEngine.getResults(TestConstants.EVENT_ID)).thenReturn(null);
 
-        assertThat(actual.getScoredRuns()).hasSize(1);
-        assertThat(actual.getScore()).isSameAs(expectedScoredRun);
-        verify(runScoringInteractor, Mockito.times(1)).score(any(Run.class));
+        assertThat(resultsService.isConsistent(event)).isTrue();
+        verifyZeroInteractions(runEntityService);
     }
 }
@@ -1,18 +1,33 @@
 package org.coner.core.domain.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.entity.Registration;
 import org.coner.core.domain.entity.Run;
+import org.coner.core.domain.payload.GetRegistrationResultsPayload;
 import org.coner.core.domain.payload.RunAddPayload;
 import org.coner.core.domain.payload.RunAddTimePayload;
+import org.coner.core.domain.payload.RunAddTimesPayload;
 import org.coner.core.domain.payload.RunTimeAddedPayload;
 import org.coner.core.domain.service.exception.AddEntityException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
@@ -22,10 +37,15 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+
 @RunWith(MockitoJUnitRunner.class)
 public class RunEntityServiceTest {
 
@@ -34,6 +54,20 @@ public class RunEntityServiceTest {
 
     @Mock
     RunGateway gateway;
+    @Mock
+    ResultsEngine resultsEngine;
+    @Spy
+    RunSequenceAllocator runSequenceAllocator = new RunSequenceAllocator();
+    @Spy
+    EventLocks eventLocks = new EventLocks();
+    @Spy
+    PendingRunQueue pendingRunQueue = new PendingRunQueue();
+    @Mock
+    EventEntityService eventEntityService;
+    @Mock
+    EventChangeListener eventChangeListener;
+    @Mock
+    ChangeVersions changeVersions;
 
     @Mock
     RunAddPayload addPayload;
@@ -49,16 +83,22 @@ public class RunEntityServiceTest {
     @Mock
     BigDecimal runAddRawTimePayloadRawTime;
 
+    private MetricRegistry metricRegistry;
+
     @Before
     public void setup() {
+        metricRegistry = new MetricRegistry();
+        service.setMetricRegistry(metricRegistry);
         when(addPayload.getEvent()).thenReturn(addPayloadEvent);
+        when(addPayloadEvent.getId()).thenReturn(TestConstants.EVENT_ID);
+        when(runAddRawTimePayloadEvent.getId()).thenReturn(TestConstants.EVENT_ID);
         when(runAddRawTimePayload.getEvent()).thenReturn(runAddRawTimePayloadEvent);
         when(runAddRawTimePayload.getRawTime()).thenReturn(runAddRawTimePayloadRawTime);
     }
 
     @Test
     public void whenAddRunWithEventNoPriorRunsItShouldSetSequence() throws AddEntityException {
-        when(gateway.findLastInSequenceForEvent(addPayloadEvent)).thenReturn(null);
+        when(gateway.findMaxSequenceForEvent(addPayloadEvent)).thenReturn(0);
         when(gateway.add(addPayload)).thenReturn(addedRun);
 
         Run actual = service.add(addPayload);
@@ -70,9 +110,7 @@ public class RunEntityServiceTest {
 
     @Test
     public void whenAddRunWithEventManyPriorRunsItShouldSetSequence() throws AddEntityException {
-        Run lastInSequenceForEvent = mock(Run.class);
-        when(gateway.findLastInSequenceForEvent(addPayloadEvent)).thenReturn(lastInSequenceForEvent);
-        when(lastInSequenceForEvent.getSequence()).thenReturn(600);
+        when(gateway.findMaxSequenceForEvent(addPayloadEvent)).thenReturn(600);
         when(gateway.add(addPayload)).thenReturn(addedRun);
 
         Run actual = service.add(addPayload);
@@ -82,13 +120,27 @@ public class RunEntityServiceTest {
         assertThat(actual).isSameAs(addedRun);
     }
 
+    @Test
+    public void whenAddManyRunsItShouldSeedSequenceOnce() throws AddEntityException {
+        when(gateway.findMaxSequenceForEvent(addPayloadEvent)).thenReturn(600);
+        when(gateway.add(addPayload)).thenReturn(addedRun);
+
+        service.add(addPayload);
+        service.add(addPayload);
+
+        verify(addPayload).setSequence(601);
+        verify(addPayload).setSequence(602);
+        verify(gateway, times(1)).findMaxSequenceForEvent(addPayloadEvent);
+    }
+
     @Test
     public void whenAddToFirstRunInSequenceWithoutRawTimeWithRunLackingTime()
             throws AddEntityException, EntityNotFoundException {
+        Run pendingRun = pendingRun(TestConstants.RUN_ID, 1);
+        when(gateway.getAllWithoutTime(runAddRawTimePayloadEvent)).thenReturn(Collections.singletonList(pendingRun));
         Run firstRunInSequenceWithoutRawTime = mock(Run.class);
         when(firstRunInSequenceWithoutRawTime.getId()).thenReturn(TestConstants.RUN_ID);
-        when(gateway.findFirstInSequenceWithoutTime(runAddRawTimePayloadEvent))
-                .thenReturn(firstRunInSequenceWithoutRawTime);
+        when(gateway.findById(TestConstants.RUN_ID)).thenReturn(firstRunInSequenceWithoutRawTime);
         Run runWithRawTimeAssigned = mock(Run.class);
         when(gateway.save(TestConstants.RUN_ID, firstRunInSequenceWithoutRawTime)).thenReturn(runWithRawTimeAssigned);
 
@@ -103,7 +155,7 @@ public class RunEntityServiceTest {
     @Test
     public void whenAddToFirstRunInSequenceWithoutRawTimeButNoRunsLackRawTime()
             throws AddEntityException, EntityNotFoundException {
-        when(gateway.findFirstInSequenceWithoutTime(runAddRawTimePayloadEvent)).thenReturn(null);
+        when(gateway.getAllWithoutTime(runAddRawTimePayloadEvent)).thenReturn(Collections.emptyList());
         ArgumentCaptor<RunAddPayload> runAddPayloadCaptor = ArgumentCaptor.forClass(RunAddPayload.class);
         Run addedRun = mock(Run.class);
         when(gateway.add(any(RunAddPayload.class))).thenReturn(addedRun);
@@ -117,6 +169,238 @@ public class RunEntityServiceTest {
         assertThat(runAddPayload.getTimestamp()).isBetween(Instant.now().minusSeconds(1), Instant.now());
         assertThat(actual.getOutcome()).isEqualTo(RunTimeAddedPayload.Outcome.RUN_ADDED_WITH_RAWTIME);
         assertThat(actual.getRun()).isSameAs(addedRun);
+        assertThat(strayStarts().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenAddRunCommitsItShouldApplyToResultsEngine() throws AddEntityException {
+        when(gateway.add(addPayload)).thenReturn(addedRun);
+        when(addedRun.getEvent()).thenReturn(addPayloadEvent);
+        ArgumentCaptor<Runnable> afterCommitCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        service.add(addPayload);
+
+        verify(gateway).afterCommit(afterCommitCaptor.capture());
+        verifyZeroInteractions(resultsEngine);
+        afterCommitCaptor.getValue().run();
+        verify(resultsEngine).apply(addedRun);
+        verify(pendingRunQueue).offer(addedRun);
+        verify(eventChangeListener).runAdded(addedRun);
+        verify(changeVersions).bump(ChangeVersions.event(TestConstants.EVENT_ID));
+        verify(eventChangeListener, never()).registrationResultsChanged(any(), any());
+    }
+
+    @Test
+    public void whenRunOfRegistrationCommitsItShouldNotifyRegistrationResultsChanged() throws AddEntityException {
+        when(gateway.add(addPayload)).thenReturn(addedRun);
+        when(addedRun.getEvent()).thenReturn(addPayloadEvent);
+        Registration registration = mock(Registration.class);
+        when(registration.getId()).thenReturn(TestConstants.REGISTRATION_ID);
+        when(addedRun.getRegistration()).thenReturn(registration);
+        GetRegistrationResultsPayload results = new GetRegistrationResultsPayload();
+        when(resultsEngine.getResults(TestConstants.EVENT_ID, TestConstants.REGISTRATION_ID)).thenReturn(results);
+        ArgumentCaptor<Runnable> afterCommitCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        service.add(addPayload);
+
+        verify(gateway).afterCommit(afterCommitCaptor.capture());
+        verifyZeroInteractions(eventChangeListener);
+        afterCommitCaptor.getValue().run();
+        InOrder inOrder = inOrder(resultsEngine, eventChangeListener);
+        inOrder.verify(resultsEngine).apply(addedRun);
+        inOrder.verify(eventChangeListener).runAdded(addedRun);
+        inOrder.verify(eventChangeListener).registrationResultsChanged(TestConstants.EVENT_ID, results);
+    }
+
+    @Test
+    public void whenRawTimeAssignedCommitsItShouldApplyToResultsEngine()
+            throws AddEntityException, EntityNotFoundException {
+        Run pendingRun = pendingRun(TestConstants.RUN_ID, 1);
+        when(gateway.getAllWithoutTime(runAddRawTimePayloadEvent)).thenReturn(Collections.singletonList(pendingRun));
+        Run firstRunInSequenceWithoutRawTime = mock(Run.class);
+        when(firstRunInSequenceWithoutRawTime.getId()).thenReturn(TestConstants.RUN_ID);
+        when(gateway.findById(TestConstants.RUN_ID)).thenReturn(firstRunInSequenceWithoutRawTime);
+        Run runWithRawTimeAssigned = mock(Run.class);
+        when(gateway.save(TestConstants.RUN_ID, firstRunInSequenceWithoutRawTime)).thenReturn(runWithRawTimeAssigned);
+        ArgumentCaptor<Runnable> afterCommitCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        service.addTimeToFirstRunInSequenceWithoutRawTime(runAddRawTimePayload);
+
+        verify(gateway).afterCommit(afterCommitCaptor.capture());
+        assertThat(pendingRunQueue.peek(TestConstants.EVENT_ID)).isSameAs(pendingRun);
+        afterCommitCaptor.getValue().run();
+        verify(resultsEngine).apply(runWithRawTimeAssigned);
+        assertThat(pendingRunQueue.peek(TestConstants.EVENT_ID)).isNull();
+        verify(eventChangeListener).rawTimeAssigned(runWithRawTimeAssigned);
+        verify(changeVersions).bump(ChangeVersions.event(TestConstants.EVENT_ID));
+    }
+
+    @Test
+    public void whenAddToFirstRunInSequenceWithoutRawTimeItShouldLockEventUntilCompletion() throws Exception {
+        when(gateway.getAllWithoutTime(runAddRawTimePayloadEvent)).thenReturn(Collections.emptyList());
+        when(gateway.add(any(RunAddPayload.class))).thenReturn(addedRun);
+        ArgumentCaptor<Runnable> afterCompletionCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        service.addTimeToFirstRunInSequenceWithoutRawTime(runAddRawTimePayload);
+
+        verify(eventLocks).acquire(TestConstants.EVENT_ID);
+        verify(gateway).afterCompletion(afterCompletionCaptor.capture());
+        verify(eventLocks, never()).release(any(Semaphore.class));
+        afterCompletionCaptor.getValue().run();
+        verify(eventLocks).release(any(Semaphore.class));
+    }
+
+    @Test
+    public void whenEventLockTimesOutItShouldThrow() throws Exception {
+        doThrow(new TimeoutException()).when(eventLocks).acquire(TestConstants.EVENT_ID);
+
+        try {
+            service.addTimeToFirstRunInSequenceWithoutRawTime(runAddRawTimePayload);
+            failBecauseExceptionWasNotThrown(AddEntityException.class);
+        } catch (AddEntityException e) {
+            assertThat(e).hasCauseInstanceOf(TimeoutException.class);
+            verify(gateway, never()).getAllWithoutTime(any(Event.class));
+        }
     }
 
+    @Test
+    public void whenFirstPendingRunAlreadyHasRawTimeItShouldSkipIt()
+            throws AddEntityException, EntityNotFoundException {
+        Run stalePendingRun = pendingRun(TestConstants.RUN_ID, 1);
+        Run pendingRun = pendingRun("next-run", 2);
+        when(gateway.getAllWithoutTime(runAddRawTimePayloadEvent))
+                .thenReturn(Arrays.asList(stalePendingRun, pendingRun));
+        Run staleRun = mock(Run.class);
+        when(staleRun.getRawTime()).thenReturn(TestConstants.RUN_RAW_TIME);
+        when(gateway.findById(TestConstants.RUN_ID)).thenReturn(staleRun);
+        Run firstRunInSequenceWithoutRawTime = mock(Run.class);
+        when(firstRunInSequenceWithoutRawTime.getId()).thenReturn("next-run");
+        when(gateway.findById("next-run")).thenReturn(firstRunInSequenceWithoutRawTime);
+
+        service.addTimeToFirstRunInSequenceWithoutRawTime(runAddRawTimePayload);
+
+        verify(firstRunInSequenceWithoutRawTime).setRawTime(runAddRawTimePayloadRawTime);
+        verify(gateway).save("next-run", firstRunInSequenceWithoutRawTime);
+        verify(staleRun, never()).setRawTime(any(BigDecimal.class));
+    }
+
+    @Test
+    public void whenRawTimeAssignedItShouldReleaseEventLockAfterCommitCallbacks() throws Exception {
+        Run pendingRun = pendingRun(TestConstants.RUN_ID, 1);
+        when(gateway.getAllWithoutTime(runAddRawTimePayloadEvent)).thenReturn(Collections.singletonList(pendingRun));
+        Run firstRunInSequenceWithoutRawTime = mock(Run.class);
+        when(firstRunInSequenceWithoutRawTime.getId()).thenReturn(TestConstants.RUN_ID);
+        when(gateway.findById(TestConstants.RUN_ID)).thenReturn(firstRunInSequenceWithoutRawTime);
+
+        service.addTimeToFirstRunInSequenceWithoutRawTime(runAddRawTimePayload);
+
+        InOrder inOrder = inOrder(gateway);
+        inOrder.verify(gateway).afterCommit(any(Runnable.class));
+        inOrder.verify(gateway).afterCompletion(any(Runnable.class));
+    }
+
+    @Test
+    public void itShouldGetPageWithEventId() throws Exception {
+        Event event = mock(Event.class);
+        when(eventEntityService.getById(TestConstants.EVENT_ID)).thenReturn(event);
+        List<Run> page = Collections.singletonList(pendingRun(TestConstants.RUN_ID, 11));
+        when(gateway.getAllWith(event, 10, 5)).thenReturn(page);
+
+        List<Run> actual = service.getPageWithEventId(TestConstants.EVENT_ID, 10, 5);
+
+        assertThat(actual).isSameAs(page);
+    }
+
+    @Test
+    public void itShouldStreamAllWithEventIdFromGatewayWhenConsumed() throws Exception {
+        Consumer<Run> action = run -> { };
+
+        RunEntityService.RunStream stream = service.streamAllWithEventId(TestConstants.EVENT_ID);
+
+        verify(eventEntityService).getById(TestConstants.EVENT_ID);
+        verify(gateway, never()).forEachWith(TestConstants.EVENT_ID, action);
+        stream.forEach(action);
+        verify(gateway).forEachWith(TestConstants.EVENT_ID, action);
+    }
+
+    @Test
+    public void whenStreamEventNotFoundItShouldThrowImmediately() throws Exception {
+        when(eventEntityService.getById(TestConstants.EVENT_ID)).thenThrow(EntityNotFoundException.class);
+
+        try {
+            service.streamAllWithEventId(TestConstants.EVENT_ID);
+            failBecauseExceptionWasNotThrown(EntityNotFoundException.class);
+        } catch (EntityNotFoundException e) {
+            verifyZeroInteractions(gateway);
+        }
+    }
+
+    @Test
+    public void whenGetPendingItShouldSeedOnceFromGateway() throws Exception {
+        Event event = mock(Event.class);
+        when(eventEntityService.getById(TestConstants.EVENT_ID)).thenReturn(event);
+        when(event.getId()).thenReturn(TestConstants.EVENT_ID);
+        Run pendingRun = pendingRun(TestConstants.RUN_ID, 1);
+        when(gateway.getAllWithoutTime(event)).thenReturn(Collections.singletonList(pendingRun));
+
+        List<Run> first = service.getPendingWithEventId(TestConstants.EVENT_ID);
+        List<Run> second = service.getPendingWithEventId(TestConstants.EVENT_ID);
+
+        assertThat(first).containsExactly(pendingRun);
+        assertThat(second).containsExactly(pendingRun);
+        verify(gateway, times(1)).getAllWithoutTime(event);
+    }
+
+    @Test
+    public void whenAddTimesItShouldAssignSuccessivePendingRunsThenAddRuns() throws Exception {
+        Run firstPendingRun = pendingRun(TestConstants.RUN_ID, 1);
+        Run secondPendingRun = pendingRun("second-run", 2);
+        when(gateway.getAllWithoutTime(runAddRawTimePayloadEvent))
+                .thenReturn(Arrays.asList(firstPendingRun, secondPendingRun));
+        Run firstRun = mock(Run.class);
+        when(firstRun.getId()).thenReturn(TestConstants.RUN_ID);
+        when(gateway.findById(TestConstants.RUN_ID)).thenReturn(firstRun);
+        Run secondRun = mock(Run.class);
+        when(secondRun.getId()).thenReturn("second-run");
+        when(gateway.findById("second-run")).thenReturn(secondRun);
+        when(gateway.add(any(RunAddPayload.class))).thenReturn(addedRun);
+        RunAddTimesPayload addTimesPayload = new RunAddTimesPayload();
+        addTimesPayload.setEvent(runAddRawTimePayloadEvent);
+        BigDecimal thirdRawTime = BigDecimal.valueOf(47_003L, 3);
+        addTimesPayload.setRawTimes(Arrays.asList(
+                BigDecimal.valueOf(45_001L, 3),
+                BigDecimal.valueOf(46_002L, 3),
+                thirdRawTime
+        ));
+
+        List<RunTimeAddedPayload> actual = service.addTimesToFirstRunsInSequenceWithoutRawTime(addTimesPayload);
+
+        verify(firstRun).setRawTime(BigDecimal.valueOf(45_001L, 3));
+        verify(secondRun).setRawTime(BigDecimal.valueOf(46_002L, 3));
+        ArgumentCaptor<RunAddPayload> runAddPayloadCaptor = ArgumentCaptor.forClass(RunAddPayload.class);
+        verify(gateway).add(runAddPayloadCaptor.capture());
+        assertThat(runAddPayloadCaptor.getValue().getRawTime()).isEqualTo(thirdRawTime);
+        assertThat(actual)
+                .extracting(RunTimeAddedPayload::getOutcome)
+                .containsExactly(
+                        RunTimeAddedPayload.Outcome.RUN_RAWTIME_ASSIGNED_TO_EXISTING,
+                        RunTimeAddedPayload.Outcome.RUN_RAWTIME_ASSIGNED_TO_EXISTING,
+                        RunTimeAddedPayload.Outcome.RUN_ADDED_WITH_RAWTIME
+                );
+        verify(eventLocks, times(1)).acquire(TestConstants.EVENT_ID);
+        verify(gateway, times(1)).afterCompletion(any(Runnable.class));
+        assertThat(strayStarts().getCount()).isEqualTo(1);
+    }
+
+    private Meter strayStarts() {
+        return metricRegistry.meter(MetricRegistry.name(RunEntityService.class, RunEntityService.STRAY_START_METER));
+    }
+
+    private Run pendingRun(String id, int sequence) {
+        Run run = new Run();
+        run.setId(id);
+        run.setEvent(runAddRawTimePayloadEvent);
+        run.setSequence(sequence);
+        return run;
+    }
 }
@@ -0,0 +1,86 @@
+package org.coner.core.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.coner.core.util.TestConstants;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RunSequenceAllocatorTest {
+
+    private RunSequenceAllocator allocator;
+
+    @Before
+    public void setup() {
+        allocator = new RunSequenceAllocator();
+    }
+
+    @Test
+    public void itShouldSeedFromMaxSequenceOnce() {
+        AtomicInteger seedCalls = new AtomicInteger();
+
+        int first = allocator.next(TestConstants.EVENT_ID, () -> {
+            seedCalls.incrementAndGet();
+            return 600;
+        });
+        int second = allocator.next(TestConstants.EVENT_ID, () -> {
+            seedCalls.incrementAndGet();
+            return 0;
+        });
+
+        assertThat(first).isEqualTo(601);
+        assertThat(second).isEqualTo(602);
+        assertThat(seedCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void itShouldAllocateIndependentlyPerEvent() {
+        int atEvent = allocator.next(TestConstants.EVENT_ID, () -> 10);
+        int atAnotherEvent = allocator.next("another-event", () -> 0);
+
+        assertThat(atEvent).isEqualTo(11);
+        assertThat(atAnotherEvent).isEqualTo(1);
+    }
+
+    @Test
+    public void itShouldAllocateDistinctSequencesConcurrently() throws Exception {
+        int threads = 8;
+        int allocationsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        Set<Integer> sequences = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    for (int j = 0; j < allocationsPerThread; j++) {
+                        sequences.add(allocator.next(TestConstants.EVENT_ID, () -> 0));
+                    }
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(sequences)
+                .hasSize(threads * allocationsPerThread)
+                .allMatch(sequence -> sequence >= 1 && sequence <= threads * allocationsPerThread);
+    }
+}
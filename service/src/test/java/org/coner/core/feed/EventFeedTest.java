@@ -0,0 +1,265 @@
+package org.coner.core.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.coner.core.util.TestConstants.EVENT_ID;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.coner.core.domain.entity.Run;
+import org.coner.core.mapper.ResultsMapper;
+import org.coner.core.mapper.RunMapper;
+import org.coner.core.util.ApiEntityTestUtils;
+import org.coner.core.util.DomainEntityTestUtils;
+import org.glassfish.jersey.media.sse.EventOutput;
+import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.dropwizard.jackson.Jackson;
+
+public class EventFeedTest {
+
+    private EventFeed eventFeed;
+
+    private RunMapper runMapper = mock(RunMapper.class);
+    private MetricRegistry metricRegistry = new MetricRegistry();
+    private ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private AtomicLong nanos = new AtomicLong();
+    private Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+    private Run run = DomainEntityTestUtils.fullRun();
+
+    @Before
+    public void setup() {
+        when(runMapper.toApiEntity(run)).thenReturn(ApiEntityTestUtils.fullRun());
+        eventFeed = newEventFeed(MoreExecutors.newDirectExecutorService());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        eventFeed.stop();
+    }
+
+    @Test
+    public void whenSubscribedAfreshItShouldSendCurrentIdThenChanges() throws Exception {
+        RecordingEventOutput output = new RecordingEventOutput();
+
+        eventFeed.subscribe(EVENT_ID, null, output);
+        eventFeed.runAdded(run);
+        eventFeed.rawTimeAssigned(run);
+        awaitPublished();
+
+        assertThat(output.events).hasSize(3);
+        assertThat(output.events.get(0).getComment()).isEqualTo("subscribed");
+        assertThat(output.events.get(0).getId()).isNotNull();
+        assertThat(output.events.get(1).getName()).isEqualTo(EventFeed.RUN_ADDED);
+        assertThat((String) output.events.get(1).getData()).contains(run.getId());
+        assertThat(output.events.get(2).getName()).isEqualTo(EventFeed.RAW_TIME_ASSIGNED);
+        assertThat(output.events).extracting(OutboundEvent::getId).doesNotHaveDuplicates();
+        assertThat(metricRegistry.counter(MetricRegistry.name(EventFeed.class, "subscribers")).getCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void whenResumingItShouldReplayChangesSinceLastEventId() throws Exception {
+        RecordingEventOutput first = new RecordingEventOutput();
+        eventFeed.subscribe(EVENT_ID, null, first);
+        eventFeed.runAdded(run);
+        eventFeed.rawTimeAssigned(run);
+        eventFeed.runAdded(run);
+        awaitPublished();
+        RecordingEventOutput resumed = new RecordingEventOutput();
+
+        eventFeed.subscribe(EVENT_ID, first.events.get(1).getId(), resumed);
+
+        assertThat(resumed.events).containsExactlyElementsOf(first.events.subList(2, 4));
+    }
+
+    @Test
+    public void whenResumingFromCurrentIdItShouldReplayNothing() throws Exception {
+        RecordingEventOutput first = new RecordingEventOutput();
+        eventFeed.subscribe(EVENT_ID, null, first);
+        RecordingEventOutput resumed = new RecordingEventOutput();
+
+        eventFeed.subscribe(EVENT_ID, first.events.get(0).getId(), resumed);
+
+        assertThat(resumed.events).isEmpty();
+    }
+
+    @Test
+    public void whenLastEventIdFromOtherInstanceItShouldReset() throws Exception {
+        RecordingEventOutput output = new RecordingEventOutput();
+
+        eventFeed.subscribe(EVENT_ID, "elsewhere:1", output);
+
+        assertThat(output.events).hasSize(1);
+        assertThat(output.events.get(0).getName()).isEqualTo(EventFeed.RESET);
+    }
+
+    @Test
+    public void whenLastEventIdAgedOutOfReplayItShouldReset() throws Exception {
+        RecordingEventOutput first = new RecordingEventOutput();
+        eventFeed.subscribe(EVENT_ID, null, first);
+        for (int i = 0; i < EventFeed.REPLAY_SIZE + 1; i++) {
+            eventFeed.runAdded(run);
+        }
+        awaitPublished();
+        RecordingEventOutput resumed = new RecordingEventOutput();
+
+        eventFeed.subscribe(EVENT_ID, first.events.get(0).getId(), resumed);
+
+        assertThat(resumed.events).hasSize(1);
+        assertThat(resumed.events.get(0).getName()).isEqualTo(EventFeed.RESET);
+        assertThat(resumed.events.get(0).getId()).isEqualTo(first.events.get(first.events.size() - 1).getId());
+    }
+
+    @Test
+    public void whenSubscriberStallsItShouldStillWriteToOthers() throws Exception {
+        eventFeed = newEventFeed(Executors.newFixedThreadPool(EventFeed.WRITER_THREADS));
+        StallingEventOutput stalled = new StallingEventOutput();
+        RecordingEventOutput other = new RecordingEventOutput();
+        eventFeed.subscribe(EVENT_ID, null, stalled);
+        eventFeed.subscribe(EVENT_ID, null, other);
+
+        eventFeed.runAdded(run);
+        eventFeed.rawTimeAssigned(run);
+
+        assertThat(stalled.stalled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(other.written.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(other.events).extracting(OutboundEvent::getName)
+                .containsExactly(null, EventFeed.RUN_ADDED, EventFeed.RAW_TIME_ASSIGNED);
+        stalled.release.countDown();
+    }
+
+    @Test
+    public void whenWriteExceedsTimeoutItShouldDropAndCloseSubscriber() throws Exception {
+        eventFeed = newEventFeed(Executors.newFixedThreadPool(EventFeed.WRITER_THREADS));
+        StallingEventOutput stalled = new StallingEventOutput();
+        eventFeed.subscribe(EVENT_ID, null, stalled);
+        eventFeed.runAdded(run);
+        assertThat(stalled.stalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(EventFeed.WRITE_TIMEOUT_SECONDS + 1));
+        eventFeed.start();
+
+        assertThat(stalled.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(metricRegistry.counter(MetricRegistry.name(EventFeed.class, "subscribers")).getCount())
+                .isZero();
+        assertThat(stalled.events).extracting(OutboundEvent::getName).containsExactly(null, EventFeed.RUN_ADDED);
+    }
+
+    @Test
+    public void whenWaitingForWriterBehindStalledSubscriberItShouldNotBeDropped() throws Exception {
+        eventFeed = newEventFeed(Executors.newSingleThreadExecutor());
+        StallingEventOutput stalled = new StallingEventOutput();
+        RecordingEventOutput other = new RecordingEventOutput();
+        eventFeed.subscribe(EVENT_ID, null, stalled);
+        eventFeed.subscribe(EVENT_ID, null, other);
+        eventFeed.runAdded(run);
+        eventFeed.rawTimeAssigned(run);
+        assertThat(stalled.stalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(EventFeed.WRITE_TIMEOUT_SECONDS + 1));
+        eventFeed.start();
+
+        assertThat(stalled.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(other.written.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(other.events).extracting(OutboundEvent::getName)
+                .containsExactly(null, EventFeed.RUN_ADDED, EventFeed.RAW_TIME_ASSIGNED);
+        assertThat(metricRegistry.counter(MetricRegistry.name(EventFeed.class, "subscribers")).getCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void whenTooManyEventsPendingItShouldDropAndCloseSubscriber() throws Exception {
+        eventFeed = newEventFeed(Executors.newFixedThreadPool(EventFeed.WRITER_THREADS));
+        StallingEventOutput stalled = new StallingEventOutput();
+        eventFeed.subscribe(EVENT_ID, null, stalled);
+        eventFeed.runAdded(run);
+        assertThat(stalled.stalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < EventFeed.REPLAY_SIZE + 1; i++) {
+            eventFeed.runAdded(run);
+        }
+        awaitPublished();
+
+        assertThat(metricRegistry.counter(MetricRegistry.name(EventFeed.class, "subscribers")).getCount())
+                .isZero();
+        assertThat(stalled.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stalled.events).hasSize(2);
+    }
+
+    private EventFeed newEventFeed(ExecutorService writers) {
+        return new EventFeed(
+                runMapper,
+                mock(ResultsMapper.class),
+                Jackson.newObjectMapper(),
+                metricRegistry,
+                executor,
+                writers,
+                ticker
+        );
+    }
+
+    private void awaitPublished() throws Exception {
+        executor.submit(() -> { }).get();
+    }
+
+    private static class RecordingEventOutput extends EventOutput {
+        protected final List<OutboundEvent> events = new ArrayList<>();
+        protected final CountDownLatch written = new CountDownLatch(3);
+
+        @Override
+        public void write(OutboundEvent chunk) throws IOException {
+            events.add(chunk);
+            written.countDown();
+        }
+    }
+
+    /**
+     * Stalls writing the first change, as a client which stopped reading would, until released or interrupted.
+     */
+    private static final class StallingEventOutput extends RecordingEventOutput {
+        private final CountDownLatch stalled = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void write(OutboundEvent chunk) throws IOException {
+            super.write(chunk);
+            if (chunk.getName() != null && stalled.getCount() > 0) {
+                stalled.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            closed.countDown();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.coner.core.feed;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.TimeoutHandler;
+
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.service.ResultsService;
+import org.coner.core.util.DomainEntityTestUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.util.concurrent.MoreExecutors;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResultsLongPollTest {
+
+    private static final long VERSION = 3;
+
+    private ResultsLongPoll resultsLongPoll;
+
+    @Mock
+    ResultsService resultsService;
+    @Mock
+    AsyncResponse asyncResponse;
+
+    private Event event = DomainEntityTestUtils.fullEvent();
+    private Object results = new Object();
+
+    @Before
+    public void setup() {
+        resultsLongPoll = new ResultsLongPoll(
+                resultsService,
+                new MetricRegistry(),
+                MoreExecutors.newDirectExecutorService()
+        );
+    }
+
+    @Test
+    public void whenResultsChangeItShouldResumeWithThem() {
+        resultsLongPoll.await(event, VERSION, asyncResponse, () -> results);
+        ArgumentCaptor<Runnable> onChange = ArgumentCaptor.forClass(Runnable.class);
+        verify(resultsService).whenChangedFrom(eq(event), eq(VERSION), onChange.capture());
+        verify(asyncResponse, never()).resume(any(Object.class));
+
+        onChange.getValue().run();
+
+        verify(asyncResponse).resume(results);
+    }
+
+    @Test
+    public void whenTimedOutItShouldStopWaitingAndResumeWithResults() {
+        resultsLongPoll.await(event, VERSION, asyncResponse, () -> results);
+        ArgumentCaptor<Runnable> onChange = ArgumentCaptor.forClass(Runnable.class);
+        verify(resultsService).whenChangedFrom(eq(event), eq(VERSION), onChange.capture());
+        ArgumentCaptor<TimeoutHandler> timeoutHandler = ArgumentCaptor.forClass(TimeoutHandler.class);
+        verify(asyncResponse).setTimeoutHandler(timeoutHandler.capture());
+
+        timeoutHandler.getValue().handleTimeout(asyncResponse);
+
+        verify(resultsService).cancelWhenChanged(event, onChange.getValue());
+        verify(asyncResponse).resume(results);
+    }
+
+    @Test
+    public void whenResultsFailItShouldResumeWithException() {
+        IllegalStateException failure = new IllegalStateException();
+        resultsLongPoll.await(event, VERSION, asyncResponse, () -> {
+            throw failure;
+        });
+        ArgumentCaptor<Runnable> onChange = ArgumentCaptor.forClass(Runnable.class);
+        verify(resultsService).whenChangedFrom(eq(event), eq(VERSION), onChange.capture());
+
+        onChange.getValue().run();
+
+        verify(asyncResponse).resume(failure);
+    }
+}
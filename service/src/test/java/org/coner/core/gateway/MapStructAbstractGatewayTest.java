@@ -20,6 +20,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.codahale.metrics.MetricRegistry;
+
 @RunWith(MockitoJUnitRunner.class)
 public class MapStructAbstractGatewayTest {
 
@@ -90,6 +92,22 @@ public class MapStructAbstractGatewayTest {
         assertThat(actual).isSameAs(domainEntities);
     }
 
+    @Test
+    public void whenGetAllItShouldTimeQueryAndMapping() {
+        MetricRegistry metricRegistry = new MetricRegistry();
+        gateway.setMetricRegistry(metricRegistry);
+        List<TestHibernateEntity> hibernateEntities = mock(List.class);
+        when(dao.findAll()).thenReturn(hibernateEntities);
+
+        gateway.getAll();
+
+        assertThat(metricRegistry.timer(MetricRegistry.name(TestMapStructAbstractGateway.class, "getAll")).getCount())
+                .isEqualTo(1);
+        assertThat(metricRegistry.timer(MetricRegistry.name(TestMapStructAbstractGateway.class, "toDomainEntities"))
+                .getCount())
+                .isEqualTo(1);
+    }
+
     @Test
     public void whenFindById() {
         final String testId = "test.id";
@@ -104,6 +122,40 @@ public class MapStructAbstractGatewayTest {
         assertThat(actual).isSameAs(domainEntity);
     }
 
+    @Test
+    public void whenFindByIdWithEntityGraph() {
+        final String testId = "test.id";
+        final String testEntityGraphName = "test.graph";
+        TestHibernateEntity hibernateEntity = mock(TestHibernateEntity.class);
+        when(dao.findById(testId, testEntityGraphName)).thenReturn(hibernateEntity);
+        TestDomainEntity domainEntity = mock(TestDomainEntity.class);
+        when(hibernateEntityToDomainEntityConverter.convert(hibernateEntity)).thenReturn(domainEntity);
+
+        TestDomainEntity actual = gateway.findById(testId, testEntityGraphName);
+
+        verify(dao).findById(testId, testEntityGraphName);
+        verifyNoMoreInteractions(dao);
+        assertThat(actual).isSameAs(domainEntity);
+    }
+
+    @Test
+    public void whenSaveItShouldMergeIntoReference() {
+        final String testId = "test.id";
+        TestDomainEntity domainEntity = mock(TestDomainEntity.class);
+        TestHibernateEntity hibernateEntity = mock(TestHibernateEntity.class);
+        when(dao.getReference(testId)).thenReturn(hibernateEntity);
+        TestDomainEntity savedDomainEntity = mock(TestDomainEntity.class);
+        when(hibernateEntityToDomainEntityConverter.convert(hibernateEntity)).thenReturn(savedDomainEntity);
+
+        TestDomainEntity actual = gateway.save(testId, domainEntity);
+
+        verify(dao).getReference(testId);
+        verify(domainEntityToHibernateEntityMerger).merge(domainEntity, hibernateEntity);
+        verify(dao).update(hibernateEntity);
+        verifyNoMoreInteractions(dao);
+        assertThat(actual).isSameAs(savedDomainEntity);
+    }
+
     private static class TestMapStructAbstractGateway extends MapStructAbstractGateway<
             TestDomainAddPayload,
             TestDomainEntity,
@@ -0,0 +1,115 @@
+package org.coner.core.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+
+import org.coner.core.DatabaseMonitoringConfiguration;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.codahale.metrics.health.HealthCheck;
+import io.dropwizard.util.Duration;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DatabaseHealthCheckTest {
+
+    private static final String QUERY = "FROM RunHibernateEntity r";
+
+    DatabaseHealthCheck healthCheck;
+
+    @Mock
+    SessionFactory sessionFactory;
+    @Mock
+    SessionFactoryImplementor sessionFactoryImplementor;
+    @Mock
+    ServiceRegistryImplementor serviceRegistry;
+    @Mock
+    ConnectionProvider connectionProvider;
+    @Mock
+    Connection connection;
+    @Mock
+    Statistics statistics;
+    @Mock
+    QueryStatistics queryStatistics;
+
+    @Before
+    public void setup() throws Exception {
+        when(sessionFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactoryImplementor);
+        when(sessionFactoryImplementor.getServiceRegistry()).thenReturn(serviceRegistry);
+        when(serviceRegistry.getService(ConnectionProvider.class)).thenReturn(connectionProvider);
+        when(connectionProvider.getConnection()).thenReturn(connection);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        DatabaseMonitoringConfiguration configuration = new DatabaseMonitoringConfiguration();
+        configuration.setMaxPoolWaitTime(Duration.milliseconds(50));
+        configuration.setMaxSlowestQueryTime(Duration.milliseconds(100));
+        healthCheck = new DatabaseHealthCheck(sessionFactory, configuration);
+    }
+
+    @Test
+    public void whenBorrowingConnectionSlowItShouldBeUnhealthy() throws Exception {
+        when(connectionProvider.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return connection;
+        });
+
+        HealthCheck.Result actual = healthCheck.execute();
+
+        assertThat(actual.isHealthy()).isFalse();
+        assertThat(actual.getMessage()).startsWith("Borrowing a connection took");
+        verify(connectionProvider).closeConnection(connection);
+    }
+
+    @Test
+    public void whenStatisticsDisabledItShouldOnlyCheckPool() {
+        when(statistics.isStatisticsEnabled()).thenReturn(false);
+
+        HealthCheck.Result actual = healthCheck.execute();
+
+        assertThat(actual.isHealthy()).isTrue();
+        assertThat(actual.getMessage()).startsWith("Borrowed a connection");
+    }
+
+    @Test
+    public void whenSlowestQuerySlowItShouldBeUnhealthy() {
+        whenQueryExecuted(4, 800);
+
+        HealthCheck.Result actual = healthCheck.execute();
+
+        assertThat(actual.isHealthy()).isFalse();
+        assertThat(actual.getMessage())
+                .startsWith("Slowest query averaged 200 ms")
+                .endsWith(QUERY);
+    }
+
+    @Test
+    public void itShouldOnlyAverageQueriesSincePreviousCheck() {
+        whenQueryExecuted(4, 800);
+        healthCheck.execute();
+        whenQueryExecuted(14, 1300);
+
+        HealthCheck.Result actual = healthCheck.execute();
+
+        assertThat(actual.isHealthy()).isTrue();
+        assertThat(actual.getMessage()).endsWith("slowest query averaged 50 ms");
+    }
+
+    private void whenQueryExecuted(long executions, long totalMillis) {
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+        when(statistics.getQueries()).thenReturn(new String[]{QUERY});
+        when(statistics.getQueryStatistics(QUERY)).thenReturn(queryStatistics);
+        when(queryStatistics.getExecutionCount()).thenReturn(executions);
+        when(queryStatistics.getExecutionTotalTime()).thenReturn(totalMillis);
+    }
+}
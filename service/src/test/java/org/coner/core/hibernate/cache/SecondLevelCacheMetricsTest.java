@@ -0,0 +1,87 @@
+package org.coner.core.hibernate.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SecondLevelCacheMetricsTest {
+
+    private static final String REGION = "handicap-groups";
+
+    @InjectMocks
+    SecondLevelCacheMetrics secondLevelCacheMetrics;
+
+    @Mock
+    SessionFactory sessionFactory;
+    @Mock
+    Statistics statistics;
+    @Mock
+    SecondLevelCacheStatistics regionStatistics;
+
+    @Before
+    public void setup() {
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{REGION});
+    }
+
+    @Test
+    public void itShouldGaugeTotals() {
+        when(statistics.getSecondLevelCacheHitCount()).thenReturn(3L);
+        when(statistics.getSecondLevelCacheMissCount()).thenReturn(2L);
+        when(statistics.getSecondLevelCachePutCount()).thenReturn(1L);
+
+        Map<String, Metric> metrics = secondLevelCacheMetrics.getMetrics();
+
+        assertThat(value(metrics, "hibernate.second-level-cache.hits")).isEqualTo(3L);
+        assertThat(value(metrics, "hibernate.second-level-cache.misses")).isEqualTo(2L);
+        assertThat(value(metrics, "hibernate.second-level-cache.puts")).isEqualTo(1L);
+        assertThat(value(metrics, "hibernate.second-level-cache.hit-ratio")).isEqualTo(0.6);
+    }
+
+    @Test
+    public void itShouldGaugeEachRegion() {
+        when(statistics.getSecondLevelCacheStatistics(REGION)).thenReturn(regionStatistics);
+        when(regionStatistics.getHitCount()).thenReturn(5L);
+        when(regionStatistics.getMissCount()).thenReturn(4L);
+        when(regionStatistics.getPutCount()).thenReturn(4L);
+
+        Map<String, Metric> metrics = secondLevelCacheMetrics.getMetrics();
+
+        assertThat(value(metrics, "hibernate.second-level-cache.handicap-groups.hits")).isEqualTo(5L);
+        assertThat(value(metrics, "hibernate.second-level-cache.handicap-groups.misses")).isEqualTo(4L);
+        assertThat(value(metrics, "hibernate.second-level-cache.handicap-groups.puts")).isEqualTo(4L);
+        assertThat((double) value(metrics, "hibernate.second-level-cache.handicap-groups.hit-ratio"))
+                .isCloseTo(5.0 / 9, within(0.0001));
+    }
+
+    @Test
+    public void whenRegionStatisticsMissingItShouldGaugeZero() {
+        when(statistics.getSecondLevelCacheStatistics(REGION)).thenReturn(null);
+
+        Map<String, Metric> metrics = secondLevelCacheMetrics.getMetrics();
+
+        assertThat(value(metrics, "hibernate.second-level-cache.handicap-groups.hits")).isEqualTo(0L);
+        assertThat((double) value(metrics, "hibernate.second-level-cache.handicap-groups.hit-ratio")).isNaN();
+    }
+
+    private static Object value(Map<String, Metric> metrics, String name) {
+        assertThat(metrics).containsKey(name);
+        return ((Gauge<?>) metrics.get(name)).getValue();
+    }
+}
@@ -1,5 +1,7 @@
 package org.coner.core.hibernate.dao;
 
+import org.hibernate.cfg.AvailableSettings;
+
 import io.dropwizard.testing.junit.DAOTestRule;
 
 abstract class AbstractDaoTest {
@@ -10,7 +12,9 @@ abstract class AbstractDaoTest {
                 .setDriver(org.hsqldb.jdbc.JDBCDriver.class)
                 .setUrl("jdbc:hsqldb:mem:coner-" + getClass().getSimpleName())
                 .setShowSql(false)
-                .useSqlComments(true);
+                .useSqlComments(true)
+                // DAO tests count the statements their queries issue, which the second-level cache would hide
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, Boolean.FALSE.toString());
     }
 
     DAOTestRule.Builder getDaoTestRuleBuilder() {
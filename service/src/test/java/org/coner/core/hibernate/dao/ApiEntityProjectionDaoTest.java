@@ -0,0 +1,186 @@
+package org.coner.core.hibernate.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.coner.core.api.entity.RegistrationApiEntity;
+import org.coner.core.api.entity.RunApiEntity;
+import org.coner.core.hibernate.entity.CarHibernateEntity;
+import org.coner.core.hibernate.entity.CompetitionGroupHibernateEntity;
+import org.coner.core.hibernate.entity.CompetitionGroupSetHibernateEntity;
+import org.coner.core.hibernate.entity.EventHibernateEntity;
+import org.coner.core.hibernate.entity.HandicapGroupHibernateEntity;
+import org.coner.core.hibernate.entity.HandicapGroupSetHibernateEntity;
+import org.coner.core.hibernate.entity.PersonHibernateEntity;
+import org.coner.core.hibernate.entity.RegistrationHibernateEntity;
+import org.coner.core.hibernate.entity.RunHibernateEntity;
+import org.coner.core.util.HibernateEntityTestUtils;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+import io.dropwizard.testing.junit.DAOTestRule;
+
+public class ApiEntityProjectionDaoTest extends AbstractDaoTest {
+
+    private ApiEntityProjectionDao dao;
+
+    private EventHibernateEntity event;
+    private RegistrationHibernateEntity registration;
+    private RunHibernateEntity timedRun;
+    private RunHibernateEntity unregisteredRun;
+
+    @Rule
+    public DAOTestRule daoTestRule = getDaoTestRuleBuilder()
+            .addEntityClass(RunHibernateEntity.class)
+            .addEntityClass(PersonHibernateEntity.class)
+            .addEntityClass(CarHibernateEntity.class)
+            .addEntityClass(EventHibernateEntity.class)
+            .addEntityClass(RegistrationHibernateEntity.class)
+            .addEntityClass(HandicapGroupHibernateEntity.class)
+            .addEntityClass(HandicapGroupSetHibernateEntity.class)
+            .addEntityClass(CompetitionGroupHibernateEntity.class)
+            .addEntityClass(CompetitionGroupSetHibernateEntity.class)
+            .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+            .build();
+
+    @Before
+    public void setup() {
+        SessionFactory sessionFactory = daoTestRule.getSessionFactory();
+        dao = new ApiEntityProjectionDao(sessionFactory);
+        setupEntities();
+        sessionFactory.getCurrentSession().clear();
+    }
+
+    @Test
+    public void whenGetRunsAtItShouldSelectApiEntitiesInSequenceOrder() {
+        List<RunApiEntity> actual = daoTestRule.inTransaction(() -> dao.getRunsAt(event.getId()));
+
+        assertThat(actual).containsExactly(
+                new RunApiEntity(
+                        unregisteredRun.getId(),
+                        event.getId(),
+                        null,
+                        1,
+                        unregisteredRun.getTimestamp(),
+                        unregisteredRun.getRawTime(),
+                        unregisteredRun.getCones(),
+                        unregisteredRun.getDidNotFinish(),
+                        unregisteredRun.getDisqualified(),
+                        unregisteredRun.getRerun(),
+                        unregisteredRun.getCompetitive()
+                ),
+                new RunApiEntity(
+                        timedRun.getId(),
+                        event.getId(),
+                        registration.getId(),
+                        2,
+                        timedRun.getTimestamp(),
+                        timedRun.getRawTime(),
+                        timedRun.getCones(),
+                        timedRun.getDidNotFinish(),
+                        timedRun.getDisqualified(),
+                        timedRun.getRerun(),
+                        timedRun.getCompetitive()
+                )
+        );
+    }
+
+    @Test
+    public void whenGetRunsAtPageItShouldSelectRunsAfterSequence() {
+        List<RunApiEntity> actual = daoTestRule.inTransaction(() -> dao.getRunsAt(event.getId(), 1, 10));
+
+        assertThat(actual)
+                .extracting(RunApiEntity::getId)
+                .containsExactly(timedRun.getId());
+    }
+
+    @Test
+    public void whenGetRegistrationsAtItShouldSelectApiEntities() {
+        List<RegistrationApiEntity> actual = daoTestRule.inTransaction(() -> dao.getRegistrationsAt(event.getId()));
+
+        assertThat(actual).hasSize(1);
+        RegistrationApiEntity registrationApiEntity = actual.get(0);
+        assertThat(registrationApiEntity.getId()).isEqualTo(registration.getId());
+        assertThat(registrationApiEntity.getHandicapGroupId()).isEqualTo(registration.getHandicapGroup().getId());
+        assertThat(registrationApiEntity.getCompetitionGroupId())
+                .isEqualTo(registration.getCompetitionGroup().getId());
+        assertThat(registrationApiEntity.getNumber()).isEqualTo(registration.getNumber());
+        assertThat(registrationApiEntity.isCheckedIn()).isEqualTo(registration.isCheckedIn());
+        assertThat(registrationApiEntity.getPerson().getId()).isEqualTo(registration.getPerson().getId());
+        assertThat(registrationApiEntity.getPerson().getFirstName())
+                .isEqualTo(registration.getPerson().getFirstName());
+        assertThat(registrationApiEntity.getPerson().getLastName()).isEqualTo(registration.getPerson().getLastName());
+        assertThat(registrationApiEntity.getCar().getId()).isEqualTo(registration.getCar().getId());
+        assertThat(registrationApiEntity.getCar().getYear()).isEqualTo(registration.getCar().getYear());
+        assertThat(registrationApiEntity.getCar().getModel()).isEqualTo(registration.getCar().getModel());
+    }
+
+    @Test
+    public void itShouldSelectEachListingInOneStatementWithoutManagingEntities() {
+        Statistics statistics = daoTestRule.getSessionFactory().getStatistics();
+        statistics.clear();
+
+        daoTestRule.inTransaction(() -> {
+            dao.getRunsAt(event.getId());
+            dao.getRegistrationsAt(event.getId());
+            Session session = daoTestRule.getSessionFactory().getCurrentSession();
+            assertThat(session.getStatistics().getEntityCount()).isZero();
+        });
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void setupEntities() {
+        HandicapGroupHibernateEntity handicapGroup = HibernateEntityTestUtils.fullHandicapGroup();
+        handicapGroup.setId(null);
+        HandicapGroupSetHibernateEntity handicapGroupSet = HibernateEntityTestUtils.fullHandicapGroupSet();
+        handicapGroupSet.setId(null);
+        handicapGroupSet.setHandicapGroups(Sets.newHashSet(handicapGroup));
+        CompetitionGroupHibernateEntity competitionGroup = HibernateEntityTestUtils.fullCompetitionGroup();
+        competitionGroup.setId(null);
+        CompetitionGroupSetHibernateEntity competitionGroupSet = HibernateEntityTestUtils.fullCompetitionGroupSet();
+        competitionGroupSet.setId(null);
+        competitionGroupSet.setCompetitionGroups(Sets.newHashSet(competitionGroup));
+        event = HibernateEntityTestUtils.fullEvent();
+        event.setId(null);
+        event.setHandicapGroupSet(handicapGroupSet);
+        event.setCompetitionGroupSet(competitionGroupSet);
+        registration = HibernateEntityTestUtils.fullRegistration();
+        registration.setId(null);
+        registration.getPerson().setId(null);
+        registration.getCar().setId(null);
+        registration.setEvent(event);
+        registration.setHandicapGroup(handicapGroup);
+        registration.setCompetitionGroup(competitionGroup);
+        unregisteredRun = HibernateEntityTestUtils.fullRun();
+        unregisteredRun.setId(null);
+        unregisteredRun.setEvent(event);
+        unregisteredRun.setRegistration(null);
+        unregisteredRun.setSequence(1);
+        unregisteredRun.setRawTime(null);
+        timedRun = HibernateEntityTestUtils.fullRun();
+        timedRun.setId(null);
+        timedRun.setEvent(event);
+        timedRun.setRegistration(registration);
+        timedRun.setSequence(2);
+
+        daoTestRule.inTransaction(() -> {
+            new HandicapGroupDao(daoTestRule.getSessionFactory()).create(handicapGroup);
+            new HandicapGroupSetDao(daoTestRule.getSessionFactory()).create(handicapGroupSet);
+            new CompetitionGroupDao(daoTestRule.getSessionFactory()).create(competitionGroup);
+            new CompetitionGroupSetDao(daoTestRule.getSessionFactory()).create(competitionGroupSet);
+            new EventDao(daoTestRule.getSessionFactory()).create(event);
+            new RegistrationDao(daoTestRule.getSessionFactory()).create(registration);
+            RunDao runDao = new RunDao(daoTestRule.getSessionFactory());
+            runDao.create(unregisteredRun);
+            runDao.create(timedRun);
+        });
+    }
+}
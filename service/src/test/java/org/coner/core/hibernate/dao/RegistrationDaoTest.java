@@ -18,7 +18,9 @@ import org.coner.core.hibernate.entity.PersonHibernateEntity;
 import org.coner.core.hibernate.entity.RegistrationHibernateEntity;
 import org.coner.core.util.HibernateEntityTestUtils;
 import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.stat.Statistics;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -47,6 +49,7 @@ public class RegistrationDaoTest extends AbstractDaoTest {
             .addEntityClass(HandicapGroupSetHibernateEntity.class)
             .addEntityClass(CompetitionGroupHibernateEntity.class)
             .addEntityClass(CompetitionGroupSetHibernateEntity.class)
+            .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
             .build();
 
     @Before
@@ -166,6 +169,39 @@ public class RegistrationDaoTest extends AbstractDaoTest {
         });
     }
 
+    @Test
+    public void itShouldGetAllWithEventAndDetailsWithoutSelectPerRow() {
+        daoTestRule.inTransaction(() -> {
+            for (int i = 0; i < 5; i++) {
+                dao.create(buildUnsavedRegistration());
+            }
+        });
+        daoTestRule.getSessionFactory().getCurrentSession().clear();
+        Statistics statistics = daoTestRule.getSessionFactory().getStatistics();
+        statistics.clear();
+
+        daoTestRule.inTransaction(() -> {
+            List<RegistrationHibernateEntity> actual = dao.getAllWith(
+                    prerequisites.event,
+                    RegistrationHibernateEntity.GRAPH_WITH_DETAILS
+            );
+
+            assertThat(actual)
+                    .hasSize(5)
+                    .extracting(
+                            it -> it.getPerson().getFirstName(),
+                            it -> it.getCar().getMake(),
+                            it -> it.getEvent().getHandicapGroupSet().getName(),
+                            it -> it.getEvent().getCompetitionGroupSet().getName(),
+                            it -> it.getHandicapGroup().getName(),
+                            it -> it.getCompetitionGroup().getName()
+                    )
+                    .doesNotContainNull();
+        });
+        // the query alone, as the group sets of the groups are fetched lazily
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
     private Prerequisites setupPrerequisites() {
         Prerequisites prerequisites = new Prerequisites();
         prerequisites.handicapGroup = HibernateEntityTestUtils.fullHandicapGroup();
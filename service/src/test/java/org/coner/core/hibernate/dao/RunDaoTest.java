@@ -2,12 +2,15 @@ package org.coner.core.hibernate.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.coner.core.hibernate.entity.RunHibernateEntity.GRAPH_WITH_REGISTRATION;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.persistence.PersistenceException;
 
@@ -22,8 +25,10 @@ import org.coner.core.hibernate.entity.RegistrationHibernateEntity;
 import org.coner.core.hibernate.entity.RunHibernateEntity;
 import org.coner.core.util.HibernateEntityTestUtils;
 import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.exception.ConstraintViolationException;
 import org.hibernate.exception.DataException;
+import org.hibernate.stat.Statistics;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Rule;
@@ -56,6 +61,7 @@ public class RunDaoTest extends AbstractDaoTest {
             .addEntityClass(HandicapGroupSetHibernateEntity.class)
             .addEntityClass(CompetitionGroupHibernateEntity.class)
             .addEntityClass(CompetitionGroupSetHibernateEntity.class)
+            .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
             .build();
 
     @Before
@@ -186,15 +192,15 @@ public class RunDaoTest extends AbstractDaoTest {
     }
 
     @Test
-    public void itShouldFindLastInSequenceNullWhenNoneExists() {
+    public void itShouldFindMaxSequenceZeroWhenNoneExists() {
         daoTestRule.inTransaction(() -> {
-            RunHibernateEntity lastInSequenceForEvent = dao.findLastInSequenceFor(prerequisites.event);
-            assertThat(lastInSequenceForEvent).isNull();
+            int maxSequence = dao.findMaxSequenceFor(prerequisites.event);
+            assertThat(maxSequence).isZero();
         });
     }
 
     @Test
-    public void itShouldFindLastInSequenceCorrectWhenPriorRunsExist() {
+    public void itShouldFindMaxSequenceWhenPriorRunsExist() {
         daoTestRule.inTransaction(() -> {
             // setup prior runs
             RunHibernateEntity entity1 = buildUnsavedRun();
@@ -206,16 +212,14 @@ public class RunDaoTest extends AbstractDaoTest {
             dao.create(entity1);
             dao.create(entity2);
 
-            RunHibernateEntity actual = dao.findLastInSequenceFor(prerequisites.event);
+            int actual = dao.findMaxSequenceFor(prerequisites.event);
 
-            assertThat(actual)
-                    .isNotNull()
-                    .isSameAs(entity2);
+            assertThat(actual).isEqualTo(2);
         });
     }
 
     @Test
-    public void itShouldFindFirstInSequenceWithoutRawTimeWhenExists() {
+    public void itShouldGetAllWithoutRawTimeInSequence() {
         daoTestRule.inTransaction(() -> {
             // setup three runs, only the first of which has a raw time
             RunHibernateEntity runWithTime = buildUnsavedRun();
@@ -230,34 +234,117 @@ public class RunDaoTest extends AbstractDaoTest {
             dao.create(runWithoutTime1);
             dao.create(runWithoutTime2);
 
-            RunHibernateEntity actual = dao.findFirstInSequenceWithoutRawTime(prerequisites.event);
+            List<RunHibernateEntity> actual = dao.getAllWithoutRawTime(prerequisites.event, GRAPH_WITH_REGISTRATION);
 
-            assertThat(actual).isSameAs(runWithoutTime1);
+            assertThat(actual).containsExactly(runWithoutTime1, runWithoutTime2);
         });
     }
 
     @Test
-    public void whenAllRunsHaveRawTimesThenFirstInSequenceWithoutRawTimeShouldBeNull() {
+    public void whenAllRunsHaveRawTimesThenAllWithoutRawTimeShouldBeEmpty() {
         daoTestRule.inTransaction(() -> {
             // setup one run with a time
             RunHibernateEntity run = buildUnsavedRun();
             dao.create(run);
 
-            RunHibernateEntity actual = dao.findFirstInSequenceWithoutRawTime(prerequisites.event);
+            List<RunHibernateEntity> actual = dao.getAllWithoutRawTime(prerequisites.event, GRAPH_WITH_REGISTRATION);
 
-            assertThat(actual).isNull();
+            assertThat(actual).isEmpty();
         });
     }
 
     @Test
-    public void whenNoRunsThenFirstInSequenceWithoutRawTimeShouldBeNull() {
+    public void whenNoRunsThenAllWithoutRawTimeShouldBeEmpty() {
         daoTestRule.inTransaction(() -> {
             // no runs
 
-            RunHibernateEntity actual = dao.findFirstInSequenceWithoutRawTime(prerequisites.event);
+            List<RunHibernateEntity> actual = dao.getAllWithoutRawTime(prerequisites.event, GRAPH_WITH_REGISTRATION);
+
+            assertThat(actual).isEmpty();
+        });
+    }
+
+    @Test
+    public void itShouldGetPageWithEventAfterSequence() {
+        daoTestRule.inTransaction(() -> {
+            // setup five runs, created out of sequence
+            for (int sequence : new int[] {3, 1, 5, 2, 4}) {
+                RunHibernateEntity run = buildUnsavedRun();
+                run.setSequence(sequence);
+                dao.create(run);
+            }
+
+            List<RunHibernateEntity> firstPage = dao.getAllWith(prerequisites.event, 0, 2, GRAPH_WITH_REGISTRATION);
+            List<RunHibernateEntity> secondPage = dao.getAllWith(prerequisites.event, 2, 2, GRAPH_WITH_REGISTRATION);
+            List<RunHibernateEntity> lastPage = dao.getAllWith(prerequisites.event, 5, 2, GRAPH_WITH_REGISTRATION);
+
+            assertThat(firstPage).extracting(RunHibernateEntity::getSequence).containsExactly(1, 2);
+            assertThat(secondPage).extracting(RunHibernateEntity::getSequence).containsExactly(3, 4);
+            assertThat(lastPage).isEmpty();
+        });
+    }
+
+    @Test
+    public void itShouldScrollAllWithEventInSequence() {
+        int runs = RunDao.SCROLL_FETCH_SIZE * 2 + 1;
+        daoTestRule.inTransaction(() -> {
+            for (int sequence = runs; sequence > 0; sequence--) {
+                RunHibernateEntity run = buildUnsavedRun();
+                run.setSequence(sequence);
+                dao.create(run);
+            }
+        });
+        List<Integer> sequences = new ArrayList<>();
+
+        dao.scrollAllWith(
+                prerequisites.event.getId(),
+                GRAPH_WITH_REGISTRATION,
+                run -> sequences.add(run.getSequence())
+        );
+
+        assertThat(sequences)
+                .hasSize(runs)
+                .isSorted()
+                .startsWith(1)
+                .endsWith(runs);
+    }
+
+    @Test
+    public void itShouldGetAllWithEventAndRegistrationsWithoutSelectPerRow() {
+        daoTestRule.inTransaction(() -> {
+            for (int sequence = 1; sequence <= 5; sequence++) {
+                RegistrationHibernateEntity registration = buildUnsavedRegistration();
+                registrationDao.create(registration);
+                RunHibernateEntity run = buildUnsavedRun();
+                run.setRegistration(registration);
+                run.setSequence(sequence);
+                dao.create(run);
+            }
+        });
+        daoTestRule.getSessionFactory().getCurrentSession().clear();
+        Statistics statistics = daoTestRule.getSessionFactory().getStatistics();
+        statistics.clear();
+
+        daoTestRule.inTransaction(() -> {
+            List<RunHibernateEntity> actual = dao.getAllWith(
+                    prerequisites.event,
+                    GRAPH_WITH_REGISTRATION
+            );
 
-            assertThat(actual).isNull();
+            assertThat(actual)
+                    .hasSize(5)
+                    .extracting(
+                            run -> run.getEvent().getHandicapGroupSet().getName(),
+                            run -> run.getEvent().getCompetitionGroupSet().getName(),
+                            run -> run.getRegistration().getPerson().getFirstName(),
+                            run -> run.getRegistration().getCar().getMake(),
+                            run -> run.getRegistration().getHandicapGroup().getName(),
+                            run -> run.getRegistration().getCompetitionGroup().getName()
+                    )
+                    .doesNotContainNull();
         });
+        // the query alone, as the group sets of the groups are fetched lazily
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
     }
 
     @Test
@@ -283,12 +370,84 @@ public class RunDaoTest extends AbstractDaoTest {
                 dao.create(wantedRun);
             }
 
-            List<RunHibernateEntity> actual = dao.getAllWith(wantedRegistration);
+            List<RunHibernateEntity> actual = dao.getAllWith(wantedRegistration, GRAPH_WITH_REGISTRATION);
 
             assertThat(actual).isEqualTo(expected);
         });
     }
 
+    @Test
+    public void whenGetAllWithRegistrationReferenceItShouldNotSelectRegistration() {
+        RegistrationHibernateEntity registration = buildUnsavedRegistration();
+        daoTestRule.inTransaction(() -> {
+            registrationDao.create(registration);
+            RunHibernateEntity run = buildUnsavedRun();
+            run.setRegistration(registration);
+            dao.create(run);
+        });
+        daoTestRule.getSessionFactory().getCurrentSession().clear();
+        Statistics statistics = daoTestRule.getSessionFactory().getStatistics();
+        statistics.clear();
+
+        daoTestRule.inTransaction(() -> {
+            RegistrationHibernateEntity reference = registrationDao.getReference(registration.getId());
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+
+            List<RunHibernateEntity> actual = dao.getAllWith(reference, GRAPH_WITH_REGISTRATION);
+
+            assertThat(actual).hasSize(1);
+        });
+        // the query alone, as the group sets of the groups are fetched lazily
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenTransactionCommitsItShouldRunAfterCommitCallback() {
+        AtomicBoolean called = new AtomicBoolean();
+
+        daoTestRule.inTransaction(() -> {
+            dao.create(buildUnsavedRun());
+            dao.afterCommit(() -> called.set(true));
+            assertThat(called.get()).isFalse();
+        });
+
+        assertThat(called.get()).isTrue();
+    }
+
+    @Test
+    public void whenTransactionRollsBackItShouldNotRunAfterCommitCallback() {
+        AtomicBoolean called = new AtomicBoolean();
+        RunHibernateEntity entity = buildUnsavedRun();
+        entity.setSequence(0);
+
+        try {
+            daoTestRule.inTransaction(() -> {
+                dao.afterCommit(() -> called.set(true));
+                dao.create(entity);
+            });
+            failBecauseExceptionWasNotThrown(javax.validation.ConstraintViolationException.class);
+        } catch (javax.validation.ConstraintViolationException e) {
+            assertThat(called.get()).isFalse();
+        }
+    }
+
+    @Test
+    public void whenTransactionRollsBackItShouldRunAfterCompletionCallback() {
+        AtomicBoolean called = new AtomicBoolean();
+        RunHibernateEntity entity = buildUnsavedRun();
+        entity.setSequence(0);
+
+        try {
+            daoTestRule.inTransaction(() -> {
+                dao.afterCompletion(() -> called.set(true));
+                dao.create(entity);
+            });
+            failBecauseExceptionWasNotThrown(javax.validation.ConstraintViolationException.class);
+        } catch (javax.validation.ConstraintViolationException e) {
+            assertThat(called.get()).isTrue();
+        }
+    }
+
     private Prerequisites setupPrerequisites() {
         Prerequisites prerequisites = new Prerequisites();
         prerequisites.handicapGroup = HibernateEntityTestUtils.fullHandicapGroup();
@@ -335,6 +494,17 @@ public class RunDaoTest extends AbstractDaoTest {
 
     }
 
+    private RegistrationHibernateEntity buildUnsavedRegistration() {
+        RegistrationHibernateEntity registration = HibernateEntityTestUtils.fullRegistration();
+        registration.setId(null);
+        registration.getPerson().setId(null);
+        registration.getCar().setId(null);
+        registration.setEvent(prerequisites.event);
+        registration.setHandicapGroup(prerequisites.handicapGroup);
+        registration.setCompetitionGroup(prerequisites.competitionGroup);
+        return registration;
+    }
+
     private RunHibernateEntity buildUnsavedRun() {
         Preconditions.checkState(prerequisites != null, "first call setupPrerequisites!");
         RunHibernateEntity unsavedRun = HibernateEntityTestUtils.fullRun();
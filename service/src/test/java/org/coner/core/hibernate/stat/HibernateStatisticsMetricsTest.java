@@ -0,0 +1,84 @@
+package org.coner.core.hibernate.stat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.coner.core.hibernate.entity.CarHibernateEntity;
+import org.coner.core.hibernate.entity.CompetitionGroupHibernateEntity;
+import org.coner.core.hibernate.entity.CompetitionGroupSetHibernateEntity;
+import org.coner.core.hibernate.entity.EventHibernateEntity;
+import org.coner.core.hibernate.entity.HandicapGroupHibernateEntity;
+import org.coner.core.hibernate.entity.HandicapGroupSetHibernateEntity;
+import org.coner.core.hibernate.entity.PersonHibernateEntity;
+import org.coner.core.hibernate.entity.RegistrationHibernateEntity;
+import org.coner.core.hibernate.entity.RunHibernateEntity;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import io.dropwizard.testing.junit.DAOTestRule;
+
+public class HibernateStatisticsMetricsTest {
+
+    private static final String EXECUTIONS = "hibernate.queries." + RunHibernateEntity.QUERY_FIND_ALL_WITH_EVENT
+            + ".executions";
+
+    @Rule
+    public DAOTestRule daoTestRule = DAOTestRule.newBuilder()
+            .setDriver(org.hsqldb.jdbc.JDBCDriver.class)
+            .setUrl("jdbc:hsqldb:mem:coner-" + getClass().getSimpleName())
+            .setShowSql(false)
+            .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, Boolean.FALSE.toString())
+            .addEntityClass(RunHibernateEntity.class)
+            .addEntityClass(PersonHibernateEntity.class)
+            .addEntityClass(CarHibernateEntity.class)
+            .addEntityClass(EventHibernateEntity.class)
+            .addEntityClass(RegistrationHibernateEntity.class)
+            .addEntityClass(HandicapGroupHibernateEntity.class)
+            .addEntityClass(HandicapGroupSetHibernateEntity.class)
+            .addEntityClass(CompetitionGroupHibernateEntity.class)
+            .addEntityClass(CompetitionGroupSetHibernateEntity.class)
+            .build();
+
+    private HibernateStatisticsMetrics hibernateStatisticsMetrics;
+
+    @Before
+    public void setup() {
+        hibernateStatisticsMetrics = new HibernateStatisticsMetrics(daoTestRule.getSessionFactory());
+        hibernateStatisticsMetrics.enableStatistics();
+    }
+
+    @Test
+    public void itShouldFindNamedQueriesOfEntities() {
+        assertThat(hibernateStatisticsMetrics.getNamedQueries()).containsKeys(
+                RunHibernateEntity.QUERY_FIND_ALL_WITH_EVENT,
+                RunHibernateEntity.QUERY_FIND_ALL_WITHOUT_TIME_AT_EVENT,
+                RegistrationHibernateEntity.QUERY_FIND_ALL_WITH_EVENT
+        );
+    }
+
+    @Test
+    public void itShouldGaugeExecutionsOfNamedQueries() {
+        Map<String, Metric> metrics = hibernateStatisticsMetrics.getMetrics();
+        assertThat(value(metrics, EXECUTIONS)).isEqualTo(0L);
+
+        daoTestRule.inTransaction(() -> daoTestRule.getSessionFactory().getCurrentSession()
+                .createNamedQuery(RunHibernateEntity.QUERY_FIND_ALL_WITH_EVENT)
+                .setParameter(RunHibernateEntity.PARAMETER_EVENT_ID, "no-such-event")
+                .list()
+        );
+
+        assertThat(value(metrics, EXECUTIONS)).isEqualTo(1L);
+        assertThat(value(metrics, "hibernate.queries.executions")).isEqualTo(1L);
+        assertThat(value(metrics, "hibernate.transactions")).isEqualTo(1L);
+    }
+
+    private static Object value(Map<String, Metric> metrics, String name) {
+        assertThat(metrics).containsKey(name);
+        return ((Gauge<?>) metrics.get(name)).getValue();
+    }
+}
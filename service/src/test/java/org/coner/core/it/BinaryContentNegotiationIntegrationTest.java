@@ -0,0 +1,173 @@
+package org.coner.core.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.coner.core.api.entity.HandicapGroupApiEntity;
+import org.coner.core.api.entity.RunApiEntity;
+import org.coner.core.api.request.AddHandicapGroupRequest;
+import org.coner.core.api.request.AddRawTimeToFirstRunLackingRequest;
+import org.coner.core.api.request.AddRunRequest;
+import org.coner.core.api.response.GetHandicapGroupsResponse;
+import org.coner.core.util.ApiRequestTestUtils;
+import org.coner.core.util.ConerMediaType;
+import org.coner.core.util.IntegrationTestStandardRequestDelegate;
+import org.coner.core.util.IntegrationTestUtils;
+import org.coner.core.util.JacksonUtil;
+import org.coner.core.util.TestConstants;
+import org.coner.core.util.UnitTestUtils;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.common.collect.Sets;
+
+public class BinaryContentNegotiationIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String HANDICAP_GROUPS_PATH = "/handicapGroups";
+    private static final String HANDICAP_GROUP_PATH = "/handicapGroups/{handicapGroupId}";
+    private static final String RAW_TIMES_PATH = "/events/{eventId}/runs/rawTimes";
+
+    private final ObjectMapper smileMapper = JacksonUtil.newObjectMapper(new SmileFactory());
+    private final ObjectMapper cborMapper = JacksonUtil.newObjectMapper(new CBORFactory());
+
+    private IntegrationTestStandardRequestDelegate standardRequests;
+    private String eventId;
+
+    @Before
+    public void setup() {
+        standardRequests = new IntegrationTestStandardRequestDelegate(RULE, client);
+        eventId = standardRequests.addEvent(
+                standardRequests.addHandicapGroupSet(Sets.newHashSet(standardRequests.addHandicapGroup())),
+                standardRequests.addCompetitionGroupSet(Sets.newHashSet(standardRequests.addCompetitionGroup()))
+        );
+    }
+
+    @Test
+    public void whenAddedWithSmileItShouldGetWithCbor() throws Exception {
+        AddHandicapGroupRequest addHandicapGroupRequest = ApiRequestTestUtils.fullAddHandicapGroup();
+        URI handicapGroupsUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path(HANDICAP_GROUPS_PATH)
+                .build();
+
+        Response addHandicapGroupResponseContainer = client.target(handicapGroupsUri)
+                .request()
+                .post(Entity.entity(
+                        smileMapper.writeValueAsBytes(addHandicapGroupRequest),
+                        ConerMediaType.APPLICATION_SMILE_TYPE
+                ));
+
+        assertThat(addHandicapGroupResponseContainer.getStatus()).isEqualTo(HttpStatus.CREATED_201);
+        URI handicapGroupUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path(HANDICAP_GROUP_PATH)
+                .build(UnitTestUtils.getEntityIdFromResponse(addHandicapGroupResponseContainer));
+
+        Response getHandicapGroupResponseContainer = client.target(handicapGroupUri)
+                .request(ConerMediaType.APPLICATION_CBOR_TYPE)
+                .get();
+
+        assertThat(getHandicapGroupResponseContainer.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(getHandicapGroupResponseContainer.getMediaType().isCompatible(
+                ConerMediaType.APPLICATION_CBOR_TYPE
+        )).isTrue();
+        HandicapGroupApiEntity actual = cborMapper.readValue(
+                getHandicapGroupResponseContainer.readEntity(byte[].class),
+                HandicapGroupApiEntity.class
+        );
+        assertThat(actual.getName()).isEqualTo(addHandicapGroupRequest.getName());
+        assertThat(actual.getFactor()).isEqualByComparingTo(addHandicapGroupRequest.getFactor());
+    }
+
+    @Test
+    public void whenAcceptSmileItShouldGetSmile() throws Exception {
+        URI handicapGroupsUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path(HANDICAP_GROUPS_PATH)
+                .build();
+
+        Response getHandicapGroupsResponseContainer = client.target(handicapGroupsUri)
+                .request(ConerMediaType.APPLICATION_SMILE_TYPE)
+                .get();
+
+        assertThat(getHandicapGroupsResponseContainer.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(getHandicapGroupsResponseContainer.getMediaType().isCompatible(
+                ConerMediaType.APPLICATION_SMILE_TYPE
+        )).isTrue();
+        GetHandicapGroupsResponse actual = smileMapper.readValue(
+                getHandicapGroupsResponseContainer.readEntity(byte[].class),
+                GetHandicapGroupsResponse.class
+        );
+        assertThat(actual.getEntities()).isNotNull();
+    }
+
+    @Test
+    public void whenAcceptAnyItShouldGetJson() {
+        URI handicapGroupsUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path(HANDICAP_GROUPS_PATH)
+                .build();
+
+        Response getHandicapGroupsResponseContainer = client.target(handicapGroupsUri)
+                .request(MediaType.WILDCARD_TYPE)
+                .get();
+
+        assertThat(getHandicapGroupsResponseContainer.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(getHandicapGroupsResponseContainer.getMediaType().isCompatible(
+                MediaType.APPLICATION_JSON_TYPE
+        )).isTrue();
+    }
+
+    @Test
+    public void whenRawTimeAssignedToExistingRunWithSmileItShouldRespondWithSmile() throws Exception {
+        AddRunRequest addRunRequest = ApiRequestTestUtils.fullAddRun();
+        addRunRequest.setRegistrationId(null);
+        addRunRequest.setRawTime(null);
+        String runId = standardRequests.addRun(eventId, addRunRequest);
+        AddRawTimeToFirstRunLackingRequest addRawTimeRequest = new AddRawTimeToFirstRunLackingRequest();
+        addRawTimeRequest.setRawTime(TestConstants.RUN_RAW_TIME);
+
+        Response addRawTimeResponse = client.target(rawTimesUri())
+                .request(ConerMediaType.APPLICATION_SMILE_TYPE)
+                .post(Entity.entity(
+                        smileMapper.writeValueAsBytes(addRawTimeRequest),
+                        ConerMediaType.APPLICATION_SMILE_TYPE
+                ));
+
+        assertThat(addRawTimeResponse.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(addRawTimeResponse.getMediaType().isCompatible(ConerMediaType.APPLICATION_SMILE_TYPE)).isTrue();
+        RunApiEntity actual = smileMapper.readValue(addRawTimeResponse.readEntity(byte[].class), RunApiEntity.class);
+        assertThat(actual.getId()).isEqualTo(runId);
+        assertThat(actual.getRawTime()).isEqualByComparingTo(TestConstants.RUN_RAW_TIME);
+    }
+
+    @Test
+    public void whenRawTimeAddedAsNewRunWithCborItShouldRespondWithCbor() throws Exception {
+        AddRawTimeToFirstRunLackingRequest addRawTimeRequest = new AddRawTimeToFirstRunLackingRequest();
+        addRawTimeRequest.setRawTime(TestConstants.RUN_RAW_TIME);
+
+        Response addRawTimeResponse = client.target(rawTimesUri())
+                .request(ConerMediaType.APPLICATION_CBOR_TYPE)
+                .post(Entity.entity(
+                        cborMapper.writeValueAsBytes(addRawTimeRequest),
+                        ConerMediaType.APPLICATION_CBOR_TYPE
+                ));
+
+        assertThat(addRawTimeResponse.getStatus()).isEqualTo(HttpStatus.CREATED_201);
+        assertThat(addRawTimeResponse.getMediaType().isCompatible(ConerMediaType.APPLICATION_CBOR_TYPE)).isTrue();
+        RunApiEntity actual = cborMapper.readValue(addRawTimeResponse.readEntity(byte[].class), RunApiEntity.class);
+        assertThat(actual.getId()).isEqualTo(UnitTestUtils.getEntityIdFromResponse(addRawTimeResponse));
+        assertThat(actual.getRawTime()).isEqualByComparingTo(TestConstants.RUN_RAW_TIME);
+    }
+
+    private URI rawTimesUri() {
+        return IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path(RAW_TIMES_PATH)
+                .build(eventId);
+    }
+}
@@ -15,11 +15,16 @@ import org.coner.core.api.request.AddCompetitionGroupRequest;
 import org.coner.core.api.request.AddCompetitionGroupSetRequest;
 import org.coner.core.api.response.GetCompetitionGroupSetsResponse;
 import org.coner.core.domain.entity.CompetitionGroup;
+import org.coner.core.hibernate.entity.CompetitionGroupHibernateEntity;
+import org.coner.core.hibernate.entity.CompetitionGroupSetHibernateEntity;
 import org.coner.core.util.ApiEntityTestUtils;
 import org.coner.core.util.ApiRequestTestUtils;
+import org.coner.core.util.IntegrationTestStandardRequestDelegate;
 import org.coner.core.util.IntegrationTestUtils;
 import org.coner.core.util.UnitTestUtils;
 import org.eclipse.jetty.http.HttpStatus;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.junit.Test;
 
 import com.google.common.collect.Sets;
@@ -279,4 +284,37 @@ public class CompetitionGroupIntegrationTest extends AbstractIntegrationTest {
         assertThat(actual.getEntities().get(0).getId()).isNotEmpty();
     }
 
+    @Test
+    public void whenCompetitionGroupAddedToSetItShouldNotKeepCachedSetsOfGroup() {
+        IntegrationTestStandardRequestDelegate standardRequests = new IntegrationTestStandardRequestDelegate(
+                RULE,
+                client
+        );
+        String firstId = standardRequests.addCompetitionGroup();
+        String secondId = standardRequests.addCompetitionGroup();
+        String competitionGroupSetId = standardRequests.addCompetitionGroupSet(firstId);
+        assertThat(getCompetitionGroupSetIdsOfCompetitionGroup(secondId)).isEmpty();
+
+        URI addCompetitionGroupToSetUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path(COMPETITION_GROUP_SET_ADD_COMPETITION_GROUP_PATH)
+                .build(competitionGroupSetId, secondId);
+        Response addCompetitionGroupToSetResponseContainer = client.target(addCompetitionGroupToSetUri)
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .accept(MediaType.APPLICATION_JSON_TYPE)
+                .post(null);
+        assertThat(addCompetitionGroupToSetResponseContainer.getStatus()).isEqualTo(HttpStatus.OK_200);
+
+        assertThat(getCompetitionGroupSetIdsOfCompetitionGroup(secondId)).containsExactly(competitionGroupSetId);
+    }
+
+    private Object[] getCompetitionGroupSetIdsOfCompetitionGroup(String competitionGroupId) {
+        SessionFactory sessionFactory = IntegrationTestUtils.getSessionFactory(RULE);
+        try (Session session = sessionFactory.openSession()) {
+            return session.get(CompetitionGroupHibernateEntity.class, competitionGroupId)
+                    .getCompetitionGroupSets()
+                    .stream()
+                    .map(CompetitionGroupSetHibernateEntity::getId)
+                    .toArray();
+        }
+    }
 }
@@ -14,11 +14,17 @@ import org.coner.core.api.entity.HandicapGroupSetApiEntity;
 import org.coner.core.api.request.AddHandicapGroupRequest;
 import org.coner.core.api.request.AddHandicapGroupSetRequest;
 import org.coner.core.api.response.GetHandicapGroupSetsResponse;
+import org.coner.core.hibernate.entity.HandicapGroupHibernateEntity;
+import org.coner.core.hibernate.entity.HandicapGroupSetHibernateEntity;
 import org.coner.core.util.ApiRequestTestUtils;
+import org.coner.core.util.IntegrationTestStandardRequestDelegate;
+import org.coner.core.util.IntegrationTestStatementBudget;
 import org.coner.core.util.IntegrationTestUtils;
 import org.coner.core.util.TestConstants;
 import org.coner.core.util.UnitTestUtils;
 import org.eclipse.jetty.http.HttpStatus;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.junit.Test;
 
 import com.google.common.collect.Sets;
@@ -29,6 +35,7 @@ public class HandicapGroupIntegrationTest extends AbstractIntegrationTest {
     private static final String HANDICAP_GROUPS_PATH = "/handicapGroups";
     private static final String HANDICAP_GROUP_PATH = "/handicapGroups/{handicapGroupId}";
     private static final String HANDICAP_GROUP_SETS_PATH = "/handicapGroups/sets";
+    private static final String HANDICAP_GROUP_SET_PATH = "/handicapGroups/sets/{handicapGroupSetId}";
     private static final String HANDICAP_GROUP_SET_ADD_COMPETITION_GROUP_PATH =
             "/handicapGroups/sets/{handicapGroupSetId}/handicapGroups/{handicapGroupId}";
 
@@ -246,4 +253,83 @@ public class HandicapGroupIntegrationTest extends AbstractIntegrationTest {
         assertThat(actual.getEntities().get(0).getId()).isNotEmpty();
     }
 
+    @Test
+    public void whenGetHandicapGroupSetAgainItShouldComeFromCacheUntilChanged() {
+        IntegrationTestStandardRequestDelegate standardRequests = new IntegrationTestStandardRequestDelegate(
+                RULE,
+                client
+        );
+        IntegrationTestStatementBudget statementBudget = new IntegrationTestStatementBudget(RULE);
+        String firstId = standardRequests.addHandicapGroup();
+        String secondId = standardRequests.addHandicapGroup();
+        String handicapGroupSetId = standardRequests.addHandicapGroupSet(firstId);
+        getHandicapGroupSet(handicapGroupSetId);
+
+        HandicapGroupSetApiEntity cached = statementBudget.expectAtMost(
+                "get a cached handicap group set",
+                0,
+                () -> getHandicapGroupSet(handicapGroupSetId)
+        );
+        assertThat(cached.getHandicapGroups()).extracting(HandicapGroupApiEntity::getId).containsExactly(firstId);
+
+        URI addHandicapGroupToSetUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path(HANDICAP_GROUP_SET_ADD_COMPETITION_GROUP_PATH)
+                .build(handicapGroupSetId, secondId);
+        Response addHandicapGroupToSetResponseContainer = client.target(addHandicapGroupToSetUri)
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .accept(MediaType.APPLICATION_JSON_TYPE)
+                .post(null);
+        assertThat(addHandicapGroupToSetResponseContainer.getStatus()).isEqualTo(HttpStatus.OK_200);
+
+        HandicapGroupSetApiEntity changed = getHandicapGroupSet(handicapGroupSetId);
+        assertThat(changed.getHandicapGroups())
+                .extracting(HandicapGroupApiEntity::getId)
+                .containsExactlyInAnyOrder(firstId, secondId);
+    }
+
+    @Test
+    public void whenHandicapGroupAddedToSetItShouldNotKeepCachedSetsOfGroup() {
+        IntegrationTestStandardRequestDelegate standardRequests = new IntegrationTestStandardRequestDelegate(
+                RULE,
+                client
+        );
+        String firstId = standardRequests.addHandicapGroup();
+        String secondId = standardRequests.addHandicapGroup();
+        String handicapGroupSetId = standardRequests.addHandicapGroupSet(firstId);
+        assertThat(getHandicapGroupSetIdsOfHandicapGroup(secondId)).isEmpty();
+
+        URI addHandicapGroupToSetUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path(HANDICAP_GROUP_SET_ADD_COMPETITION_GROUP_PATH)
+                .build(handicapGroupSetId, secondId);
+        Response addHandicapGroupToSetResponseContainer = client.target(addHandicapGroupToSetUri)
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .accept(MediaType.APPLICATION_JSON_TYPE)
+                .post(null);
+        assertThat(addHandicapGroupToSetResponseContainer.getStatus()).isEqualTo(HttpStatus.OK_200);
+
+        assertThat(getHandicapGroupSetIdsOfHandicapGroup(secondId)).containsExactly(handicapGroupSetId);
+    }
+
+    private Object[] getHandicapGroupSetIdsOfHandicapGroup(String handicapGroupId) {
+        SessionFactory sessionFactory = IntegrationTestUtils.getSessionFactory(RULE);
+        try (Session session = sessionFactory.openSession()) {
+            return session.get(HandicapGroupHibernateEntity.class, handicapGroupId)
+                    .getHandicapGroupSets()
+                    .stream()
+                    .map(HandicapGroupSetHibernateEntity::getId)
+                    .toArray();
+        }
+    }
+
+    private HandicapGroupSetApiEntity getHandicapGroupSet(String handicapGroupSetId) {
+        URI handicapGroupSetUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path(HANDICAP_GROUP_SET_PATH)
+                .build(handicapGroupSetId);
+        Response getHandicapGroupSetResponseContainer = client.target(handicapGroupSetUri)
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .accept(MediaType.APPLICATION_JSON_TYPE)
+                .get();
+        assertThat(getHandicapGroupSetResponseContainer.getStatus()).isEqualTo(HttpStatus.OK_200);
+        return getHandicapGroupSetResponseContainer.readEntity(HandicapGroupSetApiEntity.class);
+    }
 }
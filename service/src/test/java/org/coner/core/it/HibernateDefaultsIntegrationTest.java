@@ -0,0 +1,48 @@
+package org.coner.core.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.coner.core.util.IntegrationTestUtils;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.JCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Boots the application from a configuration that leaves the second-level cache and JDBC batching settings out of
+ * its database properties, and checks the application supplies them itself.
+ */
+public class HibernateDefaultsIntegrationTest extends AbstractIntegrationTest {
+
+    private SessionFactoryImplementor sessionFactory;
+
+    @Before
+    public void setup() {
+        sessionFactory = IntegrationTestUtils.getSessionFactory(RULE).unwrap(SessionFactoryImplementor.class);
+    }
+
+    @Test
+    public void itShouldEnableSecondLevelCache() {
+        assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isTrue();
+    }
+
+    @Test
+    public void itShouldCacheThroughJCacheBackedByCaffeine() {
+        assertThat(sessionFactory.getCache().getRegionFactory()).isInstanceOf(JCacheRegionFactory.class);
+        assertThat(sessionFactory.getProperties())
+                .containsEntry(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName())
+                .containsEntry(JCacheRegionFactory.PROVIDER, CaffeineCachingProvider.class.getName());
+    }
+
+    @Test
+    public void itShouldBatchOrderedStatements() {
+        SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+        assertThat(options.getJdbcBatchSize()).isEqualTo(50);
+        assertThat(options.isOrderInsertsEnabled()).isTrue();
+        assertThat(options.isOrderUpdatesEnabled()).isTrue();
+    }
+}
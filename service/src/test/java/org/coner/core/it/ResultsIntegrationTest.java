@@ -4,17 +4,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
 import java.net.URI;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import org.assertj.core.util.Lists;
 import org.coner.core.api.entity.ScoredRunApiEntity;
+import org.coner.core.api.request.AddRawTimeToFirstRunLackingRequest;
 import org.coner.core.api.request.AddRunRequest;
 import org.coner.core.api.response.GetEventResultsRegistrationResponse;
+import org.coner.core.api.response.GetEventResultsResponse;
 import org.coner.core.domain.entity.CompetitionGroup;
 import org.coner.core.util.ApiRequestTestUtils;
 import org.coner.core.util.IntegrationTestStandardRequestDelegate;
+import org.coner.core.util.IntegrationTestStatementBudget;
 import org.coner.core.util.IntegrationTestUtils;
 import org.eclipse.jetty.http.HttpStatus;
 import org.glassfish.jersey.uri.internal.JerseyUriBuilder;
@@ -24,15 +32,20 @@ import org.junit.Test;
 public class ResultsIntegrationTest extends AbstractIntegrationTest {
 
     private IntegrationTestStandardRequestDelegate standardRequests;
+    private IntegrationTestStatementBudget statementBudget;
     private Prerequisites prerequisites;
     private JerseyUriBuilder eventResultsRegistrationUriBuilder;
+    private JerseyUriBuilder eventResultsUriBuilder;
 
     @Before
     public void setup() {
         standardRequests = new IntegrationTestStandardRequestDelegate(RULE, client);
+        statementBudget = new IntegrationTestStatementBudget(RULE);
         prerequisites = setupPrerequisites();
         eventResultsRegistrationUriBuilder = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
                 .path("/events/{eventId}/results/registration/{registrationId}");
+        eventResultsUriBuilder = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path("/events/{eventId}/results");
     }
 
     @Test
@@ -121,6 +134,173 @@ public class ResultsIntegrationTest extends AbstractIntegrationTest {
         assertThat(actualResponseBody).isEqualTo(expectedResponseBody);
     }
 
+    @Test
+    public void itShouldRankEventResults() {
+        String ssOpenRegistrationId = prerequisites.registrationIds[0];
+        String hsNoviceRegistrationId = prerequisites.registrationIds[1];
+        // ss open: 45.678 raw, 37.730 handicap
+        addRun(ssOpenRegistrationId, BigDecimal.valueOf(45678L, 3));
+        // hs novice: 47.000 raw, 36.942 handicap
+        addRun(hsNoviceRegistrationId, BigDecimal.valueOf(47000L, 3));
+
+        GetEventResultsResponse actual = getEventResults();
+
+        assertThat(actual.getEventId()).isEqualTo(prerequisites.eventId);
+        assertThat(registrationIdsOf(actual.getOverallRaw()))
+                .containsExactly(ssOpenRegistrationId, hsNoviceRegistrationId);
+        assertThat(registrationIdsOf(actual.getOverallHandicap()))
+                .containsExactly(hsNoviceRegistrationId, ssOpenRegistrationId);
+        assertThat(actual.getOverallHandicap().get(0).getScore().getHandicapTimeScored())
+                .isEqualTo(BigDecimal.valueOf(36942L, 3));
+        assertThat(actual.getCompetitionGroups()).containsOnlyKeys(prerequisites.competitionGroupIds);
+        assertThat(registrationIdsOf(actual.getCompetitionGroups().get(prerequisites.competitionGroupIds[0])))
+                .containsExactly(ssOpenRegistrationId);
+        assertThat(registrationIdsOf(actual.getCompetitionGroups().get(prerequisites.competitionGroupIds[1])))
+                .containsExactly(hsNoviceRegistrationId);
+    }
+
+    @Test
+    public void whenGetEventResultsItShouldNotIssueMoreStatementsAsRegistrationsGrow() {
+        for (String registrationId : prerequisites.registrationIds) {
+            addRun(prerequisites.eventId, registrationId, BigDecimal.valueOf(50000L, 3));
+        }
+        String largerEventId = standardRequests.addEvent(
+                prerequisites.handicapGroupSetId,
+                prerequisites.competitionGroupSetId
+        );
+        for (int i = 0; i < 12; i++) {
+            String registrationId = standardRequests.addRegistration(
+                    largerEventId,
+                    prerequisites.handicapGroupIds[i % 2],
+                    prerequisites.competitionGroupIds[i % 2]
+            );
+            addRun(largerEventId, registrationId, BigDecimal.valueOf(50000L + i, 3));
+            addRun(largerEventId, registrationId, BigDecimal.valueOf(49000L + i, 3));
+        }
+
+        long statementsWithFewRegistrations = countStatementsToGetEventResults(prerequisites.eventId);
+        long statementsWithManyRegistrations = countStatementsToGetEventResults(largerEventId);
+
+        assertThat(statementsWithManyRegistrations).isEqualTo(statementsWithFewRegistrations);
+    }
+
+    @Test
+    public void whenEventResultsLoadedItShouldApplyRunWritesWithoutRescoringEvent() {
+        String ssOpenRegistrationId = prerequisites.registrationIds[0];
+        String hsNoviceRegistrationId = prerequisites.registrationIds[1];
+        addRun(ssOpenRegistrationId, BigDecimal.valueOf(45678L, 3));
+        long statementsToLoad = countStatementsToGetEventResults(prerequisites.eventId);
+        addRun(hsNoviceRegistrationId, BigDecimal.valueOf(44000L, 3));
+        AddRunRequest pendingRun = ApiRequestTestUtils.fullAddRun();
+        pendingRun.setRegistrationId(ssOpenRegistrationId);
+        pendingRun.setRawTime(null);
+        standardRequests.addRun(prerequisites.eventId, pendingRun);
+        addRawTimeToFirstRunLackingTime(BigDecimal.valueOf(43000L, 3));
+
+        long statementsWhenLoaded = countStatementsToGetEventResults(prerequisites.eventId);
+        GetEventResultsResponse actual = getEventResults();
+
+        assertThat(statementsWhenLoaded).isLessThan(statementsToLoad);
+        assertThat(registrationIdsOf(actual.getOverallRaw()))
+                .containsExactly(ssOpenRegistrationId, hsNoviceRegistrationId);
+        assertThat(actual.getOverallRaw().get(0).getScore().getRawTimeScored())
+                .isEqualTo(BigDecimal.valueOf(43000L, 3));
+        assertThat(actual.getOverallRaw().get(0).getScoredRuns()).hasSize(2);
+    }
+
+    @Test
+    public void itShouldRebuildEventResultsConsistently() {
+        addRun(prerequisites.registrationIds[0], BigDecimal.valueOf(45678L, 3));
+        getEventResults();
+        addRun(prerequisites.registrationIds[1], BigDecimal.valueOf(47000L, 3));
+
+        URI rebuildUri = new JerseyUriBuilder()
+                .scheme("http")
+                .host("localhost")
+                .port(RULE.getAdminPort())
+                .path("/tasks/rebuild-event-results")
+                .queryParam("eventId", prerequisites.eventId)
+                .build();
+        Response rebuildResponse = client.target(rebuildUri)
+                .request()
+                .post(Entity.text(""));
+
+        assertThat(rebuildResponse.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(rebuildResponse.readEntity(String.class))
+                .contains(prerequisites.eventId + ": consistent, rebuilt");
+        assertThat(getEventResults().getOverallRaw()).hasSize(2);
+    }
+
+    @Test
+    public void whenGetEventResultsSinceCurrentVersionItShouldRespondOnNextRunWrite() throws Exception {
+        String registrationId = prerequisites.registrationIds[0];
+        long version = getEventResults().getVersion();
+
+        Future<Response> longPoll = client.target(eventResultsUriBuilder.build(prerequisites.eventId))
+                .queryParam("sinceVersion", version)
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .accept(MediaType.APPLICATION_JSON_TYPE)
+                .async()
+                .get();
+        Thread.sleep(200);
+        assertThat(longPoll.isDone()).isFalse();
+        addRun(registrationId, BigDecimal.valueOf(45678L, 3));
+        Response response = longPoll.get(10, TimeUnit.SECONDS);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        GetEventResultsResponse actual = response.readEntity(GetEventResultsResponse.class);
+        assertThat(actual.getVersion()).isGreaterThan(version);
+        assertThat(registrationIdsOf(actual.getOverallRaw())).containsExactly(registrationId);
+    }
+
+    private void addRun(String registrationId, BigDecimal rawTime) {
+        addRun(prerequisites.eventId, registrationId, rawTime);
+    }
+
+    private void addRun(String eventId, String registrationId, BigDecimal rawTime) {
+        AddRunRequest addRunRequest = ApiRequestTestUtils.fullAddRun();
+        addRunRequest.setRegistrationId(registrationId);
+        addRunRequest.setRawTime(rawTime);
+        addRunRequest.setCones(0);
+        standardRequests.addRun(eventId, addRunRequest);
+    }
+
+    private void addRawTimeToFirstRunLackingTime(BigDecimal rawTime) {
+        URI rawTimesUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path("/events/{eventId}/runs/rawTimes")
+                .build(prerequisites.eventId);
+        AddRawTimeToFirstRunLackingRequest request = new AddRawTimeToFirstRunLackingRequest();
+        request.setRawTime(rawTime);
+        Response response = client.target(rawTimesUri)
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .accept(MediaType.APPLICATION_JSON_TYPE)
+                .post(Entity.json(request));
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+    }
+
+    private GetEventResultsResponse getEventResults() {
+        return getEventResults(prerequisites.eventId);
+    }
+
+    private GetEventResultsResponse getEventResults(String eventId) {
+        Response response = client.target(eventResultsUriBuilder.build(eventId))
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .accept(MediaType.APPLICATION_JSON_TYPE)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        return response.readEntity(GetEventResultsResponse.class);
+    }
+
+    private long countStatementsToGetEventResults(String eventId) {
+        return statementBudget.count(() -> getEventResults(eventId));
+    }
+
+    private static List<String> registrationIdsOf(List<GetEventResultsRegistrationResponse> results) {
+        return results.stream()
+                .map(GetEventResultsRegistrationResponse::getRegistrationId)
+                .collect(Collectors.toList());
+    }
+
     private Prerequisites setupPrerequisites() {
         Prerequisites prerequisites = new Prerequisites();
         prerequisites.handicapGroupIds = new String[2];
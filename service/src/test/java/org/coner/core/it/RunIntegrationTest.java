@@ -3,9 +3,16 @@ package org.coner.core.it;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.coner.core.util.ApiRequestTestUtils.fullAddRun;
 
+import java.math.BigDecimal;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.MediaType;
@@ -13,11 +20,14 @@ import javax.ws.rs.core.Response;
 
 import org.coner.core.api.entity.RunApiEntity;
 import org.coner.core.api.request.AddRawTimeToFirstRunLackingRequest;
+import org.coner.core.api.request.AddRawTimesToFirstRunsLackingRequest;
 import org.coner.core.api.request.AddRunRequest;
+import org.coner.core.api.response.AddRawTimesResponse;
 import org.coner.core.api.response.GetEventRunsResponse;
 import org.coner.core.util.ApiEntityTestUtils;
 import org.coner.core.util.ApiRequestTestUtils;
 import org.coner.core.util.IntegrationTestStandardRequestDelegate;
+import org.coner.core.util.IntegrationTestStatementBudget;
 import org.coner.core.util.IntegrationTestUtils;
 import org.coner.core.util.TestConstants;
 import org.coner.core.util.UnitTestUtils;
@@ -30,11 +40,13 @@ import com.google.common.collect.Sets;
 public class RunIntegrationTest extends AbstractIntegrationTest {
 
     private IntegrationTestStandardRequestDelegate standardRequests;
+    private IntegrationTestStatementBudget statementBudget;
     private Prerequisites prerequisites;
 
     @Before
     public void setup() {
         standardRequests = new IntegrationTestStandardRequestDelegate(RULE, client);
+        statementBudget = new IntegrationTestStatementBudget(RULE);
         prerequisites = setupPrerequisites();
     }
 
@@ -99,10 +111,11 @@ public class RunIntegrationTest extends AbstractIntegrationTest {
         URI allRunsForEventUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
                 .path("/events/{eventId}/runs")
                 .build(prerequisites.eventId);
-        Response getResponseContainer = client.target(allRunsForEventUri)
+        Response getResponseContainer = statementBudget.expectAtMost("get all runs at an event", 6, () -> client
+                .target(allRunsForEventUri)
                 .request(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON)
-                .get();
+                .get());
         GetEventRunsResponse actual = getResponseContainer.readEntity(GetEventRunsResponse.class);
 
         assertThat(getResponseContainer.getStatus()).isEqualTo(HttpStatus.OK_200);
@@ -113,6 +126,61 @@ public class RunIntegrationTest extends AbstractIntegrationTest {
                 .flatExtracting(RunApiEntity::getSequence).containsExactly(1, 2, 3);
     }
 
+    @Test
+    public void itShouldGetRunsForEventPageByPage() {
+        List<String> runIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            runIds.add(standardRequests.addRun(prerequisites.eventId, prerequisites.registrationId));
+        }
+
+        List<String> actualRunIds = new ArrayList<>();
+        int afterSequence = 0;
+        List<RunApiEntity> page;
+        do {
+            URI pageUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                    .path("/events/{eventId}/runs")
+                    .queryParam("afterSequence", afterSequence)
+                    .queryParam("limit", 2)
+                    .build(prerequisites.eventId);
+            Response getResponseContainer = client.target(pageUri)
+                    .request(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .get();
+            assertThat(getResponseContainer.getStatus()).isEqualTo(HttpStatus.OK_200);
+            page = getResponseContainer.readEntity(GetEventRunsResponse.class).getEntities();
+            assertThat(page.size()).isLessThanOrEqualTo(2);
+            for (RunApiEntity run : page) {
+                actualRunIds.add(run.getId());
+                afterSequence = run.getSequence();
+            }
+        } while (!page.isEmpty());
+
+        assertThat(actualRunIds).containsExactlyElementsOf(runIds);
+    }
+
+    @Test
+    public void itShouldStreamAllRunsForEvent() {
+        List<String> runIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            runIds.add(standardRequests.addRun(prerequisites.eventId, prerequisites.registrationId));
+        }
+
+        URI streamUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path("/events/{eventId}/runs/stream")
+                .build(prerequisites.eventId);
+        Response getResponseContainer = client.target(streamUri)
+                .request(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .get();
+        GetEventRunsResponse actual = getResponseContainer.readEntity(GetEventRunsResponse.class);
+
+        assertThat(getResponseContainer.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(actual.getEntities())
+                .flatExtracting(RunApiEntity::getId).containsExactlyElementsOf(runIds);
+        assertThat(actual.getEntities())
+                .flatExtracting(RunApiEntity::getSequence).containsExactly(1, 2, 3);
+    }
+
     @Test
     public void itShouldAddRawTimeToFirstRunInSequenceLackingOne() {
         // add a run without a time
@@ -134,10 +202,12 @@ public class RunIntegrationTest extends AbstractIntegrationTest {
         URI addRawTimeUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
                 .path("/events/{eventId}/runs/rawTimes")
                 .build(prerequisites.eventId);
-        Response addRawTimeResponse = client.target(addRawTimeUri)
+        // find the event, seed the runs on course, then update the first of them
+        Response addRawTimeResponse = statementBudget.expectAtMost("add a raw time", 3, () -> client
+                .target(addRawTimeUri)
                 .request(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON)
-                .post(Entity.json(addRawTimeRequest));
+                .post(Entity.json(addRawTimeRequest)));
 
         // assert
         assertThat(addRawTimeResponse.getStatus()).isEqualTo(HttpStatus.OK_200);
@@ -181,6 +251,217 @@ public class RunIntegrationTest extends AbstractIntegrationTest {
         assertThat(addRawTimeRun.getRawTime()).isEqualTo(TestConstants.RUN_RAW_TIME);
     }
 
+    @Test
+    public void itShouldGetRunsOnCourse() {
+        URI onCourseUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path("/events/{eventId}/runs/onCourse")
+                .build(prerequisites.eventId);
+        AddRunRequest timedRunRequest = fullAddRun();
+        timedRunRequest.setRegistrationId(prerequisites.registrationId);
+        standardRequests.addRun(prerequisites.eventId, timedRunRequest);
+        List<String> pendingRunIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            AddRunRequest pendingRunRequest = fullAddRun();
+            pendingRunRequest.setRegistrationId(prerequisites.registrationId);
+            pendingRunRequest.setRawTime(null);
+            pendingRunIds.add(standardRequests.addRun(prerequisites.eventId, pendingRunRequest));
+        }
+
+        GetEventRunsResponse beforeRawTime = client.target(onCourseUri)
+                .request(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .get(GetEventRunsResponse.class);
+        AddRawTimeToFirstRunLackingRequest addRawTimeRequest = new AddRawTimeToFirstRunLackingRequest();
+        addRawTimeRequest.setRawTime(TestConstants.RUN_RAW_TIME);
+        client.target(IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                              .path("/events/{eventId}/runs/rawTimes")
+                              .build(prerequisites.eventId))
+                .request(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .post(Entity.json(addRawTimeRequest))
+                .close();
+        GetEventRunsResponse afterRawTime = client.target(onCourseUri)
+                .request(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .get(GetEventRunsResponse.class);
+
+        assertThat(beforeRawTime.getEntities())
+                .extracting(RunApiEntity::getId)
+                .containsExactlyElementsOf(pendingRunIds);
+        assertThat(afterRawTime.getEntities())
+                .extracting(RunApiEntity::getId)
+                .containsExactlyElementsOf(pendingRunIds.subList(1, pendingRunIds.size()));
+    }
+
+    @Test
+    public void itShouldAddRawTimesInBatch() {
+        List<String> pendingRunIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            AddRunRequest pendingRunRequest = fullAddRun();
+            pendingRunRequest.setRegistrationId(prerequisites.registrationId);
+            pendingRunRequest.setRawTime(null);
+            pendingRunIds.add(standardRequests.addRun(prerequisites.eventId, pendingRunRequest));
+        }
+        AddRawTimesToFirstRunsLackingRequest addRawTimesRequest = new AddRawTimesToFirstRunsLackingRequest();
+        addRawTimesRequest.setRawTimes(Arrays.asList(
+                new BigDecimal("45.001"),
+                new BigDecimal("46.002"),
+                new BigDecimal("47.003")
+        ));
+        URI addRawTimesUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path("/events/{eventId}/runs/rawTimes/batch")
+                .build(prerequisites.eventId);
+
+        Response addRawTimesResponse = client.target(addRawTimesUri)
+                .request(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .post(Entity.json(addRawTimesRequest));
+
+        assertThat(addRawTimesResponse.getStatus()).isEqualTo(HttpStatus.OK_200);
+        List<AddRawTimesResponse.Item> items = addRawTimesResponse.readEntity(AddRawTimesResponse.class).getItems();
+        assertThat(items)
+                .extracting(AddRawTimesResponse.Item::getOutcome)
+                .containsExactly(
+                        AddRawTimesResponse.Outcome.RUN_RAWTIME_ASSIGNED_TO_EXISTING,
+                        AddRawTimesResponse.Outcome.RUN_RAWTIME_ASSIGNED_TO_EXISTING,
+                        AddRawTimesResponse.Outcome.RUN_ADDED_WITH_RAWTIME
+                );
+        assertThat(items)
+                .extracting(item -> item.getRun().getId())
+                .startsWith(pendingRunIds.get(0), pendingRunIds.get(1));
+        assertThat(items)
+                .extracting(item -> item.getRun().getRawTime())
+                .containsExactlyElementsOf(addRawTimesRequest.getRawTimes());
+        assertThat(items)
+                .extracting(item -> item.getRun().getSequence())
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void itShouldAllocateDistinctSequencesToRunsAddedConcurrently() throws Exception {
+        int threads = 8;
+        int runsPerThread = 5;
+        URI eventRunsUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path("/events/{eventId}/runs")
+                .build(prerequisites.eventId);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<List<Integer>>> statuses = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                statuses.add(executor.submit(() -> {
+                    startGate.await();
+                    List<Integer> threadStatuses = new ArrayList<>();
+                    for (int j = 0; j < runsPerThread; j++) {
+                        AddRunRequest addRunRequest = fullAddRun();
+                        addRunRequest.setRegistrationId(null);
+                        Response response = client.target(eventRunsUri)
+                                .request(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .post(Entity.json(addRunRequest));
+                        threadStatuses.add(response.getStatus());
+                        response.close();
+                    }
+                    return threadStatuses;
+                }));
+            }
+            startGate.countDown();
+            for (Future<List<Integer>> threadStatuses : statuses) {
+                assertThat(threadStatuses.get(30, TimeUnit.SECONDS)).containsOnly(HttpStatus.CREATED_201);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Response getResponseContainer = client.target(eventRunsUri)
+                .request(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .get();
+        GetEventRunsResponse actual = getResponseContainer.readEntity(GetEventRunsResponse.class);
+
+        Integer[] expectedSequences = new Integer[threads * runsPerThread];
+        for (int i = 0; i < expectedSequences.length; i++) {
+            expectedSequences[i] = i + 1;
+        }
+        assertThat(actual.getEntities())
+                .extracting(RunApiEntity::getSequence)
+                .containsExactlyInAnyOrder(expectedSequences);
+    }
+
+    @Test
+    public void itShouldAssignRawTimesPostedConcurrentlyToDistinctRunsInOrder() throws Exception {
+        int threads = 8;
+        int rawTimesPerThread = 125;
+        int pendingRuns = threads * rawTimesPerThread;
+        URI eventRunsUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path("/events/{eventId}/runs")
+                .build(prerequisites.eventId);
+        URI addRawTimeUri = IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path("/events/{eventId}/runs/rawTimes")
+                .build(prerequisites.eventId);
+        for (int i = 0; i < pendingRuns; i++) {
+            AddRunRequest addRunRequest = fullAddRun();
+            addRunRequest.setRegistrationId(null);
+            addRunRequest.setRawTime(null);
+            client.target(eventRunsUri)
+                    .request(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .post(Entity.json(addRunRequest))
+                    .close();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<List<RunApiEntity>>> assignments = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                int thread = i;
+                assignments.add(executor.submit(() -> {
+                    startGate.await();
+                    List<RunApiEntity> threadAssignments = new ArrayList<>();
+                    for (int j = 0; j < rawTimesPerThread; j++) {
+                        AddRawTimeToFirstRunLackingRequest addRawTimeRequest = new AddRawTimeToFirstRunLackingRequest();
+                        addRawTimeRequest.setRawTime(BigDecimal.valueOf(40_000L + thread * rawTimesPerThread + j, 3));
+                        Response response = client.target(addRawTimeUri)
+                                .request(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .post(Entity.json(addRawTimeRequest));
+                        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+                        threadAssignments.add(response.readEntity(RunApiEntity.class));
+                    }
+                    return threadAssignments;
+                }));
+            }
+            startGate.countDown();
+            List<String> assignedRunIds = new ArrayList<>();
+            for (Future<List<RunApiEntity>> threadAssignments : assignments) {
+                List<RunApiEntity> runs = threadAssignments.get(120, TimeUnit.SECONDS);
+                // each thread posts its times one after another, so they must land on increasing sequences
+                assertThat(runs)
+                        .extracting(RunApiEntity::getSequence)
+                        .isSorted()
+                        .doesNotHaveDuplicates();
+                runs.forEach(run -> assignedRunIds.add(run.getId()));
+            }
+            assertThat(assignedRunIds)
+                    .hasSize(pendingRuns)
+                    .doesNotHaveDuplicates();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        GetEventRunsResponse actual = client.target(eventRunsUri)
+                .request(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .get(GetEventRunsResponse.class);
+        assertThat(actual.getEntities())
+                .hasSize(pendingRuns)
+                .allMatch(run -> run.getRawTime() != null);
+        assertThat(actual.getEntities())
+                .extracting(run -> run.getRawTime().setScale(3))
+                .doesNotHaveDuplicates();
+    }
+
     private Prerequisites setupPrerequisites() {
         Prerequisites prerequisites = new Prerequisites();
         prerequisites.handicapGroupId = standardRequests.addHandicapGroup();
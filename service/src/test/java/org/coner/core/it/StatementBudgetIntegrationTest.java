@@ -0,0 +1,138 @@
+package org.coner.core.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.assertj.core.api.SoftAssertions;
+import org.coner.core.api.request.AddRunRequest;
+import org.coner.core.util.ApiRequestTestUtils;
+import org.coner.core.util.IntegrationTestStandardRequestDelegate;
+import org.coner.core.util.IntegrationTestStatementBudget;
+import org.coner.core.util.IntegrationTestUtils;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports the SQL statements each event listing endpoint prepares at several event sizes, and fails if any exceeds
+ * its budget or prepares more statements for a larger event than for a smaller one.
+ */
+public class StatementBudgetIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StatementBudgetIntegrationTest.class);
+
+    private static final int[] REGISTRATIONS_PER_EVENT = {2, 8, 32};
+
+    private IntegrationTestStandardRequestDelegate standardRequests;
+    private IntegrationTestStatementBudget statementBudget;
+    private Map<Integer, String> eventIdsBySize;
+
+    @Before
+    public void setup() {
+        standardRequests = new IntegrationTestStandardRequestDelegate(RULE, client);
+        statementBudget = new IntegrationTestStatementBudget(RULE);
+        eventIdsBySize = setupEvents();
+    }
+
+    @Test
+    public void itShouldGetEventListingsWithinBudgetAtAnySize() {
+        Map<Endpoint, Map<Integer, Long>> counts = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            Map<Integer, Long> countsBySize = new LinkedHashMap<>();
+            eventIdsBySize.forEach((size, eventId) -> countsBySize.put(
+                    size,
+                    statementBudget.count(() -> get(endpoint, eventId))
+            ));
+            counts.put(endpoint, countsBySize);
+        }
+
+        LOG.info("Statements prepared per call by registrations at event {}: {}", eventIdsBySize.keySet(), counts);
+        SoftAssertions softly = new SoftAssertions();
+        counts.forEach((endpoint, countsBySize) -> {
+            // later sizes may take fewer, once the groups are in the second-level cache
+            long atSmallest = countsBySize.get(REGISTRATIONS_PER_EVENT[0]);
+            countsBySize.forEach((size, count) -> {
+                softly.assertThat(count)
+                        .as("statements to get %s with %d registrations", endpoint, size)
+                        .isLessThanOrEqualTo(endpoint.maxStatements)
+                        .isLessThanOrEqualTo(atSmallest);
+            });
+        });
+        softly.assertAll();
+    }
+
+    private void get(Endpoint endpoint, String eventId) {
+        WebTarget target = client.target(IntegrationTestUtils.jerseyUriBuilderForApp(RULE)
+                .path("/events/{eventId}")
+                .path(endpoint.path)
+                .build(eventId));
+        if (endpoint.queryParamName != null) {
+            target = target.queryParam(endpoint.queryParamName, endpoint.queryParamValue);
+        }
+        Response response = target.request(MediaType.APPLICATION_JSON_TYPE)
+                .accept(MediaType.APPLICATION_JSON_TYPE)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        response.readEntity(String.class);
+    }
+
+    private Map<Integer, String> setupEvents() {
+        String handicapGroupId = standardRequests.addHandicapGroup();
+        String competitionGroupId = standardRequests.addCompetitionGroup();
+        String handicapGroupSetId = standardRequests.addHandicapGroupSet(handicapGroupId);
+        String competitionGroupSetId = standardRequests.addCompetitionGroupSet(competitionGroupId);
+        Map<Integer, String> eventIds = new LinkedHashMap<>();
+        for (int size : REGISTRATIONS_PER_EVENT) {
+            String eventId = standardRequests.addEvent(handicapGroupSetId, competitionGroupSetId);
+            for (int i = 0; i < size; i++) {
+                String registrationId = standardRequests.addRegistration(
+                        eventId,
+                        handicapGroupId,
+                        competitionGroupId
+                );
+                AddRunRequest timedRun = ApiRequestTestUtils.fullAddRun();
+                timedRun.setRegistrationId(registrationId);
+                timedRun.setRawTime(BigDecimal.valueOf(50_000L + i, 3));
+                standardRequests.addRun(eventId, timedRun);
+                standardRequests.addRun(eventId, registrationId);
+            }
+            eventIds.put(size, eventId);
+        }
+        return eventIds;
+    }
+
+    private enum Endpoint {
+        RUNS("/runs", 2),
+        RUNS_PAGE("/runs", "limit", 10, 2),
+        RUNS_STREAM("/runs/stream", 2),
+        RUNS_ON_COURSE("/runs/onCourse", 2),
+        REGISTRATIONS("/registrations", 2),
+        RESULTS("/results", 2);
+
+        private final String path;
+        private final String queryParamName;
+        private final Object queryParamValue;
+        private final long maxStatements;
+
+        Endpoint(String path, long maxStatements) {
+            this(path, null, null, maxStatements);
+        }
+
+        Endpoint(String path, String queryParamName, Object queryParamValue, long maxStatements) {
+            this.path = path;
+            this.queryParamName = queryParamName;
+            this.queryParamValue = queryParamValue;
+            this.maxStatements = maxStatements;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.coner.core.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.coner.core.domain.entity.Run;
+import org.coner.core.hibernate.entity.EventHibernateEntity;
+import org.coner.core.hibernate.entity.RegistrationHibernateEntity;
+import org.coner.core.hibernate.entity.RunHibernateEntity;
+import org.coner.core.util.HibernateEntityTestUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.mapstruct.factory.Mappers;
+
+public class RunMapperTest {
+
+    private RunMapper mapper;
+
+    private EventHibernateEntity event;
+    private RegistrationHibernateEntity registration;
+
+    @Before
+    public void setup() {
+        HandicapGroupMapper handicapGroupMapper = Mappers.getMapper(HandicapGroupMapper.class);
+        HandicapGroupSetMapper handicapGroupSetMapper = Mappers.getMapper(HandicapGroupSetMapper.class);
+        handicapGroupSetMapper.setHandicapGroupMapper(handicapGroupMapper);
+        CompetitionGroupMapper competitionGroupMapper = Mappers.getMapper(CompetitionGroupMapper.class);
+        CompetitionGroupSetMapper competitionGroupSetMapper = Mappers.getMapper(CompetitionGroupSetMapper.class);
+        competitionGroupSetMapper.setCompetitionGroupMapper(competitionGroupMapper);
+        EventMapper eventMapper = Mappers.getMapper(EventMapper.class);
+        eventMapper.setHandicapGroupSetMapper(handicapGroupSetMapper);
+        eventMapper.setCompetitionGroupSetMapper(competitionGroupSetMapper);
+        RegistrationMapper registrationMapper = Mappers.getMapper(RegistrationMapper.class);
+        registrationMapper.setEventMapper(eventMapper);
+        registrationMapper.setHandicapGroupMapper(handicapGroupMapper);
+        registrationMapper.setCompetitionGroupMapper(competitionGroupMapper);
+        mapper = Mappers.getMapper(RunMapper.class);
+        mapper.setEventMapper(eventMapper);
+        mapper.setRegistrationMapper(registrationMapper);
+
+        event = HibernateEntityTestUtils.fullEvent();
+        registration = HibernateEntityTestUtils.fullRegistration();
+        registration.setEvent(event);
+        registration.setHandicapGroup(event.getHandicapGroupSet().getHandicapGroups().iterator().next());
+    }
+
+    @Test
+    public void whenToDomainEntityListItShouldMapSharedEntitiesOnce() {
+        List<RunHibernateEntity> hibernateEntities = Arrays.asList(
+                HibernateEntityTestUtils.fullRun("run-1", event, registration),
+                HibernateEntityTestUtils.fullRun("run-2", event, registration)
+        );
+
+        List<Run> actual = mapper.toDomainEntityList(hibernateEntities);
+
+        assertThat(actual).hasSize(2);
+        Run first = actual.get(0);
+        Run second = actual.get(1);
+        assertThat(second.getEvent()).isSameAs(first.getEvent());
+        assertThat(second.getRegistration()).isSameAs(first.getRegistration());
+        assertThat(first.getRegistration().getEvent()).isSameAs(first.getEvent());
+        assertThat(first.getEvent().getHandicapGroupSet().getHandicapGroups().iterator().next())
+                .isSameAs(first.getRegistration().getHandicapGroup());
+    }
+
+    @Test
+    public void whenToDomainEntityItShouldNotShareWithEarlierConversions() {
+        RunHibernateEntity hibernateEntity = HibernateEntityTestUtils.fullRun("run-1", event, registration);
+
+        Run first = mapper.toDomainEntity(hibernateEntity);
+        Run second = mapper.toDomainEntity(hibernateEntity);
+
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        assertThat(second.getEvent()).isNotSameAs(first.getEvent());
+    }
+}
@@ -0,0 +1,224 @@
+package org.coner.core.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.coner.core.util.TestConstants.EVENT_ID;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriBuilder;
+
+import org.coner.core.ResponseCacheConfiguration;
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.service.ChangeVersions;
+import org.coner.core.domain.service.EventEntityService;
+import org.coner.core.domain.service.EventRegistrationService;
+import org.coner.core.domain.service.exception.EntityNotFoundException;
+import org.coner.core.hibernate.dao.ApiEntityProjectionDao;
+import org.coner.core.mapper.EventMapper;
+import org.coner.core.mapper.RegistrationMapper;
+import org.coner.core.util.ConerMediaType;
+import org.coner.core.util.JacksonUtil;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.jaxrs.smile.JacksonSmileProvider;
+import io.dropwizard.testing.junit.ResourceTestRule;
+
+public class ConditionalGetFeatureTest {
+
+    private final EventEntityService eventEntityService = mock(EventEntityService.class);
+    private final EventMapper eventMapper = mock(EventMapper.class);
+    private final EventRegistrationService eventRegistrationService = mock(EventRegistrationService.class);
+    private final ApiEntityProjectionDao apiEntityProjectionDao = mock(ApiEntityProjectionDao.class);
+    private final RegistrationMapper registrationMapper = mock(RegistrationMapper.class);
+    private final ChangeVersions changeVersions = new ChangeVersions();
+    private final ResponseCache responseCache = new ResponseCache(
+            new ResponseCacheConfiguration(),
+            new MetricRegistry()
+    );
+
+    @Rule
+    public final ResourceTestRule resources = ResourceTestRule.builder()
+            .addResource(new EventsResource(eventEntityService, eventMapper))
+            .addResource(new EventRegistrationsResource(
+                    eventRegistrationService,
+                    eventEntityService,
+                    apiEntityProjectionDao,
+                    registrationMapper
+            ))
+            .addResource(new DomainServiceExceptionMapper())
+            .addProvider(new ConditionalGetFeature(changeVersions, responseCache))
+            .addProvider(new JacksonSmileProvider(JacksonUtil.newObjectMapper(new SmileFactory())))
+            .build();
+
+    @Before
+    public void setup() {
+        reset(eventEntityService, eventMapper, eventRegistrationService, apiEntityProjectionDao, registrationMapper);
+    }
+
+    @Test
+    public void itShouldTagResponseWithCurrentVersion() {
+        when(eventEntityService.getAll()).thenReturn(Collections.emptyList());
+
+        Response response = getEvents(null);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(response.getEntityTag()).isEqualTo(jsonTagOf(ChangeVersions.EVENTS));
+        assertThat(response.getEntityTag().isWeak()).isFalse();
+        assertThat(response.getHeaderString(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT);
+    }
+
+    @Test
+    public void whenIfNoneMatchCurrentItShouldRespondNotModifiedWithoutReading() {
+        EntityTag current = jsonTagOf(ChangeVersions.EVENTS);
+
+        Response response = getEvents(current);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED_304);
+        assertThat(response.getEntityTag()).isEqualTo(current);
+        assertThat(response.getHeaderString(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT);
+        verifyZeroInteractions(eventEntityService, eventMapper);
+    }
+
+    @Test
+    public void whenIfNoneMatchStaleItShouldRespondWithNewTag() {
+        when(eventEntityService.getAll()).thenReturn(Collections.emptyList());
+        EntityTag stale = jsonTagOf(ChangeVersions.EVENTS);
+        changeVersions.bump(ChangeVersions.EVENTS);
+
+        Response response = getEvents(stale);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(response.getEntityTag())
+                .isNotEqualTo(stale)
+                .isEqualTo(jsonTagOf(ChangeVersions.EVENTS));
+    }
+
+    @Test
+    public void itShouldTagEventScopeFromPathParameter() throws Exception {
+        when(eventEntityService.getById(EVENT_ID)).thenReturn(mock(Event.class));
+        when(apiEntityProjectionDao.getRegistrationsAt(EVENT_ID)).thenReturn(Collections.emptyList());
+        changeVersions.bump(ChangeVersions.event("other-event"));
+        EntityTag current = jsonTagOf(ChangeVersions.event(EVENT_ID));
+
+        Response notModified = getEventRegistrations(current);
+        changeVersions.bump(ChangeVersions.event(EVENT_ID));
+        Response modified = getEventRegistrations(current);
+
+        assertThat(notModified.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED_304);
+        assertThat(modified.getStatus()).isEqualTo(HttpStatus.OK_200);
+    }
+
+    @Test
+    public void whenNotFoundItShouldNotTagResponse() throws Exception {
+        when(eventEntityService.getById(EVENT_ID)).thenThrow(new EntityNotFoundException(Event.class, EVENT_ID));
+
+        Response response = getEventRegistrations(null);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_FOUND_404);
+        assertThat(response.getHeaderString(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    public void whenAllBumpedItShouldRespondWithNewTag() {
+        when(eventEntityService.getAll()).thenReturn(Collections.emptyList());
+        EntityTag before = jsonTagOf(ChangeVersions.EVENTS);
+        changeVersions.bumpAll();
+
+        Response response = getEvents(before);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+    }
+
+    @Test
+    public void whenCachedItShouldRespondFromCacheWithoutReading() {
+        when(eventEntityService.getAll()).thenReturn(Collections.emptyList());
+        String first = getEvents(null).readEntity(String.class);
+        reset(eventEntityService, eventMapper);
+
+        Response response = getEvents(null);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(response.getMediaType().isCompatible(MediaType.APPLICATION_JSON_TYPE)).isTrue();
+        assertThat(response.getEntityTag()).isEqualTo(jsonTagOf(ChangeVersions.EVENTS));
+        assertThat(response.readEntity(String.class)).isEqualTo(first);
+        verifyZeroInteractions(eventEntityService, eventMapper);
+    }
+
+    @Test
+    public void whenVersionBumpedItShouldNotRespondFromCache() {
+        when(eventEntityService.getAll()).thenReturn(Collections.emptyList());
+        getEvents(null).close();
+        changeVersions.bump(ChangeVersions.EVENTS);
+
+        getEvents(null).close();
+
+        verify(eventEntityService, times(2)).getAll();
+    }
+
+    @Test
+    public void whenIfNoneMatchOfJsonItShouldRespondWithSmile() {
+        when(eventEntityService.getAll()).thenReturn(Collections.emptyList());
+        EntityTag json = getEvents(null).getEntityTag();
+
+        Response response = getEvents(json, ConerMediaType.APPLICATION_SMILE_TYPE);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(response.getMediaType().isCompatible(ConerMediaType.APPLICATION_SMILE_TYPE)).isTrue();
+        assertThat(response.getEntityTag())
+                .isNotEqualTo(json)
+                .isEqualTo(ConditionalGetFeature.entityTagOf(
+                        changeVersions.getTag(ChangeVersions.EVENTS),
+                        ConerMediaType.APPLICATION_SMILE_TYPE
+                ));
+        assertThat(response.getHeaderString(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT);
+    }
+
+    @Test
+    public void whenAcceptAnyItShouldTagJson() {
+        when(eventEntityService.getAll()).thenReturn(Collections.emptyList());
+
+        Response response = getEvents(null, MediaType.WILDCARD_TYPE);
+
+        assertThat(response.getMediaType().isCompatible(MediaType.APPLICATION_JSON_TYPE)).isTrue();
+        assertThat(response.getEntityTag()).isEqualTo(jsonTagOf(ChangeVersions.EVENTS));
+    }
+
+    private EntityTag jsonTagOf(String scope) {
+        return ConditionalGetFeature.entityTagOf(changeVersions.getTag(scope), MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    private Response getEvents(EntityTag ifNoneMatch) {
+        return getEvents(ifNoneMatch, MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    private Response getEvents(EntityTag ifNoneMatch, MediaType accept) {
+        return resources.client()
+                .target("/events")
+                .request(accept)
+                .header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch)
+                .get();
+    }
+
+    private Response getEventRegistrations(EntityTag ifNoneMatch) {
+        return resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/registrations").build(EVENT_ID))
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch)
+                .get();
+    }
+}
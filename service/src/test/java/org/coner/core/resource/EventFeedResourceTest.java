@@ -0,0 +1,89 @@
+package org.coner.core.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.coner.core.util.TestConstants.EVENT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriBuilder;
+
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.service.EventEntityService;
+import org.coner.core.domain.service.exception.EntityNotFoundException;
+import org.coner.core.feed.EventFeed;
+import org.coner.core.util.DomainEntityTestUtils;
+import org.eclipse.jetty.http.HttpStatus;
+import org.glassfish.jersey.media.sse.EventOutput;
+import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.dropwizard.testing.junit.ResourceTestRule;
+
+public class EventFeedResourceTest {
+
+    private EventEntityService eventEntityService = mock(EventEntityService.class);
+    private EventFeed eventFeed = mock(EventFeed.class);
+
+    private DomainServiceExceptionMapper domainServiceExceptionMapper = new DomainServiceExceptionMapper();
+
+    @Rule
+    public final ResourceTestRule resources = ResourceTestRule.builder()
+            .addResource(new EventFeedResource(eventEntityService, eventFeed))
+            .addResource(domainServiceExceptionMapper)
+            .addProvider(SseFeature.class)
+            .build();
+
+    @Before
+    public void setup() {
+        reset(eventEntityService, eventFeed);
+    }
+
+    @Test
+    public void itShouldSubscribeFromLastEventId() throws Exception {
+        Event event = DomainEntityTestUtils.fullEvent();
+        when(eventEntityService.getById(EVENT_ID)).thenReturn(event);
+        doAnswer(invocation -> {
+            EventOutput output = invocation.getArgument(2);
+            output.write(new OutboundEvent.Builder()
+                    .id("2")
+                    .name(EventFeed.RUN_ADDED)
+                    .data(String.class, "{}")
+                    .build());
+            output.close();
+            return null;
+        }).when(eventFeed).subscribe(eq(EVENT_ID), eq("1"), any(EventOutput.class));
+
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/feed").build(EVENT_ID))
+                .request(SseFeature.SERVER_SENT_EVENTS_TYPE)
+                .header(SseFeature.LAST_EVENT_ID_HEADER, "1")
+                .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(response.readEntity(String.class))
+                .contains("event: " + EventFeed.RUN_ADDED)
+                .contains("id: 2");
+    }
+
+    @Test
+    public void whenEventNotFoundItShouldRespondNotFound() throws Exception {
+        when(eventEntityService.getById(EVENT_ID)).thenThrow(new EntityNotFoundException(Event.class, EVENT_ID));
+
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/feed").build(EVENT_ID))
+                .request(SseFeature.SERVER_SENT_EVENTS_TYPE)
+                .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_FOUND_404);
+        verifyZeroInteractions(eventFeed);
+    }
+}
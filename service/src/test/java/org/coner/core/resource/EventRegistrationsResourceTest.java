@@ -22,9 +22,11 @@ import org.coner.core.api.request.AddRegistrationRequest;
 import org.coner.core.api.response.GetEventRegistrationsResponse;
 import org.coner.core.domain.entity.Registration;
 import org.coner.core.domain.payload.RegistrationAddPayload;
+import org.coner.core.domain.service.EventEntityService;
 import org.coner.core.domain.service.EventRegistrationService;
 import org.coner.core.domain.service.exception.EntityMismatchException;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
+import org.coner.core.hibernate.dao.ApiEntityProjectionDao;
 import org.coner.core.mapper.RegistrationMapper;
 import org.coner.core.util.ApiEntityTestUtils;
 import org.coner.core.util.DomainEntityTestUtils;
@@ -44,6 +46,8 @@ import io.dropwizard.testing.junit.ResourceTestRule;
 public class EventRegistrationsResourceTest {
 
     private final EventRegistrationService eventRegistrationService = mock(EventRegistrationService.class);
+    private final EventEntityService eventEntityService = mock(EventEntityService.class);
+    private final ApiEntityProjectionDao apiEntityProjectionDao = mock(ApiEntityProjectionDao.class);
     private final RegistrationMapper registrationMapper = mock(RegistrationMapper.class);
 
     private ObjectMapper objectMapper;
@@ -52,6 +56,8 @@ public class EventRegistrationsResourceTest {
     public final ResourceTestRule resources = ResourceTestRule.builder()
             .addResource(new EventRegistrationsResource(
                     eventRegistrationService,
+                    eventEntityService,
+                    apiEntityProjectionDao,
                     registrationMapper
             ))
             .addResource(new DomainServiceExceptionMapper())
@@ -59,24 +65,23 @@ public class EventRegistrationsResourceTest {
 
     @Before
     public void setup() {
-        reset(registrationMapper, eventRegistrationService);
+        reset(registrationMapper, eventRegistrationService, eventEntityService, apiEntityProjectionDao);
         objectMapper = Jackson.newObjectMapper();
         JacksonUtil.configureObjectMapper(objectMapper);
     }
 
     @Test
     public void itShouldGetRegistrationsForEvent() throws Exception {
-        List<Registration> domainRegistrations = Arrays.asList(DomainEntityTestUtils.fullRegistration());
         List<RegistrationApiEntity> apiRegistrations = Arrays.asList(ApiEntityTestUtils.fullRegistration());
-        when(eventRegistrationService.getAllWithEventId(EVENT_ID)).thenReturn(domainRegistrations);
-        when(registrationMapper.toApiEntityList(domainRegistrations)).thenReturn(apiRegistrations);
+        when(apiEntityProjectionDao.getRegistrationsAt(EVENT_ID)).thenReturn(apiRegistrations);
 
         GetEventRegistrationsResponse response = resources.client()
                 .target("/events/" + EVENT_ID + "/registrations")
                 .request(MediaType.APPLICATION_JSON_TYPE)
                 .get(GetEventRegistrationsResponse.class);
 
-        verify(eventRegistrationService).getAllWithEventId(EVENT_ID);
+        verify(eventEntityService).getById(EVENT_ID);
+        verify(apiEntityProjectionDao).getRegistrationsAt(EVENT_ID);
         assertThat(response).isNotNull();
         assertThat(response.getEntities())
                 .isNotNull()
@@ -115,15 +120,15 @@ public class EventRegistrationsResourceTest {
 
     @Test
     public void whenEventDoesNotExistItShouldRespondNotFound() throws Exception {
-        when(eventRegistrationService.getAllWithEventId(EVENT_ID)).thenThrow(EntityNotFoundException.class);
+        when(eventEntityService.getById(EVENT_ID)).thenThrow(EntityNotFoundException.class);
 
         Response eventRegistrationResponseContainer = resources.client()
                 .target("/events/" + EVENT_ID + "/registrations")
                 .request(MediaType.APPLICATION_JSON_TYPE)
                 .get();
 
-        verify(eventRegistrationService).getAllWithEventId(EVENT_ID);
-        verifyNoMoreInteractions(eventRegistrationService);
+        verify(eventEntityService).getById(EVENT_ID);
+        verifyNoMoreInteractions(apiEntityProjectionDao);
 
         assertThat(eventRegistrationResponseContainer.getStatus()).isEqualTo(HttpStatus.NOT_FOUND_404);
     }
@@ -0,0 +1,130 @@
+package org.coner.core.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.coner.core.util.TestConstants.EVENT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.Callable;
+
+import javax.ws.rs.container.AsyncResponse;
+
+import org.coner.core.api.response.GetEventResultsResponse;
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.payload.GetEventResultsPayload;
+import org.coner.core.domain.service.EventEntityService;
+import org.coner.core.domain.service.EventRegistrationService;
+import org.coner.core.domain.service.ResultsService;
+import org.coner.core.domain.service.exception.EntityNotFoundException;
+import org.coner.core.feed.ResultsLongPoll;
+import org.coner.core.hibernate.ReadOnlyUnitOfWork;
+import org.coner.core.mapper.ResultsMapper;
+import org.coner.core.util.DomainEntityTestUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Calls the resource directly, as the in-memory test container can't suspend responses. Its HTTP behavior is covered by
+ * {@link org.coner.core.it.ResultsIntegrationTest}.
+ */
+public class EventResultsResourceTest {
+
+    private EventResultsResource resource;
+
+    private EventEntityService eventEntityService = mock(EventEntityService.class);
+    private EventRegistrationService eventRegistrationService = mock(EventRegistrationService.class);
+    private ResultsService resultsService = mock(ResultsService.class);
+    private ResultsMapper resultsMapper = mock(ResultsMapper.class);
+    private ReadOnlyUnitOfWork readOnlyUnitOfWork = mock(ReadOnlyUnitOfWork.class);
+    private ResultsLongPoll resultsLongPoll = mock(ResultsLongPoll.class);
+    private AsyncResponse asyncResponse = mock(AsyncResponse.class);
+
+    private Event event = DomainEntityTestUtils.fullEvent();
+
+    @Before
+    public void setup() throws Exception {
+        resource = new EventResultsResource(
+                eventEntityService,
+                eventRegistrationService,
+                resultsService,
+                resultsMapper,
+                readOnlyUnitOfWork,
+                resultsLongPoll
+        );
+        when(readOnlyUnitOfWork.call(any())).thenAnswer(invocation -> {
+            ReadOnlyUnitOfWork.Work<?, ?> work = invocation.getArgument(0);
+            return work.call();
+        });
+    }
+
+    @Test
+    public void itShouldGetEventResults() throws Exception {
+        when(eventEntityService.getById(EVENT_ID)).thenReturn(event);
+        when(resultsService.getVersion(event)).thenReturn(2L);
+        GetEventResultsResponse expected = whenResultsMapped();
+
+        resource.getEventResults(EVENT_ID, null, asyncResponse);
+
+        verify(asyncResponse).resume(expected);
+        assertThat(expected.getVersion()).isEqualTo(2L);
+        verifyZeroInteractions(resultsLongPoll);
+    }
+
+    @Test
+    public void whenSinceVersionStaleItShouldGetEventResultsNow() throws Exception {
+        when(eventEntityService.getById(EVENT_ID)).thenReturn(event);
+        when(resultsService.getVersion(event)).thenReturn(4L);
+        GetEventResultsResponse expected = whenResultsMapped();
+
+        resource.getEventResults(EVENT_ID, 3L, asyncResponse);
+
+        verify(asyncResponse).resume(expected);
+        verifyZeroInteractions(resultsLongPoll);
+    }
+
+    @Test
+    public void whenSinceVersionCurrentItShouldAwaitChange() throws Exception {
+        when(eventEntityService.getById(EVENT_ID)).thenReturn(event);
+        when(resultsService.getVersion(event)).thenReturn(3L);
+
+        resource.getEventResults(EVENT_ID, 3L, asyncResponse);
+
+        ArgumentCaptor<Callable> results = ArgumentCaptor.forClass(Callable.class);
+        verify(resultsLongPoll).await(eq(event), eq(3L), eq(asyncResponse), results.capture());
+        verify(asyncResponse, never()).resume(any(Object.class));
+        verify(resultsService, never()).getResultsFor(event);
+        GetEventResultsResponse expected = whenResultsMapped();
+        assertThat(results.getValue().call()).isSameAs(expected);
+    }
+
+    @Test
+    public void whenEventNotFoundItShouldThrow() throws Exception {
+        EntityNotFoundException exception = new EntityNotFoundException(Event.class, EVENT_ID);
+        when(eventEntityService.getById(EVENT_ID)).thenThrow(exception);
+
+        try {
+            resource.getEventResults(EVENT_ID, null, asyncResponse);
+            failBecauseExceptionWasNotThrown(EntityNotFoundException.class);
+        } catch (EntityNotFoundException actual) {
+            assertThat(actual).isSameAs(exception);
+        }
+
+        verifyZeroInteractions(resultsService, asyncResponse);
+    }
+
+    private GetEventResultsResponse whenResultsMapped() {
+        GetEventResultsPayload payload = new GetEventResultsPayload();
+        when(resultsService.getResultsFor(event)).thenReturn(payload);
+        GetEventResultsResponse response = new GetEventResultsResponse();
+        response.setEventId(EVENT_ID);
+        when(resultsMapper.toApiResponse(payload)).thenReturn(response);
+        return response;
+    }
+}
@@ -10,18 +10,30 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 
 import org.coner.core.api.entity.RunApiEntity;
+import org.coner.core.api.request.AddRawTimesToFirstRunsLackingRequest;
 import org.coner.core.api.request.AddRunRequest;
+import org.coner.core.api.response.AddRawTimesResponse;
+import org.coner.core.api.response.GetEventRunsResponse;
 import org.coner.core.domain.entity.Event;
 import org.coner.core.domain.entity.Run;
 import org.coner.core.domain.payload.RunAddPayload;
+import org.coner.core.domain.payload.RunAddTimesPayload;
+import org.coner.core.domain.payload.RunTimeAddedPayload;
+import org.coner.core.domain.service.EventEntityService;
 import org.coner.core.domain.service.RunEntityService;
 import org.coner.core.domain.service.exception.EntityNotFoundException;
+import org.coner.core.hibernate.dao.ApiEntityProjectionDao;
 import org.coner.core.mapper.RunMapper;
 import org.coner.core.util.ApiEntityTestUtils;
 import org.coner.core.util.ApiRequestTestUtils;
@@ -36,12 +48,15 @@ import org.junit.Test;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.jackson.Jackson;
 import io.dropwizard.jersey.errors.ErrorMessage;
+import io.dropwizard.jersey.validation.ValidationErrorMessage;
 import io.dropwizard.testing.FixtureHelpers;
 import io.dropwizard.testing.junit.ResourceTestRule;
 
 public class EventRunsResourceTest {
 
     private RunEntityService runEntityService = mock(RunEntityService.class);
+    private EventEntityService eventEntityService = mock(EventEntityService.class);
+    private ApiEntityProjectionDao apiEntityProjectionDao = mock(ApiEntityProjectionDao.class);
     private RunMapper runMapper = mock(RunMapper.class);
 
     private ObjectMapper objectMapper;
@@ -55,7 +70,10 @@ public class EventRunsResourceTest {
     public final ResourceTestRule resources = ResourceTestRule.builder()
             .addResource(new EventRunsResource(
                     runEntityService,
-                    runMapper
+                    eventEntityService,
+                    apiEntityProjectionDao,
+                    runMapper,
+                    Jackson.newObjectMapper()
             ))
             .addResource(domainServiceExceptionMapper)
             .addResource(runtimeExceptionUnwrappingMapper)
@@ -63,7 +81,7 @@ public class EventRunsResourceTest {
 
     @Before
     public void setup() {
-        reset(runMapper, runEntityService);
+        reset(runMapper, runEntityService, eventEntityService, apiEntityProjectionDao);
         objectMapper = Jackson.newObjectMapper();
         JacksonUtil.configureObjectMapper(objectMapper);
     }
@@ -202,4 +220,178 @@ public class EventRunsResourceTest {
                 .containsExactly(HttpStatus.NOT_FOUND_404, "Event entity not found with id " + EVENT_ID);
     }
 
+    @Test
+    public void itShouldGetEventRunsOnCourse() throws Exception {
+        List<Run> domainRuns = Collections.singletonList(DomainEntityTestUtils.fullRun());
+        List<RunApiEntity> apiRuns = Collections.singletonList(ApiEntityTestUtils.fullRun());
+        when(runEntityService.getPendingWithEventId(EVENT_ID)).thenReturn(domainRuns);
+        when(runMapper.toApiEntityList(domainRuns)).thenReturn(apiRuns);
+
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/runs/onCourse").build(EVENT_ID))
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .get();
+
+        verify(runEntityService).getPendingWithEventId(EVENT_ID);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(response.readEntity(GetEventRunsResponse.class).getEntities()).isEqualTo(apiRuns);
+    }
+
+    @Test
+    public void itShouldGetEventRunsPage() throws Exception {
+        List<RunApiEntity> apiRuns = Collections.singletonList(ApiEntityTestUtils.fullRun());
+        when(apiEntityProjectionDao.getRunsAt(EVENT_ID, 100, 50)).thenReturn(apiRuns);
+
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/runs").build(EVENT_ID))
+                .queryParam("afterSequence", 100)
+                .queryParam("limit", 50)
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .get();
+
+        verify(eventEntityService).getById(EVENT_ID);
+        verify(apiEntityProjectionDao).getRunsAt(EVENT_ID, 100, 50);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(response.readEntity(GetEventRunsResponse.class).getEntities()).isEqualTo(apiRuns);
+    }
+
+    @Test
+    public void whenGetEventRunsEventNotFoundItShouldRespondNotFound() throws Exception {
+        when(eventEntityService.getById(EVENT_ID)).thenThrow(EntityNotFoundException.class);
+
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/runs").build(EVENT_ID))
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_FOUND_404);
+        verifyZeroInteractions(apiEntityProjectionDao);
+    }
+
+    @Test
+    public void whenOnlyLimitGivenItShouldGetFirstPage() throws Exception {
+        when(apiEntityProjectionDao.getRunsAt(EVENT_ID, 0, 10)).thenReturn(Collections.emptyList());
+
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/runs").build(EVENT_ID))
+                .queryParam("limit", 10)
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .get();
+
+        verify(apiEntityProjectionDao).getRunsAt(EVENT_ID, 0, 10);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+    }
+
+    @Test
+    public void whenPageLimitTooLargeItShouldFailValidation() {
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/runs").build(EVENT_ID))
+                .queryParam("limit", EventRunsResource.MAX_PAGE_LIMIT + 1)
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .get();
+
+        verifyZeroInteractions(runEntityService);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST_400);
+    }
+
+    @Test
+    public void itShouldStreamEventRuns() throws Exception {
+        Run first = DomainEntityTestUtils.fullRun();
+        Run second = DomainEntityTestUtils.fullRun();
+        RunApiEntity firstApiRun = ApiEntityTestUtils.fullRun();
+        RunApiEntity secondApiRun = ApiEntityTestUtils.fullRun();
+        secondApiRun.setId("second-run");
+        when(runEntityService.streamAllWithEventId(EVENT_ID)).thenReturn(action -> {
+            action.accept(first);
+            action.accept(second);
+        });
+        when(runMapper.toApiEntity(first)).thenReturn(firstApiRun, secondApiRun);
+
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/runs/stream").build(EVENT_ID))
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(response.readEntity(GetEventRunsResponse.class).getEntities())
+                .extracting(RunApiEntity::getId)
+                .containsExactly(firstApiRun.getId(), "second-run");
+    }
+
+    @Test
+    public void whenStreamEventNotFoundItShouldRespondNotFound() throws Exception {
+        when(runEntityService.streamAllWithEventId(EVENT_ID)).thenThrow(EntityNotFoundException.class);
+
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/runs/stream").build(EVENT_ID))
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_FOUND_404);
+    }
+
+    @Test
+    public void itShouldAddRawTimesInBatch() throws Exception {
+        AddRawTimesToFirstRunsLackingRequest apiRequest = new AddRawTimesToFirstRunsLackingRequest();
+        apiRequest.setRawTimes(Arrays.asList(BigDecimal.valueOf(45_001L, 3), BigDecimal.valueOf(46_002L, 3)));
+        RunAddTimesPayload addTimesPayload = mock(RunAddTimesPayload.class);
+        when(runMapper.toDomainAddTimesPayload(apiRequest, EVENT_ID)).thenReturn(addTimesPayload);
+        List<RunTimeAddedPayload> outPayloads = Arrays.asList(
+                mock(RunTimeAddedPayload.class),
+                mock(RunTimeAddedPayload.class)
+        );
+        when(runEntityService.addTimesToFirstRunsInSequenceWithoutRawTime(addTimesPayload)).thenReturn(outPayloads);
+        AddRawTimesResponse.Item assigned = new AddRawTimesResponse.Item();
+        assigned.setOutcome(AddRawTimesResponse.Outcome.RUN_RAWTIME_ASSIGNED_TO_EXISTING);
+        assigned.setRun(ApiEntityTestUtils.fullRun());
+        AddRawTimesResponse.Item added = new AddRawTimesResponse.Item();
+        added.setOutcome(AddRawTimesResponse.Outcome.RUN_ADDED_WITH_RAWTIME);
+        added.setRun(ApiEntityTestUtils.fullRun());
+        when(runMapper.toApiAddRawTimesResponseItemList(outPayloads)).thenReturn(Arrays.asList(assigned, added));
+
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/runs/rawTimes/batch").build(EVENT_ID))
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .post(Entity.json(apiRequest));
+
+        verify(runEntityService).addTimesToFirstRunsInSequenceWithoutRawTime(addTimesPayload);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(response.readEntity(AddRawTimesResponse.class).getItems())
+                .extracting(AddRawTimesResponse.Item::getOutcome)
+                .containsExactly(
+                        AddRawTimesResponse.Outcome.RUN_RAWTIME_ASSIGNED_TO_EXISTING,
+                        AddRawTimesResponse.Outcome.RUN_ADDED_WITH_RAWTIME
+                );
+    }
+
+    @Test
+    public void whenAddRawTimesInBatchIsEmptyItShouldFailValidation() {
+        AddRawTimesToFirstRunsLackingRequest apiRequest = new AddRawTimesToFirstRunsLackingRequest();
+        apiRequest.setRawTimes(Collections.emptyList());
+
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/runs/rawTimes/batch").build(EVENT_ID))
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .post(Entity.json(apiRequest));
+
+        verifyZeroInteractions(runEntityService);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY_422);
+    }
+
+    @Test
+    public void whenAddRawTimesInBatchHasNullItShouldFailValidation() {
+        AddRawTimesToFirstRunsLackingRequest apiRequest = new AddRawTimesToFirstRunsLackingRequest();
+        apiRequest.setRawTimes(Arrays.asList(BigDecimal.valueOf(45_001L, 3), null));
+
+        Response response = resources.client()
+                .target(UriBuilder.fromPath("/events/{eventId}/runs/rawTimes/batch").build(EVENT_ID))
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .post(Entity.json(apiRequest));
+
+        verifyZeroInteractions(runEntityService);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY_422);
+        assertThat(response.readEntity(ValidationErrorMessage.class).getErrors())
+                .containsExactly("rawTimes may not contain null");
+    }
+
 }
@@ -0,0 +1,66 @@
+package org.coner.core.resource;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.ws.rs.GET;
+
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.FlushMode;
+import org.junit.Test;
+
+import com.codahale.metrics.annotation.Timed;
+import io.dropwizard.hibernate.UnitOfWork;
+
+public class ResourceMethodAnnotationsTest {
+
+    private static final List<Class<?>> RESOURCES = Arrays.asList(
+            CompetitionGroupSetsResource.class,
+            CompetitionGroupsResource.class,
+            EventFeedResource.class,
+            EventRegistrationsResource.class,
+            EventResultsResource.class,
+            EventRunsResource.class,
+            EventsResource.class,
+            HandicapGroupSetsResource.class,
+            HandicapGroupsResource.class
+    );
+
+    @Test
+    public void itShouldReadOnlyInReadOnlyUnitsOfWork() {
+        SoftAssertions softly = new SoftAssertions();
+        for (Class<?> resource : RESOURCES) {
+            for (Method method : resource.getDeclaredMethods()) {
+                UnitOfWork unitOfWork = method.getAnnotation(UnitOfWork.class);
+                if (unitOfWork == null) {
+                    continue;
+                }
+                boolean read = method.isAnnotationPresent(GET.class);
+                softly.assertThat(unitOfWork.readOnly())
+                        .as("%s.%s read-only", resource.getSimpleName(), method.getName())
+                        .isEqualTo(read);
+                softly.assertThat(unitOfWork.flushMode())
+                        .as("%s.%s flush mode", resource.getSimpleName(), method.getName())
+                        .isEqualTo(read ? FlushMode.MANUAL : FlushMode.AUTO);
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    public void itShouldTimeEveryUnitOfWork() {
+        SoftAssertions softly = new SoftAssertions();
+        for (Class<?> resource : RESOURCES) {
+            for (Method method : resource.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(UnitOfWork.class)) {
+                    continue;
+                }
+                softly.assertThat(method.isAnnotationPresent(Timed.class))
+                        .as("%s.%s timed", resource.getSimpleName(), method.getName())
+                        .isTrue();
+            }
+        }
+        softly.assertAll();
+    }
+}
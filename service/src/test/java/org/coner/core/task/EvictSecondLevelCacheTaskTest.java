@@ -0,0 +1,50 @@
+package org.coner.core.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.coner.core.domain.service.ChangeVersions;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.google.common.collect.ImmutableMultimap;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EvictSecondLevelCacheTaskTest {
+
+    @InjectMocks
+    EvictSecondLevelCacheTask task;
+
+    @Mock
+    SessionFactory sessionFactory;
+    @Mock
+    Cache cache;
+    @Mock
+    ChangeVersions changeVersions;
+
+    @Test
+    public void itShouldEvictAllRegions() throws Exception {
+        when(sessionFactory.getCache()).thenReturn(cache);
+        StringWriter output = new StringWriter();
+
+        task.execute(ImmutableMultimap.of(), new PrintWriter(output));
+
+        verify(cache).evictAllRegions();
+        verify(changeVersions).bumpAll();
+        assertThat(output.toString()).contains("Evicted");
+    }
+
+    @Test
+    public void itShouldHaveName() {
+        assertThat(task.getName()).isEqualTo(EvictSecondLevelCacheTask.NAME);
+    }
+}
@@ -0,0 +1,100 @@
+package org.coner.core.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.coner.core.domain.entity.Event;
+import org.coner.core.domain.service.EventEntityService;
+import org.coner.core.domain.service.ResultsService;
+import org.coner.core.domain.service.exception.EntityNotFoundException;
+import org.coner.core.util.TestConstants;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.google.common.collect.ImmutableMultimap;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RebuildEventResultsTaskTest {
+
+    @InjectMocks
+    RebuildEventResultsTask task;
+
+    @Mock
+    SessionFactory sessionFactory;
+    @Mock
+    EventEntityService eventEntityService;
+    @Mock
+    ResultsService resultsService;
+
+    @Mock
+    Session session;
+    @Mock
+    Transaction transaction;
+    @Mock
+    Event event;
+
+    private StringWriter output = new StringWriter();
+
+    @Before
+    public void setup() {
+        when(sessionFactory.openSession()).thenReturn(session);
+        when(session.getSessionFactory()).thenReturn(sessionFactory);
+        when(session.beginTransaction()).thenReturn(transaction);
+    }
+
+    @Test
+    public void itShouldCheckConsistencyThenRebuild() throws Exception {
+        when(eventEntityService.getById(TestConstants.EVENT_ID)).thenReturn(event);
+        when(resultsService.isConsistent(event)).thenReturn(false);
+
+        task.execute(
+                ImmutableMultimap.of(RebuildEventResultsTask.PARAMETER_EVENT_ID, TestConstants.EVENT_ID),
+                new PrintWriter(output)
+        );
+
+        InOrder inOrder = inOrder(resultsService, transaction, session);
+        inOrder.verify(resultsService).isConsistent(event);
+        inOrder.verify(resultsService).rebuildResultsFor(event);
+        inOrder.verify(transaction).commit();
+        inOrder.verify(session).close();
+        assertThat(output.toString()).contains(TestConstants.EVENT_ID, "inconsistent", "rebuilt");
+    }
+
+    @Test
+    public void whenEventNotFoundItShouldRollBack() throws Exception {
+        EntityNotFoundException notFound = new EntityNotFoundException(Event.class, TestConstants.EVENT_ID);
+        when(eventEntityService.getById(TestConstants.EVENT_ID)).thenThrow(notFound);
+
+        try {
+            task.execute(
+                    ImmutableMultimap.of(RebuildEventResultsTask.PARAMETER_EVENT_ID, TestConstants.EVENT_ID),
+                    new PrintWriter(output)
+            );
+            failBecauseExceptionWasNotThrown(EntityNotFoundException.class);
+        } catch (EntityNotFoundException e) {
+            verify(transaction).rollback();
+            verify(transaction, never()).commit();
+            verify(session).close();
+        }
+    }
+
+    @Test
+    public void itShouldHaveName() {
+        assertThat(task.getName()).isEqualTo(RebuildEventResultsTask.NAME);
+    }
+}
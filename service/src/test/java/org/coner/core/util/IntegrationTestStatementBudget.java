@@ -0,0 +1,57 @@
+package org.coner.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+import org.coner.core.ConerCoreConfiguration;
+import org.hibernate.stat.Statistics;
+
+import io.dropwizard.testing.junit.DropwizardAppRule;
+
+/**
+ * Counts the SQL statements the app under test prepares while handling HTTP calls, so integration tests can hold
+ * endpoints to a budget and catch N+1 regressions.
+ *
+ * <p>Counts come from the Hibernate statistics of the app, which are global, so calls must not overlap with other
+ * requests to the app.</p>
+ */
+public final class IntegrationTestStatementBudget {
+
+    private final DropwizardAppRule<ConerCoreConfiguration> rule;
+
+    public IntegrationTestStatementBudget(DropwizardAppRule<ConerCoreConfiguration> rule) {
+        this.rule = rule;
+    }
+
+    /**
+     * Count the statements prepared while making a call.
+     *
+     * @param call the call
+     * @return the number of statements
+     */
+    public long count(Runnable call) {
+        Statistics statistics = IntegrationTestUtils.getHibernateStatistics(rule);
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Make a call, failing if it prepares more statements than allowed.
+     *
+     * @param description what the call does, for the failure message
+     * @param maxStatements the maximum number of statements allowed
+     * @param call the call
+     * @return the result of the call
+     */
+    public <T> T expectAtMost(String description, long maxStatements, Supplier<T> call) {
+        Statistics statistics = IntegrationTestUtils.getHibernateStatistics(rule);
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("statements prepared to %s", description)
+                .isLessThanOrEqualTo(maxStatements);
+        return result;
+    }
+}
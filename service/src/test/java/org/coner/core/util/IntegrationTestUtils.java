@@ -5,6 +5,8 @@ import javax.ws.rs.client.Client;
 import org.coner.core.ConerCoreApplication;
 import org.coner.core.ConerCoreConfiguration;
 import org.glassfish.jersey.uri.internal.JerseyUriBuilder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 
 import com.google.common.base.Joiner;
 import io.dropwizard.client.JerseyClientBuilder;
@@ -44,4 +46,13 @@ public final class IntegrationTestUtils {
                 .port(appRule.getLocalPort());
     }
 
+    public static SessionFactory getSessionFactory(DropwizardAppRule<ConerCoreConfiguration> appRule) {
+        ConerCoreApplication application = appRule.getApplication();
+        return application.getHibernateBundle().getSessionFactory();
+    }
+
+    public static Statistics getHibernateStatistics(DropwizardAppRule<ConerCoreConfiguration> appRule) {
+        return getSessionFactory(appRule).getStatistics();
+    }
+
 }